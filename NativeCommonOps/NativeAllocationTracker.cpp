@@ -0,0 +1,121 @@
+#include "NativeAllocationTracker.h"
+#include <Eigen/Core>
+#include <atomic>
+#include <cstddef>
+
+#ifdef NATIVE_ALLOCATION_TRACKING
+
+// Initial-exec TLS is reserved when the library is loaded, unlike the default model that allocates
+// on first access and would recurse into the wrappers below.
+static __thread long long allocationCount __attribute__((tls_model("initial-exec"))) = 0;
+static __thread long long allocatedBytes __attribute__((tls_model("initial-exec"))) = 0;
+
+static inline void countAllocation(size_t size)
+{
+    allocationCount++;
+    allocatedBytes += size;
+}
+
+extern "C"
+{
+void* __real_malloc(size_t size);
+void* __real_calloc(size_t count, size_t size);
+void* __real_realloc(void* pointer, size_t size);
+int __real_posix_memalign(void** pointer, size_t alignment, size_t size);
+void* __real__Znwm(size_t size);
+void* __real__Znam(size_t size);
+
+void* __wrap_malloc(size_t size)
+{
+    countAllocation(size);
+    return __real_malloc(size);
+}
+
+void* __wrap_calloc(size_t count, size_t size)
+{
+    countAllocation(count * size);
+    return __real_calloc(count, size);
+}
+
+void* __wrap_realloc(void* pointer, size_t size)
+{
+    countAllocation(size);
+    return __real_realloc(pointer, size);
+}
+
+int __wrap_posix_memalign(void** pointer, size_t alignment, size_t size)
+{
+    countAllocation(size);
+    return __real_posix_memalign(pointer, alignment, size);
+}
+
+// operator new(size_t) and operator new[](size_t)
+void* __wrap__Znwm(size_t size)
+{
+    countAllocation(size);
+    return __real__Znwm(size);
+}
+
+void* __wrap__Znam(size_t size)
+{
+    countAllocation(size);
+    return __real__Znam(size);
+}
+}
+
+bool NativeAllocationTrackerImpl::isSupported()
+{
+    return true;
+}
+
+long long NativeAllocationTrackerImpl::getAllocationCount()
+{
+    return allocationCount;
+}
+
+long long NativeAllocationTrackerImpl::getAllocatedBytes()
+{
+    return allocatedBytes;
+}
+
+#else
+
+bool NativeAllocationTrackerImpl::isSupported()
+{
+    return false;
+}
+
+long long NativeAllocationTrackerImpl::getAllocationCount()
+{
+    return 0;
+}
+
+long long NativeAllocationTrackerImpl::getAllocatedBytes()
+{
+    return 0;
+}
+
+#endif
+
+// Scopes can be nested and opened from several threads, Eigen's flag is only restored when the last one closes
+static std::atomic<int> noAllocationScopes(0);
+
+void NativeAllocationTrackerImpl::beginNoAllocationScope()
+{
+    if(noAllocationScopes.fetch_add(1) == 0)
+    {
+#ifdef EIGEN_RUNTIME_NO_MALLOC
+        Eigen::internal::set_is_malloc_allowed(false);
+#endif
+    }
+}
+
+void NativeAllocationTrackerImpl::endNoAllocationScope()
+{
+    if(noAllocationScopes.fetch_sub(1) == 1)
+    {
+#ifdef EIGEN_RUNTIME_NO_MALLOC
+        Eigen::internal::set_is_malloc_allowed(true);
+#endif
+    }
+}
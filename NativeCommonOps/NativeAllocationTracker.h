@@ -0,0 +1,33 @@
+#ifndef NATIVEALLOCATIONTRACKER_H
+#define NATIVEALLOCATIONTRACKER_H
+
+/**
+ * Counts the heap allocations made by this library, per calling thread.
+ *
+ * On Linux the library is linked with --wrap for malloc, calloc, realloc, posix_memalign and
+ * operator new, so every allocation made from its code, including the ones Eigen makes for
+ * temporaries, goes through a counter first. Allocations made by the JVM or other libraries are not
+ * counted. On the other platforms isSupported() returns false and the counters stay at zero.
+ *
+ * When built with NATIVE_ALLOCATION_ASSERTS, Eigen is compiled with EIGEN_RUNTIME_NO_MALLOC and
+ * asserts on any of its allocations while a no-allocation scope is open, which stops a debugger at
+ * the offending operation. Eigen keeps this flag for the whole process, so this is a debugging aid
+ * only.
+ */
+class NativeAllocationTrackerImpl
+{
+public:
+    static bool isSupported();
+
+    // Number of allocations made from the calling thread since it started
+    static long long getAllocationCount();
+
+    // Number of bytes allocated from the calling thread since it started
+    static long long getAllocatedBytes();
+
+    static void beginNoAllocationScope();
+
+    static void endNoAllocationScope();
+};
+
+#endif // NATIVEALLOCATIONTRACKER_H
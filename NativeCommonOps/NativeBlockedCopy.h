@@ -0,0 +1,51 @@
+#ifndef NATIVEBLOCKEDCOPY_H
+#define NATIVEBLOCKEDCOPY_H
+
+#include <Eigen/Dense>
+#include <algorithm>
+
+/**
+ * Copies between blocks of different storage orders, e.g. from the row-major data of an EJML matrix
+ * into the column-major storage of a NativeMatrix. A plain assignment walks the destination in
+ * storage order and so reads the source one element per row, which misses the cache for every
+ * element once the matrix is larger than the cache. The copy here goes tile by tile, so both the
+ * rows read and the columns written by a tile stay in the L1 cache.
+ *
+ * Full tiles have a compile-time size, so the compiler can unroll and vectorize the shuffle of a
+ * tile. The tiles at the edges are copied with their dynamic size.
+ */
+static const int NATIVE_COPY_TILE_SIZE = 16;
+
+template<typename Destination, typename Source>
+static inline void blockedCopy(Destination&& dst, const Source& src)
+{
+    const Eigen::Index rows = dst.rows();
+    const Eigen::Index cols = dst.cols();
+
+    if(rows <= NATIVE_COPY_TILE_SIZE && cols <= NATIVE_COPY_TILE_SIZE)
+    {
+        dst = src;
+        return;
+    }
+
+    for(Eigen::Index col = 0; col < cols; col += NATIVE_COPY_TILE_SIZE)
+    {
+        const Eigen::Index width = std::min<Eigen::Index>(NATIVE_COPY_TILE_SIZE, cols - col);
+
+        for(Eigen::Index row = 0; row < rows; row += NATIVE_COPY_TILE_SIZE)
+        {
+            const Eigen::Index height = std::min<Eigen::Index>(NATIVE_COPY_TILE_SIZE, rows - row);
+
+            if(width == NATIVE_COPY_TILE_SIZE && height == NATIVE_COPY_TILE_SIZE)
+            {
+                dst.template block<NATIVE_COPY_TILE_SIZE, NATIVE_COPY_TILE_SIZE>(row, col) = src.template block<NATIVE_COPY_TILE_SIZE, NATIVE_COPY_TILE_SIZE>(row, col);
+            }
+            else
+            {
+                dst.block(row, col, height, width) = src.block(row, col, height, width);
+            }
+        }
+    }
+}
+
+#endif // NATIVEBLOCKEDCOPY_H
@@ -0,0 +1,185 @@
+#include "NativeCholesky.h"
+
+#include <cmath>
+
+namespace
+{
+/**
+ * Replaces L by the Cholesky factor of L * L' + sign * w * w' in O(n^2), w is overwritten.
+ * Returns false when a downdate would make the matrix indefinite.
+ */
+bool rankOneUpdate(Eigen::Ref<Eigen::MatrixXd> L, Eigen::Ref<Eigen::VectorXd> w, double sign)
+{
+    const int n = L.rows();
+
+    for(int k = 0; k < n; k++)
+    {
+        double Lkk = L(k, k);
+        double r2 = Lkk * Lkk + sign * w(k) * w(k);
+        if(!(r2 > 0.0))
+        {
+            return false;
+        }
+
+        double r = std::sqrt(r2);
+        double c = r / Lkk;
+        double s = w(k) / Lkk;
+        L(k, k) = r;
+
+        int tail = n - k - 1;
+        if(tail > 0)
+        {
+            L.col(k).tail(tail) = (L.col(k).tail(tail) + sign * s * w.tail(tail)) / c;
+            w.tail(tail) = c * w.tail(tail) - s * L.col(k).tail(tail);
+        }
+    }
+
+    return true;
+}
+}
+
+NativeCholeskyImpl::NativeCholeskyImpl()
+{
+}
+
+bool NativeCholeskyImpl::compute(NativeMatrixImpl *A)
+{
+    if(A->rows() != A->cols())
+    {
+        return false;
+    }
+
+    L = A->matrix;
+    Eigen::LLT<Eigen::Ref<Eigen::MatrixXd>> llt(L);
+    if(llt.info() != Eigen::Success)
+    {
+        L.resize(0, 0);
+        return false;
+    }
+
+    L.triangularView<Eigen::StrictlyUpper>().setZero();
+    return true;
+}
+
+bool NativeCholeskyImpl::rankUpdate(NativeMatrixImpl *v, double sigma)
+{
+    if(v->rows() != L.rows() || v->cols() != 1)
+    {
+        return false;
+    }
+
+    if(sigma == 0.0)
+    {
+        return true;
+    }
+
+    // Work on a copy so the factor is left unchanged when a downdate fails
+    w = v->matrix.col(0) * std::sqrt(std::abs(sigma));
+    workspace = L;
+    if(!rankOneUpdate(workspace, w, sigma > 0.0 ? 1.0 : -1.0))
+    {
+        return false;
+    }
+
+    L.swap(workspace);
+    return true;
+}
+
+/**
+ * With A = [A11 a12 A13; a12' a22 a23'; A13' a23 A33] and L = [L11 0 0; l12' l22 0; L31 l32 L33]:
+ * l12 = inverse(L11) * a12, l22 = sqrt(a22 - l12' * l12), l32 = (a23 - L31 * l12) / l22 and L33 is the factor
+ * of L33 * L33' - l32 * l32', obtained with a rank one downdate of the previous factor.
+ */
+bool NativeCholeskyImpl::addRowAndColumn(int index, NativeMatrixImpl *column)
+{
+    const int n = L.rows();
+
+    if(index < 0 || index > n || column->rows() != n + 1 || column->cols() != 1)
+    {
+        return false;
+    }
+
+    const int m = n - index;
+
+    // The head of w holds l12 and the tail l32
+    w.resize(n);
+    w.head(index) = column->matrix.col(0).head(index);
+    L.topLeftCorner(index, index).triangularView<Eigen::Lower>().solveInPlace(w.head(index));
+
+    double l22Squared = column->matrix(index, 0) - w.head(index).squaredNorm();
+    if(!(l22Squared > 0.0))
+    {
+        return false;
+    }
+    double l22 = std::sqrt(l22Squared);
+
+    w.tail(m) = column->matrix.col(0).tail(m);
+    w.tail(m).noalias() -= L.bottomLeftCorner(m, index) * w.head(index);
+    w.tail(m) /= l22;
+
+    workspace.setZero(n + 1, n + 1);
+    workspace.topLeftCorner(index, index) = L.topLeftCorner(index, index);
+    workspace.bottomLeftCorner(m, index) = L.bottomLeftCorner(m, index);
+    workspace.bottomRightCorner(m, m) = L.bottomRightCorner(m, m);
+    workspace.row(index).head(index) = w.head(index).transpose();
+    workspace(index, index) = l22;
+    workspace.col(index).tail(m) = w.tail(m);
+
+    if(!rankOneUpdate(workspace.bottomRightCorner(m, m), w.tail(m), -1.0))
+    {
+        return false;
+    }
+
+    L.swap(workspace);
+    return true;
+}
+
+/**
+ * Removing the row and column of l22 leaves L11 and L31 unchanged, the new L33 is the factor of
+ * L33 * L33' + l32 * l32', obtained with a rank one update.
+ */
+bool NativeCholeskyImpl::removeRowAndColumn(int index)
+{
+    const int n = L.rows();
+
+    if(index < 0 || index >= n)
+    {
+        return false;
+    }
+
+    const int m = n - index - 1;
+
+    w = L.col(index).tail(m);
+
+    workspace.setZero(n - 1, n - 1);
+    workspace.topLeftCorner(index, index) = L.topLeftCorner(index, index);
+    workspace.bottomLeftCorner(m, index) = L.bottomLeftCorner(m, index);
+    workspace.bottomRightCorner(m, m) = L.bottomRightCorner(m, m);
+
+    // An update of a positive definite factor cannot fail
+    rankOneUpdate(workspace.bottomRightCorner(m, m), w, 1.0);
+
+    L.swap(workspace);
+    return true;
+}
+
+bool NativeCholeskyImpl::solve(NativeMatrixImpl *b, NativeMatrixImpl *x)
+{
+    if(b->rows() != L.rows())
+    {
+        return false;
+    }
+
+    x->resize(b->rows(), b->cols());
+    x->matrix = b->matrix;
+    L.triangularView<Eigen::Lower>().solveInPlace(x->matrix);
+    L.transpose().triangularView<Eigen::Upper>().solveInPlace(x->matrix);
+
+    return true;
+}
+
+void NativeCholeskyImpl::getL(NativeMatrixImpl *result)
+{
+    result->resize(L.rows(), L.cols());
+    result->matrix = L;
+}
@@ -0,0 +1,35 @@
+#ifndef NATIVECHOLESKY_H
+#define NATIVECHOLESKY_H
+
+#include "NativeMatrix.h"
+
+class NativeCholeskyImpl
+{
+public:
+    NativeCholeskyImpl();
+
+    bool compute(NativeMatrixImpl* A);
+
+    bool rankUpdate(NativeMatrixImpl* v, double sigma);
+
+    bool addRowAndColumn(int index, NativeMatrixImpl* column);
+
+    bool removeRowAndColumn(int index);
+
+    bool solve(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    void getL(NativeMatrixImpl* result);
+
+    inline int size()
+    {
+        return L.rows();
+    }
+
+private:
+    // Lower triangular factor, the strictly upper part is kept at zero
+    Eigen::MatrixXd L;
+    Eigen::MatrixXd workspace;
+    Eigen::VectorXd w;
+};
+
+#endif // NATIVECHOLESKY_H
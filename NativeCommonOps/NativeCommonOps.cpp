@@ -7,14 +7,45 @@
 
 #include <jni.h>
 #include <Eigen/Dense>
+#include <algorithm>
 #include <iostream>
+#include <limits>
+#include <vector>
 #include "us_ihmc_matrixlib_NativeCommonOpsWrapper.h"
+#include "NativeMatrixThreading.h"
+#include "NativeOperationTimer.h"
 
 using Eigen::MatrixXd;
 
+// The input arrays are only read and are released with JNI_ABORT, so they are never copied back.
+// This keeps the functions safe to call concurrently on inputs shared between threads.
+
+// The results are assembled in a buffer kept per thread before being copied to the Java array, so
+// it is only allocated when a call needs more room than the previous ones of the thread did.
+static jdouble* resultBuffer(int size)
+{
+	static thread_local std::vector<jdouble> buffer;
+	if(buffer.size() < (size_t) size)
+	{
+		buffer.resize(size);
+	}
+	return buffer.data();
+}
+
+// Version of the native interface, has to match NativeCommonOpsLibrary.VERSION on the Java side.
+// Increase both when a native function is added or changes its signature, so that a library left
+// over from an older build is reported when it is loaded.
+#define NATIVE_COMMON_OPS_VERSION 1
+
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_getNativeLibraryVersion(JNIEnv *env, jclass thisClass)
+{
+	return NATIVE_COMMON_OPS_VERSION;
+}
+
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_mult(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jint bCols)
 {
+	NativeOperationTimer timer(NATIVE_MULT, aRows, aCols);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
@@ -22,18 +53,18 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_mult(JNIEnv
 
 	MatrixXd AB = A * B;
 
-	jdouble *resultDataArray = new jdouble[aRows * bCols];
+	jdouble *resultDataArray = resultBuffer(aRows * bCols);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, bCols) = AB;
 	env->SetDoubleArrayRegion(result, 0, aRows * bCols, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+	env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_multQuad(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols)
 {
+	NativeOperationTimer timer(NATIVE_MULT_QUAD, aRows, aCols);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
@@ -41,34 +72,34 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_multQuad(JN
 
 	MatrixXd AtBA = A.transpose() * B * A;
 
-	jdouble *resultDataArray = new jdouble[aCols * aCols];
+	jdouble *resultDataArray = resultBuffer(aCols * aCols);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aCols, aCols) = AtBA;
 	env->SetDoubleArrayRegion(result, 0, aCols * aCols, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+	env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_invert(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jint aRows)
 {
+	NativeOperationTimer timer(NATIVE_INVERT, aRows, aRows);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aRows);
 
 	MatrixXd x = A.lu().inverse();
 
-	jdouble *resultDataArray = new jdouble[aRows * aRows];
+	jdouble *resultDataArray = resultBuffer(aRows * aRows);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, aRows) = x;
 	env->SetDoubleArrayRegion(result, 0, aRows * aRows, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	delete resultDataArray;
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solve(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows)
 {
+	NativeOperationTimer timer(NATIVE_SOLVE, aRows, aRows);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aRows);
@@ -76,40 +107,42 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solve(JNIEn
 
 	MatrixXd x = A.lu().solve(B);
 
-	jdouble *resultDataArray = new jdouble[aRows];
+	jdouble *resultDataArray = resultBuffer(aRows);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, 1) = x;
 	env->SetDoubleArrayRegion(result, 0, aRows, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+	env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 }
 
 JNIEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveCheck(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows)
 {
+	NativeOperationTimer timer(NATIVE_SOLVE, aRows, aRows);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aRows);
 	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aRows, 1);
 
-	const Eigen::FullPivLU<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic> > fullPivLu = A.fullPivLu();
-	if (fullPivLu.isInvertible())
+	// The rcond estimate of the partial pivoting LU costs a few triangular solves, which is much less
+	// than a full pivoting LU. The tolerance scales with the size like FullPivLU::isInvertible() does.
+	const Eigen::PartialPivLU<MatrixXd> lu = A.partialPivLu();
+	if (aRows == 0 || lu.rcond() > Eigen::NumTraits<double>::epsilon() * aRows)
 	{
-		MatrixXd x = fullPivLu.solve(B);
+		MatrixXd x = lu.solve(B);
 
-		jdouble *resultDataArray = new jdouble[aRows];
+		jdouble *resultDataArray = resultBuffer(aRows);
 		Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, 1) = x;
 		env->SetDoubleArrayRegion(result, 0, aRows, resultDataArray);
 
-		delete resultDataArray;
-		env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-		env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
+		env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+		env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 		return true;
 	}
 	else
 	{
-		env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-		env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
+		env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+		env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 		return false;
 	}
 }
@@ -117,6 +150,7 @@ JNIEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveCh
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveRobust(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols)
 {
+	NativeOperationTimer timer(NATIVE_SOLVE, aRows, aCols);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
@@ -124,18 +158,18 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveRobust
 
 	MatrixXd x = A.householderQr().solve(B);
 
-	jdouble *resultDataArray = new jdouble[aCols];
+	jdouble *resultDataArray = resultBuffer(aCols);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aCols, 1) = x;
 	env->SetDoubleArrayRegion(result, 0, aCols, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+	env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveDamped(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jdouble alpha)
 {
+	NativeOperationTimer timer(NATIVE_SOLVE, aRows, aCols);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
@@ -144,18 +178,18 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveDamped
 	MatrixXd outer = A * A.transpose() + MatrixXd::Identity(aRows, aRows) * alpha * alpha;
 	MatrixXd x = A.transpose() * outer.llt().solve(B);
 
-	jdouble *resultDataArray = new jdouble[aCols];
+	jdouble *resultDataArray = resultBuffer(aCols);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aCols, 1) = x;
 	env->SetDoubleArrayRegion(result, 0, aCols, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+	env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_projectOnNullspace(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jint bRows, jdouble alpha)
 {
+	NativeOperationTimer timer(NATIVE_PROJECT_ON_NULLSPACE, aRows, aCols);
 	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
 	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
 	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
@@ -165,11 +199,179 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_projectOnNu
 	MatrixXd outer = BtB + MatrixXd::Identity(aCols, aCols) * alpha * alpha;
 	MatrixXd x = A * (MatrixXd::Identity(aCols, aCols) - outer.llt().solve(BtB));
 
-	jdouble *resultDataArray = new jdouble[aRows * aCols];
+	jdouble *resultDataArray = resultBuffer(aRows * aCols);
 	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, aCols) = x;
 	env->SetDoubleArrayRegion(result, 0, aRows * aCols, resultDataArray);
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	env->ReleaseDoubleArrayElements(aData, aDataArray, JNI_ABORT);
+	env->ReleaseDoubleArrayElements(bData, bDataArray, JNI_ABORT);
+}
+
+// The batch functions solve many independent problems packed one after the other in row-major order
+// in a single call. The problems are distributed over maxThreads OpenMP threads, or over the threads
+// the calling thread is allowed to use when it is 0, see NativeMatrixThreading.h. A problem fails when
+// its Cholesky decomposition fails or its result is not finite, in which case the result is filled
+// with NaN.
+
+typedef Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> RowMajorMap;
+
+// The garbage collector can not run while arrays are pinned with GetPrimitiveArrayCritical, which
+// stalls every Java thread that needs to allocate. The arrays are therefore pinned for one chunk of
+// problems at a time, a chunk reading at most this many elements of the input matrices.
+static const int BATCH_CHUNK_ELEMENTS = 1 << 15;
+
+static int batchChunkProblems(int problemElements)
+{
+	return std::max(1, BATCH_CHUNK_ELEMENTS / std::max(1, problemElements));
+}
+
+static int batchThreads(int maxThreads)
+{
+	return maxThreads > 0 ? maxThreads : NativeMatrixThreadingImpl::getMaxThreads();
+}
+
+// Pins the arrays of a batch for the lifetime of the instance.
+struct PinnedBatch
+{
+	PinnedBatch(JNIEnv *env, jdoubleArray result, jbooleanArray success, jdoubleArray aData, jdoubleArray bData, jdoubleArray alpha) :
+			env(env), result(result), success(success), aData(aData), bData(bData), alpha(alpha)
+	{
+		resultArray = (jdouble*) env->GetPrimitiveArrayCritical(result, NULL);
+		successArray = (jboolean*) env->GetPrimitiveArrayCritical(success, NULL);
+		aArray = (jdouble*) env->GetPrimitiveArrayCritical(aData, NULL);
+		bArray = (jdouble*) env->GetPrimitiveArrayCritical(bData, NULL);
+		alphaArray = (jdouble*) env->GetPrimitiveArrayCritical(alpha, NULL);
+	}
+
+	~PinnedBatch()
+	{
+		env->ReleasePrimitiveArrayCritical(alpha, alphaArray, JNI_ABORT);
+		env->ReleasePrimitiveArrayCritical(bData, bArray, JNI_ABORT);
+		env->ReleasePrimitiveArrayCritical(aData, aArray, JNI_ABORT);
+		env->ReleasePrimitiveArrayCritical(success, successArray, 0);
+		env->ReleasePrimitiveArrayCritical(result, resultArray, 0);
+	}
+
+	JNIEnv *env;
+	jdoubleArray result;
+	jbooleanArray success;
+	jdoubleArray aData;
+	jdoubleArray bData;
+	jdoubleArray alpha;
+
+	jdouble *resultArray;
+	jboolean *successArray;
+	jdouble *aArray;
+	jdouble *bArray;
+	jdouble *alphaArray;
+};
+
+// Kept per thread, including the OpenMP worker threads, so the problems of a batch only allocate when
+// a thread sees a larger size than it did before.
+struct BatchWorkspace
+{
+	MatrixXd outer;
+	MatrixXd BtB;
+	MatrixXd y;
+	Eigen::LLT<MatrixXd> llt;
+};
+
+static BatchWorkspace& batchWorkspace()
+{
+	static thread_local BatchWorkspace workspace;
+	return workspace;
+}
+
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveDampedBatch(JNIEnv *env, jobject thisObj,
+		jdoubleArray result, jbooleanArray success, jdoubleArray aData, jdoubleArray bData, jint problems, jint aRows, jint aCols, jdoubleArray alpha,
+		jint maxThreads)
+{
+	NativeOperationTimer timer(NATIVE_SOLVE, aRows, aCols);
+	jsize alphaLength = env->GetArrayLength(alpha);
+	int chunkProblems = batchChunkProblems(aRows * aCols);
+	int threads = batchThreads(maxThreads);
+	(void) threads;
+	int solved = 0;
+
+	for(int first = 0; first < problems; first += chunkProblems)
+	{
+		int last = std::min((int) problems, first + chunkProblems);
+		PinnedBatch pinned(env, result, success, aData, bData, alpha);
+
+		#pragma omp parallel for schedule(static) reduction(+:solved) num_threads(threads)
+		for(int i = first; i < last; i++)
+		{
+			RowMajorMap A(pinned.aArray + (size_t) i * aRows * aCols, aRows, aCols);
+			RowMajorMap B(pinned.bArray + (size_t) i * aRows, aRows, 1);
+			RowMajorMap x(pinned.resultArray + (size_t) i * aCols, aCols, 1);
+			double damping = pinned.alphaArray[alphaLength == 1 ? 0 : i];
+			BatchWorkspace& workspace = batchWorkspace();
+
+			// x = A' * inverse(A * A' + alpha^2 I) * B
+			workspace.outer.noalias() = A * A.transpose();
+			workspace.outer.diagonal().array() += damping * damping;
+			workspace.llt.compute(workspace.outer);
+			workspace.y = B;
+			workspace.llt.solveInPlace(workspace.y);
+			x.noalias() = A.transpose() * workspace.y;
+
+			bool problemSolved = workspace.llt.info() == Eigen::Success && x.allFinite();
+			if(!problemSolved)
+			{
+				x.setConstant(std::numeric_limits<double>::quiet_NaN());
+			}
+			pinned.successArray[i] = problemSolved ? JNI_TRUE : JNI_FALSE;
+			solved += problemSolved ? 1 : 0;
+		}
+	}
+
+	return solved;
+}
+
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_projectOnNullspaceBatch(JNIEnv *env, jobject thisObj,
+		jdoubleArray result, jbooleanArray success, jdoubleArray aData, jdoubleArray bData, jint problems, jint aRows, jint aCols, jint bRows, jdoubleArray alpha,
+		jint maxThreads)
+{
+	NativeOperationTimer timer(NATIVE_PROJECT_ON_NULLSPACE, aRows, aCols);
+	jsize alphaLength = env->GetArrayLength(alpha);
+	int chunkProblems = batchChunkProblems((aRows + bRows) * aCols);
+	int threads = batchThreads(maxThreads);
+	(void) threads;
+	int solved = 0;
+
+	for(int first = 0; first < problems; first += chunkProblems)
+	{
+		int last = std::min((int) problems, first + chunkProblems);
+		PinnedBatch pinned(env, result, success, aData, bData, alpha);
+
+		#pragma omp parallel for schedule(static) reduction(+:solved) num_threads(threads)
+		for(int i = first; i < last; i++)
+		{
+			RowMajorMap A(pinned.aArray + (size_t) i * aRows * aCols, aRows, aCols);
+			RowMajorMap B(pinned.bArray + (size_t) i * bRows * aCols, bRows, aCols);
+			RowMajorMap x(pinned.resultArray + (size_t) i * aRows * aCols, aRows, aCols);
+			double damping = pinned.alphaArray[alphaLength == 1 ? 0 : i];
+			BatchWorkspace& workspace = batchWorkspace();
+
+			// x = A * (I - inverse(B' * B + alpha^2 I) * B' * B)
+			workspace.BtB.noalias() = B.transpose() * B;
+			workspace.outer = workspace.BtB;
+			workspace.outer.diagonal().array() += damping * damping;
+			workspace.llt.compute(workspace.outer);
+			workspace.llt.solveInPlace(workspace.BtB);
+			workspace.BtB *= -1.0;
+			workspace.BtB.diagonal().array() += 1.0;
+			x.noalias() = A * workspace.BtB;
+
+			bool problemSolved = workspace.llt.info() == Eigen::Success && x.allFinite();
+			if(!problemSolved)
+			{
+				x.setConstant(std::numeric_limits<double>::quiet_NaN());
+			}
+			pinned.successArray[i] = problemSolved ? JNI_TRUE : JNI_FALSE;
+			solved += problemSolved ? 1 : 0;
+		}
+	}
+
+	return solved;
 }
@@ -0,0 +1,72 @@
+#include "NativeEigenSolver.h"
+
+NativeEigenSolverImpl::NativeEigenSolverImpl() : computed(false), eigenvectorsComputed(false)
+{
+}
+
+bool NativeEigenSolverImpl::compute(NativeMatrixImpl *A, bool computeEigenvectors)
+{
+    if(A->rows() != A->cols())
+    {
+        computed = false;
+        eigenvectorsComputed = false;
+        return false;
+    }
+
+    solver.compute(A->matrix, computeEigenvectors ? Eigen::ComputeEigenvectors : Eigen::EigenvaluesOnly);
+
+    computed = solver.info() == Eigen::Success;
+    eigenvectorsComputed = computed && computeEigenvectors;
+    return computed;
+}
+
+bool NativeEigenSolverImpl::eigenvalues(NativeMatrixImpl *result)
+{
+    if(!computed)
+    {
+        return false;
+    }
+
+    result->resize(solver.eigenvalues().size(), 1);
+    result->matrix = solver.eigenvalues();
+    return true;
+}
+
+bool NativeEigenSolverImpl::eigenvectors(NativeMatrixImpl *result)
+{
+    if(!eigenvectorsComputed)
+    {
+        return false;
+    }
+
+    result->resize(solver.eigenvectors().rows(), solver.eigenvectors().cols());
+    result->matrix = solver.eigenvectors();
+    return true;
+}
+
+bool NativeEigenSolverImpl::squareRoot(NativeMatrixImpl *result)
+{
+    if(!eigenvectorsComputed)
+    {
+        return false;
+    }
+
+    // V * sqrt(D) * V', negative eigenvalues are clamped to zero. operatorSqrt() does not clamp them,
+    // so the round-off eigenvalues of a semi-definite matrix, e.g. -1e-17, would give NaN.
+    scaledEigenvectors.noalias() = solver.eigenvectors() * solver.eigenvalues().cwiseMax(0.0).cwiseSqrt().asDiagonal();
+    result->resize(solver.eigenvectors().rows(), solver.eigenvectors().cols());
+    result->matrix.noalias() = scaledEigenvectors * solver.eigenvectors().transpose();
+    return true;
+}
+
+bool NativeEigenSolverImpl::inverseSquareRoot(NativeMatrixImpl *result)
+{
+    if(!eigenvectorsComputed)
+    {
+        return false;
+    }
+
+    result->resize(solver.eigenvectors().rows(), solver.eigenvectors().cols());
+    result->matrix = solver.operatorInverseSqrt();
+    return true;
+}
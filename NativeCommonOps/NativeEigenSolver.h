@@ -0,0 +1,34 @@
+#ifndef NATIVEEIGENSOLVER_H
+#define NATIVEEIGENSOLVER_H
+
+#include "NativeMatrix.h"
+
+class NativeEigenSolverImpl
+{
+public:
+    NativeEigenSolverImpl();
+
+    bool compute(NativeMatrixImpl* A, bool computeEigenvectors);
+
+    bool eigenvalues(NativeMatrixImpl* result);
+
+    bool eigenvectors(NativeMatrixImpl* result);
+
+    bool squareRoot(NativeMatrixImpl* result);
+
+    bool inverseSquareRoot(NativeMatrixImpl* result);
+
+    inline int size()
+    {
+        return computed ? solver.eigenvalues().size() : 0;
+    }
+
+private:
+    Eigen::SelfAdjointEigenSolver<Eigen::MatrixXd> solver;
+    // V * sqrt(D), kept so computing the square root does not allocate
+    Eigen::MatrixXd scaledEigenvectors;
+    bool computed;
+    bool eigenvectorsComputed;
+};
+
+#endif // NATIVEEIGENSOLVER_H
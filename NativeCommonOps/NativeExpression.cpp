@@ -0,0 +1,201 @@
+#include "NativeExpression.h"
+#include "NativeMatrixThreading.h"
+
+namespace
+{
+template<typename Destination, typename Expression>
+inline void store(Destination& destination, const Expression& expression, bool accumulate)
+{
+    if(accumulate)
+    {
+        destination.noalias() += expression;
+    }
+    else
+    {
+        destination.noalias() = expression;
+    }
+}
+
+// destination (+)= scale * lhs * op(rhs)
+template<typename Destination, typename Lhs>
+inline void storeProduct(Destination& destination, double scale, const Lhs& lhs, const NativeMatrixImpl* rhs, bool rhsTransposed, bool accumulate)
+{
+    if(rhsTransposed)
+    {
+        store(destination, scale * lhs * rhs->matrix.transpose(), accumulate);
+    }
+    else
+    {
+        store(destination, scale * lhs * rhs->matrix, accumulate);
+    }
+}
+}
+
+NativeExpressionImpl::NativeExpressionImpl()
+{
+}
+
+void NativeExpressionImpl::clear()
+{
+    terms.clear();
+}
+
+void NativeExpressionImpl::addTerm(double scale)
+{
+    terms.emplace_back();
+    terms.back().scale = scale;
+}
+
+bool NativeExpressionImpl::addFactor(NativeMatrixImpl* factor, bool transposed)
+{
+    if(terms.empty())
+    {
+        return false;
+    }
+
+    Term& term = terms.back();
+    term.factors.push_back(Factor{factor, transposed});
+    if(term.factors.size() > 2)
+    {
+        term.partialProducts.resize(term.factors.size() - 2);
+    }
+    return true;
+}
+
+bool NativeExpressionImpl::computeSize(int& rows, int& cols)
+{
+    if(terms.empty())
+    {
+        return false;
+    }
+
+    for(size_t k = 0; k < terms.size(); k++)
+    {
+        const std::vector<Factor>& factors = terms[k].factors;
+        if(factors.empty())
+        {
+            return false;
+        }
+
+        for(size_t i = 1; i < factors.size(); i++)
+        {
+            if(factors[i - 1].cols() != factors[i].rows())
+            {
+                return false;
+            }
+        }
+
+        int termRows = factors.front().rows();
+        int termCols = factors.back().cols();
+        if(k == 0)
+        {
+            rows = termRows;
+            cols = termCols;
+        }
+        else if(termRows != rows || termCols != cols)
+        {
+            return false;
+        }
+    }
+
+    return true;
+}
+
+template<typename Destination>
+void NativeExpressionImpl::evaluateInto(Destination& destination)
+{
+    for(size_t k = 0; k < terms.size(); k++)
+    {
+        Term& term = terms[k];
+        const Factor& first = term.factors.front();
+        bool accumulate = k > 0;
+        size_t last = term.factors.size() - 1;
+
+        if(last == 0)
+        {
+            if(first.transposed)
+            {
+                store(destination, term.scale * first.matrix->matrix.transpose(), accumulate);
+            }
+            else
+            {
+                store(destination, term.scale * first.matrix->matrix, accumulate);
+            }
+            continue;
+        }
+
+        // Products of more than two factors are folded from the left into the partial products,
+        // the last multiplication is accumulated directly into the destination.
+        for(size_t i = 1; i < last; i++)
+        {
+            Eigen::MatrixXd& partialProduct = term.partialProducts[i - 1];
+            const Factor& rhs = term.factors[i];
+            partialProduct.resize(first.rows(), rhs.cols());
+
+            if(i == 1)
+            {
+                if(first.transposed)
+                {
+                    storeProduct(partialProduct, 1.0, first.matrix->matrix.transpose(), rhs.matrix, rhs.transposed, false);
+                }
+                else
+                {
+                    storeProduct(partialProduct, 1.0, first.matrix->matrix, rhs.matrix, rhs.transposed, false);
+                }
+            }
+            else
+            {
+                storeProduct(partialProduct, 1.0, term.partialProducts[i - 2], rhs.matrix, rhs.transposed, false);
+            }
+        }
+
+        const Factor& rhs = term.factors[last];
+        if(last > 1)
+        {
+            storeProduct(destination, term.scale, term.partialProducts[last - 2], rhs.matrix, rhs.transposed, accumulate);
+        }
+        else if(first.transposed)
+        {
+            storeProduct(destination, term.scale, first.matrix->matrix.transpose(), rhs.matrix, rhs.transposed, accumulate);
+        }
+        else
+        {
+            storeProduct(destination, term.scale, first.matrix->matrix, rhs.matrix, rhs.transposed, accumulate);
+        }
+    }
+}
+
+bool NativeExpressionImpl::evaluate(NativeMatrixImpl* result)
+{
+    int rows, cols;
+    if(!computeSize(rows, cols))
+    {
+        return false;
+    }
+
+    bool aliased = false;
+    for(size_t k = 0; k < terms.size() && !aliased; k++)
+    {
+        for(size_t i = 0; i < terms[k].factors.size() && !aliased; i++)
+        {
+            aliased = terms[k].factors[i].matrix == result;
+        }
+    }
+
+    NativeMatrixThreadingImpl::applyThreadLimit();
+
+    if(aliased)
+    {
+        aliasWorkspace.resize(rows, cols);
+        evaluateInto(aliasWorkspace);
+        result->resize(rows, cols);
+        result->matrix = aliasWorkspace;
+    }
+    else
+    {
+        result->resize(rows, cols);
+        evaluateInto(result->matrix);
+    }
+
+    return true;
+}
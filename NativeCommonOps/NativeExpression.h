@@ -0,0 +1,71 @@
+#ifndef NATIVEEXPRESSION_H
+#define NATIVEEXPRESSION_H
+
+#include "NativeMatrix.h"
+
+#include <vector>
+
+/**
+ * Evaluation plan of a matrix expression written as a sum of scaled products
+ *
+ *   result = sum_k scale_k * op(F_k0) * op(F_k1) * ... * op(F_kn), with op(F) = F or F'
+ *
+ * The plan is built once with addTerm/addFactor and keeps pointers to its operands, so it can be
+ * evaluated again after the operands changed. Single matrices and products of two matrices are
+ * accumulated directly into the result. Longer products need one temporary per extra factor, which
+ * is kept between evaluations.
+ */
+class NativeExpressionImpl
+{
+public:
+    NativeExpressionImpl();
+
+    void clear();
+
+    void addTerm(double scale);
+
+    bool addFactor(NativeMatrixImpl* factor, bool transposed);
+
+    bool evaluate(NativeMatrixImpl* result);
+
+    inline int numberOfTerms()
+    {
+        return terms.size();
+    }
+
+private:
+    struct Factor
+    {
+        NativeMatrixImpl* matrix;
+        bool transposed;
+
+        inline int rows() const
+        {
+            return transposed ? matrix->cols() : matrix->rows();
+        }
+
+        inline int cols() const
+        {
+            return transposed ? matrix->rows() : matrix->cols();
+        }
+    };
+
+    struct Term
+    {
+        double scale;
+        std::vector<Factor> factors;
+        std::vector<Eigen::MatrixXd> partialProducts;
+    };
+
+    bool computeSize(int& rows, int& cols);
+
+    template<typename Destination>
+    void evaluateInto(Destination& destination);
+
+    std::vector<Term> terms;
+
+    // Used when the result is also an operand of the expression
+    Eigen::MatrixXd aliasWorkspace;
+};
+
+#endif // NATIVEEXPRESSION_H
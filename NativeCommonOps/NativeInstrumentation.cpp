@@ -0,0 +1,92 @@
+#include "NativeInstrumentation.h"
+#include "NativeOperationTimer.h"
+
+// Each operation on its own cache line, so threads running different operations do not contend.
+struct alignas(64) NativeOperationStatistics
+{
+    std::atomic<long long> calls;
+    std::atomic<long long> totalNanoseconds;
+    std::atomic<long long> maxNanoseconds;
+    std::atomic<int> maxRows;
+    std::atomic<int> maxCols;
+};
+
+std::atomic<bool> nativeInstrumentationEnabled(false);
+
+static NativeOperationStatistics statistics[NATIVE_NUMBER_OF_OPERATIONS];
+
+template<typename T>
+static inline void updateMax(std::atomic<T>& max, T value)
+{
+    T current = max.load(std::memory_order_relaxed);
+    while(value > current && !max.compare_exchange_weak(current, value, std::memory_order_relaxed))
+    {
+    }
+}
+
+void recordNativeOperation(NativeOperation operation, int rows, int cols, long long nanoseconds)
+{
+    NativeOperationStatistics& operationStatistics = statistics[operation];
+    operationStatistics.calls.fetch_add(1, std::memory_order_relaxed);
+    operationStatistics.totalNanoseconds.fetch_add(nanoseconds, std::memory_order_relaxed);
+    updateMax(operationStatistics.maxNanoseconds, nanoseconds);
+    updateMax(operationStatistics.maxRows, rows);
+    updateMax(operationStatistics.maxCols, cols);
+}
+
+static inline bool isValid(int operation)
+{
+    return operation >= 0 && operation < NATIVE_NUMBER_OF_OPERATIONS;
+}
+
+void NativeInstrumentationImpl::setEnabled(bool enabled)
+{
+    nativeInstrumentationEnabled.store(enabled, std::memory_order_relaxed);
+}
+
+bool NativeInstrumentationImpl::isEnabled()
+{
+    return nativeInstrumentationEnabled.load(std::memory_order_relaxed);
+}
+
+void NativeInstrumentationImpl::reset()
+{
+    for(int i = 0; i < NATIVE_NUMBER_OF_OPERATIONS; i++)
+    {
+        statistics[i].calls.store(0, std::memory_order_relaxed);
+        statistics[i].totalNanoseconds.store(0, std::memory_order_relaxed);
+        statistics[i].maxNanoseconds.store(0, std::memory_order_relaxed);
+        statistics[i].maxRows.store(0, std::memory_order_relaxed);
+        statistics[i].maxCols.store(0, std::memory_order_relaxed);
+    }
+}
+
+int NativeInstrumentationImpl::numberOfOperations()
+{
+    return NATIVE_NUMBER_OF_OPERATIONS;
+}
+
+long long NativeInstrumentationImpl::getCallCount(int operation)
+{
+    return isValid(operation) ? statistics[operation].calls.load(std::memory_order_relaxed) : 0;
+}
+
+long long NativeInstrumentationImpl::getTotalNanoseconds(int operation)
+{
+    return isValid(operation) ? statistics[operation].totalNanoseconds.load(std::memory_order_relaxed) : 0;
+}
+
+long long NativeInstrumentationImpl::getMaxNanoseconds(int operation)
+{
+    return isValid(operation) ? statistics[operation].maxNanoseconds.load(std::memory_order_relaxed) : 0;
+}
+
+int NativeInstrumentationImpl::getMaxRows(int operation)
+{
+    return isValid(operation) ? statistics[operation].maxRows.load(std::memory_order_relaxed) : 0;
+}
+
+int NativeInstrumentationImpl::getMaxCols(int operation)
+{
+    return isValid(operation) ? statistics[operation].maxCols.load(std::memory_order_relaxed) : 0;
+}
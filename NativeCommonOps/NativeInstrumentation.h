@@ -0,0 +1,32 @@
+#ifndef NATIVEINSTRUMENTATION_H
+#define NATIVEINSTRUMENTATION_H
+
+/**
+ * Opt-in call counts, timing and operand sizes of the native operations, per operation type. The
+ * statistics are shared by all threads and updated with relaxed atomics, so a snapshot taken while
+ * operations run may mix values from before and after a call.
+ */
+class NativeInstrumentationImpl
+{
+public:
+    static void setEnabled(bool enabled);
+
+    static bool isEnabled();
+
+    static void reset();
+
+    static int numberOfOperations();
+
+    static long long getCallCount(int operation);
+
+    static long long getTotalNanoseconds(int operation);
+
+    static long long getMaxNanoseconds(int operation);
+
+    // Largest number of rows and columns of the main operand
+    static int getMaxRows(int operation);
+
+    static int getMaxCols(int operation);
+};
+
+#endif // NATIVEINSTRUMENTATION_H
@@ -1,6 +1,23 @@
 #include "NativeKalmanFilter.h"
+#include "NativeOperationTimer.h"
 #include <iostream>
 
+// The methods are static and may be called from several threads, so their intermediate results are
+// kept per thread. Once a thread ran a filter, the following steps of the same size do not allocate.
+struct KalmanFilterWorkspace
+{
+    Eigen::MatrixXd FP;
+    Eigen::MatrixXd PHt;
+    Eigen::MatrixXd toInvert;
+    Eigen::MatrixXd inverse;
+    Eigen::MatrixXd Kr;
+    Eigen::MatrixXd IKH;
+    Eigen::MatrixXd result;
+    Eigen::PartialPivLU<Eigen::MatrixXd> lu;
+};
+
+static thread_local KalmanFilterWorkspace workspace;
+
 
 NativeKalmanFilterImpl::NativeKalmanFilterImpl()
 {
@@ -9,6 +26,7 @@ NativeKalmanFilterImpl::NativeKalmanFilterImpl()
 
 bool NativeKalmanFilterImpl::predictErrorCovariance(NativeMatrixImpl *errorCovariance, NativeMatrixImpl *F, NativeMatrixImpl *P, NativeMatrixImpl *Q)
 {
+    NativeOperationTimer timer(NATIVE_KALMAN_PREDICT_ERROR_COVARIANCE, P->rows(), P->cols());
     {
 
         if (F->cols() != P->rows() || P->rows() != P->cols() || F->rows() != Q->rows() || Q->rows() != Q->cols() || F->cols() != F->rows() || errorCovariance->rows() != Q->rows() || errorCovariance->cols() != Q->cols())
@@ -16,7 +34,9 @@ bool NativeKalmanFilterImpl::predictErrorCovariance(NativeMatrixImpl *errorCovar
             return false;
         }
 
-        errorCovariance->matrix = F->matrix * P->matrix.selfadjointView<Eigen::Upper>() * F->matrix.transpose() + Q->matrix;
+        workspace.FP.noalias() = F->matrix * P->matrix.selfadjointView<Eigen::Upper>();
+        workspace.result.noalias() = workspace.FP * F->matrix.transpose();
+        errorCovariance->matrix = workspace.result + Q->matrix;
 
         return true;
 
@@ -25,18 +45,20 @@ bool NativeKalmanFilterImpl::predictErrorCovariance(NativeMatrixImpl *errorCovar
 
 bool NativeKalmanFilterImpl::computeKalmanGain(NativeMatrixImpl *gain, NativeMatrixImpl *P, NativeMatrixImpl *H, NativeMatrixImpl *R)
 {
+    NativeOperationTimer timer(NATIVE_KALMAN_GAIN, H->rows(), H->cols());
 
     if (H->cols() != P->rows() || P->rows() != P->cols() || H->rows() != R->rows() || R->cols() != 1 || gain->rows() != P->rows() || gain->cols() != R->rows())
     {
         return false;
     }
 
-    Eigen::MatrixXd PHt = P->matrix.selfadjointView<Eigen::Upper>() * H->matrix.transpose();
-    Eigen::MatrixXd Rdiag = R->matrix.asDiagonal();
-    Eigen::MatrixXd toInvert = H->matrix * PHt + Rdiag;
-
+    workspace.PHt.noalias() = P->matrix.selfadjointView<Eigen::Upper>() * H->matrix.transpose();
+    workspace.toInvert.noalias() = H->matrix * workspace.PHt;
+    workspace.toInvert.diagonal() += R->matrix.col(0);
 
-    gain->matrix = PHt * toInvert.inverse();
+    workspace.lu.compute(workspace.toInvert);
+    workspace.inverse = workspace.lu.inverse();
+    gain->matrix.noalias() = workspace.PHt * workspace.inverse;
 
 
     return true;
@@ -44,24 +66,30 @@ bool NativeKalmanFilterImpl::computeKalmanGain(NativeMatrixImpl *gain, NativeMat
 
 bool NativeKalmanFilterImpl::updateState(NativeMatrixImpl *nextState, NativeMatrixImpl *x, NativeMatrixImpl *K, NativeMatrixImpl *r)
 {
+    NativeOperationTimer timer(NATIVE_KALMAN_UPDATE_STATE, K->rows(), K->cols());
     if (x->rows() != K->rows() || r->rows() != K->cols() || x->cols() != 1 || r->cols() != 1 || nextState->rows() != x->rows() || nextState->cols() != 1)
     {
         return false;
     }
 
-    nextState->matrix = x->matrix + K->matrix * r->matrix;
+    workspace.Kr.noalias() = K->matrix * r->matrix;
+    nextState->matrix = x->matrix + workspace.Kr;
 
     return true;
 }
 
 bool NativeKalmanFilterImpl::updateErrorCovariance(NativeMatrixImpl *nextError, NativeMatrixImpl *K, NativeMatrixImpl *H, NativeMatrixImpl *P)
 {
+    NativeOperationTimer timer(NATIVE_KALMAN_UPDATE_ERROR_COVARIANCE, P->rows(), P->cols());
     if (K->cols() != H->rows() || P->rows() != P->cols() || K->rows() != H->cols() || P->rows() != H->cols() || nextError->rows() != P->rows() || nextError->cols() != P->cols())
     {
        return false;
     }
 
-    nextError->matrix = (Eigen::MatrixXd::Identity(P->rows(), P->rows()) - K->matrix * H->matrix) * P->matrix.selfadjointView<Eigen::Upper>();
+    workspace.IKH.noalias() = -K->matrix * H->matrix;
+    workspace.IKH.diagonal().array() += 1.0;
+    workspace.result.noalias() = workspace.IKH * P->matrix.selfadjointView<Eigen::Upper>();
+    nextError->matrix = workspace.result;
 
 
     return true;
@@ -1,14 +1,83 @@
 #include "NativeMatrix.h"
+#include "NativeMatrixThreading.h"
+#include "NativeOperationTimer.h"
+#include "NativeBlockedCopy.h"
 #include <iostream>
 #include <cmath>
 #include <cstring>
+#include <algorithm>
 
-NativeMatrixImpl::NativeMatrixImpl(int numRows, int numCols) : storage(numRows, numCols), matrix(NULL, numRows, numCols)
+// Rigid-body code is dominated by 3x3 and 6x6 (spatial) operations. When the operands match these
+// sizes the kernels below map the data onto fixed-size Eigen types, so the products are unrolled at
+// compile time instead of going through the dynamic-size loops.
+template<int Rows, int Cols, typename Scalar>
+using FixedSizeView = Eigen::Map<Eigen::Matrix<Scalar, Rows, Cols>>;
+
+template<int Rows, int Cols, typename View>
+static inline FixedSizeView<Rows, Cols, typename View::Scalar> fixedSize(View& view)
+{
+    return FixedSizeView<Rows, Cols, typename View::Scalar>(view.data(), view.rows(), view.cols());
+}
+
+// The dynamic-size products and LU decompositions below can be split over several OpenMP threads by
+// Eigen. They call NativeMatrixThreadingImpl::applyThreadLimit() first, so a thread only gets the
+// number of threads it asked for, one by default.
+
+template<typename Matrix>
+static inline bool isSize(Matrix* m, int rows, int cols)
+{
+    return m->rows() == rows && m->cols() == cols;
+}
+
+// Unless told that the destination does not alias the operands, Eigen evaluates a product into a
+// temporary, which is a heap allocation for dynamic sizes. The products below only take that path
+// when an operand is the destination itself.
+template<typename Destination, typename Product>
+static inline void assignProduct(Destination&& destination, const Product& product, bool aliased)
+{
+    if(aliased)
+    {
+        destination = product;
+    }
+    else
+    {
+        destination.noalias() = product;
+    }
+}
+
+template<typename Destination, typename Product>
+static inline void addProduct(Destination&& destination, const Product& product, bool aliased)
+{
+    if(aliased)
+    {
+        destination += product;
+    }
+    else
+    {
+        destination.noalias() += product;
+    }
+}
+
+// Largest column sum, reduced column by column as the colwise() expressions may go through a temporary
+template<typename Matrix>
+static inline typename Matrix::Scalar l1Norm(const Matrix& m)
+{
+    typename Matrix::Scalar norm(0);
+    for(int col = 0; col < m.cols(); col++)
+    {
+        norm = std::max(norm, m.col(col).cwiseAbs().sum());
+    }
+    return norm;
+}
+
+template<typename Scalar>
+NativeMatrixBase<Scalar>::NativeMatrixBase(int numRows, int numCols) : storage(numRows * numCols), matrix(NULL, numRows, numCols)
 {
     updateView(numRows, numCols);
 }
 
-void NativeMatrixImpl::resize(int numRows, int numCols)
+template<typename Scalar>
+void NativeMatrixBase<Scalar>::resize(int numRows, int numCols)
 {
     if(numRows == rows() && numCols == cols())
     {
@@ -17,13 +86,53 @@ void NativeMatrixImpl::resize(int numRows, int numCols)
 
     if(numRows * numCols > storage.size())
     {
-        storage.resize(numRows, numCols);
+        // Grows by at least half the capacity, so a size that keeps increasing by a few rows, like an
+        // active set, does not reallocate every time. The values are not kept.
+        int grownCapacity = std::max(numRows * numCols, (int) (storage.size() + storage.size() / 2));
+        storage.resize(grownCapacity);
     }
 
     updateView(numRows, numCols);
 }
 
-bool NativeMatrixImpl::set(NativeMatrixImpl *a)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::reserve(int capacity)
+{
+    if(capacity < 0)
+    {
+        return false;
+    }
+
+    if(capacity > storage.size())
+    {
+        int numRows = rows();
+        int numCols = cols();
+        storage.conservativeResize(capacity);
+        updateView(numRows, numCols);
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+void NativeMatrixBase<Scalar>::trimToSize()
+{
+    if(size() < storage.size())
+    {
+        int numRows = rows();
+        int numCols = cols();
+        storage.conservativeResize(numRows * numCols);
+        updateView(numRows, numCols);
+    }
+
+    workspaceStorage.resize(0);
+    lu = Eigen::PartialPivLU<DenseMatrix>();
+    llt = Eigen::LLT<DenseMatrix>();
+    ldlt = Eigen::LDLT<DenseMatrix>();
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::set(NativeMatrixBase *a)
 {
     resize(a->rows(), a->cols());
 
@@ -32,7 +141,8 @@ bool NativeMatrixImpl::set(NativeMatrixImpl *a)
     return true;
 }
 
-bool NativeMatrixImpl::add(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::add(NativeMatrixBase *a, NativeMatrixBase *b)
 {
     if(a->rows() != b->rows() || a->cols() != b->cols())
     {
@@ -46,7 +156,8 @@ bool NativeMatrixImpl::add(NativeMatrixImpl *a, NativeMatrixImpl *b)
     return true;
 }
 
-bool NativeMatrixImpl::add(NativeMatrixImpl *a, double scale, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::add(NativeMatrixBase *a, Scalar scale, NativeMatrixBase *b)
 {
     if(a->rows() != b->rows() || a->cols() != b->cols())
     {
@@ -60,7 +171,8 @@ bool NativeMatrixImpl::add(NativeMatrixImpl *a, double scale, NativeMatrixImpl *
     return true;
 }
 
-bool NativeMatrixImpl::add(double scale1, NativeMatrixImpl *a, double scale2, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::add(Scalar scale1, NativeMatrixBase *a, Scalar scale2, NativeMatrixBase *b)
 {
     if(a->rows() != b->rows() || a->cols() != b->cols())
     {
@@ -75,7 +187,8 @@ bool NativeMatrixImpl::add(double scale1, NativeMatrixImpl *a, double scale2, Na
 }
 
 
-bool NativeMatrixImpl::addEquals(NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::addEquals(NativeMatrixBase *b)
 {
     if(rows() != b->rows() || cols() != b->cols())
     {
@@ -87,7 +200,8 @@ bool NativeMatrixImpl::addEquals(NativeMatrixImpl *b)
     return true;
 }
 
-bool NativeMatrixImpl::addEquals(double scale, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::addEquals(Scalar scale, NativeMatrixBase *b)
 {
     if(rows() != b->rows() || cols() != b->cols())
     {
@@ -99,7 +213,8 @@ bool NativeMatrixImpl::addEquals(double scale, NativeMatrixImpl *b)
     return true;
 }
 
-bool NativeMatrixImpl::add(int row, int col, double value)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::add(int row, int col, Scalar value)
 {
     if (row >= rows() || col >= cols())
     {
@@ -110,7 +225,8 @@ bool NativeMatrixImpl::add(int row, int col, double value)
     return true;
 }
 
-bool NativeMatrixImpl::subtract(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::subtract(NativeMatrixBase *a, NativeMatrixBase *b)
 {
     if(a->rows() != b->rows() || a->cols() != b->cols())
     {
@@ -124,8 +240,10 @@ bool NativeMatrixImpl::subtract(NativeMatrixImpl *a, NativeMatrixImpl *b)
 }
 
 
-bool NativeMatrixImpl::mult(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::mult(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->cols() != b->rows())
     {
         return false;
@@ -133,13 +251,31 @@ bool NativeMatrixImpl::mult(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->rows(), b->cols());
 
-    matrix = (a->matrix) * (b->matrix);
+    if(isSize(a, 3, 3) && isSize(b, 3, 3))
+    {
+        fixedSize<3, 3>(matrix) = fixedSize<3, 3>(a->matrix) * fixedSize<3, 3>(b->matrix);
+    }
+    else if(isSize(a, 6, 6) && isSize(b, 6, 6))
+    {
+        fixedSize<6, 6>(matrix) = fixedSize<6, 6>(a->matrix) * fixedSize<6, 6>(b->matrix);
+    }
+    else if(isSize(a, 6, 6))
+    {
+        assignProduct(fixedSize<6, Eigen::Dynamic>(matrix), fixedSize<6, 6>(a->matrix) * fixedSize<6, Eigen::Dynamic>(b->matrix), aliases(a, b));
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        assignProduct(matrix, (a->matrix) * (b->matrix), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::mult(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::mult(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->cols() != b->rows())
     {
         return false;
@@ -147,37 +283,61 @@ bool NativeMatrixImpl::mult(double scale, NativeMatrixImpl *a, NativeMatrixImpl
 
     resize(a->rows(), b->cols());
 
-    matrix = scale * (a->matrix) * (b->matrix);
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    assignProduct(matrix, scale * (a->matrix) * (b->matrix), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multAdd(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAdd(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->rows() != rows() || b->cols() != cols() || a->cols() != b->rows())
     {
         return false;
     }
 
-    matrix += (a->matrix) * (b->matrix);
+    if(isSize(a, 3, 3) && isSize(b, 3, 3))
+    {
+        fixedSize<3, 3>(matrix) += fixedSize<3, 3>(a->matrix) * fixedSize<3, 3>(b->matrix);
+    }
+    else if(isSize(a, 6, 6) && isSize(b, 6, 6))
+    {
+        fixedSize<6, 6>(matrix) += fixedSize<6, 6>(a->matrix) * fixedSize<6, 6>(b->matrix);
+    }
+    else if(isSize(a, 6, 6))
+    {
+        addProduct(fixedSize<6, Eigen::Dynamic>(matrix), fixedSize<6, 6>(a->matrix) * fixedSize<6, Eigen::Dynamic>(b->matrix), aliases(a, b));
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        addProduct(matrix, (a->matrix) * (b->matrix), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::multAdd(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAdd(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->rows() != rows() || b->cols() != cols() || a->cols() != b->rows())
     {
         return false;
     }
 
-    matrix += scale * (a->matrix) * (b->matrix);
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix, scale * (a->matrix) * (b->matrix), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multTransA(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multTransA(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if( a->rows() != b->rows())
     {
         return false;
@@ -185,13 +345,31 @@ bool NativeMatrixImpl::multTransA(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->cols(), b->cols());
 
-    matrix = (a->matrix.transpose()) * (b->matrix);
+    if(isSize(a, 3, 3) && isSize(b, 3, 3))
+    {
+        fixedSize<3, 3>(matrix) = fixedSize<3, 3>(a->matrix).transpose() * fixedSize<3, 3>(b->matrix);
+    }
+    else if(isSize(a, 6, 6) && isSize(b, 6, 6))
+    {
+        fixedSize<6, 6>(matrix) = fixedSize<6, 6>(a->matrix).transpose() * fixedSize<6, 6>(b->matrix);
+    }
+    else if(a->rows() == 6)
+    {
+        assignProduct(matrix, fixedSize<6, Eigen::Dynamic>(a->matrix).transpose() * fixedSize<6, Eigen::Dynamic>(b->matrix), aliases(a, b));
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        assignProduct(matrix, (a->matrix.transpose()) * (b->matrix), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::multTransA(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multTransA(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if( a->rows() != b->rows())
     {
         return false;
@@ -199,37 +377,53 @@ bool NativeMatrixImpl::multTransA(double scale, NativeMatrixImpl *a, NativeMatri
 
     resize(a->cols(), b->cols());
 
-    matrix = scale * (a->matrix.transpose()) * (b->matrix);
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    assignProduct(matrix, scale * (a->matrix.transpose()) * (b->matrix), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multAddTransA(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddTransA(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->cols() != rows() || b->cols() != cols() || a->rows() != b->rows())
     {
         return false;
     }
 
-    matrix += (a->matrix.transpose()) * (b->matrix);
+    if(a->rows() == 6)
+    {
+        addProduct(matrix, fixedSize<6, Eigen::Dynamic>(a->matrix).transpose() * fixedSize<6, Eigen::Dynamic>(b->matrix), aliases(a, b));
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        addProduct(matrix, (a->matrix.transpose()) * (b->matrix), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::multAddTransA(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddTransA(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->cols() != rows() || b->cols() != cols() || a->rows() != b->rows())
     {
         return false;
     }
 
-    matrix += scale * (a->matrix.transpose()) * (b->matrix);
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix, scale * (a->matrix.transpose()) * (b->matrix), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multTransB(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multTransB(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->cols() != b->cols())
     {
         return false;
@@ -237,13 +431,27 @@ bool NativeMatrixImpl::multTransB(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->rows(), b->rows());
 
-    matrix = (a->matrix) * (b->matrix.transpose());
+    if(isSize(a, 3, 3) && isSize(b, 3, 3))
+    {
+        fixedSize<3, 3>(matrix) = fixedSize<3, 3>(a->matrix) * fixedSize<3, 3>(b->matrix).transpose();
+    }
+    else if(isSize(a, 6, 6) && isSize(b, 6, 6))
+    {
+        fixedSize<6, 6>(matrix) = fixedSize<6, 6>(a->matrix) * fixedSize<6, 6>(b->matrix).transpose();
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        assignProduct(matrix, (a->matrix) * (b->matrix.transpose()), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::multTransB(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multTransB(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->cols() != b->cols())
     {
         return false;
@@ -251,37 +459,45 @@ bool NativeMatrixImpl::multTransB(double scale, NativeMatrixImpl *a, NativeMatri
 
     resize(a->rows(), b->rows());
 
-    matrix = scale * (a->matrix) * (b->matrix.transpose());
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    assignProduct(matrix, scale * (a->matrix) * (b->matrix.transpose()), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multAddTransB(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddTransB(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->rows() != rows() || b->rows() != cols() || a->cols() != b->cols())
     {
         return false;
     }
 
-    matrix += (a->matrix) * (b->matrix.transpose());
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix, (a->matrix) * (b->matrix.transpose()), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multAddTransB(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddTransB(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(a->rows() != rows() || b->rows() != cols() || a->cols() != b->cols())
     {
         return false;
     }
 
-    matrix += scale * (a->matrix) * (b->matrix.transpose());
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix, scale * (a->matrix) * (b->matrix.transpose()), aliases(a, b));
 
     return true;
 }
 
 
-bool NativeMatrixImpl::addBlock(NativeMatrixImpl *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::addBlock(NativeMatrixBase *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, Scalar scale)
 {
     if(destStartRow < 0 || destStartColumn < 0 || srcStartRow < 0 || srcStartColumn < 0 || numberOfRows < 0 || numberOfColumns < 0)
     {
@@ -312,7 +528,8 @@ bool NativeMatrixImpl::addBlock(NativeMatrixImpl *a, int destStartRow, int destS
     return true;
 }
 
-bool NativeMatrixImpl::addBlock(NativeMatrixImpl *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::addBlock(NativeMatrixBase *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
 {
     if(destStartRow < 0 || destStartColumn < 0 || srcStartRow < 0 || srcStartColumn < 0 || numberOfRows < 0 || numberOfColumns < 0)
     {
@@ -343,7 +560,8 @@ bool NativeMatrixImpl::addBlock(NativeMatrixImpl *a, int destStartRow, int destS
     return true;
 }
 
-bool NativeMatrixImpl::subtractBlock(NativeMatrixImpl *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::subtractBlock(NativeMatrixBase *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
 {
     if(destStartRow < 0 || destStartColumn < 0 || srcStartRow < 0 || srcStartColumn < 0 || numberOfRows < 0 || numberOfColumns < 0)
     {
@@ -374,8 +592,10 @@ bool NativeMatrixImpl::subtractBlock(NativeMatrixImpl *a, int destStartRow, int
     return true;
 }
 
-bool NativeMatrixImpl::multAddBlock(NativeMatrixImpl *a, NativeMatrixImpl *b, int rowStart, int colStart)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddBlock(NativeMatrixBase *a, NativeMatrixBase *b, int rowStart, int colStart)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(rowStart < 0 || colStart < 0)
     {
         return false;
@@ -396,14 +616,17 @@ bool NativeMatrixImpl::multAddBlock(NativeMatrixImpl *a, NativeMatrixImpl *b, in
         return false;
     }
 
-    matrix.block(rowStart, colStart, a->rows(), b->cols()) += a->matrix * b->matrix;
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix.block(rowStart, colStart, a->rows(), b->cols()), a->matrix * b->matrix, aliases(a, b));
 
     return true;
 
 }
 
-bool NativeMatrixImpl::multAddBlock(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b, int rowStart, int colStart)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddBlock(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b, int rowStart, int colStart)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(rowStart < 0 || colStart < 0)
     {
         return false;
@@ -424,14 +647,17 @@ bool NativeMatrixImpl::multAddBlock(double scale, NativeMatrixImpl *a, NativeMat
         return false;
     }
 
-    matrix.block(rowStart, colStart, a->rows(), b->cols()) += scale * a->matrix * b->matrix;
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix.block(rowStart, colStart, a->rows(), b->cols()), scale * a->matrix * b->matrix, aliases(a, b));
 
     return true;
 
 }
 
-bool NativeMatrixImpl::multAddBlockTransA(NativeMatrixImpl *a, NativeMatrixImpl *b, int rowStart, int colStart)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddBlockTransA(NativeMatrixBase *a, NativeMatrixBase *b, int rowStart, int colStart)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(rowStart < 0 || colStart < 0)
     {
         return false;
@@ -452,14 +678,17 @@ bool NativeMatrixImpl::multAddBlockTransA(NativeMatrixImpl *a, NativeMatrixImpl
         return false;
     }
 
-    matrix.block(rowStart, colStart, a->cols(), b->cols()) += a->matrix.transpose() * b->matrix;
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    addProduct(matrix.block(rowStart, colStart, a->cols(), b->cols()), a->matrix.transpose() * b->matrix, aliases(a, b));
 
     return true;
 
 }
 
-bool NativeMatrixImpl::multAddBlockTransA(double scale, NativeMatrixImpl *a, NativeMatrixImpl *b, int rowStart, int colStart)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddBlockTransA(Scalar scale, NativeMatrixBase *a, NativeMatrixBase *b, int rowStart, int colStart)
 {
+    NativeOperationTimer timer(NATIVE_MULT, a->rows(), a->cols());
     if(rowStart < 0 || colStart < 0)
         {
             return false;
@@ -480,14 +709,17 @@ bool NativeMatrixImpl::multAddBlockTransA(double scale, NativeMatrixImpl *a, Nat
             return false;
         }
 
-        matrix.block(rowStart, colStart, a->cols(), b->cols()) += scale * a->matrix.transpose() * b->matrix;
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        addProduct(matrix.block(rowStart, colStart, a->cols(), b->cols()), scale * a->matrix.transpose() * b->matrix, aliases(a, b));
 
         return true;
 
 }
 
-bool NativeMatrixImpl::multQuad(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multQuad(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT_QUAD, a->rows(), a->cols());
     if(a->rows() != b->cols() || b->cols() != b->rows())
     {
         return false;
@@ -495,13 +727,32 @@ bool NativeMatrixImpl::multQuad(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->cols(), a->cols());
 
-    matrix = (a->matrix).transpose() * (b->matrix) * (a->matrix);
+    // a' * b is stored in the workspace, Eigen would otherwise allocate a temporary for it
+    WorkspaceView aTb = workspace(a->cols(), b->cols());
+    if(isSize(b, 3, 3))
+    {
+        aTb.noalias() = fixedSize<3, Eigen::Dynamic>(a->matrix).transpose() * fixedSize<3, 3>(b->matrix);
+        assignProduct(matrix, aTb * fixedSize<3, Eigen::Dynamic>(a->matrix), aliases(a, b));
+    }
+    else if(isSize(b, 6, 6))
+    {
+        aTb.noalias() = fixedSize<6, Eigen::Dynamic>(a->matrix).transpose() * fixedSize<6, 6>(b->matrix);
+        assignProduct(matrix, aTb * fixedSize<6, Eigen::Dynamic>(a->matrix), aliases(a, b));
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        aTb.noalias() = (a->matrix).transpose() * (b->matrix);
+        assignProduct(matrix, aTb * (a->matrix), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::multAddQuad(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddQuad(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_MULT_QUAD, a->rows(), a->cols());
     if(a->rows() != b->cols() || b->cols() != b->rows())
     {
         return false;
@@ -509,13 +760,32 @@ bool NativeMatrixImpl::multAddQuad(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->cols(), a->cols());
 
-    matrix += (a->matrix).transpose() * (b->matrix) * (a->matrix);
+    // a' * b is stored in the workspace, Eigen would otherwise allocate a temporary for it
+    WorkspaceView aTb = workspace(a->cols(), b->cols());
+    if(isSize(b, 3, 3))
+    {
+        aTb.noalias() = fixedSize<3, Eigen::Dynamic>(a->matrix).transpose() * fixedSize<3, 3>(b->matrix);
+        addProduct(matrix, aTb * fixedSize<3, Eigen::Dynamic>(a->matrix), aliases(a, b));
+    }
+    else if(isSize(b, 6, 6))
+    {
+        aTb.noalias() = fixedSize<6, Eigen::Dynamic>(a->matrix).transpose() * fixedSize<6, 6>(b->matrix);
+        addProduct(matrix, aTb * fixedSize<6, Eigen::Dynamic>(a->matrix), aliases(a, b));
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        aTb.noalias() = (a->matrix).transpose() * (b->matrix);
+        addProduct(matrix, aTb * (a->matrix), aliases(a, b));
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::multQuadBlock(NativeMatrixImpl *a, NativeMatrixImpl *b, int rowStart, int colStart)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multQuadBlock(NativeMatrixBase *a, NativeMatrixBase *b, int rowStart, int colStart)
 {
+    NativeOperationTimer timer(NATIVE_MULT_QUAD, a->rows(), a->cols());
     if(a->rows() != b->cols() || b->cols() != b->rows())
     {
         return false;
@@ -523,13 +793,18 @@ bool NativeMatrixImpl::multQuadBlock(NativeMatrixImpl *a, NativeMatrixImpl *b, i
 
     resize(a->cols(), a->cols());
 
-    matrix.block(rowStart, colStart, a->cols(), a->cols()) = (a->matrix).transpose() * (b->matrix) * (a->matrix);
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    WorkspaceView aTb = workspace(a->cols(), b->cols());
+    aTb.noalias() = (a->matrix).transpose() * (b->matrix);
+    assignProduct(matrix.block(rowStart, colStart, a->cols(), a->cols()), aTb * (a->matrix), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::multAddQuadBlock(NativeMatrixImpl *a, NativeMatrixImpl *b, int rowStart, int colStart)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multAddQuadBlock(NativeMatrixBase *a, NativeMatrixBase *b, int rowStart, int colStart)
 {
+    NativeOperationTimer timer(NATIVE_MULT_QUAD, a->rows(), a->cols());
     if(a->rows() != b->cols() || b->cols() != b->rows())
     {
         return false;
@@ -537,13 +812,18 @@ bool NativeMatrixImpl::multAddQuadBlock(NativeMatrixImpl *a, NativeMatrixImpl *b
 
     resize(a->cols(), a->cols());
 
-    matrix.block(rowStart, colStart, a->cols(), a->cols()) += (a->matrix).transpose() * (b->matrix) * (a->matrix);
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    WorkspaceView aTb = workspace(a->cols(), b->cols());
+    aTb.noalias() = (a->matrix).transpose() * (b->matrix);
+    addProduct(matrix.block(rowStart, colStart, a->cols(), a->cols()), aTb * (a->matrix), aliases(a, b));
 
     return true;
 }
 
-bool NativeMatrixImpl::invert(NativeMatrixImpl *a)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::invert(NativeMatrixBase *a)
 {
+    NativeOperationTimer timer(NATIVE_INVERT, a->rows(), a->cols());
     if(a->rows() != a->cols())
     {
         return false;
@@ -551,13 +831,28 @@ bool NativeMatrixImpl::invert(NativeMatrixImpl *a)
 
     resize(a->rows(), a->cols());
 
-    matrix = (a->matrix).lu().inverse();
+    if(isSize(a, 3, 3))
+    {
+        fixedSize<3, 3>(matrix) = fixedSize<3, 3>(a->matrix).inverse();
+    }
+    else if(isSize(a, 6, 6))
+    {
+        fixedSize<6, 6>(matrix) = fixedSize<6, 6>(a->matrix).lu().inverse();
+    }
+    else
+    {
+        NativeMatrixThreadingImpl::applyThreadLimit();
+        lu.compute(a->matrix);
+        matrix = lu.inverse();
+    }
 
     return true;
 }
 
-bool NativeMatrixImpl::solve(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solve(NativeMatrixBase *a, NativeMatrixBase *b)
 {
+    NativeOperationTimer timer(NATIVE_SOLVE, a->rows(), a->cols());
 
     if(a->rows() != b->rows() || b->cols() != 1 || a->cols() != a->rows())
     {
@@ -566,26 +861,49 @@ bool NativeMatrixImpl::solve(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->cols(), 1);
 
-    matrix = (a->matrix).lu().solve((b->matrix));
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    lu.compute(a->matrix);
+    matrix = lu.solve(b->matrix);
 
     return true;
 
 }
 
-bool NativeMatrixImpl::solveCheck(NativeMatrixImpl *a, NativeMatrixImpl *b)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solveCheck(NativeMatrixBase *a, NativeMatrixBase *b)
+{
+    // Scales with the size like the default threshold of FullPivLU::isInvertible()
+    return solveCheck(a, b, Eigen::NumTraits<Scalar>::epsilon() * a->rows());
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solveCheck(NativeMatrixBase *a, NativeMatrixBase *b, Scalar minimumRcond)
 {
+    NativeOperationTimer timer(NATIVE_SOLVE, a->rows(), a->cols());
     if(a->rows() != b->rows() || b->cols() != 1 || a->cols() != a->rows())
     {
         std::cerr << "NativeMatrix::solveCheck: Invalid dimensions" << std::endl;
         return false;
     }
 
+    if(a->rows() == 0)
+    {
+        resize(0, 1);
+        return true;
+    }
+
+    // The partial pivoting LU is several times cheaper than the full pivoting one, and estimating its
+    // reciprocal condition number only takes a few triangular solves on top of it.
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    lu.compute(a->matrix);
+    Scalar estimate = estimateRcond(l1Norm(a->matrix));
+
     resize(a->cols(), 1);
 
-    const Eigen::FullPivLU<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic> > fullPivLu = a->matrix.fullPivLu();
-    if (fullPivLu.isInvertible())
+    // Also rejects the NaN estimate of an exactly singular matrix
+    if(estimate > minimumRcond)
     {
-        matrix = fullPivLu.solve(b->matrix);
+        matrix = lu.solve(b->matrix);
         return true;
     }
     else
@@ -593,127 +911,315 @@ bool NativeMatrixImpl::solveCheck(NativeMatrixImpl *a, NativeMatrixImpl *b)
         matrix.setConstant(nan);
         return false;
     }
+}
+
+template<typename Scalar>
+Scalar NativeMatrixBase<Scalar>::rcond()
+{
+    if(rows() != cols())
+    {
+        return Scalar(0);
+    }
+
+    if(rows() == 0)
+    {
+        return Scalar(1);
+    }
 
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    lu.compute(matrix);
+    Scalar estimate = estimateRcond(l1Norm(matrix));
+    return estimate > Scalar(0) ? estimate : Scalar(0);
 }
 
-bool NativeMatrixImpl::insert(NativeMatrixImpl *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+template<typename Scalar>
+void NativeMatrixBase<Scalar>::luSolve(WorkspaceView& work, int rhs, int result)
 {
-    if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
+    // A = P' * L * U
+    work.col(result) = lu.permutationP() * work.col(rhs);
+    lu.matrixLU().template triangularView<Eigen::UnitLower>().solveInPlace(work.col(result));
+    lu.matrixLU().template triangularView<Eigen::Upper>().solveInPlace(work.col(result));
+}
+
+template<typename Scalar>
+void NativeMatrixBase<Scalar>::luSolveTransposed(WorkspaceView& work, int rhs, int result)
+{
+    // A' = U' * L' * P, the permutation goes to the other column as permuting in place allocates a mask
+    lu.matrixLU().template triangularView<Eigen::Upper>().transpose().solveInPlace(work.col(rhs));
+    lu.matrixLU().template triangularView<Eigen::UnitLower>().transpose().solveInPlace(work.col(rhs));
+    work.col(result) = lu.permutationP().transpose() * work.col(rhs);
+}
+
+// Hager's estimate of the 1-norm of the inverse with Higham's refinements, the algorithm behind
+// PartialPivLU::rcond(). That one allocates its vectors on every call, this one keeps them in the
+// workspace. Each step only keeps a better lower bound, so it never estimates below Eigen.
+template<typename Scalar>
+Scalar NativeMatrixBase<Scalar>::estimateRcond(Scalar matrixNorm)
+{
+    const int n = lu.rows();
+    if(n == 0)
     {
-        return false;
+        return Scalar(1);
+    }
+
+    if(matrixNorm == Scalar(0))
+    {
+        return Scalar(0);
     }
 
+    // Columns: the current estimate vector, its signs, the previous signs and a right-hand side
+    WorkspaceView work = workspace(n, 4);
+    const int v = 0, signs = 1, previousSigns = 2, rhs = 3;
 
-    if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > src->rows() )
+    work.col(rhs).setConstant(Scalar(1) / Scalar(n));
+    luSolve(work, rhs, v);
+    Scalar lowerBound = work.col(v).template lpNorm<1>();
+
+    if(n > 1)
+    {
+        work.col(signs) = (work.col(v).array() < Scalar(0)).select(Scalar(-1), Scalar(1));
+        Eigen::Index maxIndex = -1;
+        Eigen::Index previousMaxIndex = -1;
+
+        for(int k = 0; k < 4; k++)
+        {
+            // The largest entry of inverse(A)' * signs picks the column of inverse(A) to try next
+            work.col(rhs) = work.col(signs);
+            luSolveTransposed(work, rhs, v);
+            work.col(v).cwiseAbs().maxCoeff(&maxIndex);
+            if(maxIndex == previousMaxIndex)
+            {
+                break;
+            }
+
+            work.col(rhs).setZero();
+            work(maxIndex, rhs) = Scalar(1);
+            luSolve(work, rhs, v);
+            Scalar columnNorm = work.col(v).template lpNorm<1>();
+            if(!(columnNorm > lowerBound))
+            {
+                break;
+            }
+            lowerBound = columnNorm;
+
+            work.col(previousSigns) = work.col(signs);
+            work.col(signs) = (work.col(v).array() < Scalar(0)).select(Scalar(-1), Scalar(1));
+            if(work.col(signs) == work.col(previousSigns))
+            {
+                break;
+            }
+            previousMaxIndex = maxIndex;
+        }
+
+        // Higham's alternating vector catches the matrices the iteration underestimates
+        Scalar alternatingSign = Scalar(1);
+        for(int i = 0; i < n; i++)
+        {
+            work(i, rhs) = alternatingSign * (Scalar(1) + Scalar(i) / Scalar(n - 1));
+            alternatingSign = -alternatingSign;
+        }
+        luSolve(work, rhs, v);
+        lowerBound = std::max(lowerBound, Scalar(2) * work.col(v).template lpNorm<1>() / (Scalar(3) * Scalar(n)));
+    }
+
+    // A NaN bound from a singular decomposition stays NaN, which the callers reject
+    return lowerBound == Scalar(0) ? Scalar(0) : (Scalar(1) / lowerBound) / matrixNorm;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solveSPD(NativeMatrixBase *a, NativeMatrixBase *b)
+{
+    NativeOperationTimer timer(NATIVE_SOLVE, a->rows(), a->cols());
+    if(a->rows() != b->rows() || a->cols() != a->rows())
     {
         return false;
     }
-    if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > src->cols() )
+
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    llt.compute(a->matrix);
+    if(llt.info() != Eigen::Success)
     {
         return false;
     }
 
-    int w = srcX1-srcX0;
-    int h = srcY1-srcY0;
+    // The factor is a copy, so a and b can be this
+    if(b != this)
+    {
+        resize(b->rows(), b->cols());
+        matrix = b->matrix;
+    }
+    llt.solveInPlace(matrix);
 
-    if( dstY0+h > rows() )
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::invertSPD(NativeMatrixBase *a)
+{
+    NativeOperationTimer timer(NATIVE_INVERT, a->rows(), a->cols());
+    if(a->cols() != a->rows())
     {
         return false;
     }
-    if( dstX0+w > cols() )
+
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    llt.compute(a->matrix);
+    if(llt.info() != Eigen::Success)
     {
         return false;
     }
 
-
-    matrix.block(dstY0, dstX0, h, w) = src->matrix.block(srcY0, srcX0, h, w);
+    resize(a->rows(), a->cols());
+    matrix.setIdentity();
+    llt.solveInPlace(matrix);
 
     return true;
 }
 
-bool NativeMatrixImpl::insert(double *src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solveSymmetric(NativeMatrixBase *a, NativeMatrixBase *b)
 {
-    if(src == nullptr)
+    NativeOperationTimer timer(NATIVE_SOLVE, a->rows(), a->cols());
+    if(a->rows() != b->rows() || a->cols() != a->rows())
     {
         return false;
     }
 
-    if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
+    NativeMatrixThreadingImpl::applyThreadLimit();
+    ldlt.compute(a->matrix);
+    if(ldlt.info() != Eigen::Success)
     {
         return false;
     }
 
-    if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > srcRows )
+    // The pivots of a numerically singular matrix are round-off, e.g. 1e-17, rather than exact zeros
+    if(a->rows() > 0)
     {
-        return false;
+        Scalar tolerance = Eigen::NumTraits<Scalar>::epsilon() * a->rows() * ldlt.vectorD().cwiseAbs().maxCoeff();
+        if((ldlt.vectorD().array().abs() <= tolerance).any())
+        {
+            return false;
+        }
     }
-    if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > srcCols )
+
+    if(b != this)
     {
-        return false;
+        resize(b->rows(), b->cols());
+        matrix = b->matrix;
     }
+    ldlt.solveInPlace(matrix);
 
-    int w = srcX1-srcX0;
-    int h = srcY1-srcY0;
+    return true;
+}
 
-    if( dstY0+h > rows() )
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solveLowerTriangular(NativeMatrixBase *a, NativeMatrixBase *b)
+{
+    NativeOperationTimer timer(NATIVE_SOLVE, a->rows(), a->cols());
+    if(a == this || a->rows() != b->rows() || a->cols() != a->rows())
     {
         return false;
     }
-    if( dstX0+w > cols() )
+
+    if((a->matrix.diagonal().array() == Scalar(0)).any())
     {
         return false;
     }
 
-    Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(src, srcRows, srcCols);
-    matrix.block(dstY0, dstX0, h, w) = eigenData.block(srcY0, srcX0, h, w);
+    set(b);
+    a->matrix.template triangularView<Eigen::Lower>().solveInPlace(matrix);
 
     return true;
-
 }
 
-bool NativeMatrixImpl::insert(int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::solveUpperTriangular(NativeMatrixBase *a, NativeMatrixBase *b)
 {
-    if(startRow < 0 || this->rows() < startRow + 3 || this->cols() < startCol + 3 || startCol < 0)
+    NativeOperationTimer timer(NATIVE_SOLVE, a->rows(), a->cols());
+    if(a == this || a->rows() != b->rows() || a->cols() != a->rows())
     {
         return false;
     }
 
-    matrix(startRow + 0, startCol + 0) = m00;
-    matrix(startRow + 0, startCol + 1) = m01;
-    matrix(startRow + 0, startCol + 2) = m02;
+    if((a->matrix.diagonal().array() == Scalar(0)).any())
+    {
+        return false;
+    }
 
-    matrix(startRow + 1, startCol + 0) = m10;
-    matrix(startRow + 1, startCol + 1) = m11;
-    matrix(startRow + 1, startCol + 2) = m12;
+    set(b);
+    a->matrix.template triangularView<Eigen::Upper>().solveInPlace(matrix);
 
-    matrix(startRow + 2, startCol + 0) = m20;
-    matrix(startRow + 2, startCol + 1) = m21;
-    matrix(startRow + 2, startCol + 2) = m22;
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::pseudoInverse(NativeMatrixBase *a, Scalar tolerance)
+{
+    NativeOperationTimer timer(NATIVE_PSEUDO_INVERSE, a->rows(), a->cols());
+    const int numRows = a->cols();
+    const int numCols = a->rows();
 
+    const Eigen::BDCSVD<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic> > svd(a->matrix, Eigen::ComputeThinU | Eigen::ComputeThinV);
 
+    // Singular values below tolerance times the largest one are treated as zero
+    Eigen::Matrix<Scalar, Eigen::Dynamic, 1> inverseSingularValues = svd.singularValues();
+    Scalar threshold = inverseSingularValues.size() > 0 ? tolerance * inverseSingularValues(0) : Scalar(0);
+    for(int i = 0; i < inverseSingularValues.size(); i++)
+    {
+        inverseSingularValues(i) = inverseSingularValues(i) > threshold ? Scalar(1) / inverseSingularValues(i) : Scalar(0);
+    }
 
+    resize(numRows, numCols);
+    matrix.noalias() = svd.matrixV() * inverseSingularValues.asDiagonal() * svd.matrixU().transpose();
 
     return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::singularValues(NativeMatrixBase *a)
+{
+    const Eigen::BDCSVD<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic> > svd(a->matrix);
 
+    resize(svd.singularValues().size(), 1);
+    matrix = svd.singularValues();
+
+    return true;
 }
 
-bool NativeMatrixImpl::insertTupleRow(int startRow, int startCol, double x, double y, double z)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::matrixExponential(NativeMatrixBase *a)
 {
-    if(startRow < 0 || this->rows() < startRow + 3 || this->cols() < startCol + 1 || startCol < 0)
+    if(a->rows() != a->cols())
     {
         return false;
     }
 
-    matrix(startRow + 0, startCol) = x;
-    matrix(startRow + 1, startCol) = y;
-    matrix(startRow + 2, startCol) = z;
+    resize(a->rows(), a->cols());
 
+    // Scaling and squaring with a Pade approximant, the order is selected from the norm of a
+    matrix = a->matrix.exp();
 
-    return true;
+    return matrix.allFinite();
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::matrixSquareRoot(NativeMatrixBase *a)
+{
+    if(a->rows() != a->cols())
+    {
+        return false;
+    }
 
+    resize(a->rows(), a->cols());
+
+    // Principal square root computed from the real Schur decomposition of a
+    matrix = a->matrix.sqrt();
+
+    return matrix.allFinite();
 }
 
-bool NativeMatrixImpl::insertScaled(NativeMatrixImpl *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insert(NativeMatrixBase *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
 {
     if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
     {
@@ -743,12 +1249,13 @@ bool NativeMatrixImpl::insertScaled(NativeMatrixImpl *src, int srcY0, int srcY1,
     }
 
 
-    matrix.block(dstY0, dstX0, h, w) = scale * src->matrix.block(srcY0, srcX0, h, w);
+    matrix.block(dstY0, dstX0, h, w) = src->matrix.block(srcY0, srcX0, h, w);
 
     return true;
 }
 
-bool NativeMatrixImpl::insertScaled(double *src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insert(Scalar *src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
 {
     if(src == nullptr)
     {
@@ -781,30 +1288,152 @@ bool NativeMatrixImpl::insertScaled(double *src, int srcRows, int srcCols, int s
         return false;
     }
 
-    Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(src, srcRows, srcCols);
-    matrix.block(dstY0, dstX0, h, w) = scale * eigenData.block(srcY0, srcX0, h, w);
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(src, srcRows, srcCols);
+    blockedCopy(matrix.block(dstY0, dstX0, h, w), eigenData.block(srcY0, srcX0, h, w));
 
     return true;
 
 }
 
-bool NativeMatrixImpl::extract(int srcY0, int srcY1, int srcX0, int srcX1, double *dst, int dstRows, int dstCols, int dstY0, int dstX0)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insert(int startRow, int startCol, Scalar m00, Scalar m01, Scalar m02, Scalar m10, Scalar m11, Scalar m12, Scalar m20, Scalar m21, Scalar m22)
 {
-    if(dst == nullptr)
+    if(startRow < 0 || this->rows() < startRow + 3 || this->cols() < startCol + 3 || startCol < 0)
     {
         return false;
     }
 
-    if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
-    {
-        return false;
-    }
+    matrix(startRow + 0, startCol + 0) = m00;
+    matrix(startRow + 0, startCol + 1) = m01;
+    matrix(startRow + 0, startCol + 2) = m02;
 
-    if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > rows() )
-    {
-        return false;
-    }
-    if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > cols() )
+    matrix(startRow + 1, startCol + 0) = m10;
+    matrix(startRow + 1, startCol + 1) = m11;
+    matrix(startRow + 1, startCol + 2) = m12;
+
+    matrix(startRow + 2, startCol + 0) = m20;
+    matrix(startRow + 2, startCol + 1) = m21;
+    matrix(startRow + 2, startCol + 2) = m22;
+
+
+
+
+    return true;
+
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insertTupleRow(int startRow, int startCol, Scalar x, Scalar y, Scalar z)
+{
+    if(startRow < 0 || this->rows() < startRow + 3 || this->cols() < startCol + 1 || startCol < 0)
+    {
+        return false;
+    }
+
+    matrix(startRow + 0, startCol) = x;
+    matrix(startRow + 1, startCol) = y;
+    matrix(startRow + 2, startCol) = z;
+
+
+    return true;
+
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insertScaled(NativeMatrixBase *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, Scalar scale)
+{
+    if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
+    {
+        return false;
+    }
+
+
+    if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > src->rows() )
+    {
+        return false;
+    }
+    if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > src->cols() )
+    {
+        return false;
+    }
+
+    int w = srcX1-srcX0;
+    int h = srcY1-srcY0;
+
+    if( dstY0+h > rows() )
+    {
+        return false;
+    }
+    if( dstX0+w > cols() )
+    {
+        return false;
+    }
+
+
+    matrix.block(dstY0, dstX0, h, w) = scale * src->matrix.block(srcY0, srcX0, h, w);
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insertScaled(Scalar *src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, Scalar scale)
+{
+    if(src == nullptr)
+    {
+        return false;
+    }
+
+    if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
+    {
+        return false;
+    }
+
+    if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > srcRows )
+    {
+        return false;
+    }
+    if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > srcCols )
+    {
+        return false;
+    }
+
+    int w = srcX1-srcX0;
+    int h = srcY1-srcY0;
+
+    if( dstY0+h > rows() )
+    {
+        return false;
+    }
+    if( dstX0+w > cols() )
+    {
+        return false;
+    }
+
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(src, srcRows, srcCols);
+    blockedCopy(matrix.block(dstY0, dstX0, h, w), scale * eigenData.block(srcY0, srcX0, h, w));
+
+    return true;
+
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::extract(int srcY0, int srcY1, int srcX0, int srcX1, Scalar *dst, int dstRows, int dstCols, int dstY0, int dstX0)
+{
+    if(dst == nullptr)
+    {
+        return false;
+    }
+
+    if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
+    {
+        return false;
+    }
+
+    if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > rows() )
+    {
+        return false;
+    }
+    if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > cols() )
     {
         return false;
     }
@@ -821,15 +1450,16 @@ bool NativeMatrixImpl::extract(int srcY0, int srcY1, int srcX0, int srcX1, doubl
         return false;
     }
 
-    Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(dst, dstRows, dstCols);
-    eigenData.block(dstY0, dstX0, h, w) = matrix.block(srcY0, srcX0, h, w);
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(dst, dstRows, dstCols);
+    blockedCopy(eigenData.block(dstY0, dstX0, h, w), matrix.block(srcY0, srcX0, h, w));
 
     return true;
 
 }
 
 
-bool NativeMatrixImpl::transpose(NativeMatrixImpl *a)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::transpose(NativeMatrixBase *a)
 {
     resize(a->cols(), a->rows());
 
@@ -838,7 +1468,8 @@ bool NativeMatrixImpl::transpose(NativeMatrixImpl *a)
     return true;
 }
 
-bool NativeMatrixImpl::removeRow(int rowToRemove)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::removeRow(int rowToRemove)
 {
 
     if(rowToRemove >= rows() || rowToRemove < 0)
@@ -862,24 +1493,24 @@ bool NativeMatrixImpl::removeRow(int rowToRemove)
      * Very fast compared to eigen directly.
      */
 
-    double* data = storage.data();
+    Scalar* data = storage.data();
 
-    size_t newStride = (size_t)newRows * sizeof(double);
+    size_t newStride = (size_t)newRows * sizeof(Scalar);
 
 
     for (int col = 0; col < newCols - 1; col++)
     {
-        double* dst = data + (col * newRows + rowToRemove);
-        double* src = data + (col * oldRows + rowToRemove + 1);
+        Scalar* dst = data + (col * newRows + rowToRemove);
+        Scalar* src = data + (col * oldRows + rowToRemove + 1);
 
         memmove((void*)(dst), (void*)(src), newStride);
     }
 
     int lastCol = cols() - 1;
     int remaining = newRows - rowToRemove;
-    double* dst = data + (lastCol * newRows + rowToRemove);
-    double* src = data + (lastCol * oldRows + rowToRemove + 1);
-    memmove((void*)(dst), (void*)(src), remaining * sizeof(double));
+    Scalar* dst = data + (lastCol * newRows + rowToRemove);
+    Scalar* src = data + (lastCol * oldRows + rowToRemove + 1);
+    memmove((void*)(dst), (void*)(src), remaining * sizeof(Scalar));
 
     updateView(newRows, newCols);
     return true;
@@ -887,7 +1518,8 @@ bool NativeMatrixImpl::removeRow(int rowToRemove)
 
 }
 
-bool NativeMatrixImpl::removeColumn(int colToRemove)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::removeColumn(int colToRemove)
 {
     if(colToRemove >= cols() || colToRemove < 0)
     {
@@ -905,10 +1537,10 @@ bool NativeMatrixImpl::removeColumn(int colToRemove)
     int oldCols = cols();
     int newCols = oldCols - 1;
 
-    double* data = storage.data();
-    double* dst = data + (colToRemove * newRows);
-    double* src = data + ( (colToRemove + 1) * newRows);
-    size_t size = (newCols - colToRemove) * newRows * sizeof(double);
+    Scalar* data = storage.data();
+    Scalar* dst = data + (colToRemove * newRows);
+    Scalar* src = data + ( (colToRemove + 1) * newRows);
+    size_t size = (newCols - colToRemove) * newRows * sizeof(Scalar);
 
     memmove(dst, src, size);
 
@@ -916,12 +1548,400 @@ bool NativeMatrixImpl::removeColumn(int colToRemove)
     return true;
 }
 
-void NativeMatrixImpl::zero()
+static inline bool isStrictlyIncreasing(int* indices, int numberOfIndices, int bound)
+{
+    if(numberOfIndices < 0 || (numberOfIndices > 0 && indices == nullptr))
+    {
+        return false;
+    }
+
+    int previous = -1;
+    for(int i = 0; i < numberOfIndices; i++)
+    {
+        if(indices[i] <= previous || indices[i] >= bound)
+        {
+            return false;
+        }
+        previous = indices[i];
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::removeRows(int* rowsToRemove, int numberOfRows)
+{
+    if(!isStrictlyIncreasing(rowsToRemove, numberOfRows, rows()))
+    {
+        return false;
+    }
+
+    if(numberOfRows == 0)
+    {
+        return true;
+    }
+
+    int oldRows = rows();
+    int newRows = oldRows - numberOfRows;
+    int newCols = cols();
+
+    /*
+     * Single compaction pass: the runs of rows between removed rows are moved down in storage
+     * order. The destination never passes the source, so every element is moved once.
+     */
+    Scalar* data = storage.data();
+    Scalar* dst = data;
+
+    for(int col = 0; col < newCols; col++)
+    {
+        Scalar* column = data + (size_t) col * oldRows;
+        int start = 0;
+
+        for(int i = 0; i <= numberOfRows; i++)
+        {
+            int end = i < numberOfRows ? rowsToRemove[i] : oldRows;
+            int length = end - start;
+
+            if(length > 0)
+            {
+                if(dst != column + start)
+                {
+                    memmove(dst, column + start, length * sizeof(Scalar));
+                }
+                dst += length;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    updateView(newRows, newCols);
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::removeColumns(int* colsToRemove, int numberOfCols)
+{
+    if(!isStrictlyIncreasing(colsToRemove, numberOfCols, cols()))
+    {
+        return false;
+    }
+
+    if(numberOfCols == 0)
+    {
+        return true;
+    }
+
+    int newRows = rows();
+    int oldCols = cols();
+    int newCols = oldCols - numberOfCols;
+
+    // Columns are contiguous, so each run of kept columns is a single move
+    Scalar* data = storage.data();
+    Scalar* dst = data;
+    int start = 0;
+
+    for(int i = 0; i <= numberOfCols; i++)
+    {
+        int end = i < numberOfCols ? colsToRemove[i] : oldCols;
+        size_t length = (size_t) (end - start) * newRows;
+
+        if(length > 0)
+        {
+            Scalar* src = data + (size_t) start * newRows;
+            if(dst != src)
+            {
+                memmove(dst, src, length * sizeof(Scalar));
+            }
+            dst += length;
+        }
+
+        start = end + 1;
+    }
+
+    updateView(newRows, newCols);
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::appendRows(NativeMatrixBase* src)
+{
+    int oldRows = rows();
+    int srcRows = src->rows();
+
+    if(oldRows == 0)
+    {
+        return set(src);
+    }
+
+    if(src->cols() != cols())
+    {
+        return false;
+    }
+
+    int newRows = oldRows + srcRows;
+    int newCols = cols();
+    ensureCapacity(newRows * newCols);
+
+    // The columns get longer, so they are spread out from the last one, which moves the furthest.
+    // The first column stays where it is.
+    Scalar* data = storage.data();
+    for(int col = newCols - 1; col > 0; col--)
+    {
+        memmove(data + (size_t) col * newRows, data + (size_t) col * oldRows, oldRows * sizeof(Scalar));
+    }
+
+    updateView(newRows, newCols);
+
+    if(src == this)
+    {
+        matrix.bottomRows(srcRows) = matrix.topRows(oldRows);
+    }
+    else
+    {
+        matrix.bottomRows(srcRows) = src->matrix;
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::appendRows(Scalar* src, int srcRows, int srcCols)
+{
+    if(src == nullptr || srcRows < 0 || srcCols < 0)
+    {
+        return false;
+    }
+
+    int oldRows = rows();
+
+    if(oldRows == 0)
+    {
+        resize(srcRows, srcCols);
+    }
+    else if(srcCols != cols())
+    {
+        return false;
+    }
+    else
+    {
+        int newRows = oldRows + srcRows;
+        int newCols = cols();
+        ensureCapacity(newRows * newCols);
+
+        Scalar* data = storage.data();
+        for(int col = newCols - 1; col > 0; col--)
+        {
+            memmove(data + (size_t) col * newRows, data + (size_t) col * oldRows, oldRows * sizeof(Scalar));
+        }
+
+        updateView(newRows, newCols);
+    }
+
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(src, srcRows, srcCols);
+    blockedCopy(matrix.bottomRows(srcRows), eigenData);
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::appendColumns(NativeMatrixBase* src)
+{
+    int oldCols = cols();
+    int srcCols = src->cols();
+
+    if(oldCols == 0)
+    {
+        return set(src);
+    }
+
+    if(src->rows() != rows())
+    {
+        return false;
+    }
+
+    // Appending columns only extends the storage, nothing already in it moves
+    ensureCapacity(rows() * (oldCols + srcCols));
+    updateView(rows(), oldCols + srcCols);
+
+    if(src == this)
+    {
+        matrix.rightCols(srcCols) = matrix.leftCols(oldCols);
+    }
+    else
+    {
+        matrix.rightCols(srcCols) = src->matrix;
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::appendColumns(Scalar* src, int srcRows, int srcCols)
+{
+    if(src == nullptr || srcRows < 0 || srcCols < 0)
+    {
+        return false;
+    }
+
+    int oldCols = cols();
+
+    if(oldCols == 0)
+    {
+        resize(srcRows, srcCols);
+    }
+    else if(srcRows != rows())
+    {
+        return false;
+    }
+    else
+    {
+        ensureCapacity(rows() * (oldCols + srcCols));
+        updateView(rows(), oldCols + srcCols);
+    }
+
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(src, srcRows, srcCols);
+    blockedCopy(matrix.rightCols(srcCols), eigenData);
+
+    return true;
+}
+
+static inline bool areIndicesValid(int* indices, int numberOfIndices, int bound)
+{
+    if(numberOfIndices < 0 || (numberOfIndices > 0 && indices == nullptr))
+    {
+        return false;
+    }
+
+    for(int i = 0; i < numberOfIndices; i++)
+    {
+        if(indices[i] < 0 || indices[i] >= bound)
+        {
+            return false;
+        }
+    }
+
+    return true;
+}
+
+// Column by column, so the writes are sequential and the reads stay within one column of the source
+template<typename Source, typename Destination>
+static inline void gatherRows(const Source& src, int* rows, int numberOfRows, Destination& dst)
+{
+    for(int col = 0; col < src.cols(); col++)
+    {
+        for(int i = 0; i < numberOfRows; i++)
+        {
+            dst(i, col) = src(rows[i], col);
+        }
+    }
+}
+
+// Repeated indices accumulate
+template<typename Source, typename Destination>
+static inline void scatterAdd(const Source& src, int* rows, int numberOfRows, Destination& dst)
+{
+    for(int col = 0; col < src.cols(); col++)
+    {
+        for(int i = 0; i < numberOfRows; i++)
+        {
+            dst(rows[i], col) += src(i, col);
+        }
+    }
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::selectRows(NativeMatrixBase* a, int* rows, int numberOfRows)
+{
+    if(!areIndicesValid(rows, numberOfRows, a->rows()))
+    {
+        return false;
+    }
+
+    if(a == this)
+    {
+        WorkspaceView copy = workspace(a->rows(), a->cols());
+        copy = a->matrix;
+        resize(numberOfRows, copy.cols());
+        gatherRows(copy, rows, numberOfRows, matrix);
+    }
+    else
+    {
+        resize(numberOfRows, a->cols());
+        gatherRows(a->matrix, rows, numberOfRows, matrix);
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::selectColumns(NativeMatrixBase* a, int* cols, int numberOfCols)
+{
+    if(!areIndicesValid(cols, numberOfCols, a->cols()))
+    {
+        return false;
+    }
+
+    // Columns are contiguous, each one is a single copy
+    if(a == this)
+    {
+        WorkspaceView copy = workspace(a->rows(), a->cols());
+        copy = a->matrix;
+        resize(copy.rows(), numberOfCols);
+
+        for(int i = 0; i < numberOfCols; i++)
+        {
+            matrix.col(i) = copy.col(cols[i]);
+        }
+    }
+    else
+    {
+        resize(a->rows(), numberOfCols);
+
+        for(int i = 0; i < numberOfCols; i++)
+        {
+            matrix.col(i) = a->matrix.col(cols[i]);
+        }
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::scatterAddRows(NativeMatrixBase* a, int* rows, int numberOfRows)
+{
+    if(a->rows() != numberOfRows || a->cols() != cols())
+    {
+        return false;
+    }
+
+    if(!areIndicesValid(rows, numberOfRows, this->rows()))
+    {
+        return false;
+    }
+
+    if(a == this)
+    {
+        WorkspaceView copy = workspace(a->rows(), a->cols());
+        copy = a->matrix;
+        scatterAdd(copy, rows, numberOfRows, matrix);
+    }
+    else
+    {
+        scatterAdd(a->matrix, rows, numberOfRows, matrix);
+    }
+
+    return true;
+}
+
+template<typename Scalar>
+void NativeMatrixBase<Scalar>::zero()
 {
     matrix.setZero();
 }
 
-bool NativeMatrixImpl::containsNaN()
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::containsNaN()
 {
     for(int i = 0; i < matrix.size(); i++)
     {
@@ -934,7 +1954,8 @@ bool NativeMatrixImpl::containsNaN()
     return false;
 }
 
-bool NativeMatrixImpl::scale(double scale, NativeMatrixImpl *src)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::scale(Scalar scale, NativeMatrixBase *src)
 {
     resize(src->rows(), src->cols());
 
@@ -943,12 +1964,14 @@ bool NativeMatrixImpl::scale(double scale, NativeMatrixImpl *src)
     return true;
 }
 
-bool NativeMatrixImpl::isAprrox(NativeMatrixImpl *other, double precision)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::isAprrox(NativeMatrixBase *other, Scalar precision)
 {
     return matrix.isApprox(other->matrix, precision);
 }
 
-bool NativeMatrixImpl::set(double *data, int rows, int cols)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::set(Scalar *data, int rows, int cols)
 {
     if(data == nullptr)
     {
@@ -958,14 +1981,15 @@ bool NativeMatrixImpl::set(double *data, int rows, int cols)
     resize(rows, cols);
 
 
-    Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(data, rows, cols);
-    matrix = eigenData;
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(data, rows, cols);
+    blockedCopy(matrix, eigenData);
 
     return true;
 
 }
 
-bool NativeMatrixImpl::get(double *data, int rows, int cols)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::get(Scalar *data, int rows, int cols)
 {
     if(rows != this->rows() || cols != this->cols())
     {
@@ -977,14 +2001,78 @@ bool NativeMatrixImpl::get(double *data, int rows, int cols)
         return false;
     }
 
-    Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(data, rows, cols);
-    eigenData = matrix;
+    Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> eigenData(data, rows, cols);
+    blockedCopy(eigenData, matrix);
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::setTransposed(Scalar *data, int rows, int cols)
+{
+    if(data == nullptr || rows < 0 || cols < 0)
+    {
+        return false;
+    }
+
+    resize(cols, rows);
+
+    std::memcpy(matrix.data(), data, sizeof(Scalar) * matrix.size());
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::getTransposed(Scalar *data, int rows, int cols)
+{
+    if(rows != this->cols() || cols != this->rows())
+    {
+        return false;
+    }
+
+    if(data == nullptr)
+    {
+        return false;
+    }
+
+    std::memcpy(data, matrix.data(), sizeof(Scalar) * matrix.size());
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::setFromBuffer(unsigned char *NIOBUFFER, int rows, int cols)
+{
+    if(NIOBUFFER == nullptr || rows < 0 || cols < 0)
+    {
+        return false;
+    }
+
+    resize(rows, cols);
+
+    // The buffer is usually a memory-mapped file, the data is not guaranteed to be aligned.
+    Eigen::Map<const Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>, Eigen::Unaligned> eigenData(reinterpret_cast<const double*>(NIOBUFFER), rows, cols);
+    blockedCopy(matrix, eigenData.template cast<Scalar>());
 
     return true;
 }
 
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::getToBuffer(unsigned char *NIOBUFFER, int byteOffset)
+{
+    if(NIOBUFFER == nullptr || byteOffset < 0)
+    {
+        return false;
+    }
+
+    std::memcpy(NIOBUFFER + byteOffset, matrix.data(), sizeof(Scalar) * matrix.size());
 
-bool NativeMatrixImpl::addDiagonal(int startRow, int startCol, int rows, int cols, double value)
+    return true;
+}
+
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::addDiagonal(int startRow, int startCol, int rows, int cols, Scalar value)
 {
     if(startRow < 0 || this->rows() < startRow + rows || this->cols() < startCol + cols || startCol < 0)
     {
@@ -1000,7 +2088,8 @@ bool NativeMatrixImpl::addDiagonal(int startRow, int startCol, int rows, int col
 }
 
 
-bool NativeMatrixImpl::fillDiagonal(int startRow, int startCol, int rows, int cols, double value)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::fillDiagonal(int startRow, int startCol, int rows, int cols, Scalar value)
 {
     if(startRow < 0 || this->rows() < startRow + rows || this->cols() < startCol + cols || startCol < 0)
     {
@@ -1012,7 +2101,8 @@ bool NativeMatrixImpl::fillDiagonal(int startRow, int startCol, int rows, int co
     return true;
 }
 
-bool NativeMatrixImpl::fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, Scalar value)
 {
     if(startRow < 0 || this->rows() < startRow + numberOfRows || this->cols() < startCol + numberOfCols || startCol < 0 || numberOfRows < 1 || numberOfCols < 1)
     {
@@ -1024,7 +2114,69 @@ bool NativeMatrixImpl::fillBlock(int startRow, int startCol, int numberOfRows, i
     return true;
 }
 
-void NativeMatrixImpl::print()
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::multMatrix3(Scalar m00, Scalar m01, Scalar m02, Scalar m10, Scalar m11, Scalar m12, Scalar m20, Scalar m21, Scalar m22, NativeMatrixBase *b)
+{
+    if(b->rows() != 3)
+    {
+        return false;
+    }
+
+    Eigen::Matrix<Scalar, 3, 3> a;
+    a << m00, m01, m02,
+         m10, m11, m12,
+         m20, m21, m22;
+
+    resize(3, b->cols());
+
+    fixedSize<3, Eigen::Dynamic>(matrix) = a * fixedSize<3, Eigen::Dynamic>(b->matrix);
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::extractMatrix3(int startRow, int startCol, Scalar *dst)
+{
+    if(dst == nullptr)
+    {
+        return false;
+    }
+
+    if(startRow < 0 || this->rows() < startRow + 3 || this->cols() < startCol + 3 || startCol < 0)
+    {
+        return false;
+    }
+
+    Eigen::Map<Eigen::Matrix<Scalar, 3, 3, Eigen::RowMajor>> eigenData(dst);
+    eigenData = matrix.template block<3, 3>(startRow, startCol);
+
+    return true;
+}
+
+template<typename Scalar>
+bool NativeMatrixBase<Scalar>::insertSpatial(int startRow, int startCol, Scalar *src)
+{
+    if(src == nullptr)
+    {
+        return false;
+    }
+
+    if(startRow < 0 || this->rows() < startRow + 6 || this->cols() < startCol + 6 || startCol < 0)
+    {
+        return false;
+    }
+
+    Eigen::Map<Eigen::Matrix<Scalar, 6, 6, Eigen::RowMajor>> eigenData(src);
+    matrix.template block<6, 6>(startRow, startCol) = eigenData;
+
+    return true;
+}
+
+template<typename Scalar>
+void NativeMatrixBase<Scalar>::print()
 {
     std::cout << matrix << std::endl;
 }
+
+template class NativeMatrixBase<double>;
+template class NativeMatrixBase<float>;
@@ -1,174 +1,260 @@
 #ifndef NATIVEMATRIX_H
 #define NATIVEMATRIX_H
 
+#include <algorithm>
 #include <Eigen/Dense>
+#include <Eigen/Sparse>
+#include <unsupported/Eigen/MatrixFunctions>
 
 
-typedef Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic>, Eigen::AlignedMax> NativeMatrixView;
-
-class NativeMatrixImpl
+// The matrix implementation is shared between the double (NativeMatrixImpl) and the single
+// precision (NativeFMatrixImpl) variants. Both are instantiated in NativeMatrix.cpp.
+template<typename Scalar>
+class NativeMatrixBase
 {
 public:
-    double nan = std::numeric_limits<double>::quiet_NaN();
+    typedef Eigen::Map<Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic>, Eigen::AlignedMax> View;
+
+    Scalar nan = std::numeric_limits<Scalar>::quiet_NaN();
 
-    NativeMatrixImpl(int numRows, int numCols);
+    NativeMatrixBase(int numRows, int numCols);
 
     void resize(int numRows, int numCols);
 
-    bool set(NativeMatrixImpl* a);
+    // Makes room for at least capacity elements, keeping the values
+    bool reserve(int capacity);
+
+    // Releases the storage beyond the current size, and the workspaces of the operations
+    void trimToSize();
+
+    // Number of elements the matrix can hold without reallocating
+    inline int capacity()
+    {
+        return storage.size();
+    }
+
+    bool set(NativeMatrixBase* a);
+
+    bool add(NativeMatrixBase* a, NativeMatrixBase* b);
+
+    bool add(NativeMatrixBase* a, Scalar scale, NativeMatrixBase* b);
+
+    bool add(Scalar scale1, NativeMatrixBase* a, Scalar scale2, NativeMatrixBase* b);
+
+    bool addEquals(NativeMatrixBase* b);
+
+    bool addEquals(Scalar scale, NativeMatrixBase* b);
+
+    bool add(int row, int col, Scalar value);
+
+    bool subtract(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool add(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool mult(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool add(NativeMatrixImpl* a, double scale, NativeMatrixImpl* b);
+    bool mult(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool add(double scale1, NativeMatrixImpl* a, double scale2, NativeMatrixImpl* b);
+    bool multAdd(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool addEquals(NativeMatrixImpl* b);
+    bool multAdd(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool addEquals(double scale, NativeMatrixImpl* b);
+    bool multTransA(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool add(int row, int col, double value);
+    bool multTransA(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool subtract(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddTransA(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool mult(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddTransA(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool mult(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multTransB(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multAdd(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multTransB(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multAdd(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddTransB(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multTransA(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddTransB(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multTransA(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool addBlock(NativeMatrixBase* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn,
+                  int numberOfRows, int numberOfColumns, Scalar scale);
 
-    bool multAddTransA(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool addBlock(NativeMatrixBase *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
 
-    bool multAddTransA(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool subtractBlock(NativeMatrixBase *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
 
-    bool multTransB(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddBlock(NativeMatrixBase* a, NativeMatrixBase* b, int rowStart, int colStart);
 
-    bool multTransB(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddBlock(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b, int rowStart, int colStart);
 
-    bool multAddTransB(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddBlockTransA(NativeMatrixBase* a, NativeMatrixBase* b, int rowStart, int colStart);
 
-    bool multAddTransB(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool multAddBlockTransA(Scalar scale, NativeMatrixBase* a, NativeMatrixBase* b, int rowStart, int colStart);
 
-    bool addBlock(NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn,
-                  int numberOfRows, int numberOfColumns, double scale);
+    bool multQuad(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool addBlock(NativeMatrixImpl *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
+    bool multAddQuad(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool subtractBlock(NativeMatrixImpl *a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
+    bool multQuadBlock(NativeMatrixBase* a, NativeMatrixBase* b, int rowStart, int colStart);
 
-    bool multAddBlock(NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+    bool multAddQuadBlock(NativeMatrixBase* a, NativeMatrixBase* b, int rowStart, int colStart);
 
-    bool multAddBlock(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+    bool invert(NativeMatrixBase* a);
 
-    bool multAddBlockTransA(NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+    bool solve(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multAddBlockTransA(double scale, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+    bool solveCheck(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multQuad(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    // Returns false, filling this with NaN, when the estimated reciprocal condition number of a is not
+    // above minimumRcond
+    bool solveCheck(NativeMatrixBase* a, NativeMatrixBase* b, Scalar minimumRcond);
 
-    bool multAddQuad(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    // Estimate of the reciprocal condition number of this in the 1-norm, from a partial pivoting LU.
+    // It is 0 for a singular or non-square matrix.
+    Scalar rcond();
 
-    bool multQuadBlock(NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+    // Solve and invert symmetric positive definite matrices with a Cholesky decomposition. They return
+    // false, leaving this unchanged, when a is not positive definite.
+    bool solveSPD(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool multAddQuadBlock(NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+    bool invertSPD(NativeMatrixBase* a);
 
-    bool invert(NativeMatrixImpl* a);
+    // Uses a LDLT decomposition, a can be semi-definite or indefinite but not singular. a is considered
+    // singular when a pivot is not above n * epsilon times the largest one.
+    bool solveSymmetric(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool solve(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    // Only the triangle of a is read, return false when a has a zero on its diagonal
+    bool solveLowerTriangular(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool solveCheck(NativeMatrixImpl* a, NativeMatrixImpl* b);
+    bool solveUpperTriangular(NativeMatrixBase* a, NativeMatrixBase* b);
 
-    bool insert(NativeMatrixImpl* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
+    bool pseudoInverse(NativeMatrixBase* a, Scalar tolerance);
 
-    bool insert(double* src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
+    bool singularValues(NativeMatrixBase* a);
 
-    bool insert(int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22);
+    bool matrixExponential(NativeMatrixBase* a);
 
-    bool insertTupleRow(int startRow, int startCol, double x, double y, double z);
+    bool matrixSquareRoot(NativeMatrixBase* a);
 
-    bool insertScaled(NativeMatrixImpl *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale);
+    bool insert(NativeMatrixBase* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
 
-    bool insertScaled(double *src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale);
+    bool insert(Scalar* src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
 
-    bool extract(int srcY0, int srcY1, int srcX0, int srcX1, double *dst, int dstRows, int dstCols, int dstY0, int dstX0);
+    bool insert(int startRow, int startCol, Scalar m00, Scalar m01, Scalar m02, Scalar m10, Scalar m11, Scalar m12, Scalar m20, Scalar m21, Scalar m22);
 
-    bool transpose(NativeMatrixImpl* a);
+    bool insertTupleRow(int startRow, int startCol, Scalar x, Scalar y, Scalar z);
+
+    bool insertScaled(NativeMatrixBase *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, Scalar scale);
+
+    bool insertScaled(Scalar *src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, Scalar scale);
+
+    bool extract(int srcY0, int srcY1, int srcX0, int srcX1, Scalar *dst, int dstRows, int dstCols, int dstY0, int dstX0);
+
+    bool transpose(NativeMatrixBase* a);
+
+    bool multMatrix3(Scalar m00, Scalar m01, Scalar m02, Scalar m10, Scalar m11, Scalar m12, Scalar m20, Scalar m21, Scalar m22, NativeMatrixBase* b);
+
+    bool extractMatrix3(int startRow, int startCol, Scalar* dst);
+
+    bool insertSpatial(int startRow, int startCol, Scalar* src);
 
     bool removeRow(int indexToRemove);
 
     bool removeColumn(int indexToRemove);
 
+    // The indices have to be strictly increasing
+    bool removeRows(int* indicesToRemove, int numberOfIndices);
+
+    bool removeColumns(int* indicesToRemove, int numberOfIndices);
+
+    bool appendRows(NativeMatrixBase* src);
+
+    bool appendRows(Scalar* src, int srcRows, int srcCols);
+
+    bool appendColumns(NativeMatrixBase* src);
+
+    bool appendColumns(Scalar* src, int srcRows, int srcCols);
+
+    // Gather and scatter with index arrays, the indices can be in any order
+    bool selectRows(NativeMatrixBase* a, int* rows, int numberOfRows);
+
+    bool selectColumns(NativeMatrixBase* a, int* cols, int numberOfCols);
+
+    bool scatterAddRows(NativeMatrixBase* a, int* rows, int numberOfRows);
+
     void zero();
 
     bool containsNaN();
 
-    bool scale(double scale, NativeMatrixImpl* src);
+    bool scale(Scalar scale, NativeMatrixBase* src);
+
+    bool isAprrox(NativeMatrixBase* other, Scalar precision);
+
+    bool set(Scalar* data, int rows, int cols);
+
+    bool get(Scalar* data, int rows, int cols);
+
+    // A row-major rows x cols array is the column-major cols x rows transpose, so these are a memcpy
+    bool setTransposed(Scalar* data, int rows, int cols);
 
-    bool isAprrox(NativeMatrixImpl* other, double precision);
+    bool getTransposed(Scalar* data, int rows, int cols);
 
-    bool set(double* data, int rows, int cols);
+    // Copies rows x cols doubles stored row-major in native byte order at the address of a direct buffer
+    bool setFromBuffer(unsigned char* NIOBUFFER, int rows, int cols);
 
-    bool get(double* data, int rows, int cols);
+    // Copies the data as is (column-major Scalars) byteOffset bytes after the address of a direct buffer
+    bool getToBuffer(unsigned char* NIOBUFFER, int byteOffset);
 
-    bool addDiagonal(int startRow, int startCol, int rows, int cols, double value);
+    bool addDiagonal(int startRow, int startCol, int rows, int cols, Scalar value);
 
-    bool fillDiagonal(int startRow, int startCol, int rows, int cols, double value);
+    bool fillDiagonal(int startRow, int startCol, int rows, int cols, Scalar value);
 
-    bool fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, double value);
+    bool fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, Scalar value);
 
-    inline bool addDiagonal(int startRow, int startCol, int size, double value)
+    inline bool addDiagonal(int startRow, int startCol, int size, Scalar value)
     {
         return addDiagonal(startRow, startCol, size, size, value);
     }
 
-    inline bool addDiagonal(double value)
+    inline bool addDiagonal(Scalar value)
     {
         return addDiagonal(0, 0, rows(), cols(), value);
     }
 
-    inline bool fillDiagonal(int startRow, int startCol, int size, double value)
+    inline bool fillDiagonal(int startRow, int startCol, int size, Scalar value)
     {
         return fillDiagonal(startRow, startCol, size, size, value);
     }
 
-    inline bool fillDiagonal(double value)
+    inline bool fillDiagonal(Scalar value)
     {
         return fillDiagonal(0, 0, rows(), cols(), value);
     }
 
-    inline double min()
+    inline Scalar min()
     {
        return matrix.minCoeff();
     }
 
-    inline double max()
+    inline Scalar max()
     {
         return matrix.maxCoeff();
     }
 
-    inline double sum()
+    inline Scalar sum()
     {
         return matrix.sum();
     }
 
-    inline double prod()
+    inline Scalar prod()
     {
         return matrix.prod();
     }
 
-    inline void scale(double scale)
+    inline void scale(Scalar scale)
     {
         matrix *= scale;
     }
 
 
-    inline bool set(int row, int col, double value)
+    inline bool set(int row, int col, Scalar value)
     {
           if(row >= rows() || col >= cols() || row < 0 || col < 0)
           {
@@ -180,7 +266,7 @@ public:
           return true;
     }
 
-    inline double get(int row, int col)
+    inline Scalar get(int row, int col)
     {
         if(row >= rows() || col >= cols() || row < 0 || col < 0)
         {
@@ -209,18 +295,69 @@ public:
 
     void print();
 
-    NativeMatrixView matrix;
+    View matrix;
 
 private:
-    Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic>  storage;
+    typedef Eigen::Matrix<Scalar, Eigen::Dynamic, Eigen::Dynamic> DenseMatrix;
+    typedef Eigen::Map<DenseMatrix> WorkspaceView;
+
+    Eigen::Matrix<Scalar, Eigen::Dynamic, 1> storage;
+
+    // Intermediate results and decompositions are kept here rather than in temporaries, so the
+    // operations stop allocating once they ran with their sizes, see NativeAllocationTracker.h
+    Eigen::Matrix<Scalar, Eigen::Dynamic, 1> workspaceStorage;
+    Eigen::PartialPivLU<DenseMatrix> lu;
+    Eigen::LLT<DenseMatrix> llt;
+    Eigen::LDLT<DenseMatrix> ldlt;
+
+    // Grows like storage does, so alternating between sizes does not reallocate either
+    inline WorkspaceView workspace(int numRows, int numCols)
+    {
+        if(numRows * numCols > workspaceStorage.size())
+        {
+            workspaceStorage.resize(numRows * numCols);
+        }
+
+        return WorkspaceView(workspaceStorage.data(), numRows, numCols);
+    }
+
+    // Reciprocal condition number of the matrix decomposed in lu, given its 1-norm. Unlike
+    // PartialPivLU::rcond() it works in the workspace, so it does not allocate.
+    Scalar estimateRcond(Scalar matrixNorm);
+
+    // Solve with the matrix decomposed in lu, or its transpose, from one workspace column into another.
+    // The transposed solve overwrites the right-hand side column.
+    void luSolve(WorkspaceView& work, int rhs, int result);
+    void luSolveTransposed(WorkspaceView& work, int rhs, int result);
+
+    // The result can only overlap an operand if the operand is this matrix
+    inline bool aliases(NativeMatrixBase* a, NativeMatrixBase* b)
+    {
+        return a == this || b == this;
+    }
+
+    // Grows the storage like resize does, but keeps the values
+    inline void ensureCapacity(int capacity)
+    {
+        if(capacity > storage.size())
+        {
+            int numRows = rows();
+            int numCols = cols();
+            storage.conservativeResize(std::max(capacity, (int) (storage.size() + storage.size() / 2)));
+            updateView(numRows, numCols);
+        }
+    }
 
     inline void updateView(int numRows, int numCols)
     {
         eigen_assert((numRows * numCols) <= storage.size());
 
-        new (&matrix) NativeMatrixView(storage.data(), numRows, numCols);
+        new (&matrix) View(storage.data(), numRows, numCols);
     }
 
 };
 
+typedef NativeMatrixBase<double> NativeMatrixImpl;
+typedef NativeMatrixBase<float> NativeFMatrixImpl;
+
 #endif // NATIVEMATRIX_H
@@ -27,15 +27,64 @@
     jenv->ReleasePrimitiveArrayCritical($input, $1, 0);
 }
 
+%typemap(jtype) float* "float[]"
+%typemap(jstype) float* "float[]"
+%typemap(javain) float* "$javainput"
+%typemap(jni) float* "jfloatArray"
+%typemap(in) float* {
+    $1 = (float*) jenv->GetPrimitiveArrayCritical($input, NULL);
+}
+%typemap(freearg) float* {
+    jenv->ReleasePrimitiveArrayCritical($input, $1, 0);
+}
+
+%typemap(jtype) int* "int[]"
+%typemap(jstype) int* "int[]"
+%typemap(javain) int* "$javainput"
+%typemap(jni) int* "jintArray"
+%typemap(in) int* {
+    $1 = (int*) jenv->GetPrimitiveArrayCritical($input, NULL);
+}
+%typemap(freearg) int* {
+    jenv->ReleasePrimitiveArrayCritical($input, $1, 0);
+}
+
 %ignore matrix;
+%ignore applyThreadLimit;
 
 %include "NativeMatrix.h"
+%template(NativeMatrixImpl) NativeMatrixBase<double>;
+%template(NativeFMatrixImpl) NativeMatrixBase<float>;
 %include "NativeNullspaceProjector.h"
 %include "NativeKalmanFilter.h"
+%include "NativeSparseMatrix.h"
+%include "NativeQPSolver.h"
+%include "NativeCholesky.h"
+%include "NativeSVD.h"
+%include "NativeEigenSolver.h"
+%include "NativeMatrixThreading.h"
+%include "NativeExpression.h"
+%include "NativeQPCostAccumulator.h"
+%include "NativeInstrumentation.h"
+%include "NativeAllocationTracker.h"
+%include "NativeTriangularMatrix.h"
+%include "NativeSymmetricMatrix.h"
 
 %{
 #include "NativeMatrix.h"
 #include "NativeNullspaceProjector.h"
 #include "NativeKalmanFilter.h"
+#include "NativeSparseMatrix.h"
+#include "NativeQPSolver.h"
+#include "NativeCholesky.h"
+#include "NativeSVD.h"
+#include "NativeEigenSolver.h"
+#include "NativeMatrixThreading.h"
+#include "NativeExpression.h"
+#include "NativeQPCostAccumulator.h"
+#include "NativeInstrumentation.h"
+#include "NativeAllocationTracker.h"
+#include "NativeTriangularMatrix.h"
+#include "NativeSymmetricMatrix.h"
 %}
 
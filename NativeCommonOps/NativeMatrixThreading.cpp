@@ -0,0 +1,47 @@
+#include "NativeMatrixThreading.h"
+
+#ifdef _OPENMP
+#include <omp.h>
+#endif
+
+namespace
+{
+// OpenMP itself defaults to one thread per core for every thread that did not set a limit, so the
+// limit is tracked here and applied explicitly.
+thread_local int maxThreadsOfThisThread = 1;
+}
+
+void NativeMatrixThreadingImpl::setMaxThreads(int maxThreads)
+{
+    maxThreadsOfThisThread = maxThreads < 1 ? 1 : maxThreads;
+}
+
+int NativeMatrixThreadingImpl::getMaxThreads()
+{
+    return maxThreadsOfThisThread;
+}
+
+int NativeMatrixThreadingImpl::getNumberOfProcessors()
+{
+#ifdef _OPENMP
+    return omp_get_num_procs();
+#else
+    return 1;
+#endif
+}
+
+bool NativeMatrixThreadingImpl::isParallelizationAvailable()
+{
+#ifdef _OPENMP
+    return true;
+#else
+    return false;
+#endif
+}
+
+void NativeMatrixThreadingImpl::applyThreadLimit()
+{
+#ifdef _OPENMP
+    omp_set_num_threads(maxThreadsOfThisThread);
+#endif
+}
@@ -0,0 +1,27 @@
+#ifndef NATIVEMATRIXTHREADING_H
+#define NATIVEMATRIXTHREADING_H
+
+/**
+ * Limits the number of OpenMP threads Eigen may use for the large dense products and LU
+ * decompositions started from the calling thread.
+ *
+ * The limit is kept per calling thread and defaults to 1, so a thread that never raises it, e.g. a
+ * real-time control thread, never forks worker threads. Without OpenMP support the library is
+ * always single-threaded and the limit has no effect.
+ */
+class NativeMatrixThreadingImpl
+{
+public:
+    static void setMaxThreads(int maxThreads);
+
+    static int getMaxThreads();
+
+    static int getNumberOfProcessors();
+
+    static bool isParallelizationAvailable();
+
+    // Hands the limit of the calling thread to OpenMP. Called before the operations Eigen can run in parallel.
+    static void applyThreadLimit();
+};
+
+#endif // NATIVEMATRIXTHREADING_H
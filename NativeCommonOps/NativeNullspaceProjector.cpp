@@ -4,7 +4,9 @@ NativeNullspaceProjectorImpl::NativeNullspaceProjectorImpl(int degreesOfFreedom)
     degreesOfFreedom_(degreesOfFreedom),
     identity(Eigen::MatrixXd::Identity(degreesOfFreedom, degreesOfFreedom)),
     BtB(degreesOfFreedom, degreesOfFreedom),
-    outer(degreesOfFreedom, degreesOfFreedom)
+    outer(degreesOfFreedom, degreesOfFreedom),
+    projector(degreesOfFreedom, degreesOfFreedom),
+    llt(degreesOfFreedom)
 {
 
 }
@@ -27,12 +29,25 @@ bool NativeNullspaceProjectorImpl::projectOnNullSpace(NativeMatrixImpl* A, Nativ
         return false;
     }
 
-    BtB = B->matrix.transpose() * B->matrix;
+    // Everything is computed in the members, so no temporary is allocated
+    BtB.noalias() = B->matrix.transpose() * B->matrix;
     outer = BtB + identity * alpha * alpha;
 
+    llt.compute(outer);
+    projector = BtB;
+    llt.solveInPlace(projector);
+    projector = identity - projector;
+
     x->resize(A->rows(), aCols);
 
-    x->matrix = A->matrix * (identity - outer.llt().solve(BtB));
+    if(x == A)
+    {
+        x->matrix = A->matrix * projector;
+    }
+    else
+    {
+        x->matrix.noalias() = A->matrix * projector;
+    }
 
 
     return true;
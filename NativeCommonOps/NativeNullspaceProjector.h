@@ -15,6 +15,8 @@ private:
     Eigen::MatrixXd identity;
     Eigen::MatrixXd BtB;
     Eigen::MatrixXd outer;
+    Eigen::MatrixXd projector;
+    Eigen::LLT<Eigen::MatrixXd> llt;
 };
 
 #endif // NULLSPACEPROJECTOR_H
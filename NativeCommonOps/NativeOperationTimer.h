@@ -0,0 +1,60 @@
+#ifndef NATIVEOPERATIONTIMER_H
+#define NATIVEOPERATIONTIMER_H
+
+#include <atomic>
+#include <chrono>
+
+// Operation types of the instrumentation, in the order of us.ihmc.matrixlib.NativeOperation
+enum NativeOperation
+{
+    NATIVE_MULT,
+    NATIVE_MULT_QUAD,
+    NATIVE_SOLVE,
+    NATIVE_INVERT,
+    NATIVE_PSEUDO_INVERSE,
+    NATIVE_PROJECT_ON_NULLSPACE,
+    NATIVE_KALMAN_PREDICT_ERROR_COVARIANCE,
+    NATIVE_KALMAN_GAIN,
+    NATIVE_KALMAN_UPDATE_STATE,
+    NATIVE_KALMAN_UPDATE_ERROR_COVARIANCE,
+    NATIVE_NUMBER_OF_OPERATIONS
+};
+
+extern std::atomic<bool> nativeInstrumentationEnabled;
+
+void recordNativeOperation(NativeOperation operation, int rows, int cols, long long nanoseconds);
+
+/**
+ * Times the scope it is declared in and adds it to the statistics of its operation, see
+ * NativeInstrumentation.h. When the instrumentation is disabled, the cost is a relaxed atomic load.
+ */
+class NativeOperationTimer
+{
+public:
+    inline NativeOperationTimer(NativeOperation operation, int rows, int cols) :
+        operation(operation), rows(rows), cols(cols), enabled(nativeInstrumentationEnabled.load(std::memory_order_relaxed))
+    {
+        if(enabled)
+        {
+            start = std::chrono::steady_clock::now();
+        }
+    }
+
+    inline ~NativeOperationTimer()
+    {
+        if(enabled)
+        {
+            std::chrono::steady_clock::duration duration = std::chrono::steady_clock::now() - start;
+            recordNativeOperation(operation, rows, cols, std::chrono::duration_cast<std::chrono::nanoseconds>(duration).count());
+        }
+    }
+
+private:
+    NativeOperation operation;
+    int rows;
+    int cols;
+    bool enabled;
+    std::chrono::steady_clock::time_point start;
+};
+
+#endif // NATIVEOPERATIONTIMER_H
@@ -0,0 +1,123 @@
+#include "NativeQPCostAccumulator.h"
+
+#include <algorithm>
+
+NativeQPCostAccumulatorImpl::NativeQPCostAccumulatorImpl(int numberOfVariables) : variables(numberOfVariables)
+{
+}
+
+void NativeQPCostAccumulatorImpl::setNumberOfVariables(int numberOfVariables)
+{
+    variables = numberOfVariables;
+}
+
+int NativeQPCostAccumulatorImpl::addTask(NativeMatrixImpl* jacobian, NativeMatrixImpl* objective, NativeMatrixImpl* weight, int columnOffset)
+{
+    tasks.push_back(Task{jacobian, objective, weight, columnOffset});
+    return tasks.size() - 1;
+}
+
+void NativeQPCostAccumulatorImpl::clearTasks()
+{
+    tasks.clear();
+}
+
+bool NativeQPCostAccumulatorImpl::isValid(const Task& task)
+{
+    int taskSize = task.jacobian->rows();
+
+    if(task.columnOffset < 0 || task.columnOffset + task.jacobian->cols() > variables)
+    {
+        return false;
+    }
+
+    if(task.objective->rows() != taskSize || task.objective->cols() != 1)
+    {
+        return false;
+    }
+
+    // The weight is either a scalar, the diagonal as a column vector or a diagonal matrix
+    NativeMatrixImpl* weight = task.weight;
+    if(weight->rows() == 1 && weight->cols() == 1)
+    {
+        return weight->matrix(0, 0) >= 0.0;
+    }
+    else if(weight->rows() == taskSize && weight->cols() == 1)
+    {
+        return (weight->matrix.array() >= 0.0).all();
+    }
+    else if(weight->rows() == taskSize && weight->cols() == taskSize)
+    {
+        return (weight->matrix.diagonal().array() >= 0.0).all();
+    }
+
+    return false;
+}
+
+bool NativeQPCostAccumulatorImpl::compute(NativeMatrixImpl* H, NativeMatrixImpl* f)
+{
+    int maxTaskSize = 0;
+    int maxTaskVariables = 0;
+    for(size_t i = 0; i < tasks.size(); i++)
+    {
+        if(!isValid(tasks[i]))
+        {
+            return false;
+        }
+
+        maxTaskSize = std::max(maxTaskSize, tasks[i].jacobian->rows());
+        maxTaskVariables = std::max(maxTaskVariables, tasks[i].jacobian->cols());
+    }
+
+    // The workspace is sized for the largest task and each task uses its top left corner. Resizing it
+    // to each task in turn would reallocate several times per call when the task sizes differ.
+    if(weightedJacobian.rows() < maxTaskSize || weightedJacobian.cols() < maxTaskVariables)
+    {
+        weightedJacobian.resize(std::max((int) weightedJacobian.rows(), maxTaskSize), std::max((int) weightedJacobian.cols(), maxTaskVariables));
+    }
+    if(sqrtWeights.size() < maxTaskSize)
+    {
+        sqrtWeights.resize(maxTaskSize);
+        weightedObjective.resize(maxTaskSize);
+    }
+
+    H->resize(variables, variables);
+    H->zero();
+    f->resize(variables, 1);
+    f->zero();
+
+    for(size_t i = 0; i < tasks.size(); i++)
+    {
+        const Task& task = tasks[i];
+        int taskSize = task.jacobian->rows();
+        int taskVariables = task.jacobian->cols();
+
+        Eigen::VectorBlock<Eigen::VectorXd> taskSqrtWeights = sqrtWeights.head(taskSize);
+        Eigen::Block<Eigen::MatrixXd> taskJacobian = weightedJacobian.topLeftCorner(taskSize, taskVariables);
+        Eigen::VectorBlock<Eigen::VectorXd> taskObjective = weightedObjective.head(taskSize);
+
+        if(task.weight->rows() == 1 && task.weight->cols() == 1)
+        {
+            taskSqrtWeights.setConstant(std::sqrt(task.weight->matrix(0, 0)));
+        }
+        else if(task.weight->cols() == 1)
+        {
+            taskSqrtWeights = task.weight->matrix.col(0).cwiseSqrt();
+        }
+        else
+        {
+            taskSqrtWeights = task.weight->matrix.diagonal().cwiseSqrt();
+        }
+
+        taskJacobian.noalias() = taskSqrtWeights.asDiagonal() * task.jacobian->matrix;
+        taskObjective = taskSqrtWeights.cwiseProduct(task.objective->matrix.col(0));
+
+        // H += (sqrt(W) J)' (sqrt(W) J), only the lower triangle is updated
+        H->matrix.block(task.columnOffset, task.columnOffset, taskVariables, taskVariables).selfadjointView<Eigen::Lower>().rankUpdate(taskJacobian.transpose());
+        f->matrix.block(task.columnOffset, 0, taskVariables, 1).noalias() += taskJacobian.transpose() * taskObjective;
+    }
+
+    H->matrix.triangularView<Eigen::StrictlyUpper>() = H->matrix.transpose();
+
+    return true;
+}
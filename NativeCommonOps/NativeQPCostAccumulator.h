@@ -0,0 +1,61 @@
+#ifndef NATIVEQPCOSTACCUMULATOR_H
+#define NATIVEQPCOSTACCUMULATOR_H
+
+#include "NativeMatrix.h"
+
+#include <vector>
+
+/**
+ * Accumulates the quadratic cost of a set of weighted least-squares tasks
+ *
+ *   H = sum_i J_i' W_i J_i, f = sum_i J_i' W_i b_i
+ *
+ * where W_i is diagonal and each task acts on the variables starting at its column offset. The tasks
+ * are registered once and keep pointers to their matrices, so the cost can be computed again in a
+ * single pass whenever their values changed. The products are done as symmetric rank-k updates of the
+ * lower triangle of H, which is mirrored at the end.
+ */
+class NativeQPCostAccumulatorImpl
+{
+public:
+    NativeQPCostAccumulatorImpl(int numberOfVariables);
+
+    void setNumberOfVariables(int numberOfVariables);
+
+    int addTask(NativeMatrixImpl* jacobian, NativeMatrixImpl* objective, NativeMatrixImpl* weight, int columnOffset);
+
+    void clearTasks();
+
+    bool compute(NativeMatrixImpl* H, NativeMatrixImpl* f);
+
+    inline int numberOfVariables()
+    {
+        return variables;
+    }
+
+    inline int numberOfTasks()
+    {
+        return tasks.size();
+    }
+
+private:
+    struct Task
+    {
+        NativeMatrixImpl* jacobian;
+        NativeMatrixImpl* objective;
+        NativeMatrixImpl* weight;
+        int columnOffset;
+    };
+
+    bool isValid(const Task& task);
+
+    int variables;
+    std::vector<Task> tasks;
+
+    // Workspace: sqrt(W) J and sqrt(W) b of the task being added, sized for the largest task
+    Eigen::VectorXd sqrtWeights;
+    Eigen::MatrixXd weightedJacobian;
+    Eigen::VectorXd weightedObjective;
+};
+
+#endif // NATIVEQPCOSTACCUMULATOR_H
@@ -0,0 +1,780 @@
+#include "NativeQPSolver.h"
+
+#include <algorithm>
+#include <cmath>
+#include <limits>
+
+namespace
+{
+// Number of iterations spent on the previous active set before falling back to a cold solve.
+const int maxActiveSetGuessIterations = 10;
+const double epsilon = std::numeric_limits<double>::epsilon();
+const double infinity = std::numeric_limits<double>::infinity();
+}
+
+NativeQPSolverImpl::NativeQPSolverImpl() :
+    maxIterations(500),
+    convergenceThreshold(1e-10),
+    iq(0),
+    rNorm(1.0),
+    hasActiveSet(false),
+    iterationCount(0),
+    solvedFromActiveSetGuess(false)
+{
+}
+
+bool NativeQPSolverImpl::setQuadraticCostFunction(NativeMatrixImpl *H, NativeMatrixImpl *f)
+{
+    if(H->rows() != H->cols() || f->rows() != H->rows() || f->cols() != 1)
+    {
+        return false;
+    }
+
+    bool resized = H->rows() != this->H.rows();
+
+    this->H = H->matrix;
+    this->f = f->matrix;
+
+    if(resized)
+    {
+        // The constraints and the active set refer to the previous variables
+        clearConstraints();
+        resetActiveSet();
+    }
+
+    return true;
+}
+
+bool NativeQPSolverImpl::setLinearEqualityConstraints(NativeMatrixImpl *Aeq, NativeMatrixImpl *beq)
+{
+    if(Aeq->cols() != H.rows() || beq->rows() != Aeq->rows() || beq->cols() != 1)
+    {
+        return false;
+    }
+
+    this->Aeq = Aeq->matrix;
+    this->beq = beq->matrix;
+
+    return true;
+}
+
+bool NativeQPSolverImpl::setLinearInequalityConstraints(NativeMatrixImpl *Ain, NativeMatrixImpl *bin)
+{
+    if(Ain->cols() != H.rows() || bin->rows() != Ain->rows() || bin->cols() != 1)
+    {
+        return false;
+    }
+
+    this->Ain = Ain->matrix;
+    this->bin = bin->matrix;
+
+    return true;
+}
+
+bool NativeQPSolverImpl::setVariableBounds(NativeMatrixImpl *lowerBounds, NativeMatrixImpl *upperBounds)
+{
+    if(lowerBounds->rows() != H.rows() || lowerBounds->cols() != 1 || upperBounds->rows() != H.rows() || upperBounds->cols() != 1)
+    {
+        return false;
+    }
+
+    this->lowerBounds = lowerBounds->matrix;
+    this->upperBounds = upperBounds->matrix;
+
+    return true;
+}
+
+void NativeQPSolverImpl::clearConstraints()
+{
+    Aeq.resize(0, H.rows());
+    beq.resize(0);
+    Ain.resize(0, H.rows());
+    bin.resize(0);
+    lowerBounds.resize(0);
+    upperBounds.resize(0);
+}
+
+void NativeQPSolverImpl::resetActiveSet()
+{
+    activeSet.clear();
+    hasActiveSet = false;
+}
+
+void NativeQPSolverImpl::setMaxIterations(int maxIterations)
+{
+    this->maxIterations = maxIterations;
+}
+
+void NativeQPSolverImpl::setConvergenceThreshold(double convergenceThreshold)
+{
+    this->convergenceThreshold = convergenceThreshold;
+}
+
+bool NativeQPSolverImpl::solve(NativeMatrixImpl *solution)
+{
+    const int n = H.rows();
+
+    iterationCount = 0;
+    solvedFromActiveSetGuess = false;
+
+    // Constraints set before a cost function of a different size are stale
+    if(Aeq.cols() != n || Ain.cols() != n || (lowerBounds.size() != 0 && lowerBounds.size() != n))
+    {
+        clearConstraints();
+    }
+
+    solution->resize(n, 1);
+    equalityMultipliers.setZero(Aeq.rows());
+
+    stackInequalityConstraints();
+    inequalityMultipliers.setZero(C.rows());
+
+    llt.compute(H);
+    if(llt.info() != Eigen::Success)
+    {
+        solution->matrix.setConstant(solution->nan);
+        resetActiveSet();
+        return false;
+    }
+
+    unconstrainedSolution = llt.solve(f);
+    unconstrainedSolution *= -1.0;
+
+    if(hasActiveSet && solveFromActiveSetGuess())
+    {
+        solvedFromActiveSetGuess = true;
+    }
+    else if(!solveGoldfarbIdnani())
+    {
+        solution->matrix.setConstant(solution->nan);
+        resetActiveSet();
+        return false;
+    }
+
+    solution->matrix = x;
+    storeActiveSet();
+    return true;
+}
+
+void NativeQPSolverImpl::stackInequalityConstraints()
+{
+    const int n = H.rows();
+    const int numberOfInequalities = Ain.rows();
+    const bool hasBounds = lowerBounds.size() == n && upperBounds.size() == n;
+
+    int rows = numberOfInequalities;
+    if(hasBounds)
+    {
+        for(int i = 0; i < n; i++)
+        {
+            rows += std::isfinite(upperBounds(i)) ? 1 : 0;
+            rows += std::isfinite(lowerBounds(i)) ? 1 : 0;
+        }
+    }
+
+    C.resize(rows, n);
+    d.resize(rows);
+    rowToId.resize(rows);
+    idToRow.assign(numberOfInequalities + 2 * n, -1);
+
+    C.topRows(numberOfInequalities) = Ain;
+    d.head(numberOfInequalities) = bin;
+    for(int i = 0; i < numberOfInequalities; i++)
+    {
+        rowToId[i] = i;
+        idToRow[i] = i;
+    }
+
+    int row = numberOfInequalities;
+    if(hasBounds)
+    {
+        for(int i = 0; i < n; i++)
+        {
+            if(std::isfinite(upperBounds(i)))
+            {
+                C.row(row).setZero();
+                C(row, i) = 1.0;
+                d(row) = upperBounds(i);
+                rowToId[row] = numberOfInequalities + i;
+                idToRow[numberOfInequalities + i] = row;
+                row++;
+            }
+
+            if(std::isfinite(lowerBounds(i)))
+            {
+                C.row(row).setZero();
+                C(row, i) = -1.0;
+                d(row) = -lowerBounds(i);
+                rowToId[row] = numberOfInequalities + n + i;
+                idToRow[numberOfInequalities + n + i] = row;
+                row++;
+            }
+        }
+    }
+}
+
+void NativeQPSolverImpl::storeActiveSet()
+{
+    activeSet.clear();
+    for(int row = 0; row < C.rows(); row++)
+    {
+        if(inequalityMultipliers(row) > 0.0)
+        {
+            activeSet.push_back(rowToId[row]);
+        }
+    }
+    hasActiveSet = true;
+}
+
+/**
+ * Factorizes the previous active set with the Goldfarb-Idnani updates, then drops the active constraint with the most
+ * negative multiplier or adds the most violated inactive one until the KKT conditions hold. Every change of the active
+ * set is a Givens update of J and R, the KKT system is never refactorized. This usually converges in a single iteration
+ * when the problem changed little since the last solve, but it may cycle on hard problems, in which case false is
+ * returned and the caller falls back to a cold solve.
+ */
+bool NativeQPSolverImpl::solveFromActiveSetGuess()
+{
+    const int n = H.rows();
+    const int numberOfEqualities = Aeq.rows();
+
+    resetFactorization();
+    lambda.resize(n);
+    w.resize(n);
+    inGuess.assign(C.rows(), 0);
+
+    for(int i = 0; i < numberOfEqualities; i++)
+    {
+        normal = Aeq.row(i).transpose();
+        if(!addToFactorization(-i - 1))
+        {
+            return false;
+        }
+    }
+
+    for(size_t i = 0; i < activeSet.size(); i++)
+    {
+        int id = activeSet[i];
+        int row = id < (int) idToRow.size() ? idToRow[id] : -1;
+        if(row < 0)
+        {
+            continue;
+        }
+
+        // A degenerate guess means the guessed constraints are linearly dependent
+        normal = C.row(row).transpose();
+        if(!addToFactorization(row))
+        {
+            return false;
+        }
+        inGuess[row] = 1;
+    }
+
+    for(int iteration = 0; iteration < maxActiveSetGuessIterations && iterationCount < maxIterations; iteration++)
+    {
+        iterationCount++;
+
+        // With J' N = [R; 0] for the active normals N and J' H J = I, the minimum on N' x = b is x = J w with
+        // R' w1 = b and w2 = -(J' f)2. The multipliers of H x + f + N lambda = 0 solve R lambda = -(w1 + (J' f)1).
+        Jtf.noalias() = J.transpose() * f;
+        for(int i = 0; i < iq; i++)
+        {
+            w(i) = A[i] < 0 ? beq(-A[i] - 1) : d(A[i]);
+        }
+        if(iq > 0)
+        {
+            R.topLeftCorner(iq, iq).triangularView<Eigen::Upper>().transpose().solveInPlace(w.head(iq));
+        }
+        w.tail(n - iq) = -Jtf.tail(n - iq);
+        x.noalias() = J * w;
+
+        lambda.head(iq) = -(w.head(iq) + Jtf.head(iq));
+        if(iq > 0)
+        {
+            R.topLeftCorner(iq, iq).triangularView<Eigen::Upper>().solveInPlace(lambda.head(iq));
+        }
+
+        if(!x.allFinite() || !lambda.head(iq).allFinite())
+        {
+            return false;
+        }
+
+        int mostNegative = -1;
+        double mostNegativeMultiplier = -convergenceThreshold;
+        for(int i = numberOfEqualities; i < iq; i++)
+        {
+            if(lambda(i) < mostNegativeMultiplier)
+            {
+                mostNegativeMultiplier = lambda(i);
+                mostNegative = A[i];
+            }
+        }
+
+        if(mostNegative >= 0)
+        {
+            inGuess[mostNegative] = 0;
+            deleteConstraint(mostNegative);
+            continue;
+        }
+
+        int mostViolated = -1;
+        double largestViolation = convergenceThreshold;
+        for(int row = 0; row < C.rows(); row++)
+        {
+            if(!inGuess[row])
+            {
+                double violation = C.row(row).dot(x) - d(row);
+                if(violation > largestViolation)
+                {
+                    largestViolation = violation;
+                    mostViolated = row;
+                }
+            }
+        }
+
+        if(mostViolated >= 0)
+        {
+            normal = C.row(mostViolated).transpose();
+            if(!addToFactorization(mostViolated))
+            {
+                return false;
+            }
+            inGuess[mostViolated] = 1;
+            continue;
+        }
+
+        inequalityMultipliers.setZero();
+        for(int i = 0; i < iq; i++)
+        {
+            if(A[i] < 0)
+            {
+                equalityMultipliers(-A[i] - 1) = lambda(i);
+            }
+            else
+            {
+                inequalityMultipliers(A[i]) = lambda(i);
+            }
+        }
+        return true;
+    }
+
+    return false;
+}
+
+void NativeQPSolverImpl::resetFactorization()
+{
+    const int n = H.rows();
+    const int maxActive = Aeq.rows() + C.rows() + 1;
+
+    // J = inverse(L') for H = L L' and no active constraint
+    J.setIdentity(n, n);
+    llt.matrixU().solveInPlace(J);
+    R.setZero(n, n);
+    u.setZero(maxActive);
+    A.assign(maxActive, 0);
+    Jtn.resize(n);
+    iq = 0;
+    rNorm = 1.0;
+}
+
+bool NativeQPSolverImpl::addToFactorization(int constraint)
+{
+    if(iq >= J.rows())
+    {
+        // More active constraints than variables
+        return false;
+    }
+
+    Jtn.noalias() = J.transpose() * normal;
+    A[iq] = constraint;
+    return addConstraint();
+}
+
+/**
+ * Dual active-set method of Goldfarb and Idnani, "A numerically stable dual method for solving strictly convex
+ * quadratic programs", Mathematical Programming 27, 1983.
+ *
+ * Starting from the unconstrained minimum, the most violated constraint is added at each iteration while constraints
+ * whose multiplier would become negative are dropped. The factorization of the active constraints, J = inverse(L') Q
+ * and R, is updated with Givens rotations instead of being recomputed.
+ */
+bool NativeQPSolverImpl::solveGoldfarbIdnani()
+{
+    const int n = H.rows();
+    const int numberOfEqualities = Aeq.rows();
+    const int numberOfInequalities = C.rows();
+    const int maxActive = numberOfEqualities + numberOfInequalities + 1;
+
+    resetFactorization();
+    uOld.setZero(maxActive);
+    primalDirection.resize(n);
+    dualDirection.resize(n + 1);
+    AOld.assign(maxActive, 0);
+    inactive.resize(numberOfInequalities);
+    eligible.resize(numberOfInequalities);
+
+    x = unconstrainedSolution;
+
+    // Equality constraints are added with a full step
+    for(int i = 0; i < numberOfEqualities; i++)
+    {
+        normal = Aeq.row(i).transpose();
+        computeStepDirections();
+
+        double step = 0.0;
+        if(primalDirection.squaredNorm() > epsilon)
+        {
+            step = (beq(i) - normal.dot(x)) / primalDirection.dot(normal);
+        }
+
+        x += step * primalDirection;
+        u(iq) = step;
+        u.head(iq) -= step * dualDirection.head(iq);
+        A[iq] = -i - 1;
+
+        if(!addConstraint())
+        {
+            // Linearly dependent equality constraints
+            return false;
+        }
+    }
+
+    while(true)
+    {
+        if(++iterationCount > maxIterations)
+        {
+            return false;
+        }
+
+        for(int i = 0; i < numberOfInequalities; i++)
+        {
+            inactive[i] = i;
+            eligible[i] = 1;
+        }
+        for(int i = numberOfEqualities; i < iq; i++)
+        {
+            inactive[A[i]] = -1;
+        }
+
+        slack = d;
+        slack.noalias() -= C * x;
+
+        for(int i = 0; i < iq; i++)
+        {
+            AOld[i] = A[i];
+        }
+        uOld.head(iq) = u.head(iq);
+        xOld = x;
+
+        bool addedConstraint = false;
+        while(!addedConstraint)
+        {
+            // Select the most violated constraint
+            int p = -1;
+            double mostViolated = -convergenceThreshold;
+            for(int i = 0; i < numberOfInequalities; i++)
+            {
+                if(inactive[i] != -1 && eligible[i] && slack(i) < mostViolated)
+                {
+                    mostViolated = slack(i);
+                    p = i;
+                }
+            }
+
+            if(p < 0)
+            {
+                for(int i = 0; i < iq; i++)
+                {
+                    if(A[i] < 0)
+                    {
+                        equalityMultipliers(-A[i] - 1) = -u(i);
+                    }
+                    else
+                    {
+                        inequalityMultipliers(A[i]) = u(i);
+                    }
+                }
+                return true;
+            }
+
+            normal = -C.row(p).transpose();
+            u(iq) = 0.0;
+            A[iq] = p;
+
+            while(true)
+            {
+                computeStepDirections();
+
+                // Largest step keeping the multipliers of the active inequalities positive
+                int blocking = -1;
+                double dualStep = infinity;
+                for(int k = numberOfEqualities; k < iq; k++)
+                {
+                    if(dualDirection(k) > 0.0 && u(k) / dualDirection(k) < dualStep)
+                    {
+                        dualStep = u(k) / dualDirection(k);
+                        blocking = A[k];
+                    }
+                }
+
+                // Step making constraint p active
+                double fullStep = infinity;
+                if(primalDirection.squaredNorm() > epsilon)
+                {
+                    fullStep = -slack(p) / primalDirection.dot(normal);
+                }
+
+                double step = std::min(dualStep, fullStep);
+                if(step == infinity)
+                {
+                    // Infeasible problem
+                    return false;
+                }
+
+                if(fullStep == infinity)
+                {
+                    // Step in dual space only
+                    u.head(iq) -= step * dualDirection.head(iq);
+                    u(iq) += step;
+                    inactive[blocking] = blocking;
+                    deleteConstraint(blocking);
+                    continue;
+                }
+
+                x += step * primalDirection;
+                u.head(iq) -= step * dualDirection.head(iq);
+                u(iq) += step;
+
+                if(std::abs(step - fullStep) < epsilon)
+                {
+                    if(!addConstraint())
+                    {
+                        // Constraint p is linearly dependent on the active set, restore the state and exclude p
+                        eligible[p] = 0;
+                        deleteConstraint(p);
+                        for(int i = 0; i < numberOfInequalities; i++)
+                        {
+                            inactive[i] = i;
+                        }
+                        for(int i = numberOfEqualities; i < iq; i++)
+                        {
+                            A[i] = AOld[i];
+                            u(i) = uOld(i);
+                            inactive[A[i]] = -1;
+                        }
+                        x = xOld;
+                        break;
+                    }
+
+                    inactive[p] = -1;
+                    addedConstraint = true;
+                    break;
+                }
+
+                // Partial step, drop the blocking constraint and try again
+                inactive[blocking] = blocking;
+                deleteConstraint(blocking);
+                slack(p) = d(p) - C.row(p).dot(x);
+            }
+        }
+    }
+}
+
+void NativeQPSolverImpl::computeStepDirections()
+{
+    const int n = J.rows();
+
+    Jtn.noalias() = J.transpose() * normal;
+
+    if(iq < n)
+    {
+        primalDirection.noalias() = J.rightCols(n - iq) * Jtn.tail(n - iq);
+    }
+    else
+    {
+        primalDirection.setZero();
+    }
+
+    if(iq > 0)
+    {
+        dualDirection.head(iq) = R.topLeftCorner(iq, iq).triangularView<Eigen::Upper>().solve(Jtn.head(iq));
+    }
+}
+
+bool NativeQPSolverImpl::addConstraint()
+{
+    const int n = J.rows();
+
+    // Rotate Jtn so that only its first iq + 1 elements are non-zero, applying the same rotations to J
+    for(int j = n - 1; j >= iq + 1; j--)
+    {
+        double cc = Jtn(j - 1);
+        double ss = Jtn(j);
+        double h = std::hypot(cc, ss);
+        if(h == 0.0)
+        {
+            continue;
+        }
+
+        Jtn(j) = 0.0;
+        ss = ss / h;
+        cc = cc / h;
+        if(cc < 0.0)
+        {
+            cc = -cc;
+            ss = -ss;
+            Jtn(j - 1) = -h;
+        }
+        else
+        {
+            Jtn(j - 1) = h;
+        }
+
+        double xny = ss / (1.0 + cc);
+        for(int k = 0; k < n; k++)
+        {
+            double t1 = J(k, j - 1);
+            double t2 = J(k, j);
+            J(k, j - 1) = t1 * cc + t2 * ss;
+            J(k, j) = xny * (t1 + J(k, j - 1)) - t2;
+        }
+    }
+
+    iq++;
+    R.col(iq - 1).head(iq) = Jtn.head(iq);
+
+    if(std::abs(Jtn(iq - 1)) <= epsilon * rNorm)
+    {
+        // Degenerate
+        return false;
+    }
+
+    rNorm = std::max(rNorm, std::abs(Jtn(iq - 1)));
+    return true;
+}
+
+void NativeQPSolverImpl::deleteConstraint(int constraint)
+{
+    const int n = J.rows();
+    const int numberOfEqualities = Aeq.rows();
+
+    int qq = -1;
+    for(int i = numberOfEqualities; i < iq; i++)
+    {
+        if(A[i] == constraint)
+        {
+            qq = i;
+            break;
+        }
+    }
+
+    for(int i = qq; i < iq - 1; i++)
+    {
+        A[i] = A[i + 1];
+        u(i) = u(i + 1);
+        R.col(i) = R.col(i + 1);
+    }
+
+    A[iq - 1] = A[iq];
+    u(iq - 1) = u(iq);
+    A[iq] = 0;
+    u(iq) = 0.0;
+    R.col(iq - 1).head(iq).setZero();
+    iq--;
+
+    if(iq == 0)
+    {
+        return;
+    }
+
+    // Restore the upper triangular shape of R, applying the same rotations to J
+    for(int j = qq; j < iq; j++)
+    {
+        double cc = R(j, j);
+        double ss = R(j + 1, j);
+        double h = std::hypot(cc, ss);
+        if(h == 0.0)
+        {
+            continue;
+        }
+
+        cc = cc / h;
+        ss = ss / h;
+        R(j + 1, j) = 0.0;
+        if(cc < 0.0)
+        {
+            R(j, j) = -h;
+            cc = -cc;
+            ss = -ss;
+        }
+        else
+        {
+            R(j, j) = h;
+        }
+
+        double xny = ss / (1.0 + cc);
+        for(int k = j + 1; k < iq; k++)
+        {
+            double t1 = R(j, k);
+            double t2 = R(j + 1, k);
+            R(j, k) = t1 * cc + t2 * ss;
+            R(j + 1, k) = xny * (t1 + R(j, k)) - t2;
+        }
+
+        for(int k = 0; k < n; k++)
+        {
+            double t1 = J(k, j);
+            double t2 = J(k, j + 1);
+            J(k, j) = t1 * cc + t2 * ss;
+            J(k, j + 1) = xny * (J(k, j) + t1) - t2;
+        }
+    }
+}
+
+void NativeQPSolverImpl::getLagrangeEqualityMultipliers(NativeMatrixImpl *multipliers)
+{
+    multipliers->resize(equalityMultipliers.size(), 1);
+    multipliers->matrix = equalityMultipliers;
+}
+
+void NativeQPSolverImpl::getLagrangeInequalityMultipliers(NativeMatrixImpl *multipliers)
+{
+    const int numberOfInequalities = Ain.rows();
+
+    multipliers->resize(numberOfInequalities, 1);
+    if(inequalityMultipliers.size() < numberOfInequalities)
+    {
+        // Not solved since the constraints were set
+        multipliers->zero();
+    }
+    else
+    {
+        multipliers->matrix = inequalityMultipliers.head(numberOfInequalities);
+    }
+}
+
+void NativeQPSolverImpl::getLagrangeLowerBoundMultipliers(NativeMatrixImpl *multipliers)
+{
+    const int n = H.rows();
+    const int offset = Ain.rows() + n;
+
+    multipliers->resize(lowerBounds.size() == 0 ? 0 : n, 1);
+    for(int i = 0; i < multipliers->rows(); i++)
+    {
+        int row = offset + i < (int) idToRow.size() ? idToRow[offset + i] : -1;
+        multipliers->matrix(i, 0) = row < 0 ? 0.0 : inequalityMultipliers(row);
+    }
+}
+
+void NativeQPSolverImpl::getLagrangeUpperBoundMultipliers(NativeMatrixImpl *multipliers)
+{
+    const int n = H.rows();
+    const int offset = Ain.rows();
+
+    multipliers->resize(upperBounds.size() == 0 ? 0 : n, 1);
+    for(int i = 0; i < multipliers->rows(); i++)
+    {
+        int row = offset + i < (int) idToRow.size() ? idToRow[offset + i] : -1;
+        multipliers->matrix(i, 0) = row < 0 ? 0.0 : inequalityMultipliers(row);
+    }
+}
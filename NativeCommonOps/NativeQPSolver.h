@@ -0,0 +1,134 @@
+#ifndef NATIVEQPSOLVER_H
+#define NATIVEQPSOLVER_H
+
+#include "NativeMatrix.h"
+
+#include <vector>
+
+/**
+ * Dense active-set solver for the strictly convex quadratic program
+ *
+ *   min 0.5 x' H x + f' x
+ *   s.t. Aeq x == beq, Ain x <= bin, lowerBounds <= x <= upperBounds
+ *
+ * The dual method of Goldfarb and Idnani factorizes the active constraints and updates that
+ * factorization with Givens rotations when constraints are added or removed. A solve first seeds the
+ * factorization with the active set of the previous solve and corrects it with the same updates. When
+ * that guess does not converge quickly, the dual method is run from scratch.
+ */
+class NativeQPSolverImpl
+{
+public:
+    NativeQPSolverImpl();
+
+    bool setQuadraticCostFunction(NativeMatrixImpl* H, NativeMatrixImpl* f);
+
+    bool setLinearEqualityConstraints(NativeMatrixImpl* Aeq, NativeMatrixImpl* beq);
+
+    bool setLinearInequalityConstraints(NativeMatrixImpl* Ain, NativeMatrixImpl* bin);
+
+    bool setVariableBounds(NativeMatrixImpl* lowerBounds, NativeMatrixImpl* upperBounds);
+
+    void clearConstraints();
+
+    void resetActiveSet();
+
+    void setMaxIterations(int maxIterations);
+
+    void setConvergenceThreshold(double convergenceThreshold);
+
+    bool solve(NativeMatrixImpl* solution);
+
+    void getLagrangeEqualityMultipliers(NativeMatrixImpl* multipliers);
+
+    void getLagrangeInequalityMultipliers(NativeMatrixImpl* multipliers);
+
+    void getLagrangeLowerBoundMultipliers(NativeMatrixImpl* multipliers);
+
+    void getLagrangeUpperBoundMultipliers(NativeMatrixImpl* multipliers);
+
+    inline int iterations()
+    {
+        return iterationCount;
+    }
+
+    inline int activeSetSize()
+    {
+        return activeSet.size();
+    }
+
+    inline bool warmStarted()
+    {
+        return solvedFromActiveSetGuess;
+    }
+
+private:
+    void stackInequalityConstraints();
+    bool solveFromActiveSetGuess();
+    bool solveGoldfarbIdnani();
+    void resetFactorization();
+    bool addToFactorization(int constraint);
+    void computeStepDirections();
+    bool addConstraint();
+    void deleteConstraint(int constraint);
+    void storeActiveSet();
+
+    Eigen::MatrixXd H;
+    Eigen::VectorXd f;
+    Eigen::MatrixXd Aeq;
+    Eigen::VectorXd beq;
+    Eigen::MatrixXd Ain;
+    Eigen::VectorXd bin;
+    Eigen::VectorXd lowerBounds;
+    Eigen::VectorXd upperBounds;
+
+    int maxIterations;
+    double convergenceThreshold;
+
+    // Inequality constraints and finite bounds stacked as C x <= d.
+    Eigen::MatrixXd C;
+    Eigen::VectorXd d;
+    // Maps rows of C to a stable constraint id: Ain rows, then upper bounds, then lower bounds.
+    std::vector<int> rowToId;
+    std::vector<int> idToRow;
+
+    Eigen::LLT<Eigen::MatrixXd> llt;
+    Eigen::VectorXd unconstrainedSolution;
+    Eigen::VectorXd x;
+
+    Eigen::VectorXd equalityMultipliers;
+    Eigen::VectorXd inequalityMultipliers;
+
+    // Active set guess workspace, the factorization itself is the one of Goldfarb-Idnani
+    std::vector<char> inGuess;
+    Eigen::VectorXd Jtf;
+    Eigen::VectorXd w;
+    Eigen::VectorXd lambda;
+
+    // Goldfarb-Idnani workspace. J = inverse(L') Q and R are updated incrementally.
+    Eigen::MatrixXd J;
+    Eigen::MatrixXd R;
+    Eigen::VectorXd u;
+    Eigen::VectorXd uOld;
+    Eigen::VectorXd xOld;
+    Eigen::VectorXd normal;
+    Eigen::VectorXd dualDirection;
+    Eigen::VectorXd primalDirection;
+    Eigen::VectorXd Jtn;
+    Eigen::VectorXd slack;
+    std::vector<int> A;
+    std::vector<int> AOld;
+    std::vector<int> inactive;
+    std::vector<char> eligible;
+    int iq;
+    double rNorm;
+
+    // Ids of the active inequality constraints and bounds, kept between solves as warm start.
+    std::vector<int> activeSet;
+    bool hasActiveSet;
+
+    int iterationCount;
+    bool solvedFromActiveSetGuess;
+};
+
+#endif // NATIVEQPSOLVER_H
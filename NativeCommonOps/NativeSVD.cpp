@@ -0,0 +1,121 @@
+#include "NativeSVD.h"
+
+#include <algorithm>
+
+NativeSVDImpl::NativeSVDImpl() : useJacobi(true), computed(false)
+{
+}
+
+bool NativeSVDImpl::compute(NativeMatrixImpl *A)
+{
+    if(!A->matrix.allFinite())
+    {
+        computed = false;
+        return false;
+    }
+
+    useJacobi = std::min(A->rows(), A->cols()) <= JACOBI_MAX_SIZE;
+    if(useJacobi)
+    {
+        jacobiSvd.compute(A->matrix, Eigen::ComputeThinU | Eigen::ComputeThinV);
+    }
+    else
+    {
+        bdcSvd.compute(A->matrix, Eigen::ComputeThinU | Eigen::ComputeThinV);
+    }
+    computed = true;
+    return true;
+}
+
+bool NativeSVDImpl::singularValues(NativeMatrixImpl *result)
+{
+    if(!computed)
+    {
+        return false;
+    }
+
+    result->resize(singularValuesVector().size(), 1);
+    result->matrix = singularValuesVector();
+    return true;
+}
+
+int NativeSVDImpl::rank(double tolerance)
+{
+    if(!computed)
+    {
+        return 0;
+    }
+
+    const Eigen::VectorXd& singularValues = singularValuesVector();
+    double threshold = singularValues.size() > 0 ? tolerance * singularValues(0) : 0.0;
+
+    int rank = 0;
+    while(rank < singularValues.size() && singularValues(rank) > threshold)
+    {
+        rank++;
+    }
+    return rank;
+}
+
+void NativeSVDImpl::truncatedInverse(double tolerance)
+{
+    const Eigen::VectorXd& singularValues = singularValuesVector();
+    double threshold = singularValues.size() > 0 ? tolerance * singularValues(0) : 0.0;
+
+    weights.resize(singularValues.size());
+    for(int i = 0; i < singularValues.size(); i++)
+    {
+        weights(i) = singularValues(i) > threshold ? 1.0 / singularValues(i) : 0.0;
+    }
+}
+
+bool NativeSVDImpl::pseudoInverse(NativeMatrixImpl *result, double tolerance)
+{
+    if(!computed)
+    {
+        return false;
+    }
+
+    truncatedInverse(tolerance);
+
+    result->resize(cols(), rows());
+    scaledV.noalias() = matrixV() * weights.asDiagonal();
+    result->matrix.noalias() = scaledV * matrixU().transpose();
+    return true;
+}
+
+bool NativeSVDImpl::solve(NativeMatrixImpl *b, NativeMatrixImpl *x, double tolerance)
+{
+    if(!computed || b->rows() != rows())
+    {
+        return false;
+    }
+
+    truncatedInverse(tolerance);
+
+    Utb.noalias() = matrixU().transpose() * b->matrix;
+    Utb.array().colwise() *= weights.array();
+
+    x->resize(cols(), b->cols());
+    x->matrix.noalias() = matrixV() * Utb;
+    return true;
+}
+
+bool NativeSVDImpl::solveDamped(NativeMatrixImpl *b, NativeMatrixImpl *x, double alpha)
+{
+    if(!computed || b->rows() != rows())
+    {
+        return false;
+    }
+
+    // Same solution as inverse(A' A + alpha^2 I) A' b, without forming the normal equations
+    const Eigen::VectorXd& singularValues = singularValuesVector();
+    weights = singularValues.array() / (singularValues.array().square() + alpha * alpha);
+
+    Utb.noalias() = matrixU().transpose() * b->matrix;
+    Utb.array().colwise() *= weights.array();
+
+    x->resize(cols(), b->cols());
+    x->matrix.noalias() = matrixV() * Utb;
+    return true;
+}
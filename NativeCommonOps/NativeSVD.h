@@ -0,0 +1,68 @@
+#ifndef NATIVESVD_H
+#define NATIVESVD_H
+
+#include "NativeMatrix.h"
+
+class NativeSVDImpl
+{
+public:
+    NativeSVDImpl();
+
+    bool compute(NativeMatrixImpl* A);
+
+    bool singularValues(NativeMatrixImpl* result);
+
+    int rank(double tolerance);
+
+    bool pseudoInverse(NativeMatrixImpl* result, double tolerance);
+
+    bool solve(NativeMatrixImpl* b, NativeMatrixImpl* x, double tolerance);
+
+    bool solveDamped(NativeMatrixImpl* b, NativeMatrixImpl* x, double alpha);
+
+    inline int rows()
+    {
+        return computed ? matrixU().rows() : 0;
+    }
+
+    inline int cols()
+    {
+        return computed ? matrixV().rows() : 0;
+    }
+
+private:
+    void truncatedInverse(double tolerance);
+
+    inline const Eigen::VectorXd& singularValuesVector() const
+    {
+        return useJacobi ? jacobiSvd.singularValues() : bdcSvd.singularValues();
+    }
+
+    inline const Eigen::MatrixXd& matrixU() const
+    {
+        return useJacobi ? jacobiSvd.matrixU() : bdcSvd.matrixU();
+    }
+
+    inline const Eigen::MatrixXd& matrixV() const
+    {
+        return useJacobi ? jacobiSvd.matrixV() : bdcSvd.matrixV();
+    }
+
+    // JacobiSVD keeps all its buffers, so decomposing again a matrix of the same size does not
+    // allocate. BDCSVD allocates on every call but is much faster on large matrices, it is only used
+    // when both dimensions are above this size, the size at which BDCSVD would itself stop using
+    // the Jacobi algorithm.
+    static const int JACOBI_MAX_SIZE = 16;
+
+    Eigen::JacobiSVD<Eigen::MatrixXd> jacobiSvd;
+    Eigen::BDCSVD<Eigen::MatrixXd> bdcSvd;
+    bool useJacobi;
+    bool computed;
+
+    // Inverted singular values used to build the solution, zero for the truncated ones
+    Eigen::VectorXd weights;
+    Eigen::MatrixXd Utb;
+    Eigen::MatrixXd scaledV;
+};
+
+#endif // NATIVESVD_H
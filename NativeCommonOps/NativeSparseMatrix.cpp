@@ -0,0 +1,218 @@
+#include "NativeSparseMatrix.h"
+
+#include <algorithm>
+
+NativeSparseMatrixImpl::NativeSparseMatrixImpl(int numRows, int numCols) : matrix(numRows, numCols)
+{
+}
+
+bool NativeSparseMatrixImpl::setFromCSC(int numRows, int numCols, int nonZeros, int *colOffsets, int *rowIndices, double *values)
+{
+    if(colOffsets == nullptr || (nonZeros > 0 && (rowIndices == nullptr || values == nullptr)))
+    {
+        return false;
+    }
+
+    if(numRows < 0 || numCols < 0 || nonZeros < 0 || colOffsets[0] != 0 || colOffsets[numCols] != nonZeros)
+    {
+        return false;
+    }
+
+    bool sorted = true;
+    for(int col = 0; col < numCols; col++)
+    {
+        if(colOffsets[col + 1] < colOffsets[col])
+        {
+            return false;
+        }
+
+        for(int i = colOffsets[col]; i < colOffsets[col + 1]; i++)
+        {
+            if(rowIndices[i] < 0 || rowIndices[i] >= numRows)
+            {
+                return false;
+            }
+
+            if(i > colOffsets[col] && rowIndices[i] <= rowIndices[i - 1])
+            {
+                sorted = false;
+            }
+        }
+    }
+
+    if(sorted)
+    {
+        matrix = Eigen::Map<const Eigen::SparseMatrix<double>>(numRows, numCols, nonZeros, colOffsets, rowIndices, values);
+    }
+    else
+    {
+        // Eigen requires the row indices to be sorted within each column, go through the triplets to sort them.
+        triplets.clear();
+        triplets.reserve(nonZeros);
+        for(int col = 0; col < numCols; col++)
+        {
+            for(int i = colOffsets[col]; i < colOffsets[col + 1]; i++)
+            {
+                triplets.emplace_back(rowIndices[i], col, values[i]);
+            }
+        }
+
+        matrix.resize(numRows, numCols);
+        matrix.setFromTriplets(triplets.begin(), triplets.end());
+    }
+
+    return true;
+}
+
+bool NativeSparseMatrixImpl::setFromTriplets(int numRows, int numCols, int numberOfTriplets, int *rowCol, double *values)
+{
+    if(numberOfTriplets > 0 && (rowCol == nullptr || values == nullptr))
+    {
+        return false;
+    }
+
+    if(numRows < 0 || numCols < 0 || numberOfTriplets < 0)
+    {
+        return false;
+    }
+
+    triplets.clear();
+    triplets.reserve(numberOfTriplets);
+    for(int i = 0; i < numberOfTriplets; i++)
+    {
+        int row = rowCol[2 * i];
+        int col = rowCol[2 * i + 1];
+
+        if(row < 0 || row >= numRows || col < 0 || col >= numCols)
+        {
+            return false;
+        }
+
+        triplets.emplace_back(row, col, values[i]);
+    }
+
+    matrix.resize(numRows, numCols);
+    matrix.setFromTriplets(triplets.begin(), triplets.end());
+
+    return true;
+}
+
+bool NativeSparseMatrixImpl::mult(NativeMatrixImpl *b, NativeMatrixImpl *result)
+{
+    if(cols() != b->rows())
+    {
+        return false;
+    }
+
+    result->resize(rows(), b->cols());
+
+    result->matrix.noalias() = matrix * b->matrix;
+
+    return true;
+}
+
+bool NativeSparseMatrixImpl::multTransA(NativeMatrixImpl *b, NativeMatrixImpl *result)
+{
+    if(rows() != b->rows())
+    {
+        return false;
+    }
+
+    result->resize(cols(), b->cols());
+
+    result->matrix.noalias() = matrix.transpose() * b->matrix;
+
+    return true;
+}
+
+bool NativeSparseMatrixImpl::multQuad(NativeMatrixImpl *weight, NativeMatrixImpl *result)
+{
+    if(weight->rows() != rows() || weight->cols() != rows())
+    {
+        return false;
+    }
+
+    result->resize(cols(), cols());
+
+    Eigen::MatrixXd weightedA = weight->matrix * matrix;
+    result->matrix.noalias() = matrix.transpose() * weightedA;
+
+    return true;
+}
+
+bool NativeSparseMatrixImpl::multQuadDiagonal(NativeMatrixImpl *weights, NativeMatrixImpl *result)
+{
+    if(weights->rows() != rows() || weights->cols() != 1)
+    {
+        return false;
+    }
+
+    result->resize(cols(), cols());
+
+    Eigen::SparseMatrix<double> weightedA = weights->matrix.col(0).asDiagonal() * matrix;
+    result->matrix = Eigen::MatrixXd(matrix.transpose() * weightedA);
+
+    return true;
+}
+
+bool NativeSparseMatrixImpl::get(NativeMatrixImpl *result)
+{
+    result->resize(rows(), cols());
+
+    result->matrix = matrix;
+
+    return true;
+}
+
+NativeSparseCholeskyImpl::NativeSparseCholeskyImpl() : analyzed(false), factorized(false), analysisCount(0)
+{
+}
+
+bool NativeSparseCholeskyImpl::compute(NativeSparseMatrixImpl *A)
+{
+    Eigen::SparseMatrix<double>& matrix = A->matrix;
+
+    if(matrix.rows() != matrix.cols())
+    {
+        return false;
+    }
+
+    matrix.makeCompressed();
+
+    int outerSize = matrix.outerSize() + 1;
+    int nonZeros = matrix.nonZeros();
+
+    bool samePattern = analyzed
+            && (int) analyzedOuterIndices.size() == outerSize
+            && (int) analyzedInnerIndices.size() == nonZeros
+            && std::equal(analyzedOuterIndices.begin(), analyzedOuterIndices.end(), matrix.outerIndexPtr())
+            && std::equal(analyzedInnerIndices.begin(), analyzedInnerIndices.end(), matrix.innerIndexPtr());
+
+    if(!samePattern)
+    {
+        ldlt.analyzePattern(matrix);
+        analyzedOuterIndices.assign(matrix.outerIndexPtr(), matrix.outerIndexPtr() + outerSize);
+        analyzedInnerIndices.assign(matrix.innerIndexPtr(), matrix.innerIndexPtr() + nonZeros);
+        analyzed = true;
+        analysisCount++;
+    }
+
+    ldlt.factorize(matrix);
+    factorized = ldlt.info() == Eigen::Success;
+
+    return factorized;
+}
+
+bool NativeSparseCholeskyImpl::solve(NativeMatrixImpl *b, NativeMatrixImpl *x)
+{
+    if(!factorized || b->rows() != ldlt.rows())
+    {
+        return false;
+    }
+
+    x->resize(b->rows(), b->cols());
+
+    x->matrix = ldlt.solve(b->matrix);
+
+    return ldlt.info() == Eigen::Success;
+}
@@ -0,0 +1,73 @@
+#ifndef NATIVESPARSEMATRIX_H
+#define NATIVESPARSEMATRIX_H
+
+#include "NativeMatrix.h"
+
+#include <vector>
+
+class NativeSparseMatrixImpl
+{
+public:
+    NativeSparseMatrixImpl(int numRows, int numCols);
+
+    bool setFromCSC(int numRows, int numCols, int nonZeros, int* colOffsets, int* rowIndices, double* values);
+
+    bool setFromTriplets(int numRows, int numCols, int numberOfTriplets, int* rowCol, double* values);
+
+    bool mult(NativeMatrixImpl* b, NativeMatrixImpl* result);
+
+    bool multTransA(NativeMatrixImpl* b, NativeMatrixImpl* result);
+
+    bool multQuad(NativeMatrixImpl* weight, NativeMatrixImpl* result);
+
+    bool multQuadDiagonal(NativeMatrixImpl* weights, NativeMatrixImpl* result);
+
+    bool get(NativeMatrixImpl* result);
+
+    inline int rows()
+    {
+        return matrix.rows();
+    }
+
+    inline int cols()
+    {
+        return matrix.cols();
+    }
+
+    inline int nonZeros()
+    {
+        return matrix.nonZeros();
+    }
+
+    Eigen::SparseMatrix<double> matrix;
+
+private:
+    std::vector<Eigen::Triplet<double>> triplets;
+};
+
+class NativeSparseCholeskyImpl
+{
+public:
+    NativeSparseCholeskyImpl();
+
+    bool compute(NativeSparseMatrixImpl* A);
+
+    bool solve(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    inline int symbolicAnalysisCount()
+    {
+        return analysisCount;
+    }
+
+private:
+    Eigen::SimplicialLDLT<Eigen::SparseMatrix<double>> ldlt;
+
+    // Sparsity pattern of the last analyzed matrix. The symbolic analysis is only redone when it changes.
+    std::vector<int> analyzedOuterIndices;
+    std::vector<int> analyzedInnerIndices;
+    bool analyzed;
+    bool factorized;
+    int analysisCount;
+};
+
+#endif // NATIVESPARSEMATRIX_H
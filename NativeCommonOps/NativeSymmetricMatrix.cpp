@@ -0,0 +1,251 @@
+#include "NativeSymmetricMatrix.h"
+
+#include <cmath>
+
+NativeSymmetricMatrixImpl::NativeSymmetricMatrixImpl(int size)
+{
+    resize(size);
+    zero();
+}
+
+void NativeSymmetricMatrixImpl::resize(int size)
+{
+    n = std::max(size, 0);
+    storage.resize(n * (n + 1) / 2);
+}
+
+void NativeSymmetricMatrixImpl::zero()
+{
+    storage.setZero();
+}
+
+bool NativeSymmetricMatrixImpl::set(NativeMatrixImpl *a)
+{
+    if(a->rows() != a->cols())
+    {
+        return false;
+    }
+
+    resize(a->rows());
+
+    for(int col = 0; col < n; col++)
+    {
+        column(col) = a->matrix.col(col).tail(n - col);
+    }
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::set(NativeSymmetricMatrixImpl *a)
+{
+    resize(a->size());
+    storage = a->storage;
+
+    return true;
+}
+
+void NativeSymmetricMatrixImpl::get(NativeMatrixImpl *result)
+{
+    result->resize(n, n);
+
+    for(int col = 0; col < n; col++)
+    {
+        result->matrix.col(col).tail(n - col) = column(col);
+        result->matrix.row(col).tail(n - col - 1) = column(col).tail(n - col - 1).transpose();
+    }
+}
+
+double NativeSymmetricMatrixImpl::get(int row, int col)
+{
+    if(row < 0 || col < 0 || row >= n || col >= n)
+    {
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+
+    if(row < col)
+    {
+        std::swap(row, col);
+    }
+
+    return storage(columnOffset(col) + row - col);
+}
+
+bool NativeSymmetricMatrixImpl::set(int row, int col, double value)
+{
+    if(row < 0 || col < 0 || row >= n || col >= n)
+    {
+        return false;
+    }
+
+    if(row < col)
+    {
+        std::swap(row, col);
+    }
+
+    storage(columnOffset(col) + row - col) = value;
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::addDiagonal(double value)
+{
+    for(int col = 0; col < n; col++)
+    {
+        storage(columnOffset(col)) += value;
+    }
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::rankUpdate(NativeMatrixImpl *a, double alpha)
+{
+    if(a->rows() != n)
+    {
+        return false;
+    }
+
+    // Column j of the lower triangle gets alpha * a(j:n, :) * a(j, :)'
+    for(int col = 0; col < n; col++)
+    {
+        column(col).noalias() += alpha * a->matrix.bottomRows(n - col) * a->matrix.row(col).transpose();
+    }
+
+    return true;
+}
+
+/**
+ * Each packed column j holds S(j:n, j), which is also S(j, j:n). Below the diagonal it contributes
+ * to the rows under j, above it to row j, so every element is read once.
+ */
+void NativeSymmetricMatrixImpl::multInto(const Eigen::Ref<const Eigen::MatrixXd>& b, Eigen::Ref<Eigen::MatrixXd> out)
+{
+    out.setZero();
+
+    for(int j = 0; j < n; j++)
+    {
+        Eigen::Map<Eigen::VectorXd> Sj = column(j);
+        int tail = n - j - 1;
+
+        out.row(j) += Sj(0) * b.row(j);
+        out.bottomRows(tail).noalias() += Sj.tail(tail) * b.row(j);
+        out.row(j).noalias() += Sj.tail(tail).transpose() * b.bottomRows(tail);
+    }
+}
+
+void NativeSymmetricMatrixImpl::multFromRightInto(const Eigen::Ref<const Eigen::MatrixXd>& b, Eigen::Ref<Eigen::MatrixXd> out)
+{
+    out.setZero();
+
+    for(int j = 0; j < n; j++)
+    {
+        Eigen::Map<Eigen::VectorXd> Sj = column(j);
+        int tail = n - j - 1;
+
+        out.col(j) += Sj(0) * b.col(j);
+        out.col(j).noalias() += b.rightCols(tail) * Sj.tail(tail);
+        out.rightCols(tail).noalias() += b.col(j) * Sj.tail(tail).transpose();
+    }
+}
+
+bool NativeSymmetricMatrixImpl::mult(NativeMatrixImpl *b, NativeMatrixImpl *result)
+{
+    if(b->rows() != n)
+    {
+        return false;
+    }
+
+    if(b == result)
+    {
+        workspace.resize(n, b->cols());
+        multInto(b->matrix, workspace);
+        result->matrix = workspace;
+    }
+    else
+    {
+        result->resize(n, b->cols());
+        multInto(b->matrix, result->matrix);
+    }
+
+    return true;
+}
+
+/**
+ * With W = b * a, only the lower triangle of a' * W is computed: column i holds
+ * a(:, i:m)' * W(:, i).
+ */
+bool NativeSymmetricMatrixImpl::multQuad(NativeMatrixImpl *a, NativeSymmetricMatrixImpl *b)
+{
+    if(a->rows() != b->size())
+    {
+        return false;
+    }
+
+    int m = a->cols();
+
+    // The product is complete before this is resized, so b can be this
+    workspace.resize(b->size(), m);
+    b->multInto(a->matrix, workspace);
+
+    resize(m);
+    for(int i = 0; i < m; i++)
+    {
+        column(i).noalias() = a->matrix.rightCols(m - i).transpose() * workspace.col(i);
+    }
+
+    return true;
+}
+
+/**
+ * With W = a * b, only the lower triangle of W * a' is computed: column i holds
+ * W(i:m, :) * a(i, :)'.
+ */
+bool NativeSymmetricMatrixImpl::multQuadTransA(NativeMatrixImpl *a, NativeSymmetricMatrixImpl *b)
+{
+    if(a->cols() != b->size())
+    {
+        return false;
+    }
+
+    int m = a->rows();
+
+    workspace.resize(m, b->size());
+    b->multFromRightInto(a->matrix, workspace);
+
+    resize(m);
+    for(int i = 0; i < m; i++)
+    {
+        column(i).noalias() = workspace.bottomRows(m - i) * a->matrix.row(i).transpose();
+    }
+
+    return true;
+}
+
+/**
+ * Right-looking factorization on the packed columns: once column j of L is scaled, its outer
+ * product is subtracted from the columns on its right, each update being a contiguous axpy.
+ */
+bool NativeSymmetricMatrixImpl::cholesky(NativeTriangularMatrixImpl *L)
+{
+    L->resize(n);
+    L->storage = storage;
+
+    for(int j = 0; j < n; j++)
+    {
+        Eigen::Map<Eigen::VectorXd> Lj = L->column(j);
+
+        double d = Lj(0);
+        if(!(d > 0.0))
+        {
+            L->resize(0);
+            return false;
+        }
+
+        Lj /= std::sqrt(d);
+
+        for(int k = j + 1; k < n; k++)
+        {
+            L->column(k) -= Lj(k - j) * Lj.tail(n - k);
+        }
+    }
+
+    return true;
+}
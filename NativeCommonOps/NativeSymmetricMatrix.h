@@ -0,0 +1,84 @@
+#ifndef NATIVESYMMETRICMATRIX_H
+#define NATIVESYMMETRICMATRIX_H
+
+#include "NativeMatrix.h"
+#include "NativeTriangularMatrix.h"
+
+/**
+ * Symmetric matrix, e.g. a covariance or a Hessian, of which only the lower triangle is stored,
+ * packed like NativeTriangularMatrixImpl. The kernels below read and write that triangle only, so
+ * they move about half the data of the full matrix operations.
+ */
+class NativeSymmetricMatrixImpl
+{
+public:
+    NativeSymmetricMatrixImpl(int size);
+
+    void resize(int size);
+
+    void zero();
+
+    // Copies the lower triangle of a square matrix, the strictly upper part is ignored
+    bool set(NativeMatrixImpl* a);
+
+    bool set(NativeSymmetricMatrixImpl* a);
+
+    // Copies into a full matrix, filling both triangles
+    void get(NativeMatrixImpl* result);
+
+    double get(int row, int col);
+
+    // Sets both (row, col) and (col, row)
+    bool set(int row, int col, double value);
+
+    bool addDiagonal(double value);
+
+    // this = this + alpha * a * a'
+    bool rankUpdate(NativeMatrixImpl* a, double alpha);
+
+    // result = this * b
+    bool mult(NativeMatrixImpl* b, NativeMatrixImpl* result);
+
+    // this = a' * b * a
+    bool multQuad(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    // this = a * b * a'
+    bool multQuadTransA(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    // Computes L with this = L * L', returns false if this is not positive definite
+    bool cholesky(NativeTriangularMatrixImpl* L);
+
+    inline int size()
+    {
+        return n;
+    }
+
+    inline int packedSize()
+    {
+        return storage.size();
+    }
+
+private:
+    inline int columnOffset(int col)
+    {
+        return col * n - col * (col - 1) / 2;
+    }
+
+    inline Eigen::Map<Eigen::VectorXd> column(int col)
+    {
+        return Eigen::Map<Eigen::VectorXd>(storage.data() + columnOffset(col), n - col);
+    }
+
+    // out = this * b and out = b * this, out must not alias b
+    void multInto(const Eigen::Ref<const Eigen::MatrixXd>& b, Eigen::Ref<Eigen::MatrixXd> out);
+
+    void multFromRightInto(const Eigen::Ref<const Eigen::MatrixXd>& b, Eigen::Ref<Eigen::MatrixXd> out);
+
+    int n;
+    Eigen::VectorXd storage;
+
+    // Dense intermediate product of mult and multQuad, kept so these operations stop allocating
+    Eigen::MatrixXd workspace;
+};
+
+#endif // NATIVESYMMETRICMATRIX_H
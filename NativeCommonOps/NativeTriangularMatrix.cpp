@@ -0,0 +1,113 @@
+#include "NativeTriangularMatrix.h"
+
+NativeTriangularMatrixImpl::NativeTriangularMatrixImpl(int size)
+{
+    resize(size);
+    zero();
+}
+
+void NativeTriangularMatrixImpl::resize(int size)
+{
+    n = std::max(size, 0);
+    storage.resize(n * (n + 1) / 2);
+}
+
+void NativeTriangularMatrixImpl::zero()
+{
+    storage.setZero();
+}
+
+bool NativeTriangularMatrixImpl::set(NativeMatrixImpl *a)
+{
+    if(a->rows() != a->cols())
+    {
+        return false;
+    }
+
+    resize(a->rows());
+
+    for(int col = 0; col < n; col++)
+    {
+        column(col) = a->matrix.col(col).tail(n - col);
+    }
+
+    return true;
+}
+
+void NativeTriangularMatrixImpl::get(NativeMatrixImpl *result)
+{
+    result->resize(n, n);
+
+    for(int col = 0; col < n; col++)
+    {
+        result->matrix.col(col).head(col).setZero();
+        result->matrix.col(col).tail(n - col) = column(col);
+    }
+}
+
+double NativeTriangularMatrixImpl::get(int row, int col)
+{
+    if(row < 0 || col < 0 || row >= n || col >= n)
+    {
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+
+    return row < col ? 0.0 : storage(columnOffset(col) + row - col);
+}
+
+bool NativeTriangularMatrixImpl::set(int row, int col, double value)
+{
+    if(row < 0 || col < 0 || row >= n || col >= n || row < col)
+    {
+        return false;
+    }
+
+    storage(columnOffset(col) + row - col) = value;
+    return true;
+}
+
+/**
+ * Forward substitution by columns: once x(j, :) is known, column j of L is subtracted from the rows
+ * below, so the packed column is read once and contiguously.
+ */
+bool NativeTriangularMatrixImpl::solve(NativeMatrixImpl *b, NativeMatrixImpl *x)
+{
+    if(b->rows() != n || hasZeroDiagonal())
+    {
+        return false;
+    }
+
+    x->set(b);
+
+    for(int j = 0; j < n; j++)
+    {
+        Eigen::Map<Eigen::VectorXd> Lj = column(j);
+        x->matrix.row(j) /= Lj(0);
+        x->matrix.bottomRows(n - j - 1).noalias() -= Lj.tail(n - j - 1) * x->matrix.row(j);
+    }
+
+    return true;
+}
+
+/**
+ * Backward substitution with L' = U: row j of U is column j of L, so x(j, :) only needs the dot
+ * products of the packed column with the rows of x already solved.
+ */
+bool NativeTriangularMatrixImpl::solveTranspose(NativeMatrixImpl *b, NativeMatrixImpl *x)
+{
+    if(b->rows() != n || hasZeroDiagonal())
+    {
+        return false;
+    }
+
+    x->set(b);
+
+    for(int j = n - 1; j >= 0; j--)
+    {
+        Eigen::Map<Eigen::VectorXd> Lj = column(j);
+        x->matrix.row(j).noalias() -= Lj.tail(n - j - 1).transpose() * x->matrix.bottomRows(n - j - 1);
+        x->matrix.row(j) /= Lj(0);
+    }
+
+    return true;
+}
@@ -0,0 +1,79 @@
+#ifndef NATIVETRIANGULARMATRIX_H
+#define NATIVETRIANGULARMATRIX_H
+
+#include "NativeMatrix.h"
+
+/**
+ * Lower triangular matrix stored packed: the columns of the lower triangle one after the other, so
+ * column j holds the n - j elements from the diagonal down and the matrix takes n * (n + 1) / 2
+ * elements instead of n * n. Every column is contiguous, the kernels work column by column.
+ *
+ * An upper triangular matrix U is stored as its transpose, see solveTranspose().
+ */
+class NativeTriangularMatrixImpl
+{
+public:
+    NativeTriangularMatrixImpl(int size);
+
+    void resize(int size);
+
+    void zero();
+
+    // Copies the lower triangle of a square matrix, the strictly upper part is ignored
+    bool set(NativeMatrixImpl* a);
+
+    // Copies into a full matrix, with zeros above the diagonal
+    void get(NativeMatrixImpl* result);
+
+    double get(int row, int col);
+
+    bool set(int row, int col, double value);
+
+    // Solves L * x = b. Returns false, leaving x unchanged, if the dimensions do not match or if the
+    // diagonal of L has a zero.
+    bool solve(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    // Solves L' * x = b, see solve()
+    bool solveTranspose(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    inline int size()
+    {
+        return n;
+    }
+
+    inline int packedSize()
+    {
+        return storage.size();
+    }
+
+private:
+    friend class NativeSymmetricMatrixImpl;
+
+    inline int columnOffset(int col)
+    {
+        return col * n - col * (col - 1) / 2;
+    }
+
+    inline Eigen::Map<Eigen::VectorXd> column(int col)
+    {
+        return Eigen::Map<Eigen::VectorXd>(storage.data() + columnOffset(col), n - col);
+    }
+
+    // The diagonal element of column j is the first of the packed column
+    inline bool hasZeroDiagonal()
+    {
+        for(int j = 0; j < n; j++)
+        {
+            if(storage(columnOffset(j)) == 0.0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int n;
+    Eigen::VectorXd storage;
+};
+
+#endif // NATIVETRIANGULARMATRIX_H
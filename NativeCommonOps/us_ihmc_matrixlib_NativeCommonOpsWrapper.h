@@ -7,6 +7,14 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
+/*
+ * Class:     us_ihmc_matrixlib_NativeCommonOpsWrapper
+ * Method:    getNativeLibraryVersion
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_getNativeLibraryVersion
+  (JNIEnv *, jclass);
+
 /*
  * Class:     us_ihmc_matrixlib_NativeCommonOpsWrapper
  * Method:    mult
@@ -71,6 +79,22 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveDamped
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_projectOnNullspace
   (JNIEnv *, jobject, jdoubleArray, jdoubleArray, jdoubleArray, jint, jint, jint, jdouble);
 
+/*
+ * Class:     us_ihmc_matrixlib_NativeCommonOpsWrapper
+ * Method:    solveDampedBatch
+ * Signature: ([D[Z[D[DIII[DI)I
+ */
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveDampedBatch
+  (JNIEnv *, jobject, jdoubleArray, jbooleanArray, jdoubleArray, jdoubleArray, jint, jint, jint, jdoubleArray, jint);
+
+/*
+ * Class:     us_ihmc_matrixlib_NativeCommonOpsWrapper
+ * Method:    projectOnNullspaceBatch
+ * Signature: ([D[Z[D[DIIII[DI)I
+ */
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_projectOnNullspaceBatch
+  (JNIEnv *, jobject, jdoubleArray, jbooleanArray, jdoubleArray, jdoubleArray, jint, jint, jint, jint, jdoubleArray, jint);
+
 #ifdef __cplusplus
 }
 #endif
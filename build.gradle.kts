@@ -26,4 +26,5 @@ mainDependencies {
 testDependencies {
    api("us.ihmc:euclid-frame:0.17.2")
    api("org.ejml:ejml-simple:0.39")
+   api("org.ejml:ejml-fdense:0.39")
 }
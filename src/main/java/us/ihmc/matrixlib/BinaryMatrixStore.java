@@ -0,0 +1,372 @@
+package us.ihmc.matrixlib;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * {@code BinaryMatrixStore} gives access to large precomputed matrices, e.g. gain tables or basis
+ * matrices, stored in a compact binary file that is memory-mapped instead of parsed.
+ * <p>
+ * Loading a matrix from the store is a single bulk copy from the mapped file, into a
+ * {@link DMatrixRMaj} with {@link #get(String, DMatrixRMaj)} or directly into the native storage of
+ * a {@link NativeMatrix} with {@link #get(String, NativeMatrix)}. A store is created with
+ * {@link #write(Path, Map)}, or from the YAML layout read by
+ * {@link MatrixTools#yamlFieldToMatrix(DMatrixRMaj, String, Map)} with
+ * {@link #convertYaml(Map, Path)}.
+ * </p>
+ * The file is little-endian and made of:
+ * <ul>
+ * <li>a header: the magic number {@code "IMAT"}, the format version and the number of matrices, as
+ * {@code int}s,
+ * <li>a directory with, for each matrix: the length of its name in bytes, its name in UTF-8, its
+ * number of rows and columns as {@code int}s, and the file offset of its data as a {@code long},
+ * <li>the data of each matrix as row-major {@code double}s, starting at a multiple of 8 bytes.
+ * </ul>
+ * <p>
+ * A store is read-only once opened, so it can be shared by several threads.
+ * </p>
+ */
+public class BinaryMatrixStore
+{
+   /** The characters {@code "IMAT"} read as a little-endian {@code int}. */
+   private static final int MAGIC = 0x54414D49;
+   private static final int VERSION = 1;
+   private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+   private final Map<String, Entry> entries;
+
+   private BinaryMatrixStore(Map<String, Entry> entries)
+   {
+      this.entries = entries;
+   }
+
+   /**
+    * Opens a store and maps the data of its matrices in memory.
+    *
+    * @param file the file written by {@link #write(Path, Map)}.
+    * @return the store.
+    * @throws IOException if the file cannot be read or is not a valid binary matrix file.
+    */
+   public static BinaryMatrixStore open(Path file) throws IOException
+   {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+      {
+         long fileSize = channel.size();
+         ByteBuffer header = read(channel, 0, HEADER_SIZE, fileSize, file);
+
+         if (header.getInt() != MAGIC)
+         {
+            throw new IOException("Not a binary matrix file: " + file);
+         }
+         int version = header.getInt();
+         if (version != VERSION)
+         {
+            throw new IOException("Unsupported binary matrix file version " + version + ": " + file);
+         }
+         int numberOfMatrices = header.getInt();
+
+         Map<String, Entry> entries = new LinkedHashMap<>();
+         long position = HEADER_SIZE;
+
+         for (int i = 0; i < numberOfMatrices; i++)
+         {
+            int nameLength = read(channel, position, Integer.BYTES, fileSize, file).getInt();
+            position += Integer.BYTES;
+            if (nameLength < 0)
+            {
+               throw new IOException("Corrupted binary matrix file: " + file);
+            }
+            ByteBuffer nameBytes = read(channel, position, nameLength, fileSize, file);
+            String name = new String(nameBytes.array(), StandardCharsets.UTF_8);
+            position += nameLength;
+
+            ByteBuffer description = read(channel, position, 2 * Integer.BYTES + Long.BYTES, fileSize, file);
+            position += 2 * Integer.BYTES + Long.BYTES;
+            int numRows = description.getInt();
+            int numCols = description.getInt();
+            long dataOffset = description.getLong();
+
+            long dataSize = (long) numRows * numCols * Double.BYTES;
+            if (numRows < 0 || numCols < 0 || dataSize > Integer.MAX_VALUE || dataOffset < position || dataOffset + dataSize > fileSize)
+            {
+               throw new IOException("Corrupted binary matrix file: " + file);
+            }
+
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, dataSize);
+            data.order(ByteOrder.LITTLE_ENDIAN);
+            entries.put(name, new Entry(numRows, numCols, data));
+         }
+
+         // The mappings remain valid after the channel is closed.
+         return new BinaryMatrixStore(Collections.unmodifiableMap(entries));
+      }
+   }
+
+   /**
+    * Writes the given matrices to a new store, replacing {@code file} if it exists.
+    *
+    * @param file     the file to write.
+    * @param matrices the matrices to store by name, they are stored in the iteration order of the
+    *                 map. Not modified.
+    * @throws IOException if the file cannot be written.
+    */
+   public static void write(Path file, Map<String, DMatrixRMaj> matrices) throws IOException
+   {
+      ArrayList<byte[]> names = new ArrayList<>(matrices.size());
+      long directorySize = 0;
+      for (String name : matrices.keySet())
+      {
+         byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+         names.add(nameBytes);
+         directorySize += Integer.BYTES + nameBytes.length + 2 * Integer.BYTES + Long.BYTES;
+      }
+
+      ByteBuffer directory = ByteBuffer.allocate(Math.toIntExact(HEADER_SIZE + directorySize)).order(ByteOrder.LITTLE_ENDIAN);
+      directory.putInt(MAGIC);
+      directory.putInt(VERSION);
+      directory.putInt(matrices.size());
+
+      long dataOffset = align(directory.capacity());
+      int index = 0;
+      for (DMatrixRMaj matrix : matrices.values())
+      {
+         byte[] nameBytes = names.get(index++);
+         directory.putInt(nameBytes.length);
+         directory.put(nameBytes);
+         directory.putInt(matrix.getNumRows());
+         directory.putInt(matrix.getNumCols());
+         directory.putLong(dataOffset);
+         dataOffset = align(dataOffset + (long) matrix.getNumElements() * Double.BYTES);
+      }
+      directory.flip();
+
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+      {
+         writeFully(channel, directory, 0);
+
+         long position = align(directory.capacity());
+         for (DMatrixRMaj matrix : matrices.values())
+         {
+            ByteBuffer data = ByteBuffer.allocate(matrix.getNumElements() * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            data.asDoubleBuffer().put(matrix.getData(), 0, matrix.getNumElements());
+            writeFully(channel, data, position);
+            position = align(position + data.capacity());
+         }
+      }
+   }
+
+   /**
+    * Converts the matrices of a YAML document to a new store.
+    * <p>
+    * Each field is interpreted as in
+    * {@link MatrixTools#yamlFieldToMatrix(DMatrixRMaj, String, Map)}: lists of lists of numbers are
+    * stored as matrices, lists of numbers as row vectors and numbers as 1-by-1 matrices. Empty
+    * fields and fields of other types are skipped.
+    * </p>
+    *
+    * @param object the YAML document, e.g. {@code Map<String, Object> object = yaml.load(input)}.
+    *               Not modified.
+    * @param file   the file to write.
+    * @throws IOException if the file cannot be written.
+    */
+   public static void convertYaml(Map<String, Object> object, Path file) throws IOException
+   {
+      Map<String, DMatrixRMaj> matrices = new LinkedHashMap<>();
+      for (Map.Entry<String, Object> field : object.entrySet())
+      {
+         if (field.getValue() instanceof ArrayList<?> || field.getValue() instanceof Double)
+         {
+            DMatrixRMaj matrix = MatrixTools.yamlFieldToMatrix(null, field.getKey(), object);
+            if (matrix != null)
+            {
+               matrices.put(field.getKey(), matrix);
+            }
+         }
+      }
+      write(file, matrices);
+   }
+
+   /**
+    * Returns the names of the matrices in this store, in the order they were written.
+    *
+    * @return the unmodifiable set of names.
+    */
+   public Set<String> getNames()
+   {
+      return entries.keySet();
+   }
+
+   /**
+    * Tests whether this store contains a matrix with the given name.
+    *
+    * @param name the name of the matrix.
+    * @return {@code true} if the matrix exists.
+    */
+   public boolean contains(String name)
+   {
+      return entries.containsKey(name);
+   }
+
+   /**
+    * Returns the number of rows of a matrix.
+    *
+    * @param name the name of the matrix.
+    * @return the number of rows.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public int getNumRows(String name)
+   {
+      return getEntry(name).numRows;
+   }
+
+   /**
+    * Returns the number of columns of a matrix.
+    *
+    * @param name the name of the matrix.
+    * @return the number of columns.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public int getNumCols(String name)
+   {
+      return getEntry(name).numCols;
+   }
+
+   /**
+    * Returns a read-only view of the row-major data of a matrix in the mapped file, without copying
+    * it.
+    *
+    * @param name the name of the matrix.
+    * @return the data of the matrix.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public DoubleBuffer getBuffer(String name)
+   {
+      return getEntry(name).data.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+   }
+
+   /**
+    * Copies a matrix into {@code destination}.
+    * <p>
+    * This operation reshapes {@code destination} to the size of the stored matrix.
+    * </p>
+    *
+    * @param name        the name of the matrix.
+    * @param destination where the matrix is stored, a new matrix is created if {@code null}.
+    *                    Modified.
+    * @return {@code destination} or the new matrix.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public DMatrixRMaj get(String name, DMatrixRMaj destination)
+   {
+      Entry entry = getEntry(name);
+      if (destination == null)
+         destination = new DMatrixRMaj(entry.numRows, entry.numCols);
+      else
+         destination.reshape(entry.numRows, entry.numCols);
+
+      getBuffer(name).get(destination.getData(), 0, destination.getNumElements());
+      return destination;
+   }
+
+   /**
+    * Copies a matrix directly from the mapped file into the native storage of {@code destination}.
+    * <p>
+    * This operation reshapes {@code destination} to the size of the stored matrix.
+    * </p>
+    *
+    * @param name        the name of the matrix.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public void get(String name, NativeMatrix destination)
+   {
+      Entry entry = getEntry(name);
+
+      if (entry.numRows == 0 || entry.numCols == 0)
+      {
+         // Empty mappings have no address.
+         destination.reshape(entry.numRows, entry.numCols);
+      }
+      else if (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN)
+      {
+         if (!destination.impl.setFromBuffer(entry.data, entry.numRows, entry.numCols))
+         {
+            throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+         }
+      }
+      else
+      {
+         destination.set(get(name, (DMatrixRMaj) null));
+      }
+   }
+
+   private Entry getEntry(String name)
+   {
+      Entry entry = entries.get(name);
+      if (entry == null)
+      {
+         throw new IllegalArgumentException("No matrix named " + name + " in the store.");
+      }
+      return entry;
+   }
+
+   private static ByteBuffer read(FileChannel channel, long position, int size, long fileSize, Path file) throws IOException
+   {
+      if (position + size > fileSize)
+      {
+         throw new IOException("Corrupted binary matrix file: " + file);
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+      while (buffer.hasRemaining())
+      {
+         if (channel.read(buffer, position + buffer.position()) < 0)
+         {
+            throw new IOException("Corrupted binary matrix file: " + file);
+         }
+      }
+      buffer.flip();
+      return buffer;
+   }
+
+   private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+   {
+      while (buffer.hasRemaining())
+      {
+         channel.write(buffer, position + buffer.position());
+      }
+   }
+
+   private static long align(long offset)
+   {
+      return (offset + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+   }
+
+   private static class Entry
+   {
+      private final int numRows;
+      private final int numCols;
+      private final MappedByteBuffer data;
+
+      private Entry(int numRows, int numCols, MappedByteBuffer data)
+      {
+         this.numRows = numRows;
+         this.numCols = numCols;
+         this.data = data;
+      }
+   }
+}
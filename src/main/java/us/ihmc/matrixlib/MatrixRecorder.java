@@ -0,0 +1,428 @@
+package us.ihmc.matrixlib;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * {@code MatrixRecorder} captures the values of a set of matrices every control tick, e.g. the
+ * {@code H}, {@code f}, {@code P} and {@code K} of a controller, so they can be analyzed offline
+ * with {@link MatrixRecording}.
+ * <p>
+ * The matrices are registered before {@link #start()}, each with the largest size it can take
+ * during the recording. Every call to {@link #record(long)} then copies all of them into the next
+ * slot of a preallocated off-heap ring buffer: a single native {@code memcpy} for a
+ * {@link NativeMatrix}, a bulk copy for a {@link DMatrixRMaj}. A background thread spills the
+ * filled slots to a memory-mapped file. The recording thread never blocks, waits or allocates:
+ * when the background thread falls behind and the ring buffer is full, the snapshot is dropped and
+ * counted, see {@link #getNumberOfDroppedSnapshots()}.
+ * </p>
+ * <p>
+ * The ring buffer has a single producer: {@link #record(long)} must always be called from the same
+ * thread, or from threads that are otherwise synchronized with each other.
+ * </p>
+ */
+public class MatrixRecorder implements AutoCloseable
+{
+   /**
+    * The characters {@code "IREC"} read as a little-endian {@code int}. It is written in the byte order
+    * of the recording, which a reader finds from whether it reads back as itself or reversed.
+    */
+   static final int MAGIC = 0x43455249;
+   static final int VERSION = 1;
+   static final int SNAPSHOT_COUNT_OFFSET = 16;
+   static final int DROPPED_COUNT_OFFSET = 24;
+   static final int HEADER_SIZE = 32;
+
+   private static final long SPILL_PERIOD_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1);
+   private static final int TARGET_CHUNK_SIZE = 16 << 20;
+
+   private final Path file;
+   private final int capacity;
+   private final List<RecordedMatrix> matrices = new ArrayList<>();
+
+   private ByteBuffer ring;
+   private DoubleBuffer ringDoubles;
+   private int slotSize;
+
+   /** Number of snapshots recorded, only written by the recording thread. */
+   private final AtomicLong head = new AtomicLong();
+   /** Number of snapshots spilled to the file, only written by the spill thread. */
+   private final AtomicLong tail = new AtomicLong();
+   private volatile long droppedSnapshots;
+
+   private FileChannel channel;
+   private MappedByteBuffer header;
+   private long dataStart;
+   private int slotsPerChunk;
+   private MappedByteBuffer chunk;
+   private long chunkIndex = -1;
+
+   private Thread spillThread;
+   private volatile boolean running;
+   private volatile IOException spillException;
+
+   /**
+    * Creates a new recorder. Nothing is allocated or written until {@link #start()} is called.
+    *
+    * @param file     the file to record to, replaced if it exists.
+    * @param capacity the number of snapshots the ring buffer can hold while the background thread
+    *                 is writing to the file.
+    */
+   public MatrixRecorder(Path file, int capacity)
+   {
+      if (capacity < 1)
+      {
+         throw new IllegalArgumentException("The capacity has to be at least 1, was: " + capacity);
+      }
+
+      this.file = file;
+      this.capacity = capacity;
+   }
+
+   /**
+    * Registers a matrix to record with its current size as maximum size.
+    *
+    * @param name   the name of the matrix in the recording.
+    * @param matrix the matrix to record. Not modified.
+    */
+   public void register(String name, DMatrixRMaj matrix)
+   {
+      register(name, matrix, matrix.getNumRows(), matrix.getNumCols());
+   }
+
+   /**
+    * Registers a matrix to record.
+    *
+    * @param name    the name of the matrix in the recording.
+    * @param matrix  the matrix to record. Not modified.
+    * @param maxRows the maximum number of rows of the matrix during the recording.
+    * @param maxCols the maximum number of columns of the matrix during the recording.
+    */
+   public void register(String name, DMatrixRMaj matrix, int maxRows, int maxCols)
+   {
+      register(new RecordedMatrix(name, matrix, null, maxRows, maxCols));
+   }
+
+   /**
+    * Registers a matrix to record with its current size as maximum size.
+    *
+    * @param name   the name of the matrix in the recording.
+    * @param matrix the matrix to record. Not modified.
+    */
+   public void register(String name, NativeMatrix matrix)
+   {
+      register(name, matrix, matrix.getNumRows(), matrix.getNumCols());
+   }
+
+   /**
+    * Registers a matrix to record.
+    *
+    * @param name    the name of the matrix in the recording.
+    * @param matrix  the matrix to record. Not modified.
+    * @param maxRows the maximum number of rows of the matrix during the recording.
+    * @param maxCols the maximum number of columns of the matrix during the recording.
+    */
+   public void register(String name, NativeMatrix matrix, int maxRows, int maxCols)
+   {
+      register(new RecordedMatrix(name, null, matrix, maxRows, maxCols));
+   }
+
+   private void register(RecordedMatrix matrix)
+   {
+      if (ring != null)
+      {
+         throw new IllegalStateException("Matrices cannot be registered once the recording started.");
+      }
+      if (matrix.maxRows < 0 || matrix.maxCols < 0)
+      {
+         throw new IllegalArgumentException("The maximum size cannot be negative, was: " + matrix.maxRows + "x" + matrix.maxCols);
+      }
+      for (RecordedMatrix other : matrices)
+      {
+         if (other.name.equals(matrix.name))
+         {
+            throw new IllegalArgumentException("A matrix named " + matrix.name + " is already registered.");
+         }
+      }
+      matrices.add(matrix);
+   }
+
+   /**
+    * Allocates the ring buffer, creates the file and starts the background thread writing to it.
+    *
+    * @throws IOException if the file cannot be created.
+    */
+   public void start() throws IOException
+   {
+      if (ring != null)
+      {
+         throw new IllegalStateException("The recording already started.");
+      }
+
+      // Slot: timestamp, then for each matrix its size and its data at a multiple of 8 bytes.
+      int offset = Long.BYTES;
+      for (RecordedMatrix matrix : matrices)
+      {
+         offset += 2 * Integer.BYTES;
+         matrix.offset = offset;
+         offset = Math.addExact(offset, Math.multiplyExact(Math.multiplyExact(matrix.maxRows, matrix.maxCols), Double.BYTES));
+      }
+      slotSize = offset;
+      slotsPerChunk = Math.max(1, TARGET_CHUNK_SIZE / slotSize);
+
+      // The native matrices are copied into the slots as they are in memory, so the recording is in the
+      // native byte order. The magic number at the start of the header records that order for MatrixRecording.
+      ring = ByteBuffer.allocateDirect(Math.multiplyExact(slotSize, capacity)).order(ByteOrder.nativeOrder());
+      ringDoubles = ring.asDoubleBuffer();
+
+      List<byte[]> names = new ArrayList<>();
+      int headerSize = HEADER_SIZE;
+      for (RecordedMatrix matrix : matrices)
+      {
+         byte[] name = matrix.name.getBytes(StandardCharsets.UTF_8);
+         names.add(name);
+         headerSize += Integer.BYTES + name.length + 4 * Integer.BYTES;
+      }
+      dataStart = (headerSize + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+      header = channel.map(FileChannel.MapMode.READ_WRITE, 0, dataStart);
+      header.order(ByteOrder.nativeOrder());
+      header.putInt(MAGIC);
+      header.putInt(VERSION);
+      header.putInt(matrices.size());
+      header.putInt(slotSize);
+      header.putLong(0);
+      header.putLong(0);
+      for (int i = 0; i < matrices.size(); i++)
+      {
+         RecordedMatrix matrix = matrices.get(i);
+         header.putInt(names.get(i).length);
+         header.put(names.get(i));
+         header.putInt(matrix.maxRows);
+         header.putInt(matrix.maxCols);
+         header.putInt(matrix.nativeMatrix != null ? 1 : 0);
+         header.putInt(matrix.offset);
+      }
+
+      running = true;
+      spillThread = new Thread(this::spill, "MatrixRecorderSpill");
+      spillThread.setDaemon(true);
+      spillThread.start();
+   }
+
+   /**
+    * Copies the current value of all the registered matrices into the ring buffer.
+    *
+    * @param timestamp the time of the snapshot, e.g. the controller time in nanoseconds.
+    * @return {@code true} if the snapshot was recorded, {@code false} if it was dropped because the
+    *         ring buffer is full.
+    * @throws IllegalArgumentException if a matrix is larger than the size it was registered with.
+    */
+   public boolean record(long timestamp)
+   {
+      if (ring == null)
+      {
+         throw new IllegalStateException("The recording has not started.");
+      }
+
+      long snapshot = head.get();
+      if (snapshot - tail.get() >= capacity)
+      {
+         droppedSnapshots++;
+         return false;
+      }
+
+      int slot = (int) (snapshot % capacity) * slotSize;
+      ring.putLong(slot, timestamp);
+
+      for (int i = 0; i < matrices.size(); i++)
+      {
+         RecordedMatrix matrix = matrices.get(i);
+         int rows = matrix.getNumRows();
+         int cols = matrix.getNumCols();
+         if (rows > matrix.maxRows || cols > matrix.maxCols)
+         {
+            throw new IllegalArgumentException("The matrix " + matrix.name + " is " + rows + "x" + cols + ", larger than the " + matrix.maxRows + "x"
+                  + matrix.maxCols + " it was registered with.");
+         }
+
+         int dataOffset = slot + matrix.offset;
+         ring.putInt(dataOffset - 2 * Integer.BYTES, rows);
+         ring.putInt(dataOffset - Integer.BYTES, cols);
+
+         if (matrix.nativeMatrix != null)
+         {
+            if (!matrix.nativeMatrix.impl.getToBuffer(ring, dataOffset))
+            {
+               throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+            }
+         }
+         else
+         {
+            ringDoubles.put(dataOffset / Double.BYTES, matrix.matrix.getData(), 0, rows * cols);
+         }
+      }
+
+      // Publishes the slot to the spill thread.
+      head.lazySet(snapshot + 1);
+      return true;
+   }
+
+   /**
+    * Returns the number of snapshots recorded so far, including those not written to the file yet.
+    *
+    * @return the number of snapshots.
+    */
+   public long getNumberOfSnapshots()
+   {
+      return head.get();
+   }
+
+   /**
+    * Returns the number of snapshots that were dropped because the ring buffer was full.
+    *
+    * @return the number of dropped snapshots.
+    */
+   public long getNumberOfDroppedSnapshots()
+   {
+      return droppedSnapshots;
+   }
+
+   /**
+    * Writes the remaining snapshots to the file, stops the background thread and closes the file.
+    *
+    * @throws IOException if writing to the file failed.
+    */
+   @Override
+   public void close() throws IOException
+   {
+      if (channel == null)
+      {
+         return;
+      }
+
+      running = false;
+      try
+      {
+         spillThread.join();
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+
+      try
+      {
+         if (spillException != null)
+         {
+            throw spillException;
+         }
+
+         header.putLong(SNAPSHOT_COUNT_OFFSET, tail.get());
+         header.putLong(DROPPED_COUNT_OFFSET, droppedSnapshots);
+         header.force();
+         if (chunk != null)
+         {
+            chunk.force();
+         }
+      }
+      finally
+      {
+         channel.close();
+         channel = null;
+      }
+   }
+
+   private void spill()
+   {
+      try
+      {
+         while (true)
+         {
+            // Read before head, so the snapshots recorded before close() are all written.
+            boolean stopping = !running;
+            long recorded = head.get();
+            long spilled = tail.get();
+
+            if (spilled == recorded)
+            {
+               if (stopping)
+               {
+                  return;
+               }
+               LockSupport.parkNanos(SPILL_PERIOD_IN_NANOSECONDS);
+               continue;
+            }
+
+            for (; spilled < recorded; spilled++)
+            {
+               writeSlot(spilled);
+               tail.lazySet(spilled + 1);
+            }
+            header.putLong(SNAPSHOT_COUNT_OFFSET, spilled);
+         }
+      }
+      catch (IOException e)
+      {
+         spillException = e;
+      }
+   }
+
+   private void writeSlot(long snapshot) throws IOException
+   {
+      long index = snapshot / slotsPerChunk;
+      if (index != chunkIndex)
+      {
+         long chunkSize = (long) slotsPerChunk * slotSize;
+         chunk = channel.map(FileChannel.MapMode.READ_WRITE, dataStart + index * chunkSize, chunkSize);
+         chunkIndex = index;
+      }
+
+      chunk.put((int) (snapshot % slotsPerChunk) * slotSize, ring, (int) (snapshot % capacity) * slotSize, slotSize);
+   }
+
+   private static class RecordedMatrix
+   {
+      private final String name;
+      private final DMatrixRMaj matrix;
+      private final NativeMatrix nativeMatrix;
+      private final int maxRows;
+      private final int maxCols;
+      /** Offset of the data in a slot, the size is stored in the 8 bytes before. */
+      private int offset;
+
+      private RecordedMatrix(String name, DMatrixRMaj matrix, NativeMatrix nativeMatrix, int maxRows, int maxCols)
+      {
+         this.name = name;
+         this.matrix = matrix;
+         this.nativeMatrix = nativeMatrix;
+         this.maxRows = maxRows;
+         this.maxCols = maxCols;
+      }
+
+      private int getNumRows()
+      {
+         return nativeMatrix != null ? nativeMatrix.getNumRows() : matrix.getNumRows();
+      }
+
+      private int getNumCols()
+      {
+         return nativeMatrix != null ? nativeMatrix.getNumCols() : matrix.getNumCols();
+      }
+   }
+}
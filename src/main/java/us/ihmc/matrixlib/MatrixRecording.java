@@ -0,0 +1,323 @@
+package us.ihmc.matrixlib;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * {@code MatrixRecording} replays the snapshots written by a {@link MatrixRecorder}.
+ * <p>
+ * A snapshot is selected with {@link #readSnapshot(long)}, then its timestamp and the values of the
+ * recorded matrices are available through {@link #getTimestamp()} and {@link #get(String, DMatrixRMaj)}
+ * or {@link #get(String, NativeMatrix)}. The file is memory-mapped a window of snapshots at a time, so
+ * recordings larger than the memory can be replayed.
+ * </p>
+ * <p>
+ * The selected snapshot is state shared by all methods, so an instance must not be used by several
+ * threads at the same time.
+ * </p>
+ */
+public class MatrixRecording implements AutoCloseable
+{
+   private static final long TARGET_WINDOW_SIZE = 64 << 20;
+
+   private final FileChannel channel;
+   private final ByteOrder order;
+   private final Map<String, RecordedMatrix> matrices;
+   private final long numberOfSnapshots;
+   private final long numberOfDroppedSnapshots;
+   private final int slotSize;
+   private final long dataStart;
+   private final int slotsPerWindow;
+
+   private MappedByteBuffer window;
+   private DoubleBuffer windowDoubles;
+   private long windowStart = -1;
+   private int slot = -1;
+   private final DMatrixRMaj nativeWorkspace = new DMatrixRMaj(1, 1);
+
+   private MatrixRecording(FileChannel channel, ByteOrder order, Map<String, RecordedMatrix> matrices, long numberOfSnapshots, long numberOfDroppedSnapshots,
+                           int slotSize, long dataStart)
+   {
+      this.channel = channel;
+      this.order = order;
+      this.matrices = matrices;
+      this.numberOfSnapshots = numberOfSnapshots;
+      this.numberOfDroppedSnapshots = numberOfDroppedSnapshots;
+      this.slotSize = slotSize;
+      this.dataStart = dataStart;
+      slotsPerWindow = (int) Math.max(1, TARGET_WINDOW_SIZE / slotSize);
+   }
+
+   /**
+    * Opens a recording.
+    *
+    * @param file the file written by a {@link MatrixRecorder}.
+    * @return the recording, positioned before its first snapshot.
+    * @throws IOException if the file cannot be read or is not a valid recording.
+    */
+   public static MatrixRecording open(Path file) throws IOException
+   {
+      FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+      try
+      {
+         long fileSize = channel.size();
+         ByteBuffer header = read(channel, 0, MatrixRecorder.HEADER_SIZE, fileSize, file);
+
+         // The recorder writes in its native byte order, a recording from a machine of the other byte order reads its magic number reversed.
+         ByteOrder order;
+         int magic = header.order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+         if (magic == MatrixRecorder.MAGIC)
+            order = ByteOrder.LITTLE_ENDIAN;
+         else if (Integer.reverseBytes(magic) == MatrixRecorder.MAGIC)
+            order = ByteOrder.BIG_ENDIAN;
+         else
+            throw new IOException("Not a matrix recording: " + file);
+         header.order(order);
+
+         int version = header.getInt(4);
+         if (version != MatrixRecorder.VERSION)
+         {
+            throw new IOException("Unsupported matrix recording version " + version + ": " + file);
+         }
+         int numberOfMatrices = header.getInt(8);
+         int slotSize = header.getInt(12);
+         long numberOfSnapshots = header.getLong(MatrixRecorder.SNAPSHOT_COUNT_OFFSET);
+         long numberOfDroppedSnapshots = header.getLong(MatrixRecorder.DROPPED_COUNT_OFFSET);
+
+         Map<String, RecordedMatrix> matrices = new LinkedHashMap<>();
+         long position = MatrixRecorder.HEADER_SIZE;
+         for (int i = 0; i < numberOfMatrices; i++)
+         {
+            int nameLength = read(channel, position, Integer.BYTES, fileSize, file).order(order).getInt();
+            position += Integer.BYTES;
+            if (nameLength < 0)
+            {
+               throw new IOException("Corrupted matrix recording: " + file);
+            }
+            String name = new String(read(channel, position, nameLength, fileSize, file).array(), StandardCharsets.UTF_8);
+            position += nameLength;
+
+            ByteBuffer description = read(channel, position, 4 * Integer.BYTES, fileSize, file).order(order);
+            position += 4 * Integer.BYTES;
+            int maxRows = description.getInt();
+            int maxCols = description.getInt();
+            boolean columnMajor = description.getInt() != 0;
+            int offset = description.getInt();
+            if (offset < 0 || offset + (long) maxRows * maxCols * Double.BYTES > slotSize)
+            {
+               throw new IOException("Corrupted matrix recording: " + file);
+            }
+            matrices.put(name, new RecordedMatrix(columnMajor, offset));
+         }
+
+         long dataStart = (position + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+         if (slotSize <= 0 || numberOfSnapshots < 0 || dataStart + numberOfSnapshots * slotSize > fileSize)
+         {
+            throw new IOException("Corrupted matrix recording: " + file);
+         }
+
+         return new MatrixRecording(channel, order, Collections.unmodifiableMap(matrices), numberOfSnapshots, numberOfDroppedSnapshots, slotSize, dataStart);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         channel.close();
+         throw e;
+      }
+   }
+
+   /**
+    * Returns the number of snapshots in this recording.
+    *
+    * @return the number of snapshots.
+    */
+   public long getNumberOfSnapshots()
+   {
+      return numberOfSnapshots;
+   }
+
+   /**
+    * Returns the number of snapshots the recorder dropped because its ring buffer was full.
+    *
+    * @return the number of dropped snapshots.
+    */
+   public long getNumberOfDroppedSnapshots()
+   {
+      return numberOfDroppedSnapshots;
+   }
+
+   /**
+    * Returns the names of the recorded matrices, in the order they were registered.
+    *
+    * @return the unmodifiable list of names.
+    */
+   public List<String> getNames()
+   {
+      return Collections.unmodifiableList(new ArrayList<>(matrices.keySet()));
+   }
+
+   /**
+    * Selects the snapshot whose timestamp and matrices are returned by the getters.
+    *
+    * @param index the index of the snapshot, in [0, {@link #getNumberOfSnapshots()}[.
+    * @throws IOException if the file cannot be read.
+    */
+   public void readSnapshot(long index) throws IOException
+   {
+      if (index < 0 || index >= numberOfSnapshots)
+      {
+         throw new IndexOutOfBoundsException("Snapshot " + index + " out of [0, " + numberOfSnapshots + "[");
+      }
+
+      long start = index / slotsPerWindow * slotsPerWindow;
+      if (start != windowStart)
+      {
+         long slots = Math.min(slotsPerWindow, numberOfSnapshots - start);
+         window = channel.map(FileChannel.MapMode.READ_ONLY, dataStart + start * slotSize, slots * slotSize);
+         window.order(order);
+         windowDoubles = window.asDoubleBuffer();
+         windowStart = start;
+      }
+
+      slot = (int) (index - start) * slotSize;
+   }
+
+   /**
+    * Returns the timestamp of the selected snapshot, as passed to {@link MatrixRecorder#record(long)}.
+    *
+    * @return the timestamp.
+    */
+   public long getTimestamp()
+   {
+      checkSnapshot();
+      return window.getLong(slot);
+   }
+
+   /**
+    * Copies a matrix of the selected snapshot into {@code destination}.
+    * <p>
+    * This operation reshapes {@code destination} to the size the matrix had in the snapshot.
+    * </p>
+    *
+    * @param name        the name of the matrix.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public void get(String name, DMatrixRMaj destination)
+   {
+      checkSnapshot();
+      RecordedMatrix matrix = getMatrix(name);
+
+      int dataOffset = slot + matrix.offset;
+      int rows = window.getInt(dataOffset - 2 * Integer.BYTES);
+      int cols = window.getInt(dataOffset - Integer.BYTES);
+      destination.reshape(rows, cols);
+
+      int index = dataOffset / Double.BYTES;
+      if (!matrix.columnMajor)
+      {
+         windowDoubles.get(index, destination.getData(), 0, rows * cols);
+         return;
+      }
+
+      for (int col = 0; col < cols; col++)
+      {
+         for (int row = 0; row < rows; row++)
+         {
+            destination.unsafe_set(row, col, windowDoubles.get(index++));
+         }
+      }
+   }
+
+   /**
+    * Copies a matrix of the selected snapshot into {@code destination}.
+    * <p>
+    * This operation reshapes {@code destination} to the size the matrix had in the snapshot.
+    * </p>
+    *
+    * @param name        the name of the matrix.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IllegalArgumentException if there is no matrix with this name.
+    */
+   public void get(String name, NativeMatrix destination)
+   {
+      get(name, nativeWorkspace);
+      destination.set(nativeWorkspace);
+   }
+
+   /**
+    * Closes the file. The getters cannot be used anymore.
+    *
+    * @throws IOException if the file cannot be closed.
+    */
+   @Override
+   public void close() throws IOException
+   {
+      window = null;
+      windowDoubles = null;
+      slot = -1;
+      channel.close();
+   }
+
+   private void checkSnapshot()
+   {
+      if (slot < 0)
+      {
+         throw new IllegalStateException("No snapshot selected.");
+      }
+   }
+
+   private RecordedMatrix getMatrix(String name)
+   {
+      RecordedMatrix matrix = matrices.get(name);
+      if (matrix == null)
+      {
+         throw new IllegalArgumentException("No matrix named " + name + " in the recording.");
+      }
+      return matrix;
+   }
+
+   private static ByteBuffer read(FileChannel channel, long position, int size, long fileSize, Path file) throws IOException
+   {
+      if (position + size > fileSize)
+      {
+         throw new IOException("Corrupted matrix recording: " + file);
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate(size);
+      while (buffer.hasRemaining())
+      {
+         if (channel.read(buffer, position + buffer.position()) < 0)
+         {
+            throw new IOException("Corrupted matrix recording: " + file);
+         }
+      }
+      buffer.flip();
+      return buffer;
+   }
+
+   private static class RecordedMatrix
+   {
+      private final boolean columnMajor;
+      private final int offset;
+
+      private RecordedMatrix(boolean columnMajor, int offset)
+      {
+         this.columnMajor = columnMajor;
+         this.offset = offset;
+      }
+   }
+}
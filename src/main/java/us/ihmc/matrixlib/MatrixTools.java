@@ -392,6 +392,12 @@ public class MatrixTools
          throw new RuntimeException("The size of matrixToPack is not rows.length * columns.length");
       }
 
+      if (matrixToPack instanceof DMatrix1Row && input instanceof DMatrix1Row)
+      {
+         getMatrixBlock((DMatrix1Row) matrixToPack, (DMatrix1Row) input, rows, columns);
+         return;
+      }
+
       int newI = 0;
       for (int i : rows)
       {
@@ -406,6 +412,42 @@ public class MatrixTools
       }
    }
 
+   private static void getMatrixBlock(DMatrix1Row matrixToPack, DMatrix1Row input, int[] rows, int[] columns)
+   {
+      for (int column : columns)
+      {
+         if (column < 0 || column >= input.getNumCols())
+            throw new IllegalArgumentException("Specified column index is out of bounds: " + column + ", number of columns in input: " + input.getNumCols());
+      }
+
+      // Gathers each row into consecutive elements, a single copy when all the columns are selected in order.
+      boolean allColumns = columns.length == input.getNumCols();
+      for (int j = 0; allColumns && j < columns.length; j++)
+         allColumns = columns[j] == j;
+
+      int destOffset = 0;
+
+      for (int row : rows)
+      {
+         if (row < 0 || row >= input.getNumRows())
+            throw new IllegalArgumentException("Specified row index is out of bounds: " + row + ", number of rows in input: " + input.getNumRows());
+
+         int srcOffset = row * input.getNumCols();
+
+         if (allColumns)
+         {
+            System.arraycopy(input.data, srcOffset, matrixToPack.data, destOffset, columns.length);
+         }
+         else
+         {
+            for (int j = 0; j < columns.length; j++)
+               matrixToPack.data[destOffset + j] = input.data[srcOffset + columns[j]];
+         }
+
+         destOffset += columns.length;
+      }
+   }
+
    /**
     * Adds to a block of a matrix
     *
@@ -460,10 +502,27 @@ public class MatrixTools
     */
    public static void extractColumns(DMatrix1Row source, int[] srcColumns, DMatrix1Row dest, int destStartColumn)
    {
+      if (dest.getNumRows() < source.getNumRows() || dest.getNumCols() < destStartColumn + srcColumns.length)
+         throw new IllegalArgumentException("dest is too small, min size: [rows: " + source.getNumRows() + ", cols: " + (destStartColumn + srcColumns.length)
+               + "], was: [rows: " + dest.getNumRows() + ", cols: " + dest.getNumCols() + "]");
+
       for (int srcColumn : srcColumns)
       {
-         CommonOps_DDRM.extract(source, 0, source.getNumRows(), srcColumn, srcColumn + 1, dest, 0, destStartColumn);
-         destStartColumn++;
+         if (srcColumn < 0 || srcColumn >= source.getNumCols())
+            throw new IllegalArgumentException("Specified column index is out of bounds: " + srcColumn + ", number of columns in source: "
+                  + source.getNumCols());
+      }
+
+      // Row by row, so both matrices are read and written in storage order.
+      for (int row = 0; row < source.getNumRows(); row++)
+      {
+         int srcOffset = row * source.getNumCols();
+         int destOffset = row * dest.getNumCols() + destStartColumn;
+
+         for (int i = 0; i < srcColumns.length; i++)
+         {
+            dest.data[destOffset + i] = source.data[srcOffset + srcColumns[i]];
+         }
       }
    }
 
@@ -483,9 +542,16 @@ public class MatrixTools
     */
    public static void extractRows(DMatrix1Row source, int[] srcRows, DMatrix1Row dest, int destStartRow)
    {
+      if (dest.getNumCols() < source.getNumCols() || dest.getNumRows() < destStartRow + srcRows.length)
+         throw new IllegalArgumentException("dest is too small, min size: [rows: " + (destStartRow + srcRows.length) + ", cols: " + source.getNumCols()
+               + "], was: [rows: " + dest.getNumRows() + ", cols: " + dest.getNumCols() + "]");
+
       for (int srcRow : srcRows)
       {
-         CommonOps_DDRM.extract(source, srcRow, srcRow + 1, 0, source.getNumCols(), dest, destStartRow, 0);
+         if (srcRow < 0 || srcRow >= source.getNumRows())
+            throw new IllegalArgumentException("Specified row index is out of bounds: " + srcRow + ", number of rows in source: " + source.getNumRows());
+
+         System.arraycopy(source.data, srcRow * source.getNumCols(), dest.data, destStartRow * dest.getNumCols(), source.getNumCols());
          destStartRow++;
       }
    }
@@ -743,6 +809,137 @@ public class MatrixTools
       matrixToRemoveColumnTo.reshape(matrixToRemoveColumnTo.getNumRows(), matrixToRemoveColumnTo.getNumCols() - 1, true);
    }
 
+   /**
+    * Removes several rows of the given matrix in a single pass.
+    * <p>
+    * This is equivalent to calling {@link #removeRow(DMatrix1Row, int)} from the last index to the
+    * first, but moves each remaining element only once.
+    * </p>
+    *
+    * @param matrixToRemoveRowsTo  the matrix from which the rows are to be removed. Modified.
+    * @param indicesOfRowsToRemove the row indices to remove, in strictly increasing order. Not
+    *                              modified.
+    */
+   public static void removeRows(DMatrix1Row matrixToRemoveRowsTo, int[] indicesOfRowsToRemove)
+   {
+      removeRows(matrixToRemoveRowsTo, indicesOfRowsToRemove, indicesOfRowsToRemove.length);
+   }
+
+   /**
+    * Removes several rows of the given matrix in a single pass.
+    *
+    * @param matrixToRemoveRowsTo  the matrix from which the rows are to be removed. Modified.
+    * @param indicesOfRowsToRemove the row indices to remove, in strictly increasing order. Not
+    *                              modified.
+    * @param numberOfRowsToRemove  the number of indices to use from the start of
+    *                              {@code indicesOfRowsToRemove}.
+    * @throws IllegalArgumentException if the indices are not strictly increasing.
+    * @throws RuntimeException         if an index is not in [0,
+    *                                  {@code matrixToRemoveRowsTo.getNumRows()}[.
+    */
+   public static void removeRows(DMatrix1Row matrixToRemoveRowsTo, int[] indicesOfRowsToRemove, int numberOfRowsToRemove)
+   {
+      checkIndicesToRemove(indicesOfRowsToRemove, numberOfRowsToRemove, matrixToRemoveRowsTo.getNumRows());
+
+      if (numberOfRowsToRemove == 0)
+         return;
+
+      // Rows are contiguous in DMatrix1Row, so each run of kept rows is a single copy.
+      int numCols = matrixToRemoveRowsTo.getNumCols();
+      double[] data = matrixToRemoveRowsTo.data;
+      int destination = 0;
+      int start = 0;
+
+      for (int i = 0; i <= numberOfRowsToRemove; i++)
+      {
+         int end = i < numberOfRowsToRemove ? indicesOfRowsToRemove[i] : matrixToRemoveRowsTo.getNumRows();
+         int length = (end - start) * numCols;
+         System.arraycopy(data, start * numCols, data, destination, length);
+         destination += length;
+         start = end + 1;
+      }
+
+      matrixToRemoveRowsTo.reshape(matrixToRemoveRowsTo.getNumRows() - numberOfRowsToRemove, numCols, true);
+   }
+
+   /**
+    * Removes several columns of the given matrix in a single pass.
+    * <p>
+    * This is equivalent to calling {@link #removeColumn(DMatrix1Row, int)} from the last index to
+    * the first, but moves each remaining element only once.
+    * </p>
+    *
+    * @param matrixToRemoveColumnsTo  the matrix from which the columns are to be removed. Modified.
+    * @param indicesOfColumnsToRemove the column indices to remove, in strictly increasing order. Not
+    *                                 modified.
+    */
+   public static void removeColumns(DMatrix1Row matrixToRemoveColumnsTo, int[] indicesOfColumnsToRemove)
+   {
+      removeColumns(matrixToRemoveColumnsTo, indicesOfColumnsToRemove, indicesOfColumnsToRemove.length);
+   }
+
+   /**
+    * Removes several columns of the given matrix in a single pass.
+    *
+    * @param matrixToRemoveColumnsTo  the matrix from which the columns are to be removed. Modified.
+    * @param indicesOfColumnsToRemove the column indices to remove, in strictly increasing order. Not
+    *                                 modified.
+    * @param numberOfColumnsToRemove  the number of indices to use from the start of
+    *                                 {@code indicesOfColumnsToRemove}.
+    * @throws IllegalArgumentException if the indices are not strictly increasing.
+    * @throws RuntimeException         if an index is not in [0,
+    *                                  {@code matrixToRemoveColumnsTo.getNumCols()}[.
+    */
+   public static void removeColumns(DMatrix1Row matrixToRemoveColumnsTo, int[] indicesOfColumnsToRemove, int numberOfColumnsToRemove)
+   {
+      checkIndicesToRemove(indicesOfColumnsToRemove, numberOfColumnsToRemove, matrixToRemoveColumnsTo.getNumCols());
+
+      if (numberOfColumnsToRemove == 0)
+         return;
+
+      int numRows = matrixToRemoveColumnsTo.getNumRows();
+      int oldNumCols = matrixToRemoveColumnsTo.getNumCols();
+      double[] data = matrixToRemoveColumnsTo.data;
+      int destination = 0;
+
+      for (int row = 0; row < numRows; row++)
+      {
+         int rowStart = row * oldNumCols;
+         int start = 0;
+
+         for (int i = 0; i <= numberOfColumnsToRemove; i++)
+         {
+            int end = i < numberOfColumnsToRemove ? indicesOfColumnsToRemove[i] : oldNumCols;
+            int length = end - start;
+            System.arraycopy(data, rowStart + start, data, destination, length);
+            destination += length;
+            start = end + 1;
+         }
+      }
+
+      matrixToRemoveColumnsTo.reshape(numRows, oldNumCols - numberOfColumnsToRemove, true);
+   }
+
+   private static void checkIndicesToRemove(int[] indices, int numberOfIndices, int size)
+   {
+      if (numberOfIndices < 0 || numberOfIndices > indices.length)
+         throw new IllegalArgumentException("The number of indices was expected to be in [0, " + indices.length + "], but was: " + numberOfIndices);
+
+      int previous = -1;
+
+      for (int i = 0; i < numberOfIndices; i++)
+      {
+         int index = indices[i];
+
+         if (index < 0 || index >= size)
+            throw new RuntimeException("The index was expected to be in [0, " + (size - 1) + "], but was: " + index);
+         if (index <= previous)
+            throw new IllegalArgumentException("The indices have to be in strictly increasing order, but " + index + " came after " + previous);
+
+         previous = index;
+      }
+   }
+
    /**
     * Removes the rows of the given matrix that contain only zeros to an {@code epsilon}.
     * <p>
@@ -919,8 +1116,7 @@ public class MatrixTools
       if (valuesToSet.getNumCols() != matrix.getNumCols())
          throw new IllegalArgumentException("Trying to add a row that is the improper length");
 
-      for (int column = 0; column < matrix.getNumCols(); column++)
-         matrix.unsafe_set(destRowIndex, column, valuesToSet.unsafe_get(originRowIndex, column));
+      System.arraycopy(valuesToSet.data, originRowIndex * valuesToSet.getNumCols(), matrix.data, destRowIndex * matrix.getNumCols(), matrix.getNumCols());
    }
 
    /**
@@ -946,8 +1142,11 @@ public class MatrixTools
       if (valuesToSet.getNumCols() != matrix.getNumCols())
          throw new IllegalArgumentException("Trying to add a row that is the improper length");
 
+      int originOffset = originRowIndex * valuesToSet.getNumCols();
+      int destOffset = destRowIndex * matrix.getNumCols();
+
       for (int column = 0; column < matrix.getNumCols(); column++)
-         matrix.unsafe_set(destRowIndex, column, alpha * valuesToSet.unsafe_get(originRowIndex, column));
+         matrix.data[destOffset + column] = alpha * valuesToSet.data[originOffset + column];
    }
 
    /**
@@ -1026,8 +1225,11 @@ public class MatrixTools
       if (valuesToAdd.getNumCols() != matrix.getNumCols())
          throw new IllegalArgumentException("Trying to add a row that is the improper length");
 
+      int originOffset = originRowIndex * valuesToAdd.getNumCols();
+      int destOffset = destRowIndex * matrix.getNumCols();
+
       for (int column = 0; column < matrix.getNumCols(); column++)
-         matrix.unsafe_set(destRowIndex, column, valuesToAdd.unsafe_get(originRowIndex, column) + matrix.unsafe_get(destRowIndex, column));
+         matrix.data[destOffset + column] += valuesToAdd.data[originOffset + column];
    }
 
    /**
@@ -1054,8 +1256,11 @@ public class MatrixTools
       if (valuesToAdd.getNumCols() != matrix.getNumCols())
          throw new IllegalArgumentException("Trying to add a row that is the improper length");
 
+      int originOffset = originRowIndex * valuesToAdd.getNumCols();
+      int destOffset = destRowIndex * matrix.getNumCols();
+
       for (int column = 0; column < matrix.getNumCols(); column++)
-         matrix.unsafe_set(destRowIndex, column, alpha * valuesToAdd.unsafe_get(originRowIndex, column) + matrix.unsafe_get(destRowIndex, column));
+         matrix.data[destOffset + column] += alpha * valuesToAdd.data[originOffset + column];
    }
 
    /**
@@ -0,0 +1,97 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeAllocationTrackerImpl;
+
+/**
+ * {@code NativeAllocationTracker} counts the heap allocations made by the native library, so that
+ * real-time code can verify that its matrix operations do not allocate.
+ * <p>
+ * The counters are kept per thread and cover every allocation made from the native code of this
+ * library, including the temporaries Eigen creates, but not the allocations of the JVM. The
+ * operations of {@link NativeMatrix}, {@link NativeKalmanFilter} and {@link NativeNullspaceProjector}
+ * keep their intermediate results in reusable workspaces: once they ran with the sizes they are used
+ * with, further calls do not allocate. The exceptions are the operations whose result is one of
+ * their operands, the decompositions behind {@code pseudoInverse}, {@code singularValues} and the
+ * matrix functions, and a matrix that needs to grow.
+ * </p>
+ * <p>
+ * Counting relies on the GNU linker and is only available on Linux, see {@link #isSupported()}.
+ * </p>
+ */
+public final class NativeAllocationTracker
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private NativeAllocationTracker()
+   {
+   }
+
+   /**
+    * Returns whether the native library counts its allocations.
+    *
+    * @return {@code true} if the allocations are counted, {@code false} if the counters always
+    *         return 0 on this platform.
+    */
+   public static boolean isSupported()
+   {
+      return NativeAllocationTrackerImpl.isSupported();
+   }
+
+   /**
+    * Returns the number of heap allocations made by the native library from the calling thread.
+    *
+    * @return the number of allocations since the thread started.
+    */
+   public static long getAllocationCount()
+   {
+      return NativeAllocationTrackerImpl.getAllocationCount();
+   }
+
+   /**
+    * Returns the number of bytes allocated on the heap by the native library from the calling thread.
+    *
+    * @return the number of bytes allocated since the thread started.
+    */
+   public static long getAllocatedBytes()
+   {
+      return NativeAllocationTrackerImpl.getAllocatedBytes();
+   }
+
+   /**
+    * Runs {@code scope} on the calling thread and checks that the native library did not allocate
+    * meanwhile.
+    * <p>
+    * Run the scope once beforehand to let the workspaces grow to their sizes. When the library is
+    * built with {@code NATIVE_ALLOCATION_ASSERTS}, Eigen also asserts at the allocation itself.
+    * Nothing is checked if allocation counting is not supported on this platform.
+    * </p>
+    *
+    * @param scope the code that must not allocate.
+    * @throws IllegalStateException if the native library allocated while running {@code scope}.
+    */
+   public static void assertNoAllocation(Runnable scope)
+   {
+      long count = getAllocationCount();
+      long bytes = getAllocatedBytes();
+
+      NativeAllocationTrackerImpl.beginNoAllocationScope();
+      try
+      {
+         scope.run();
+      }
+      finally
+      {
+         NativeAllocationTrackerImpl.endNoAllocationScope();
+      }
+
+      long allocations = getAllocationCount() - count;
+      if (allocations != 0)
+      {
+         throw new IllegalStateException("The native library made " + allocations + " allocations (" + (getAllocatedBytes() - bytes)
+               + " bytes) in a scope that must not allocate.");
+      }
+   }
+}
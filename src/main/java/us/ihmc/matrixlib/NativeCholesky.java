@@ -0,0 +1,166 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeCholeskyImpl;
+
+/**
+ * {@code NativeCholesky} retains the Cholesky decomposition {@code A = L * L'} of a symmetric
+ * positive definite matrix computed in C++ and allows to modify it without refactoring:
+ * <ul>
+ * <li>{@link #rankUpdate(NativeMatrix, double)} gives the factor of {@code A + sigma * v * v'},
+ * <li>{@link #addRowAndColumn(int, NativeMatrix)} gives the factor of {@code A} with a new row and
+ * column inserted,
+ * <li>{@link #removeRowAndColumn(int)} gives the factor of {@code A} with a row and column removed.
+ * </ul>
+ * Each of these costs O(n<sup>2</sup>) instead of the O(n<sup>3</sup>) of a new decomposition,
+ * e.g. when a constraint is added to or removed from a solver.
+ * <p>
+ * The decomposition is state shared by all methods, so an instance must not be used by several
+ * threads at the same time. Use one instance per thread instead, e.g. through
+ * {@link #createThreadLocal()}.
+ * </p>
+ */
+public class NativeCholesky
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeCholeskyImpl impl = new NativeCholeskyImpl();
+
+   /**
+    * Creates a {@link ThreadLocal} providing each thread with its own decomposition, so parallel
+    * tasks, e.g. running on a {@link java.util.concurrent.ForkJoinPool}, can use it without
+    * locking. The instance is created on the first use in each thread.
+    *
+    * @return the thread local decomposition.
+    */
+   public static ThreadLocal<NativeCholesky> createThreadLocal()
+   {
+      return ThreadLocal.withInitial(NativeCholesky::new);
+   }
+
+   /**
+    * Computes the decomposition of the given matrix, discarding the previous one.
+    *
+    * @param a the square, symmetric, positive definite matrix to decompose. Only the lower triangular
+    *          part is used. Not modified.
+    * @return whether the decomposition succeeded. On failure, the decomposition is empty.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean compute(NativeMatrix a)
+   {
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.compute(a.impl);
+   }
+
+   /**
+    * Updates the decomposition of {@code A} to the decomposition of</br>
+    * A + sigma * v * v'</br>
+    * A negative {@code sigma} is a downdate.
+    *
+    * @param v     the column vector of the rank one modification. Not modified.
+    * @param sigma the scale of the rank one modification.
+    * @return whether the update succeeded. A downdate fails when the resulting matrix is not positive
+    *         definite, the decomposition is then unchanged.
+    * @throws IllegalArgumentException if {@code v} is not a column vector of the size of the
+    *                                  decomposition.
+    */
+   public boolean rankUpdate(NativeMatrix v, double sigma)
+   {
+      if (v.getNumCols() != 1 || v.getNumRows() != getSize())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.rankUpdate(v.impl, sigma);
+   }
+
+   /**
+    * Updates the decomposition of {@code A} to the decomposition of {@code A} with a row and a column
+    * inserted at {@code index}.
+    *
+    * @param index  the index of the new row and column, from 0 to {@link #getSize()}.
+    * @param column the new column, including the new diagonal element at {@code index}. Its size is
+    *               one more than the size of the decomposition. Not modified.
+    * @return whether the update succeeded. It fails when the resulting matrix is not positive
+    *         definite, the decomposition is then unchanged.
+    * @throws IllegalArgumentException if the index is out of bounds or if the column has an invalid
+    *                                  size.
+    */
+   public boolean addRowAndColumn(int index, NativeMatrix column)
+   {
+      if (index < 0 || index > getSize())
+      {
+         throw new IllegalArgumentException("Index out of bounds.");
+      }
+      if (column.getNumCols() != 1 || column.getNumRows() != getSize() + 1)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.addRowAndColumn(index, column.impl);
+   }
+
+   /**
+    * Updates the decomposition of {@code A} to the decomposition of {@code A} without its row and
+    * column at {@code index}.
+    *
+    * @param index the index of the row and column to remove.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public void removeRowAndColumn(int index)
+   {
+      if (!impl.removeRowAndColumn(index))
+      {
+         throw new IllegalArgumentException("Index out of bounds.");
+      }
+   }
+
+   /**
+    * Solves the linear equation</br>
+    * A * x == b</br>
+    * using the current decomposition.
+    * <p>
+    * This operation reshapes {@code x} to match the result of the operation.
+    * </p>
+    *
+    * @param b the right-hand side, can have multiple columns. Not modified.
+    * @param x where the solution is stored. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void solve(NativeMatrix b, NativeMatrix x)
+   {
+      if (!impl.solve(b.impl, x.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the lower triangular factor {@code L} of the current decomposition.
+    * <p>
+    * This operation reshapes {@code lToPack} to match the size of the decomposition.
+    * </p>
+    *
+    * @param lToPack where the factor is stored. Modified.
+    */
+   public void getL(NativeMatrix lToPack)
+   {
+      impl.getL(lToPack.impl);
+   }
+
+   /**
+    * Returns the number of rows and columns of the decomposed matrix.
+    *
+    * @return the size of the decomposition.
+    */
+   public int getSize()
+   {
+      return impl.size();
+   }
+}
@@ -3,8 +3,15 @@ package us.ihmc.matrixlib;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.dense.row.CommonOps_DDRM;
 
-import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
-
+/**
+ * {@code NativeCommonOps} performs common operations on EJML matrices in C++ using Eigen.
+ * <p>
+ * All methods are thread-safe and can be called concurrently without locking: the native side keeps
+ * no state between calls and never writes to the input matrices, which can therefore also be shared
+ * between threads. Only the matrix storing the result must not be used by another thread during the
+ * call.
+ * </p>
+ */
 public class NativeCommonOps
 {
    private static final NativeCommonOpsWrapper nativeCommonOpsWrapper = loadNativeOps();
@@ -13,7 +20,7 @@ public class NativeCommonOps
    {
       try
       {
-         NativeLibraryLoader.loadLibrary("", "NativeCommonOps");
+         NativeCommonOpsLibrary.load();
       }
       catch (UnsatisfiedLinkError e)
       {
@@ -44,7 +51,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       c.reshape(a.getNumRows(), b.getNumCols());
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.mult(c.data, a.data, b.data, a.getNumRows(), a.getNumCols(), b.getNumCols());
+      event.end(NativeOperation.MULT, a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -63,7 +72,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       c.reshape(a.getNumCols(), a.getNumCols());
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.multQuad(c.data, a.data, b.data, a.getNumRows(), a.getNumCols());
+      event.end(NativeOperation.MULT_QUAD, a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -85,7 +96,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       inv.reshape(a.getNumRows(), a.getNumCols());
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.invert(inv.data, a.data, a.getNumRows());
+      event.end(NativeOperation.INVERT, a.getNumRows(), a.getNumRows());
    }
 
    /**
@@ -105,15 +118,18 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.solve(x.data, a.data, b.data, a.getNumRows());
+      event.end(NativeOperation.SOLVE, a.getNumRows(), a.getNumRows());
    }
 
    /**
     * Computes the solution to the linear equation</br>
     * a * x == b</br>
     * This method requires that {@code a} is square. It will check the invertability of {@code a} and
-    * will return false if it is not invertible.
-    * 
+    * will return false if it is not invertible, i.e. if the reciprocal condition number estimated from
+    * its partial pivoting LU decomposition is below n * &epsilon;.
+    *
     * @param a matrix in equation
     * @param b matrix in equation
     * @param x where the result is stored (modified)
@@ -127,7 +143,10 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
-      if (nativeCommonOpsWrapper.solveCheck(x.data, a.data, b.data, a.getNumRows()))
+      NativeOperationEvent event = NativeOperationEvent.start();
+      boolean success = nativeCommonOpsWrapper.solveCheck(x.data, a.data, b.data, a.getNumRows());
+      event.end(NativeOperation.SOLVE, a.getNumRows(), a.getNumRows());
+      if (success)
       {
          return true;
       }
@@ -153,7 +172,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.solveRobust(x.data, a.data, b.data, a.getNumRows(), a.getNumCols());
+      event.end(NativeOperation.SOLVE, a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -175,7 +196,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.solveDamped(x.data, a.data, b.data, a.getNumRows(), a.getNumCols(), alpha);
+      event.end(NativeOperation.SOLVE, a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -201,6 +224,220 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       c.reshape(a.getNumRows(), a.getNumCols());
+      NativeOperationEvent event = NativeOperationEvent.start();
       nativeCommonOpsWrapper.projectOnNullspace(c.data, a.data, b.data, a.getNumRows(), a.getNumCols(), b.getNumRows(), alpha);
+      event.end(NativeOperation.PROJECT_ON_NULLSPACE, a.getNumRows(), a.getNumCols());
+   }
+
+   /**
+    * Computes the damped least square solutions of a batch of independent linear equations</br>
+    * a<sub>i</sub> * x<sub>i</sub> == b<sub>i</sub></br>
+    * as {@link #solveDamped(DMatrix1Row, DMatrix1Row, double, DMatrix1Row)} does, but in a single
+    * native call.
+    * <p>
+    * The problems are packed one after the other in row-major order: the matrix a<sub>i</sub> starts
+    * at {@code aData[i * aRows * aCols]}, the vector b<sub>i</sub> at {@code bData[i * aRows]} and
+    * the solution x<sub>i</sub> is stored at {@code x[i * aCols]}.
+    * </p>
+    * <p>
+    * <b>The problems are distributed over the threads the calling thread is allowed to use, see
+    * {@link NativeMatrixThreading#setMaxThreads(int)}. That limit defaults to 1, so unless it was
+    * raised the batch runs serially.</b> Use
+    * {@link #solveDampedBatch(int, double[], double[], int, int, double[], double[], boolean[], int)}
+    * to give the batch its own number of threads.
+    * </p>
+    *
+    * @param problems the number of problems to solve.
+    * @param aData    the packed {@code aRows}-by-{@code aCols} matrices. Not modified.
+    * @param bData    the packed right-hand side vectors. Not modified.
+    * @param aRows    the number of rows of each matrix.
+    * @param aCols    the number of columns of each matrix.
+    * @param alpha    the damping values, either one per problem or a single value used for all
+    *                 problems. Not modified.
+    * @param x        where the packed solutions are stored. Modified.
+    * @param success  where is stored for each problem whether it was solved. A problem fails when
+    *                 the decomposition of {@code a * a' + diag(alpha * alpha)} fails, its solution
+    *                 is then filled with {@link Double#NaN}. Modified.
+    * @return the number of problems that were solved.
+    * @throws IllegalArgumentException if an array is too small for the given number of problems or
+    *                                  if {@code x} is one of the input arrays.
+    */
+   public static int solveDampedBatch(int problems, double[] aData, double[] bData, int aRows, int aCols, double[] alpha, double[] x, boolean[] success)
+   {
+      return solveDampedBatchInternal(problems, aData, bData, aRows, aCols, alpha, x, success, 0);
+   }
+
+   /**
+    * Computes the damped least square solutions of a batch of independent linear equations as
+    * {@link #solveDampedBatch(int, double[], double[], int, int, double[], double[], boolean[])}
+    * does, but distributes the problems over the given number of threads regardless of the limit of
+    * the calling thread.
+    *
+    * @param problems   the number of problems to solve.
+    * @param aData      the packed {@code aRows}-by-{@code aCols} matrices. Not modified.
+    * @param bData      the packed right-hand side vectors. Not modified.
+    * @param aRows      the number of rows of each matrix.
+    * @param aCols      the number of columns of each matrix.
+    * @param alpha      the damping values, either one per problem or a single value used for all
+    *                   problems. Not modified.
+    * @param x          where the packed solutions are stored. Modified.
+    * @param success    where is stored for each problem whether it was solved. Modified.
+    * @param maxThreads the number of threads to use, has no effect if the native library was built
+    *                   without OpenMP, see {@link NativeMatrixThreading#isParallelizationAvailable()}.
+    * @return the number of problems that were solved.
+    * @throws IllegalArgumentException if an array is too small for the given number of problems, if
+    *                                  {@code x} is one of the input arrays or if {@code maxThreads} is
+    *                                  not positive.
+    */
+   public static int solveDampedBatch(int problems, double[] aData, double[] bData, int aRows, int aCols, double[] alpha, double[] x, boolean[] success,
+                                      int maxThreads)
+   {
+      checkMaxThreads(maxThreads);
+      return solveDampedBatchInternal(problems, aData, bData, aRows, aCols, alpha, x, success, maxThreads);
+   }
+
+   /** A {@code maxThreads} of 0 uses the limit of the calling thread. */
+   private static int solveDampedBatchInternal(int problems, double[] aData, double[] bData, int aRows, int aCols, double[] alpha, double[] x,
+                                               boolean[] success, int maxThreads)
+   {
+      if (x == aData || x == bData)
+      {
+         throw new IllegalArgumentException("Can not solve in place. The result array needs to be different from the input arrays.");
+      }
+      checkBatch(problems, aRows, aCols, alpha, success);
+      checkBatchLength(aData, problems, aRows, aCols);
+      checkBatchLength(bData, problems, aRows, 1);
+      checkBatchLength(x, problems, aCols, 1);
+      NativeOperationEvent event = NativeOperationEvent.start();
+      int solved = nativeCommonOpsWrapper.solveDampedBatch(x, success, aData, bData, problems, aRows, aCols, alpha, maxThreads);
+      event.end(NativeOperation.SOLVE, aRows, aCols);
+      return solved;
+   }
+
+   /**
+    * Projects a batch of matrices a<sub>i</sub> onto the null-space of the matrices b<sub>i</sub>
+    * as {@link #projectOnNullspace(DMatrix1Row, DMatrix1Row, DMatrix1Row, double)} does, but in a
+    * single native call.
+    * <p>
+    * The problems are packed one after the other in row-major order: the matrix a<sub>i</sub> starts
+    * at {@code aData[i * aRows * aCols]}, the matrix b<sub>i</sub> at {@code bData[i * bRows * aCols]}
+    * and the projection c<sub>i</sub> is stored at {@code c[i * aRows * aCols]}.
+    * </p>
+    * <p>
+    * <b>The problems are distributed over the threads the calling thread is allowed to use, see
+    * {@link NativeMatrixThreading#setMaxThreads(int)}. That limit defaults to 1, so unless it was
+    * raised the batch runs serially.</b> Use
+    * {@link #projectOnNullspaceBatch(int, double[], double[], int, int, int, double[], double[], boolean[], int)}
+    * to give the batch its own number of threads.
+    * </p>
+    *
+    * @param problems the number of problems to solve.
+    * @param aData    the packed {@code aRows}-by-{@code aCols} matrices to project. Not modified.
+    * @param bData    the packed {@code bRows}-by-{@code aCols} matrices to compute the null-space of.
+    *                 Not modified.
+    * @param aRows    the number of rows of each matrix to project.
+    * @param aCols    the number of columns of each matrix.
+    * @param bRows    the number of rows of each matrix to compute the null-space of.
+    * @param alpha    the damping values, either one per problem or a single value used for all
+    *                 problems. Not modified.
+    * @param c        where the packed projections are stored. Modified.
+    * @param success  where is stored for each problem whether it was solved. A problem fails when
+    *                 the decomposition of {@code b' * b + diag(alpha * alpha)} fails, its projection
+    *                 is then filled with {@link Double#NaN}. Modified.
+    * @return the number of problems that were solved.
+    * @throws IllegalArgumentException if an array is too small for the given number of problems or
+    *                                  if {@code c} is one of the input arrays.
+    */
+   public static int projectOnNullspaceBatch(int problems, double[] aData, double[] bData, int aRows, int aCols, int bRows, double[] alpha, double[] c,
+                                             boolean[] success)
+   {
+      return projectOnNullspaceBatchInternal(problems, aData, bData, aRows, aCols, bRows, alpha, c, success, 0);
+   }
+
+   /**
+    * Projects a batch of matrices onto the null-space of other matrices as
+    * {@link #projectOnNullspaceBatch(int, double[], double[], int, int, int, double[], double[], boolean[])}
+    * does, but distributes the problems over the given number of threads regardless of the limit of
+    * the calling thread.
+    *
+    * @param problems   the number of problems to solve.
+    * @param aData      the packed {@code aRows}-by-{@code aCols} matrices to project. Not modified.
+    * @param bData      the packed {@code bRows}-by-{@code aCols} matrices to compute the null-space
+    *                   of. Not modified.
+    * @param aRows      the number of rows of each matrix to project.
+    * @param aCols      the number of columns of each matrix.
+    * @param bRows      the number of rows of each matrix to compute the null-space of.
+    * @param alpha      the damping values, either one per problem or a single value used for all
+    *                   problems. Not modified.
+    * @param c          where the packed projections are stored. Modified.
+    * @param success    where is stored for each problem whether it was solved. Modified.
+    * @param maxThreads the number of threads to use, has no effect if the native library was built
+    *                   without OpenMP, see {@link NativeMatrixThreading#isParallelizationAvailable()}.
+    * @return the number of problems that were solved.
+    * @throws IllegalArgumentException if an array is too small for the given number of problems, if
+    *                                  {@code c} is one of the input arrays or if {@code maxThreads} is
+    *                                  not positive.
+    */
+   public static int projectOnNullspaceBatch(int problems, double[] aData, double[] bData, int aRows, int aCols, int bRows, double[] alpha, double[] c,
+                                             boolean[] success, int maxThreads)
+   {
+      checkMaxThreads(maxThreads);
+      return projectOnNullspaceBatchInternal(problems, aData, bData, aRows, aCols, bRows, alpha, c, success, maxThreads);
+   }
+
+   /** A {@code maxThreads} of 0 uses the limit of the calling thread. */
+   private static int projectOnNullspaceBatchInternal(int problems, double[] aData, double[] bData, int aRows, int aCols, int bRows, double[] alpha,
+                                                      double[] c, boolean[] success, int maxThreads)
+   {
+      if (aData == c || bData == c)
+      {
+         throw new IllegalArgumentException("Can not project in place. The result array needs to be different from the input arrays.");
+      }
+      checkBatch(problems, aRows, aCols, alpha, success);
+      if (bRows < 0)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      checkBatchLength(aData, problems, aRows, aCols);
+      checkBatchLength(bData, problems, bRows, aCols);
+      checkBatchLength(c, problems, aRows, aCols);
+      NativeOperationEvent event = NativeOperationEvent.start();
+      int solved = nativeCommonOpsWrapper.projectOnNullspaceBatch(c, success, aData, bData, problems, aRows, aCols, bRows, alpha, maxThreads);
+      event.end(NativeOperation.PROJECT_ON_NULLSPACE, aRows, aCols);
+      return solved;
+   }
+
+   private static void checkBatch(int problems, int rows, int cols, double[] alpha, boolean[] success)
+   {
+      if (problems < 0 || rows < 0 || cols < 0)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      if (alpha.length != 1 && alpha.length < problems)
+      {
+         throw new IllegalArgumentException("Expected 1 or " + problems + " damping values, got " + alpha.length + ".");
+      }
+      if (success.length < problems)
+      {
+         throw new IllegalArgumentException("The success array is too small, expected at least " + problems + " elements, got " + success.length + ".");
+      }
+   }
+
+   private static void checkMaxThreads(int maxThreads)
+   {
+      if (maxThreads < 1)
+      {
+         throw new IllegalArgumentException("The number of threads needs to be positive, got " + maxThreads + ".");
+      }
+   }
+
+   private static void checkBatchLength(double[] data, int problems, int rows, int cols)
+   {
+      long expectedLength = (long) problems * rows * cols;
+      if (data.length < expectedLength)
+      {
+         throw new IllegalArgumentException("The array is too small for " + problems + " problems, expected at least " + expectedLength + " elements, got "
+               + data.length + ".");
+      }
    }
 }
@@ -0,0 +1,72 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
+
+/**
+ * {@code NativeCommonOpsLibrary} loads the native library behind the classes of this package and
+ * checks that it was built from the same sources as the Java side.
+ * <p>
+ * The libraries in the resources are compiled separately for Linux, Windows and Mac OS X, see the
+ * README. A library left over from an older build would still load, with every function added
+ * since then throwing an {@link UnsatisfiedLinkError} on its first call. The version check rejects
+ * such a library when it is loaded instead.
+ * </p>
+ */
+final class NativeCommonOpsLibrary
+{
+   /**
+    * Version of the native interface the Java side expects. It has to match
+    * {@code NATIVE_COMMON_OPS_VERSION} in NativeCommonOps.cpp, increase both when the native interface
+    * changes.
+    */
+   static final int VERSION = 1;
+
+   private static boolean loaded = false;
+
+   private NativeCommonOpsLibrary()
+   {
+   }
+
+   /**
+    * Loads the native library if this was not done yet and checks that it matches {@link #VERSION}.
+    *
+    * @throws UnsatisfiedLinkError if the library cannot be loaded, or if it was built from other
+    *                              sources than the Java side.
+    */
+   static synchronized void load()
+   {
+      if (loaded)
+      {
+         return;
+      }
+
+      NativeLibraryLoader.loadLibrary("", "NativeCommonOps");
+
+      int nativeVersion = getNativeVersion();
+      if (nativeVersion != VERSION)
+      {
+         throw new UnsatisfiedLinkError("The NativeCommonOps library has version " + nativeVersion + " but ihmc-matrix-library expects version " + VERSION
+               + ". Rebuild it as described in the IHMC Matrix Tools README.");
+      }
+
+      loaded = true;
+   }
+
+   /**
+    * Returns the version of the loaded native library.
+    *
+    * @return the version of the native interface, 0 for a library built before the versions were
+    *         introduced.
+    */
+   static int getNativeVersion()
+   {
+      try
+      {
+         return NativeCommonOpsWrapper.getNativeLibraryVersion();
+      }
+      catch (UnsatisfiedLinkError e)
+      {
+         return 0;
+      }
+   }
+}
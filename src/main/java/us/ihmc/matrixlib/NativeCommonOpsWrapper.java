@@ -2,6 +2,8 @@ package us.ihmc.matrixlib;
 
 public class NativeCommonOpsWrapper
 {
+   public static native int getNativeLibraryVersion();
+
    public native void mult(double[] result, double[] aData, double[] bData, int aRows, int aCols, int bCols);
 
    public native void multQuad(double[] result, double[] aData, double[] bData, int aRows, int aCols);
@@ -17,4 +19,8 @@ public class NativeCommonOpsWrapper
    public native void solveDamped(double[] result, double[] aData, double[] bData, int aRows, int aCols, double alpha);
 
    public native void projectOnNullspace(double[] result, double[] aData, double[] bData, int aRows, int aCols, int bRows, double alpha);
+
+   public native int solveDampedBatch(double[] result, boolean[] success, double[] aData, double[] bData, int problems, int aRows, int aCols, double[] alpha, int maxThreads);
+
+   public native int projectOnNullspaceBatch(double[] result, boolean[] success, double[] aData, double[] bData, int problems, int aRows, int aCols, int bRows, double[] alpha, int maxThreads);
 }
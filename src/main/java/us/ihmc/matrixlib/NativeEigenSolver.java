@@ -0,0 +1,155 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeEigenSolverImpl;
+
+/**
+ * {@code NativeEigenSolver} computes and retains the eigen decomposition {@code A = V * D * V'} of
+ * a symmetric matrix in C++, e.g. of a covariance matrix.
+ * <p>
+ * The eigenvalues are real and sorted in increasing order, the eigenvectors are orthonormal. Only
+ * the lower triangular part of the matrix is used. The memory of the solver is kept between calls,
+ * so decomposing matrices of the same size does not allocate.
+ * </p>
+ * <p>
+ * A solver is not thread-safe since it retains the last decomposition. Use one solver per thread,
+ * e.g. through {@link #createThreadLocal()}.
+ * </p>
+ */
+public class NativeEigenSolver
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeEigenSolverImpl impl = new NativeEigenSolverImpl();
+
+   /**
+    * Creates a {@link ThreadLocal} providing each thread with its own solver, so parallel tasks,
+    * e.g. running on a {@link java.util.concurrent.ForkJoinPool}, can use it without locking. The
+    * instance is created on the first use in each thread.
+    *
+    * @return the thread local solver.
+    */
+   public static ThreadLocal<NativeEigenSolver> createThreadLocal()
+   {
+      return ThreadLocal.withInitial(NativeEigenSolver::new);
+   }
+
+   /**
+    * Computes the eigenvalues and eigenvectors of the given matrix, discarding the previous
+    * decomposition.
+    *
+    * @param a the square, symmetric matrix to decompose. Not modified.
+    * @return whether the decomposition succeeded.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean compute(NativeMatrix a)
+   {
+      return compute(a, true);
+   }
+
+   /**
+    * Computes the eigenvalues and optionally the eigenvectors of the given matrix, discarding the
+    * previous decomposition.
+    *
+    * @param a                   the square, symmetric matrix to decompose. Not modified.
+    * @param computeEigenvectors whether the eigenvectors, required for
+    *                            {@link #getEigenvectors(NativeMatrix)},
+    *                            {@link #getSquareRoot(NativeMatrix)} and
+    *                            {@link #getInverseSquareRoot(NativeMatrix)}, are computed.
+    * @return whether the decomposition succeeded.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean compute(NativeMatrix a, boolean computeEigenvectors)
+   {
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.compute(a.impl, computeEigenvectors);
+   }
+
+   /**
+    * Packs the eigenvalues of the decomposed matrix, sorted in increasing order.
+    * <p>
+    * This operation reshapes {@code eigenvaluesToPack} to a column vector.
+    * </p>
+    *
+    * @param eigenvaluesToPack where the eigenvalues are stored. Modified.
+    * @throws IllegalStateException if no successful decomposition is available.
+    */
+   public void getEigenvalues(NativeMatrix eigenvaluesToPack)
+   {
+      if (!impl.eigenvalues(eigenvaluesToPack.impl))
+      {
+         throw new IllegalStateException("No decomposition available.");
+      }
+   }
+
+   /**
+    * Packs the eigenvectors of the decomposed matrix. The i<sup>th</sup> column is the normalized
+    * eigenvector of the i<sup>th</sup> eigenvalue.
+    * <p>
+    * This operation reshapes {@code eigenvectorsToPack} to match the size of the decomposed matrix.
+    * </p>
+    *
+    * @param eigenvectorsToPack where the eigenvectors are stored. Modified.
+    * @throws IllegalStateException if no successful decomposition with eigenvectors is available.
+    */
+   public void getEigenvectors(NativeMatrix eigenvectorsToPack)
+   {
+      if (!impl.eigenvectors(eigenvectorsToPack.impl))
+      {
+         throw new IllegalStateException("No eigenvectors available.");
+      }
+   }
+
+   /**
+    * Packs the symmetric square root {@code V * sqrt(D) * V'} of the decomposed matrix, which is
+    * expected to be positive semi-definite. Negative eigenvalues are treated as zero.
+    * <p>
+    * This operation reshapes {@code squareRootToPack} to match the size of the decomposed matrix.
+    * </p>
+    *
+    * @param squareRootToPack where the square root is stored. Modified.
+    * @throws IllegalStateException if no successful decomposition with eigenvectors is available.
+    */
+   public void getSquareRoot(NativeMatrix squareRootToPack)
+   {
+      if (!impl.squareRoot(squareRootToPack.impl))
+      {
+         throw new IllegalStateException("No eigenvectors available.");
+      }
+   }
+
+   /**
+    * Packs the inverse of the symmetric square root {@code V * inverse(sqrt(D)) * V'} of the
+    * decomposed matrix, which is expected to be positive definite.
+    * <p>
+    * This operation reshapes {@code inverseSquareRootToPack} to match the size of the decomposed
+    * matrix.
+    * </p>
+    *
+    * @param inverseSquareRootToPack where the inverse square root is stored. Modified.
+    * @throws IllegalStateException if no successful decomposition with eigenvectors is available.
+    */
+   public void getInverseSquareRoot(NativeMatrix inverseSquareRootToPack)
+   {
+      if (!impl.inverseSquareRoot(inverseSquareRootToPack.impl))
+      {
+         throw new IllegalStateException("No eigenvectors available.");
+      }
+   }
+
+   /**
+    * Returns the number of rows and columns of the decomposed matrix.
+    *
+    * @return the size of the decomposition, 0 if no decomposition is available.
+    */
+   public int getSize()
+   {
+      return impl.size();
+   }
+}
@@ -0,0 +1,288 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import us.ihmc.matrixlib.jni.NativeExpressionImpl;
+
+/**
+ * {@code NativeExpr} is a lazy matrix expression built from {@link NativeMatrix} operands and
+ * evaluated in a single native call, for example:
+ *
+ * <pre>
+ * // c = a * b + d * e' - f
+ * NativeExpr expression = NativeExpr.mult(a, b).plus(NativeExpr.multTransB(d, e)).minus(f);
+ * ...
+ * expression.assignTo(c);
+ * </pre>
+ * <p>
+ * Building the expression does not compute anything. The expression is expanded into a sum of
+ * scaled products, e.g. {@code (a + b) * c'} becomes {@code a * c' + b * c'}, and compiled into a
+ * native evaluation plan on the first call to {@link #assignTo(NativeMatrix)}. The plan refers to the
+ * operands, not to their values, so an expression is meant to be built once and evaluated again
+ * whenever the operands changed, e.g. once per control tick.
+ * </p>
+ * <p>
+ * Compared to the equivalent sequence of {@link NativeMatrix} operations, the evaluation only needs
+ * one JNI call and no intermediate result: single matrices and products of two matrices are
+ * accumulated directly into the result. Products of more than two matrices need one temporary per
+ * extra matrix, which is allocated on the first evaluation and reused afterwards.
+ * </p>
+ * <p>
+ * Expressions are immutable, every operation returns a new expression. The compiled plan keeps a
+ * workspace, so evaluating the same expression from several threads at the same time is not
+ * supported.
+ * </p>
+ */
+public final class NativeExpr
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final List<Term> terms;
+   private NativeExpressionImpl plan;
+
+   private NativeExpr(List<Term> terms)
+   {
+      this.terms = Collections.unmodifiableList(terms);
+   }
+
+   /**
+    * Creates the expression {@code a}.
+    *
+    * @param a the operand. Not modified.
+    * @return the new expression.
+    */
+   public static NativeExpr of(NativeMatrix a)
+   {
+      return new NativeExpr(Collections.singletonList(new Term(1.0, new NativeMatrix[] {a}, new boolean[] {false})));
+   }
+
+   /**
+    * Creates the expression {@code a * b}.
+    *
+    * @param a the left operand. Not modified.
+    * @param b the right operand. Not modified.
+    * @return the new expression.
+    */
+   public static NativeExpr mult(NativeMatrix a, NativeMatrix b)
+   {
+      return new NativeExpr(Collections.singletonList(new Term(1.0, new NativeMatrix[] {a, b}, new boolean[] {false, false})));
+   }
+
+   /**
+    * Creates the expression {@code a' * b}.
+    *
+    * @param a the left operand. Not modified.
+    * @param b the right operand. Not modified.
+    * @return the new expression.
+    */
+   public static NativeExpr multTransA(NativeMatrix a, NativeMatrix b)
+   {
+      return new NativeExpr(Collections.singletonList(new Term(1.0, new NativeMatrix[] {a, b}, new boolean[] {true, false})));
+   }
+
+   /**
+    * Creates the expression {@code a * b'}.
+    *
+    * @param a the left operand. Not modified.
+    * @param b the right operand. Not modified.
+    * @return the new expression.
+    */
+   public static NativeExpr multTransB(NativeMatrix a, NativeMatrix b)
+   {
+      return new NativeExpr(Collections.singletonList(new Term(1.0, new NativeMatrix[] {a, b}, new boolean[] {false, true})));
+   }
+
+   /**
+    * Creates the expression {@code this + other}.
+    *
+    * @param other the expression to add. Not modified.
+    * @return the new expression.
+    */
+   public NativeExpr plus(NativeExpr other)
+   {
+      List<Term> sum = new ArrayList<>(terms);
+      sum.addAll(other.terms);
+      return new NativeExpr(sum);
+   }
+
+   /**
+    * Creates the expression {@code this + a}.
+    *
+    * @param a the matrix to add. Not modified.
+    * @return the new expression.
+    */
+   public NativeExpr plus(NativeMatrix a)
+   {
+      return plus(of(a));
+   }
+
+   /**
+    * Creates the expression {@code this - other}.
+    *
+    * @param other the expression to subtract. Not modified.
+    * @return the new expression.
+    */
+   public NativeExpr minus(NativeExpr other)
+   {
+      return plus(other.scale(-1.0));
+   }
+
+   /**
+    * Creates the expression {@code this - a}.
+    *
+    * @param a the matrix to subtract. Not modified.
+    * @return the new expression.
+    */
+   public NativeExpr minus(NativeMatrix a)
+   {
+      return minus(of(a));
+   }
+
+   /**
+    * Creates the expression {@code scale * this}.
+    *
+    * @param scale the scale factor.
+    * @return the new expression.
+    */
+   public NativeExpr scale(double scale)
+   {
+      List<Term> scaled = new ArrayList<>(terms.size());
+      for (Term term : terms)
+      {
+         scaled.add(new Term(scale * term.scale, term.factors, term.transposed));
+      }
+      return new NativeExpr(scaled);
+   }
+
+   /**
+    * Creates the expression {@code this * other}.
+    *
+    * @param other the right operand. Not modified.
+    * @return the new expression.
+    */
+   public NativeExpr mult(NativeExpr other)
+   {
+      List<Term> product = new ArrayList<>(terms.size() * other.terms.size());
+      for (Term left : terms)
+      {
+         for (Term right : other.terms)
+         {
+            NativeMatrix[] factors = Arrays.copyOf(left.factors, left.factors.length + right.factors.length);
+            System.arraycopy(right.factors, 0, factors, left.factors.length, right.factors.length);
+            boolean[] transposed = Arrays.copyOf(left.transposed, left.transposed.length + right.transposed.length);
+            System.arraycopy(right.transposed, 0, transposed, left.transposed.length, right.transposed.length);
+            product.add(new Term(left.scale * right.scale, factors, transposed));
+         }
+      }
+      return new NativeExpr(product);
+   }
+
+   /**
+    * Creates the expression {@code this * a}.
+    *
+    * @param a the right operand. Not modified.
+    * @return the new expression.
+    */
+   public NativeExpr mult(NativeMatrix a)
+   {
+      return mult(of(a));
+   }
+
+   /**
+    * Creates the expression {@code this'}.
+    *
+    * @return the new expression.
+    */
+   public NativeExpr transpose()
+   {
+      List<Term> transposedTerms = new ArrayList<>(terms.size());
+      for (Term term : terms)
+      {
+         int length = term.factors.length;
+         NativeMatrix[] factors = new NativeMatrix[length];
+         boolean[] transposed = new boolean[length];
+         for (int i = 0; i < length; i++)
+         {
+            factors[i] = term.factors[length - 1 - i];
+            transposed[i] = !term.transposed[length - 1 - i];
+         }
+         transposedTerms.add(new Term(term.scale, factors, transposed));
+      }
+      return new NativeExpr(transposedTerms);
+   }
+
+   /**
+    * Evaluates this expression with the current values of its operands and stores the result in
+    * {@code result}.
+    * <p>
+    * The native evaluation plan is compiled on the first call. This operation reshapes
+    * {@code result} to match the result of the expression. {@code result} may also be an operand of
+    * the expression, e.g. to accumulate into it, in which case the expression is evaluated into a
+    * workspace first.
+    * </p>
+    *
+    * @param result where the result is stored. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void assignTo(NativeMatrix result)
+   {
+      if (plan == null)
+      {
+         plan = compile();
+      }
+
+      if (!plan.evaluate(result.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Returns the number of products this expression was expanded into.
+    *
+    * @return the number of terms of the expression.
+    */
+   public int getNumberOfTerms()
+   {
+      return terms.size();
+   }
+
+   private NativeExpressionImpl compile()
+   {
+      NativeExpressionImpl compiled = new NativeExpressionImpl();
+      for (Term term : terms)
+      {
+         compiled.addTerm(term.scale);
+         for (int i = 0; i < term.factors.length; i++)
+         {
+            compiled.addFactor(term.factors[i].impl, term.transposed[i]);
+         }
+      }
+      return compiled;
+   }
+
+   /**
+    * {@code scale * op(factors[0]) * ... * op(factors[n])} where {@code op(f)} is {@code f'} when
+    * {@code transposed} is set for {@code f}. The operands are kept here so they can not be garbage
+    * collected while the native plan refers to them.
+    */
+   private static class Term
+   {
+      private final double scale;
+      private final NativeMatrix[] factors;
+      private final boolean[] transposed;
+
+      private Term(double scale, NativeMatrix[] factors, boolean[] transposed)
+      {
+         this.scale = scale;
+         this.factors = factors;
+         this.transposed = transposed;
+      }
+   }
+}
@@ -0,0 +1,2182 @@
+package us.ihmc.matrixlib;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.ejml.data.*;
+import org.ejml.ops.MatrixIO;
+
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.matrixlib.jni.NativeFMatrixImpl;
+
+/**
+ * {@code NativeFMatrix} is dense matrix with real elements that are 32-bits floats. It is the single
+ * precision counterpart of {@link NativeMatrix} and offers the same set of operations, which are
+ * executed in C++ using Eigen. Compared to {@link NativeMatrix}, it halves the memory traffic and
+ * doubles the SIMD width, which benefits memory-bandwidth bound workloads that do not require the
+ * extra precision, e.g. point-cloud processing.
+ * <p>
+ * Note that unlike {@link FMatrixRMaj}, the matrix is stored internally in a column-major 1D array
+ * format, for example:<br>
+ * data =
+ * </p>
+ * 
+ * <pre>
+ * a[0]  a[4]  a[8]   a[12]
+ * a[1]  a[5]  a[9]   a[13]
+ * a[2]  a[6]  a[10]  a[14]
+ * a[3]  a[7]  a[11]  a[15]
+ * </pre>
+ * </p>
+ * <p>
+ * Like {@link NativeMatrix}, {@code NativeFMatrix} is not thread-safe, but the operands that are
+ * only read by an operation can be shared by several threads as long as none of them modifies these
+ * matrices.
+ * </p>
+ *
+ * @author Jesper Smith
+ */
+public class NativeFMatrix implements ReshapeMatrix, FMatrix
+{
+   private static final long serialVersionUID = 2874136522416913795L;
+
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   final NativeFMatrixImpl impl;
+
+   /**
+    * Row-major buffer used to exchange 3x3 and 6x6 blocks with the native side. It is kept per thread
+    * so that reading the same matrix from several threads is safe.
+    */
+   private static final ThreadLocal<float[]> fixedSizeBuffer = ThreadLocal.withInitial(() -> new float[36]);
+
+   /**
+    * Creates a new matrix with the specified shape whose elements initially have the value of zero.
+    *
+    * @param rows The number of rows in the matrix.
+    * @param cols The number of columns in the matrix.
+    */
+   public NativeFMatrix(int rows, int cols)
+   {
+      impl = new NativeFMatrixImpl(rows, cols);
+      zero();
+   }
+
+   /**
+    * Creates a new matrix which is equivalent to the provided matrix.
+    *
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public NativeFMatrix(FMatrixRMaj matrix)
+   {
+      this(matrix.getNumRows(), matrix.getNumCols());
+      set(matrix);
+   }
+
+   /**
+    * Creates a new matrix which is equivalent to the provided matrix.
+    *
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public NativeFMatrix(NativeFMatrix matrix)
+   {
+      this(matrix.getNumRows(), matrix.getNumCols());
+      set(matrix);
+   }
+
+   /**
+    * Changes the number of rows and columns in the matrix, allowing its size to grow or shrink.
+    * <p>
+    * The primary use for this function is to encourage data reuse and avoid unnecessarily declaring
+    * and initialization of new memory.
+    * </p>
+    * <p>
+    * Examples:<br>
+    * [ 1 2 ; 3 4 ] &rarr; reshape( 1 , 2 ) = [ 1 3 ]<br>
+    * [ 1 2 ; 3 4 ] &rarr; reshape( 2 , 1 ) = [ 1 ; 3 ]<br>
+    * [ 1 2 ; 3 4 ] &rarr; reshape( 2 , 3 ) = [ 0 0 0 ; 0 0 0 ]
+    * </p>
+    *
+    * @param rows The new number of rows in the matrix.
+    * @param cols The new number of columns in the matrix.
+    */
+   @Override
+   public void reshape(int rows, int cols)
+   {
+      impl.resize(rows, cols);
+   }
+
+   /**
+    * Makes room for at least {@code capacity} elements, so this matrix can be reshaped up to that
+    * number of elements without reallocating its storage. The values of this matrix are kept.
+    * <p>
+    * When the storage has to grow on a reshape, it grows by at least half its capacity. Reserving
+    * the largest size upfront, e.g. when a controller is constructed, avoids reallocations
+    * altogether.
+    * </p>
+    *
+    * @param capacity the number of elements to make room for.
+    * @throws IllegalArgumentException if {@code capacity} is negative.
+    */
+   public void reserve(int capacity)
+   {
+      if (!impl.reserve(capacity))
+      {
+         throw new IllegalArgumentException("The capacity has to be positive, was: " + capacity);
+      }
+   }
+
+   /**
+    * Releases the storage this matrix does not need for its current size, as well as the workspaces
+    * kept by the operations that need intermediate results. The values of this matrix are kept.
+    */
+   public void trimToSize()
+   {
+      impl.trimToSize();
+   }
+
+   /**
+    * Returns the number of elements this matrix can hold without reallocating its storage.
+    *
+    * @return the capacity, at least {@link #getNumElements()}.
+    */
+   public int getCapacity()
+   {
+      return impl.capacity();
+   }
+
+   /**
+    * Copies the given matrix and scales every single element by the given factor.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param alpha  the scale factor to apply to every element.
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public void scale(float alpha, FMatrixRMaj matrix)
+   {
+      set(matrix);
+      scale(alpha);
+   }
+
+   /**
+    * Copies the given matrix and scales every single element by the given factor.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param alpha  the scale factor to apply to every element.
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public void scale(float alpha, NativeFMatrix matrix)
+   {
+      if (!impl.scale(alpha, matrix.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Copies the given matrix into this.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public void set(FMatrixRMaj matrix)
+   {
+      if (!impl.set(matrix.data, matrix.numRows, matrix.numCols))
+      {
+         throw new IllegalArgumentException("Cannot set matrix.");
+      }
+   }
+
+   /**
+    * Copies the given matrix into this.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public void set(NativeFMatrix matrix)
+   {
+      if (!impl.set(matrix.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs this matrix into a {@code FMatrixRMaj}.
+    *
+    * @param matrixToPack the matrix used to store this. Modified.
+    */
+   public void get(FMatrixRMaj matrixToPack)
+   {
+      matrixToPack.reshape(getNumRows(), getNumCols());
+
+      if (!impl.get(matrixToPack.data, matrixToPack.numRows, matrixToPack.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets this to the transpose of the given matrix:<br>
+    * this = matrix<sup>T</sup>
+    * <p>
+    * The row-major data of {@code matrix} is the column-major storage of its transpose, so this is
+    * a plain copy of the data. Prefer this over {@link #set(FMatrixRMaj)} for large matrices that can be
+    * used transposed, e.g. a Jacobian that is only needed as J<sup>T</sup>.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the transpose of the given matrix.
+    * </p>
+    *
+    * @param matrix The matrix whose transpose is copied into this. Not modified.
+    */
+   public void setTransposed(FMatrixRMaj matrix)
+   {
+      if (!impl.setTransposed(matrix.data, matrix.numRows, matrix.numCols))
+      {
+         throw new IllegalArgumentException("Cannot set matrix.");
+      }
+   }
+
+   /**
+    * Packs the transpose of this matrix into a {@code FMatrixRMaj}:<br>
+    * matrixToPack = this<sup>T</sup>
+    * <p>
+    * Like {@link #setTransposed(FMatrixRMaj)}, this is a plain copy of the data.
+    * </p>
+    *
+    * @param matrixToPack the matrix used to store the transpose of this. Modified.
+    */
+   public void getTransposed(FMatrixRMaj matrixToPack)
+   {
+      matrixToPack.reshape(getNumCols(), getNumRows());
+
+      if (!impl.getTransposed(matrixToPack.data, matrixToPack.numRows, matrixToPack.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix addition</br>
+    * this = a + b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in addition. Not modified.
+    * @param b right matrix in addition. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void add(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.add(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+
+   /**
+    * Computes the matrix addition</br>
+    * this = a + scale * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in addition. Not modified.
+    * @param b right matrix in addition. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void add(NativeFMatrix a, float scale, NativeFMatrix b)
+   {
+      if (!impl.add(a.impl, scale, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix addition</br>
+    * this = scale1 * a + scale2 * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in addition. Not modified.
+    * @param b right matrix in addition. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void add(float scale1, NativeFMatrix a, float scale2, NativeFMatrix b)
+   {
+      if (!impl.add(scale1, a.impl, scale2, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Adds value to an element in the matrix
+    *
+    * @param row row access to data
+    * @param col col access to data
+    * @param value value to add
+    * @throws IllegalArgumentException if the accessors are out of bounds.
+    */
+   public void add(int row, int col, float value)
+   {
+      if (!impl.add(row, col, value))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    Computes the matrix addition</br>
+    * this += b
+    *
+    * @throws IllegalArgumentException if the accessors are out of bounds.
+    */
+   public void addEquals(NativeFMatrix b)
+   {
+      if (!impl.addEquals(b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    Computes the matrix addition</br>
+    * this += scale * b
+    *
+    * @throws IllegalArgumentException if the accessors are out of bounds.
+    */
+   public void addEquals(float scale, NativeFMatrix b)
+   {
+      if (!impl.addEquals(scale, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix subtraction</br>
+    * this = a - b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in subtraction. Not modified.
+    * @param b right matrix in subtraction. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void subtract(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.subtract(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = a * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.mult(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = scale * a * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a     left matrix in multiplication. Not modified.
+    * @param b     right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(float scale, NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.mult(scale, a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Add the result of the matrix multiplication to this<br>
+    * this += a * b
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAdd(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAdd(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Add the result of the matrix multiplication to this<br>
+    * this += scale * a * b
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a     matrix in multiplication. Not modified.
+    * @param b     matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAdd(float scale, NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAdd(scale, a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Add the result of the matrix multiplication to this<br>
+    * this += a<sup>T</sup> * b
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddTransA(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAddTransA(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Add the result of the matrix multiplication to this<br>
+    * this += scale * a<sup>T</sup> * b
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddTransA(float scale, NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAddTransA(scale, a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Add the result of the matrix multiplication to this<br>
+    * this += a * b<sup>T</sup>
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddTransB(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAddTransB(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Add the result of the matrix multiplication to this<br>
+    * this += scale * a * b<sup>T</sup>
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddTransB(float scale, NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAddTransB(scale, a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += a * b <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param a        The left matrix in the multiplication operation. Not modified.
+    * @param b        The right matrix in the multiplication operation. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    */
+   public void multAddBlock(NativeFMatrix a, NativeFMatrix b, int rowStart, int colStart)
+   {
+      if (!impl.multAddBlock(a.impl, b.impl, rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += scale * a * b <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a        The left matrix in the multiplication operation. Not modified.
+    * @param b        The right matrix in the multiplication operation. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    */
+   public void multAddBlock(float scale, NativeFMatrix a, NativeFMatrix b, int rowStart, int colStart)
+   {
+      if (!impl.multAddBlock(scale, a.impl, b.impl, rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += a<sup>T</sup> * b <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param a        The left matrix in the multiplication operation. Not modified.
+    * @param b        The right matrix in the multiplication operation. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    */
+   public void multAddBlockTransA(NativeFMatrix a, NativeFMatrix b, int rowStart, int colStart)
+   {
+      if (!impl.multAddBlockTransA(a.impl, b.impl, rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += scale * a<sup>T</sup> * b <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a        The left matrix in the multiplication operation. Not modified.
+    * @param b        The right matrix in the multiplication operation. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    */
+   public void multAddBlockTransA(float scale, NativeFMatrix a, NativeFMatrix b, int rowStart, int colStart)
+   {
+      if (!impl.multAddBlockTransA(scale, a.impl, b.impl, rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += scale * a <br>
+    * where only a block of the matrix a is scaled then added to a block of same size in this.
+    *
+    * @param a               The matrix to add to this. Not modified.
+    * @param destStartRow    The first row index of the block in this.
+    * @param destStartColumn The first column index of the block in this.
+    * @param srcStartRow     The first row index of the block in the matrix a.
+    * @param srcStartColumn  The first column index of the block in matrix a.
+    * @param numberOfRows    The number of rows of the block.
+    * @param numberOfColumns The number of columns of the block.
+    */
+   public void addBlock(NativeFMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns,
+                        float scale)
+   {
+      if (!impl.addBlock(a.impl, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += a <br>
+    * where only a block of the matrix a is added to a block of same size in this.
+    *
+    * @param a               The matrix to add to this. Not modified.
+    * @param destStartRow    The first row index of the block in this.
+    * @param destStartColumn The first column index of the block in this.
+    * @param srcStartRow     The first row index of the block in the matrix a.
+    * @param srcStartColumn  The first column index of the block in matrix a.
+    * @param numberOfRows    The number of rows of the block.
+    * @param numberOfColumns The number of columns of the block.
+    */
+   public void addBlock(NativeFMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      if (!impl.addBlock(a.impl, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+   
+   /**
+    * Performs the following operation:<br>
+    * this -= a <br>
+    * where only a block of the matrix a is subtracted from a block of same size in this.
+    *
+    * @param a               The matrix to subtract from this. Not modified.
+    * @param destStartRow    The first row index of the block in this.
+    * @param destStartColumn The first column index of the block in this.
+    * @param srcStartRow     The first row index of the block in the matrix a.
+    * @param srcStartColumn  The first column index of the block in matrix a.
+    * @param numberOfRows    The number of rows of the block.
+    * @param numberOfColumns The number of columns of the block.
+    */
+   public void subtractBlock(NativeFMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      if (!impl.subtractBlock(a.impl, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = a * b<sup>T</sup>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The right matrix in the multiplication operation. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multTransB(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multTransB(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = scale * a * b<sup>T</sup>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The right matrix in the multiplication operation. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multTransB(float scale, NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multTransB(scale, a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = a<sup>T</sup> * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The right matrix in the multiplication operation. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multTransA(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multTransA(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = scale * a<sup>T</sup> * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param scale the scaling factor to apply to every element of the multiplication result.
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The right matrix in the multiplication operation. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multTransA(float scale, NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multTransA(scale, a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a<sup>T</sup> * b * a
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuad(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multQuad(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this += a<sup>T</sup> * b * a
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddQuad(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.multAddQuad(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a<sup>T</sup> * b * a
+    * where only the square block product is added to a block of same size in this.
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuadBlock(NativeFMatrix a, NativeFMatrix b, int rowStart, int colStart)
+   {
+      if (!impl.multQuadBlock(a.impl, b.impl, rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this += a<sup>T</sup> * b * a
+    * where only the square block product is added to a block of same size in this.
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddQuadBlock(NativeFMatrix a, NativeFMatrix b, int rowStart, int colStart)
+   {
+      if (!impl.multAddQuadBlock(a.impl, b.impl, rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+
+   /**
+    * Inverts a matrix and stores the result in this.</br>
+    * This method requires that the matrix is square and invertible and uses a LU decomposition.
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix to invert. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void invert(NativeFMatrix a)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not invert in place. The result matrix needs to be different from the matrix to invert.");
+      }
+
+      if (!impl.invert(a.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Transposes a matrix and stores the result in this.
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a the matrix to transpose. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void transpose(NativeFMatrix a)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not transpose in place. The result matrix needs to be different from the matrix to transpose.");
+      }
+
+      if (!impl.transpose(a.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * This method requires that the matrix a is square and invertible and uses a LU decomposition.
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void solve(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (!impl.solve(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * This method requires that the matrix a is square and uses a LU decomposition with partial
+    * pivoting. It will return false, filling this with NaN, if a is singular or too ill-conditioned to
+    * be solved accurately, i.e. if its estimated reciprocal condition number is below
+    * n * &epsilon;. Use {@link #solveCheck(NativeFMatrix, NativeFMatrix, float)} to choose this tolerance.
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveCheck(NativeFMatrix a, NativeFMatrix b)
+   {
+      return impl.solveCheck(a.impl, b.impl);
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * This method requires that the matrix a is square and uses a LU decomposition with partial
+    * pivoting. It will return false, filling this with NaN, if the estimated reciprocal condition
+    * number of a, see {@link #rcond()}, is not above {@code minimumRcond}.
+    * <p>
+    * The estimate only adds a few triangular solves to the decomposition, which makes this a cheap
+    * guard to fall back to a damped solve, e.g.
+    * {@link NativeCommonOps#solveDamped(org.ejml.data.DMatrix1Row, org.ejml.data.DMatrix1Row, double, org.ejml.data.DMatrix1Row)},
+    * only when a is close to singular.
+    * </p>
+    *
+    * @param a            matrix in equation. Not modified.
+    * @param b            matrix in equation. Not modified.
+    * @param minimumRcond the smallest acceptable reciprocal condition number, in [0, 1].
+    * @return whether a solution was found.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveCheck(NativeFMatrix a, NativeFMatrix b, float minimumRcond)
+   {
+      if (a.getNumRows() != b.getNumRows() || b.getNumCols() != 1 || a.getNumCols() != a.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.solveCheck(a.impl, b.impl, minimumRcond);
+   }
+
+   /**
+    * Estimates the reciprocal condition number of this matrix in the 1-norm from a LU decomposition
+    * with partial pivoting. It is 1 for a perfectly conditioned matrix and goes to 0 as the matrix
+    * becomes singular. The estimate is never below the actual reciprocal condition number and is in
+    * practice within a small factor of it.
+    *
+    * @return the estimated reciprocal condition number, 0 if this is singular.
+    * @throws IllegalArgumentException if this matrix is not square.
+    */
+   public float rcond()
+   {
+      if (getNumRows() != getNumCols())
+      {
+         throw new IllegalArgumentException("The matrix needs to be square. Size " + getNumRows() + "x" + getNumCols() + ".");
+      }
+
+      return impl.rcond();
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is symmetric positive definite, e.g. a QP Hessian or a covariance, using a
+    * Cholesky decomposition. This is about half the cost of {@link #solve(NativeFMatrix, NativeFMatrix)}.
+    * <p>
+    * Only the lower triangle of {@code a} is used. {@code b} can have multiple columns. This
+    * operation reshapes this to match the result of the operation, {@code a} and {@code b} can be
+    * this. To solve several times with the same {@code a}, keep the decomposition in a
+    * {@link NativeCholesky} instead.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when {@code a} is not positive definite, this is
+    *         then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveSPD(NativeFMatrix a, NativeFMatrix b)
+   {
+      checkSquareSystem(a, b);
+      boolean success = impl.solveSPD(a.impl, b.impl);
+      return success;
+   }
+
+   /**
+    * Inverts a symmetric positive definite matrix and stores the result in this, using a Cholesky
+    * decomposition.
+    * <p>
+    * Only the lower triangle of {@code a} is used. This operation reshapes this to match the result
+    * of the operation, {@code a} can be this.
+    * </p>
+    *
+    * @param a matrix to invert. Not modified.
+    * @return whether the inverse was computed. It is not when {@code a} is not positive definite,
+    *         this is then unchanged.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean invertSPD(NativeFMatrix a)
+   {
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      boolean success = impl.invertSPD(a.impl);
+      return success;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is symmetric, using a LDLT decomposition with pivoting. Unlike
+    * {@link #solveSPD(NativeFMatrix, NativeFMatrix)}, {@code a} can be positive semi-definite or indefinite.
+    * <p>
+    * Only the lower triangle of {@code a} is used. {@code b} can have multiple columns. This
+    * operation reshapes this to match the result of the operation, {@code a} and {@code b} can be
+    * this.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when {@code a} is singular, i.e. when a pivot
+    *         of the decomposition is not above n * &epsilon; times the largest pivot, this is then
+    *         unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveSymmetric(NativeFMatrix a, NativeFMatrix b)
+   {
+      checkSquareSystem(a, b);
+      boolean success = impl.solveSymmetric(a.impl, b.impl);
+      return success;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is lower triangular, by forward substitution. The strictly upper part of
+    * {@code a} is not read.
+    * <p>
+    * This operation reshapes this to match the result of the operation. {@code b} can be this.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when the diagonal of {@code a} has a zero, this
+    *         is then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if {@code a} is
+    *                                  this.
+    */
+   public boolean solveLowerTriangular(NativeFMatrix a, NativeFMatrix b)
+   {
+      checkTriangularSystem(a, b);
+      return impl.solveLowerTriangular(a.impl, b.impl);
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is upper triangular, by backward substitution. The strictly lower part of
+    * {@code a} is not read.
+    * <p>
+    * This operation reshapes this to match the result of the operation. {@code b} can be this.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when the diagonal of {@code a} has a zero, this
+    *         is then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if {@code a} is
+    *                                  this.
+    */
+   public boolean solveUpperTriangular(NativeFMatrix a, NativeFMatrix b)
+   {
+      checkTriangularSystem(a, b);
+      return impl.solveUpperTriangular(a.impl, b.impl);
+   }
+
+   private static void checkSquareSystem(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (a.getNumRows() != a.getNumCols() || a.getNumRows() != b.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   private void checkTriangularSystem(NativeFMatrix a, NativeFMatrix b)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not solve in place. The result matrix needs to be different from the system matrix.");
+      }
+
+      checkSquareSystem(a, b);
+   }
+
+   /**
+    * Computes the Moore-Penrose pseudo-inverse of a matrix and stores the result in this.
+    * <p>
+    * This method uses a singular value decomposition. Singular values smaller than
+    * {@code tolerance} times the largest singular value are treated as zero, which makes the result
+    * robust to rank deficient matrices.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a         matrix to compute the pseudo-inverse of. Not modified.
+    * @param tolerance the relative threshold under which singular values are truncated.
+    */
+   public void pseudoInverse(NativeFMatrix a, float tolerance)
+   {
+      impl.pseudoInverse(a.impl, tolerance);
+   }
+
+   /**
+    * Computes the singular values of a matrix and stores them in this, sorted in decreasing order.
+    * <p>
+    * This operation reshapes this to a column vector of size {@code min(a.getNumRows(), a.getNumCols())}.
+    * </p>
+    *
+    * @param a matrix to compute the singular values of. Not modified.
+    */
+   public void singularValues(NativeFMatrix a)
+   {
+      impl.singularValues(a.impl);
+   }
+
+   /**
+    * Computes the matrix exponential of a square matrix and stores the result in this, e.g. to
+    * discretize continuous dynamics with {@code F = exp(A * dt)}.
+    * <p>
+    * This method uses scaling and squaring with a Pad&eacute; approximant.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix to compute the exponential of. Not modified.
+    * @return whether the result is finite.
+    * @throws IllegalArgumentException if the matrix is not square or if {@code a} is this.
+    */
+   public boolean matrixExponential(NativeFMatrix a)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the exponential in place. The result matrix needs to be different from the input matrix.");
+      }
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.matrixExponential(a.impl);
+   }
+
+   /**
+    * Computes the principal square root {@code s} of a square matrix, such that {@code s * s == a},
+    * and stores the result in this.
+    * <p>
+    * This method uses a real Schur decomposition.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix to compute the square root of. Not modified.
+    * @return whether a real square root was found. It does not exist when {@code a} has negative real
+    *         eigenvalues.
+    * @throws IllegalArgumentException if the matrix is not square or if {@code a} is this.
+    */
+   public boolean matrixSquareRoot(NativeFMatrix a)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the square root in place. The result matrix needs to be different from the input matrix.");
+      }
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.matrixSquareRoot(a.impl);
+   }
+
+   /**
+    * Insert a matrix 3D at (startRow, startcol) in this matrix
+    * 
+    * @param src
+    * @param startRow
+    * @param startCol
+    */
+   public void insert(Matrix3DReadOnly src, int startRow, int startCol)
+   {
+      if(!impl.insert(startRow, startCol, (float) src.getM00(), (float) src.getM01(), (float) src.getM02(), (float) src.getM10(), (float) src.getM11(), (float) src.getM12(), (float) src.getM20(), (float) src.getM21(), (float) src.getM22()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+   
+   /**
+    * Insert a matrix 3D at (startRow, startcol) in this matrix, scaled by scale
+    * 
+    * @param src
+    * @param startRow
+    * @param startCol
+    * @param scale
+    */
+   public void insertScaled(Matrix3DReadOnly src, int startRow, int startCol, float scale)
+   {
+      if(!impl.insert(startRow, startCol, (float) (scale * src.getM00()), (float) (scale * src.getM01()), (float) (scale * src.getM02()), (float) (scale * src.getM10()), (float) (scale * src.getM11()), (float) (scale * src.getM12()), (float) (scale * src.getM20()), (float) (scale * src.getM21()), (float) (scale * src.getM22())))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+   
+   /**
+    * Copies the given matrix 3D into this.
+    * <p>
+    * This operation reshapes this to a 3-by-3 matrix.
+    * </p>
+    *
+    * @param matrix The matrix which is to be copied. Not modified.
+    */
+   public void set(Matrix3DReadOnly matrix)
+   {
+      reshape(3, 3);
+      insert(matrix, 0, 0);
+   }
+
+   /**
+    * Packs the 3-by-3 block starting at (startRow, startCol) of this matrix into a matrix 3D.
+    *
+    * @param startRow      the first row index of the block to extract.
+    * @param startCol      the first column index of the block to extract.
+    * @param matrixToPack the matrix used to store the block. Modified.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void get(int startRow, int startCol, Matrix3DBasics matrixToPack)
+   {
+      float[] buffer = getFixedSizeBuffer();
+
+      if (!impl.extractMatrix3(startRow, startCol, buffer))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      matrixToPack.set(buffer[0], buffer[1], buffer[2], buffer[3], buffer[4], buffer[5], buffer[6], buffer[7], buffer[8]);
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = a * b
+    * <p>
+    * The multiplication is done natively on fixed-size kernels without converting {@code a} to a
+    * dense matrix first. This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication, must have 3 rows. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(Matrix3DReadOnly a, NativeFMatrix b)
+   {
+      if (!impl.multMatrix3((float) a.getM00(), (float) a.getM01(), (float) a.getM02(), (float) a.getM10(), (float) a.getM11(), (float) a.getM12(), (float) a.getM20(), (float) a.getM21(), (float) a.getM22(), b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Insert a 6-by-6 spatial matrix at (startRow, startCol) in this matrix. The spatial matrix is
+    * given by its four 3-by-3 blocks:
+    * 
+    * <pre>
+    * / topLeft    topRight    \
+    * \ bottomLeft bottomRight /
+    * </pre>
+    * <p>
+    * The whole block is transferred in a single native call.
+    * </p>
+    *
+    * @param topLeft     the upper-left block, typically the angular part. Not modified.
+    * @param topRight    the upper-right block. Not modified.
+    * @param bottomLeft  the lower-left block. Not modified.
+    * @param bottomRight the lower-right block, typically the linear part. Not modified.
+    * @param startRow    the first row index of the block in this.
+    * @param startCol    the first column index of the block in this.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void insertSpatial(Matrix3DReadOnly topLeft, Matrix3DReadOnly topRight, Matrix3DReadOnly bottomLeft, Matrix3DReadOnly bottomRight, int startRow,
+                             int startCol)
+   {
+      float[] buffer = getFixedSizeBuffer();
+      packSpatialBlock(topLeft, buffer, 0, 0);
+      packSpatialBlock(topRight, buffer, 0, 3);
+      packSpatialBlock(bottomLeft, buffer, 3, 0);
+      packSpatialBlock(bottomRight, buffer, 3, 3);
+
+      if (!impl.insertSpatial(startRow, startCol, buffer))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Copies the 6-by-6 spatial matrix given by its four 3-by-3 blocks into this.
+    * <p>
+    * This operation reshapes this to a 6-by-6 matrix.
+    * </p>
+    *
+    * @param topLeft     the upper-left block. Not modified.
+    * @param topRight    the upper-right block. Not modified.
+    * @param bottomLeft  the lower-left block. Not modified.
+    * @param bottomRight the lower-right block. Not modified.
+    * @see #insertSpatial(Matrix3DReadOnly, Matrix3DReadOnly, Matrix3DReadOnly, Matrix3DReadOnly, int, int)
+    */
+   public void setSpatial(Matrix3DReadOnly topLeft, Matrix3DReadOnly topRight, Matrix3DReadOnly bottomLeft, Matrix3DReadOnly bottomRight)
+   {
+      reshape(6, 6);
+      insertSpatial(topLeft, topRight, bottomLeft, bottomRight, 0, 0);
+   }
+
+   private static void packSpatialBlock(Matrix3DReadOnly block, float[] rowMajor6x6, int startRow, int startCol)
+   {
+      int index = startRow * 6 + startCol;
+      rowMajor6x6[index++] = (float) block.getM00();
+      rowMajor6x6[index++] = (float) block.getM01();
+      rowMajor6x6[index] = (float) block.getM02();
+      index += 4;
+      rowMajor6x6[index++] = (float) block.getM10();
+      rowMajor6x6[index++] = (float) block.getM11();
+      rowMajor6x6[index] = (float) block.getM12();
+      index += 4;
+      rowMajor6x6[index++] = (float) block.getM20();
+      rowMajor6x6[index++] = (float) block.getM21();
+      rowMajor6x6[index] = (float) block.getM22();
+   }
+
+   private static float[] getFixedSizeBuffer()
+   {
+      return fixedSizeBuffer.get();
+   }
+
+   /**
+    * Insert a tuple at (startRow, startcol) in this matrix as a row
+    * 
+    * @param startRow
+    * @param startCol
+    * @param x
+    * @param y
+    * @param z
+    */
+   public void insertTupleRow(int startRow, int startCol, float x, float y, float z)
+   {
+      if(!impl.insertTupleRow(startRow, startCol, x, y, z))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+   
+   /**
+    * Insert a tuple at (startRow, startcol) in this matrix as a row
+    * 
+    * @param startRow
+    * @param startCol
+    * @param tuple
+    */
+   public void insertTupleRow(Tuple3DReadOnly tuple, int startRow, int startCol)
+   {
+      insertTupleRow(startRow, startCol, (float) tuple.getX(), (float) tuple.getY(), (float) tuple.getZ());
+   }
+   
+   /**
+    * Inserts a block from the given matrix into this.
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param srcY0 The first row index (inclusive) of the block in {@code src} to copy.
+    * @param srcY1 The last row index (exclusive) of the block in {@code src} to copy.
+    * @param srcX0 The first column index (inclusive) of the block in {@code src} to copy.
+    * @param srcX1 The last column index (exclusive) of the block in {@code src} to copy.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insert(NativeFMatrix src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      if (!impl.insert(src.impl, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Inserts the given matrix into this.
+    * <p>
+    * {@code src} has to be either same size or smaller than this.
+    * </p>
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insert(NativeFMatrix src, int dstY0, int dstX0)
+   {
+      insert(src, 0, src.getNumRows(), 0, src.getNumCols(), dstY0, dstX0);
+   }
+   
+   /**
+    * Inserts a scaled block from the given matrix into this.
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param srcY0 The first row index (inclusive) of the block in {@code src} to copy.
+    * @param srcY1 The last row index (exclusive) of the block in {@code src} to copy.
+    * @param srcX0 The first column index (inclusive) of the block in {@code src} to copy.
+    * @param srcX1 The last column index (exclusive) of the block in {@code src} to copy.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insertScaled(NativeFMatrix src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, float scale)
+   {
+      if (!impl.insertScaled(src.impl, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+   
+   /**
+    * Inserts the given matrix scaled into this.
+    * <p>
+    * {@code src} has to be either same size or smaller than this.
+    * </p>
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insertScaled(NativeFMatrix src, int dstY0, int dstX0, float scale)
+   {
+      insertScaled(src, 0, src.getNumRows(), 0, src.getNumCols(), dstY0, dstX0, scale);
+   }
+
+   /**
+    * Inserts a block from the given matrix into this.
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param srcY0 The first row index (inclusive) of the block in {@code src} to copy.
+    * @param srcY1 The last row index (exclusive) of the block in {@code src} to copy.
+    * @param srcX0 The first column index (inclusive) of the block in {@code src} to copy.
+    * @param srcX1 The last column index (exclusive) of the block in {@code src} to copy.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insert(FMatrixRMaj src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      if (!impl.insert(src.data, src.numRows, src.numCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Inserts the given matrix into this.
+    * <p>
+    * {@code src} has to be either same size or smaller than this.
+    * </p>
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insert(FMatrixRMaj src, int dstY0, int dstX0)
+   {
+      insert(src, 0, src.getNumRows(), 0, src.getNumCols(), dstY0, dstX0);
+   }
+
+   /**
+    * Inserts a scaled block from the given matrix into this.
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param srcY0 The first row index (inclusive) of the block in {@code src} to copy.
+    * @param srcY1 The last row index (exclusive) of the block in {@code src} to copy.
+    * @param srcX0 The first column index (inclusive) of the block in {@code src} to copy.
+    * @param srcX1 The last column index (exclusive) of the block in {@code src} to copy.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insertScaled(FMatrixRMaj src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, float scale)
+   {
+      if (!impl.insertScaled(src.data, src.numRows, src.numCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+   
+   /**
+    * Inserts the given matrix into this.
+    * <p>
+    * {@code src} has to be either same size or smaller than this.
+    * </p>
+    *
+    * @param src   The matrix to be copied in this. Not modified.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void insertScaled(FMatrixRMaj src, int dstY0, int dstX0, float scale)
+   {
+      insertScaled(src, 0, src.getNumRows(), 0, src.getNumCols(), dstY0, dstX0, scale);
+   }
+
+   /**
+    * Extracts a block from this and insert it into the given matrix.
+    *
+    * @param srcY0 The first row index (inclusive) of the block in {@code this} to copy.
+    * @param srcY1 The last row index (exclusive) of the block in {@code this} to copy.
+    * @param srcX0 The first column index (inclusive) of the block in {@code this} to copy.
+    * @param srcX1 The last column index (exclusive) of the block in {@code this} to copy.
+    * @param dst   The matrix in which the block is to be written. Modified.
+    * @param dstY0 The first row index (inclusive) of the block in {@code dst} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code dst} to write in.
+    */
+   public void extract(int srcY0, int srcY1, int srcX0, int srcX1, FMatrixRMaj dst, int dstY0, int dstX0)
+   {
+      if (!impl.extract(srcY0, srcY1, srcX0, srcX1, dst.data, dst.numRows, dst.numCols, dstY0, dstX0))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions");
+      }
+   }
+
+   /**
+    * Inserts this in the given matrix.
+    * <p>
+    * {@code dst} has to be either same size or larger than this.
+    * </p>
+    *
+    * @param dst   The matrix in which the block is to be written. Modified.
+    * @param dstY0 The first row index (inclusive) of the block in {@code this} to write in.
+    * @param dstX0 The first column index (inclusive) of the block in {@code this} to write in.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void extract(FMatrixRMaj dst, int dstY0, int dstX0)
+   {
+      extract(0, getNumRows(), 0, getNumCols(), dst, dstY0, dstX0);
+   }
+
+   /**
+    * Returns the value of the specified matrix element.
+    * <p>
+    * IMPORTANT: Consider the overhead due to going through the JNI layer. Consider using
+    * {@link #get(FMatrixRMaj)} to pack once the data back into Java land if needing to do multiple
+    * accesses.
+    * </p>
+    *
+    * @param row The row of the element.
+    * @param col The column of the element.
+    * @return The value of the element.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   @Override
+   public float get(int row, int col)
+   {
+      if (row < 0 || col < 0)
+      {
+         throwIndexOutOfBoundsException(row, col);
+      }
+
+      float value = impl.get(row, col);
+
+      // When the index is out-of-bounds, the native layer will return NaN.
+      // By performing this second check only if the result is NaN, we can reduce the overhead due to getNumRows() and getNumCols().
+      if (Float.isNaN(value) && (row >= getNumRows() || col >= getNumCols()))
+      {
+         throwIndexOutOfBoundsException(row, col);
+      }
+
+      return value;
+   }
+
+   private void throwIndexOutOfBoundsException(int row, int col)
+   {
+      throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Dimension (" + getNumRows() + ", " + getNumCols() + ").");
+   }
+
+   /**
+    * Assigns the element in the Matrix to the specified value. <br>
+    * a<sub>ij</sub> = value<br>
+    * <p>
+    * IMPORTANT: Consider the overhead due to going through the JNI layer. Consider using
+    * {@link #get(FMatrixRMaj)} to pack once the data back into Java land if needing to do multiple
+    * accesses.
+    * </p>
+    *
+    * @param row   The row of the element.
+    * @param col   The column of the element.
+    * @param value The element's new value.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   @Override
+   public void set(int row, int col, float value)
+   {
+      if (!impl.set(row, col, value))
+      {
+         throwIndexOutOfBoundsException(row, col);
+      }
+   }
+
+   /**
+    * Removes a row from this and shifts the subsequent rows up by one.
+    *
+    * @param row the index of the row to remove.
+    */
+   public void removeRow(int row)
+   {
+      if (!impl.removeRow(row))
+      {
+         throw new IllegalArgumentException("Row out of bounds.");
+      }
+   }
+
+   /**
+    * Removes a column from this and shifts the subsequent columns left by one.
+    *
+    * @param col the index of the column to remove.
+    */
+   public void removeColumn(int col)
+   {
+      if (!impl.removeColumn(col))
+      {
+         throw new IllegalArgumentException("Col out of bounds.");
+      }
+   }
+
+   /**
+    * Removes several rows from this in a single pass, shifting the remaining rows up.
+    * <p>
+    * This is equivalent to calling {@link #removeRow(int)} from the last index to the first, but
+    * moves each remaining element only once.
+    * </p>
+    *
+    * @param rows the indices of the rows to remove, in strictly increasing order. Not modified.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeRows(int[] rows)
+   {
+      removeRows(rows, rows.length);
+   }
+
+   /**
+    * Removes several rows from this in a single pass, shifting the remaining rows up.
+    *
+    * @param rows         the indices of the rows to remove, in strictly increasing order. Not
+    *                     modified.
+    * @param numberOfRows the number of indices to use from the start of {@code rows}.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeRows(int[] rows, int numberOfRows)
+   {
+      if (numberOfRows < 0 || numberOfRows > rows.length || !impl.removeRows(rows, numberOfRows))
+      {
+         throw new IllegalArgumentException("Rows out of bounds or not in increasing order.");
+      }
+   }
+
+   /**
+    * Removes several columns from this in a single pass, shifting the remaining columns left.
+    *
+    * @param cols the indices of the columns to remove, in strictly increasing order. Not modified.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeColumns(int[] cols)
+   {
+      removeColumns(cols, cols.length);
+   }
+
+   /**
+    * Removes several columns from this in a single pass, shifting the remaining columns left.
+    *
+    * @param cols         the indices of the columns to remove, in strictly increasing order. Not
+    *                     modified.
+    * @param numberOfCols the number of indices to use from the start of {@code cols}.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeColumns(int[] cols, int numberOfCols)
+   {
+      if (numberOfCols < 0 || numberOfCols > cols.length || !impl.removeColumns(cols, numberOfCols))
+      {
+         throw new IllegalArgumentException("Cols out of bounds or not in increasing order.");
+      }
+   }
+
+   /**
+    * Appends the rows of {@code src} below the rows of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no rows, it takes the number of columns of {@code src}.
+    * </p>
+    *
+    * @param src the rows to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of columns differ.
+    */
+   public void appendRows(NativeFMatrix src)
+   {
+      if (!impl.appendRows(src.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Appends the rows of {@code src} below the rows of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no rows, it takes the number of columns of {@code src}.
+    * </p>
+    *
+    * @param src the rows to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of columns differ.
+    */
+   public void appendRows(FMatrixRMaj src)
+   {
+      if (!impl.appendRows(src.data, src.numRows, src.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Appends the columns of {@code src} to the right of the columns of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no columns, it takes the number of rows of {@code src}.
+    * </p>
+    *
+    * @param src the columns to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of rows differ.
+    */
+   public void appendColumns(NativeFMatrix src)
+   {
+      if (!impl.appendColumns(src.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Appends the columns of {@code src} to the right of the columns of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no columns, it takes the number of rows of {@code src}.
+    * </p>
+    *
+    * @param src the columns to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of rows differ.
+    */
+   public void appendColumns(FMatrixRMaj src)
+   {
+      if (!impl.appendColumns(src.data, src.numRows, src.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets this to the rows of {@code a} at the given indices:<br>
+    * this(i, :) = a(rows[i], :)
+    * <p>
+    * The indices can be in any order and repeated. This operation reshapes this to
+    * {@code rows.length} by {@code a.getNumCols()}.
+    * </p>
+    *
+    * @param a    the matrix to select the rows from. Not modified.
+    * @param rows the indices of the rows to select. Not modified.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectRows(NativeFMatrix a, int[] rows)
+   {
+      selectRows(a, rows, rows.length);
+   }
+
+   /**
+    * Sets this to the rows of {@code a} at the first {@code numberOfRows} indices of {@code rows}.
+    *
+    * @param a            the matrix to select the rows from. Not modified.
+    * @param rows         the indices of the rows to select. Not modified.
+    * @param numberOfRows the number of indices to use from the start of {@code rows}.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectRows(NativeFMatrix a, int[] rows, int numberOfRows)
+   {
+      if (numberOfRows > rows.length || !impl.selectRows(a.impl, rows, numberOfRows))
+      {
+         throw new IllegalArgumentException("Rows out of bounds.");
+      }
+   }
+
+   /**
+    * Sets this to the columns of {@code a} at the given indices:<br>
+    * this(:, i) = a(:, cols[i])
+    * <p>
+    * The indices can be in any order and repeated. This operation reshapes this to
+    * {@code a.getNumRows()} by {@code cols.length}.
+    * </p>
+    *
+    * @param a    the matrix to select the columns from. Not modified.
+    * @param cols the indices of the columns to select. Not modified.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectColumns(NativeFMatrix a, int[] cols)
+   {
+      selectColumns(a, cols, cols.length);
+   }
+
+   /**
+    * Sets this to the columns of {@code a} at the first {@code numberOfCols} indices of
+    * {@code cols}.
+    *
+    * @param a            the matrix to select the columns from. Not modified.
+    * @param cols         the indices of the columns to select. Not modified.
+    * @param numberOfCols the number of indices to use from the start of {@code cols}.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectColumns(NativeFMatrix a, int[] cols, int numberOfCols)
+   {
+      if (numberOfCols > cols.length || !impl.selectColumns(a.impl, cols, numberOfCols))
+      {
+         throw new IllegalArgumentException("Cols out of bounds.");
+      }
+   }
+
+   /**
+    * Adds the rows of {@code a} to the rows of this at the given indices:<br>
+    * this(rows[i], :) = this(rows[i], :) + a(i, :)
+    * <p>
+    * The indices can be in any order. The rows of {@code a} that go to the same index are all
+    * added.
+    * </p>
+    *
+    * @param a    the rows to add, with {@code rows.length} rows. Not modified.
+    * @param rows the indices of the rows of this to add to. Not modified.
+    * @throws IllegalArgumentException if an index is out of bounds or the matrix dimensions are
+    *                                  incompatible.
+    */
+   public void scatterAddRows(NativeFMatrix a, int[] rows)
+   {
+      scatterAddRows(a, rows, rows.length);
+   }
+
+   /**
+    * Adds the rows of {@code a} to the rows of this at the first {@code numberOfRows} indices of
+    * {@code rows}.
+    *
+    * @param a            the rows to add, with {@code numberOfRows} rows. Not modified.
+    * @param rows         the indices of the rows of this to add to. Not modified.
+    * @param numberOfRows the number of indices to use from the start of {@code rows}.
+    * @throws IllegalArgumentException if an index is out of bounds or the matrix dimensions are
+    *                                  incompatible.
+    */
+   public void scatterAddRows(NativeFMatrix a, int[] rows, int numberOfRows)
+   {
+      if (numberOfRows > rows.length || !impl.scatterAddRows(a.impl, rows, numberOfRows))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets all elements equal to zero.
+    */
+   @Override
+   public void zero()
+   {
+      impl.zero();
+   }
+
+   /**
+    * Tests whether at least one element in this is {@link Float#NaN}.
+    *
+    * @return {@code true} if at least one element is {@link Float#NaN}, {@code false} otherwise.
+    */
+   public boolean containsNaN()
+   {
+      return impl.containsNaN();
+   }
+
+   /**
+    * Returns the number of rows in this matrix.
+    *
+    * @return Number of rows.
+    */
+   @Override
+   public int getNumRows()
+   {
+      return impl.rows();
+   }
+
+   /**
+    * Returns the number of columns in this matrix.
+    *
+    * @return Number of columns.
+    */
+   @Override
+   public int getNumCols()
+   {
+      return impl.cols();
+   }
+
+   /**
+    * Finds and returns the minimum value this matrix contains.
+    *
+    * @return the smallest value contained in this matrix.
+    */
+   public float min()
+   {
+      return impl.min();
+   }
+
+   /**
+    * Finds and returns the maximum value this matrix contains.
+    *
+    * @return the greatest value contained in this matrix.
+    */
+   public float max()
+   {
+      return impl.max();
+   }
+
+   /**
+    * Sums all the elements of this matrix and returns the result.
+    *
+    * @return the sum of all this matrix elements.
+    */
+   public float sum()
+   {
+      return impl.sum();
+   }
+
+   /**
+    * Computes the product of all the elements in this matrix and returns the result.
+    * 
+    * @return the product of all this matrix elements.
+    */
+   public float prod()
+   {
+      return impl.prod();
+   }
+
+   /**
+    * Returns the number of elements in this matrix, which is equal to the number of rows times the
+    * number of columns.
+    *
+    * @return The number of elements in the matrix.
+    */
+   @Override
+   public int getNumElements()
+   {
+      return impl.size();
+   }
+
+   /**
+    * Scales the elements in this matrix by the given scale factor.
+    *
+    * @param scale the factor to apply to every element.
+    */
+   public void scale(float scale)
+   {
+      impl.scale(scale);
+   }
+
+   /**
+    * Add the diagonal elements of a matrix with a constant value
+    * @param value Value to add to the diagonal with
+    */
+   public void addDiagonal(float value)
+   {
+      if(!impl.addDiagonal(value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+
+   /**
+    * Add the diagonal elements of a matrix with a constant value
+    *
+    * @param startRow Start row for block
+    * @param startCol Start col for block
+    * @param size Number of elements on the diagonal to set
+    * @param value Value to add to the diagonal with
+    */
+   public void addDiagonal(int startRow, int startCol, int rows, int cols, float value)
+   {
+      if(!impl.addDiagonal(startRow, startCol, rows, cols, value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+
+   /**
+    * Add the diagonal elements of a matrix with a constant value
+    *
+    * @param startRow Start row for block
+    * @param startCol Start col for block
+    * @param size Number of elements on the diagonal to set
+    * @param value Value to add to the diagonal with
+    */
+   public void addDiagonal(int startRow, int startCol, int size, float value)
+   {
+      if(!impl.addDiagonal(startRow, startCol, size, value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+
+
+   /**
+    * Fill a matrix with a constant value
+    * @param value Value to fill the diagonal with
+    */
+   public void fillDiagonal(float value)
+   {
+      if(!impl.fillDiagonal(value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+
+   /**
+    * Fill the diagonal of a block of the matrix with a constant value
+    *
+    * @param startRow Start row for block
+    * @param startCol Start col for block
+    * @param size Number of elements on the diagonal to set
+    * @param value Value to fill the diagonal with
+    */
+   public void fillDiagonal(int startRow, int startCol, int rows, int cols, float value)
+   {
+      if(!impl.fillDiagonal(startRow, startCol, rows, cols, value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+
+   /**
+    * Fill the diagonal of a block of the matrix with a constant value
+    *
+    * @param startRow Start row for block
+    * @param startCol Start col for block
+    * @param size Number of elements on the diagonal to set
+    * @param value Value to fill the diagonal with
+    */
+   public void fillDiagonal(int startRow, int startCol, int size, float value)
+   {
+      if(!impl.fillDiagonal(startRow, startCol, size, value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+
+   
+   /**
+    * Fill a block of the matrix to a constant value
+    * 
+    * @param startRow Start row for block
+    * @param startCol Start col for block
+    * @param numberOfRows Number of rows to fill
+    * @param numberOfCols Numbers of columns to fill
+    * @param value Value to fill the block with
+    */
+   public void fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, float value)
+   {
+      if(!impl.fillBlock(startRow, startCol, numberOfRows, numberOfCols, value))
+      {
+         throw new RuntimeException("Invalid matrix dimensions");
+      }
+   }
+   
+
+   /**
+    * Check if the elements of this matrix are within +- "precision" to the corresponding elements in the other matrix and numRows and numCols are equal
+    * 
+    * @param other Matrix to check against
+    * @param precision Maximum difference 
+    * @return True if all elements in other are within +- "precision" to the corresponding current matrix
+    */
+   public boolean isApprox(NativeFMatrix other, float precision)
+   {
+      return impl.isAprrox(other.impl, precision);
+   }
+
+   /**
+    * Converts the array into a string format for display purposes. The conversion is done using
+    * {@link MatrixIO#print(java.io.PrintStream, FMatrix)}.
+    *
+    * @return String representation of the matrix.
+    */
+   @Override
+   public String toString()
+   {
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      MatrixIO.print(new PrintStream(stream), this);
+      return stream.toString();
+   }
+
+   // -------- Implementation of FMatrix API ----------------------
+
+   @Override
+   public void print()
+   {
+      MatrixIO.printFancy(System.out, this, MatrixIO.DEFAULT_LENGTH);
+   }
+
+   @Override
+   public void print(String format)
+   {
+      MatrixIO.print(System.out, this, format);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public NativeFMatrix copy()
+   {
+      return new NativeFMatrix(this);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public NativeFMatrix createLike()
+   {
+      return new NativeFMatrix(getNumRows(), getNumCols());
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public NativeFMatrix create(int numRows, int numCols)
+   {
+      return new NativeFMatrix(numRows, numCols);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * This implementation only supports {@link NativeFMatrix} and {@link FMatrixRMaj}.
+    * </p>
+    * 
+    * @param original The matrix which is to be copied. This is not modified or saved.
+    * @throws NullPointerException          if the argument is {@code null}.
+    * @throws UnsupportedOperationException if the implementation of the argument is not supported.
+    */
+   @Override
+   public void set(Matrix original)
+   {
+      if (original instanceof NativeFMatrix)
+         set((NativeFMatrix) original);
+      else if (original instanceof FMatrixRMaj)
+         set((FMatrixRMaj) original);
+      else if (original == null)
+         throw new NullPointerException();
+      else
+         throw new UnsupportedOperationException("Unsupported matrix type: " + original.getClass().getSimpleName());
+   }
+
+   @Override
+   public MatrixType getType()
+   {
+      return MatrixType.UNSPECIFIED;
+   }
+
+   /**
+    * Unsafe get an element at row,col. If the index is out of bounds, Float.NaN is returned.
+    */
+   @Override
+   public float unsafe_get(int row, int col)
+   {
+      return impl.get(row, col);
+   }
+
+   /**
+    * Redirects to {@link #set(int, int, float)}.
+    */
+   @Override
+   public void unsafe_set(int row, int col, float value)
+   {
+      set(row, col, value);
+   }
+}
@@ -0,0 +1,199 @@
+package us.ihmc.matrixlib;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import us.ihmc.matrixlib.jni.NativeInstrumentationImpl;
+
+/**
+ * {@code NativeInstrumentation} measures the native operations of this library: for each type of
+ * {@link NativeOperation} it counts the calls and records the cumulative and maximum time spent in
+ * the native code, as well as the largest operands.
+ * <p>
+ * The instrumentation is disabled by default. While disabled, an operation only pays for one relaxed
+ * atomic load; while enabled, it reads the clock twice and updates a few counters without locking, so
+ * the statistics can be collected on a real-time thread. The statistics are shared by all threads.
+ * </p>
+ * <p>
+ * Besides the {@link #getSnapshot()} API, the statistics can be exposed over JMX with
+ * {@link #registerMBean()}.
+ * </p>
+ */
+public final class NativeInstrumentation
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   /** The name under which {@link #registerMBean()} registers the MBean. */
+   public static final String OBJECT_NAME = "us.ihmc.matrixlib:type=NativeInstrumentation";
+
+   private NativeInstrumentation()
+   {
+   }
+
+   /**
+    * Enables or disables the measurement of the native operations. Disabling keeps the statistics
+    * collected so far.
+    *
+    * @param enabled whether the native operations are measured.
+    */
+   public static void setEnabled(boolean enabled)
+   {
+      NativeInstrumentationImpl.setEnabled(enabled);
+   }
+
+   /**
+    * Returns whether the native operations are measured.
+    *
+    * @return {@code true} if the instrumentation is enabled.
+    */
+   public static boolean isEnabled()
+   {
+      return NativeInstrumentationImpl.isEnabled();
+   }
+
+   /**
+    * Clears the statistics of all the operations.
+    */
+   public static void reset()
+   {
+      NativeInstrumentationImpl.reset();
+   }
+
+   /**
+    * Returns the statistics of one type of operation.
+    * <p>
+    * The counters are read one after the other while other threads may keep updating them, so the
+    * values can be off by the calls running concurrently.
+    * </p>
+    *
+    * @param operation the type of operation.
+    * @return the statistics collected since the instrumentation was enabled or last reset.
+    */
+   public static NativeOperationStatistics getStatistics(NativeOperation operation)
+   {
+      int index = operation.ordinal();
+      return new NativeOperationStatistics(operation,
+                                           NativeInstrumentationImpl.getCallCount(index),
+                                           NativeInstrumentationImpl.getTotalNanoseconds(index),
+                                           NativeInstrumentationImpl.getMaxNanoseconds(index),
+                                           NativeInstrumentationImpl.getMaxRows(index),
+                                           NativeInstrumentationImpl.getMaxCols(index));
+   }
+
+   /**
+    * Returns the statistics of all the types of operation.
+    *
+    * @return the unmodifiable map from each type of operation to its statistics.
+    * @see #getStatistics(NativeOperation)
+    */
+   public static Map<NativeOperation, NativeOperationStatistics> getSnapshot()
+   {
+      Map<NativeOperation, NativeOperationStatistics> snapshot = new EnumMap<>(NativeOperation.class);
+      for (NativeOperation operation : NativeOperation.values)
+      {
+         snapshot.put(operation, getStatistics(operation));
+      }
+      return Collections.unmodifiableMap(snapshot);
+   }
+
+   /**
+    * Registers a {@link NativeInstrumentationMXBean} with the platform MBean server under
+    * {@link #OBJECT_NAME}. Does nothing if it is already registered.
+    *
+    * @return the name of the MBean.
+    * @throws IllegalStateException if the MBean cannot be registered.
+    */
+   public static ObjectName registerMBean()
+   {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = getObjectName();
+      try
+      {
+         server.registerMBean(new Management(), name);
+      }
+      catch (InstanceAlreadyExistsException e)
+      {
+         // Registered earlier, the instance is stateless so it can be kept.
+      }
+      catch (JMException e)
+      {
+         throw new IllegalStateException("Could not register " + name, e);
+      }
+      return name;
+   }
+
+   /**
+    * Unregisters the MBean registered by {@link #registerMBean()}. Does nothing if it is not
+    * registered.
+    */
+   public static void unregisterMBean()
+   {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = getObjectName();
+      try
+      {
+         server.unregisterMBean(name);
+      }
+      catch (InstanceNotFoundException e)
+      {
+         // Not registered.
+      }
+      catch (JMException e)
+      {
+         throw new IllegalStateException("Could not unregister " + name, e);
+      }
+   }
+
+   private static ObjectName getObjectName()
+   {
+      try
+      {
+         return new ObjectName(OBJECT_NAME);
+      }
+      catch (MalformedObjectNameException e)
+      {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   private static class Management implements NativeInstrumentationMXBean
+   {
+      @Override
+      public boolean isEnabled()
+      {
+         return NativeInstrumentation.isEnabled();
+      }
+
+      @Override
+      public void setEnabled(boolean enabled)
+      {
+         NativeInstrumentation.setEnabled(enabled);
+      }
+
+      @Override
+      public void reset()
+      {
+         NativeInstrumentation.reset();
+      }
+
+      @Override
+      public List<NativeOperationStatistics> getStatistics()
+      {
+         return new ArrayList<>(getSnapshot().values());
+      }
+   }
+}
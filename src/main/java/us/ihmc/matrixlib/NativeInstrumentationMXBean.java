@@ -0,0 +1,37 @@
+package us.ihmc.matrixlib;
+
+import java.util.List;
+
+/**
+ * The management interface of {@link NativeInstrumentation}, registered with
+ * {@link NativeInstrumentation#registerMBean()} so the statistics can be inspected and the
+ * instrumentation toggled from JConsole or any other JMX client.
+ */
+public interface NativeInstrumentationMXBean
+{
+   /**
+    * See {@link NativeInstrumentation#isEnabled()}.
+    *
+    * @return whether the native operations are measured.
+    */
+   boolean isEnabled();
+
+   /**
+    * See {@link NativeInstrumentation#setEnabled(boolean)}.
+    *
+    * @param enabled whether the native operations are measured.
+    */
+   void setEnabled(boolean enabled);
+
+   /**
+    * See {@link NativeInstrumentation#reset()}.
+    */
+   void reset();
+
+   /**
+    * Returns the statistics of every type of operation, in the order of {@link NativeOperation}.
+    *
+    * @return the statistics.
+    */
+   List<NativeOperationStatistics> getStatistics();
+}
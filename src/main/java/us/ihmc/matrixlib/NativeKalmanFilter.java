@@ -2,6 +2,13 @@ package us.ihmc.matrixlib;
 
 import us.ihmc.matrixlib.jni.NativeKalmanFilterImpl;
 
+/**
+ * {@code NativeKalmanFilter} computes the steps of a Kalman filter in C++.
+ * <p>
+ * The methods keep no state and are thread-safe, as long as the matrix storing the result of a call
+ * is not used by another thread at the same time.
+ * </p>
+ */
 public class NativeKalmanFilter
 {
    /**
@@ -14,10 +21,12 @@ public class NativeKalmanFilter
     */
    public static void predictErrorCovariance(NativeMatrix errorCovariance, NativeMatrix F, NativeMatrix P, NativeMatrix Q)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!NativeKalmanFilterImpl.predictErrorCovariance(errorCovariance.impl, F.impl, P.impl, Q.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.KALMAN_PREDICT_ERROR_COVARIANCE, P);
    }
    
    /**
@@ -31,10 +40,12 @@ public class NativeKalmanFilter
     */
    public static void computeKalmanGain(NativeMatrix gain, NativeMatrix P, NativeMatrix H, NativeMatrix R)
    {
+         NativeOperationEvent event = NativeOperationEvent.start();
          if(!NativeKalmanFilterImpl.computeKalmanGain(gain.impl, P.impl, H.impl, R.impl))
          {
             throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
          }
+         event.end(NativeOperation.KALMAN_GAIN, H);
    }
    
    /**
@@ -47,10 +58,12 @@ public class NativeKalmanFilter
     */
    public static void updateState(NativeMatrix nextState, NativeMatrix x, NativeMatrix K , NativeMatrix r)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if(!NativeKalmanFilterImpl.updateState(nextState.impl, x.impl, K.impl, r.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.KALMAN_UPDATE_STATE, K);
    }
 
    /**
@@ -63,9 +76,11 @@ public class NativeKalmanFilter
     */
    public static void updateErrorCovariance(NativeMatrix nextError, NativeMatrix K, NativeMatrix H, NativeMatrix P)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if(!NativeKalmanFilterImpl.updateErrorCovariance(nextError.impl, K.impl, H.impl, P.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.KALMAN_UPDATE_ERROR_COVARIANCE, P);
    }
 }
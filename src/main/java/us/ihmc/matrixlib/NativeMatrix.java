@@ -6,10 +6,10 @@ import java.io.PrintStream;
 import org.ejml.data.*;
 import org.ejml.ops.MatrixIO;
 
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.matrixlib.jni.NativeMatrixImpl;
-import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
 
 /**
  * {@code NativeMatrix} is dense matrix with real elements that are 64-bits floats. Unlike
@@ -28,6 +28,12 @@ import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
  * a[3]  a[7]  a[11]  a[15]
  * </pre>
  * </p>
+ * <p>
+ * {@code NativeMatrix} is not thread-safe: a matrix modified by one thread must not be accessed by
+ * other threads at the same time. Matrices that are only read by an operation, e.g. {@code a} and
+ * {@code b} in {@link #mult(NativeMatrix, NativeMatrix)}, can be shared by several threads as long
+ * as none of them modifies these matrices.
+ * </p>
  *
  * @author Jesper Smith
  */
@@ -37,11 +43,17 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
 
    static
    {
-      NativeLibraryLoader.loadLibrary("", "NativeCommonOps");
+      NativeCommonOpsLibrary.load();
    }
 
    final NativeMatrixImpl impl;
 
+   /**
+    * Row-major buffer used to exchange 3x3 and 6x6 blocks with the native side. It is kept per thread
+    * so that reading the same matrix from several threads is safe.
+    */
+   private static final ThreadLocal<double[]> fixedSizeBuffer = ThreadLocal.withInitial(() -> new double[36]);
+
    /**
     * Creates a new matrix with the specified shape whose elements initially have the value of zero.
     *
@@ -98,6 +110,45 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
       impl.resize(rows, cols);
    }
 
+   /**
+    * Makes room for at least {@code capacity} elements, so this matrix can be reshaped up to that
+    * number of elements without reallocating its storage. The values of this matrix are kept.
+    * <p>
+    * When the storage has to grow on a reshape, it grows by at least half its capacity. Reserving
+    * the largest size upfront, e.g. when a controller is constructed, avoids reallocations
+    * altogether.
+    * </p>
+    *
+    * @param capacity the number of elements to make room for.
+    * @throws IllegalArgumentException if {@code capacity} is negative.
+    */
+   public void reserve(int capacity)
+   {
+      if (!impl.reserve(capacity))
+      {
+         throw new IllegalArgumentException("The capacity has to be positive, was: " + capacity);
+      }
+   }
+
+   /**
+    * Releases the storage this matrix does not need for its current size, as well as the workspaces
+    * kept by the operations that need intermediate results. The values of this matrix are kept.
+    */
+   public void trimToSize()
+   {
+      impl.trimToSize();
+   }
+
+   /**
+    * Returns the number of elements this matrix can hold without reallocating its storage.
+    *
+    * @return the capacity, at least {@link #getNumElements()}.
+    */
+   public int getCapacity()
+   {
+      return impl.capacity();
+   }
+
    /**
     * Copies the given matrix and scales every single element by the given factor.
     * <p>
@@ -177,6 +228,47 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
       }
    }
 
+   /**
+    * Sets this to the transpose of the given matrix:<br>
+    * this = matrix<sup>T</sup>
+    * <p>
+    * The row-major data of {@code matrix} is the column-major storage of its transpose, so this is
+    * a plain copy of the data. Prefer this over {@link #set(DMatrixRMaj)} for large matrices that can be
+    * used transposed, e.g. a Jacobian that is only needed as J<sup>T</sup>.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the transpose of the given matrix.
+    * </p>
+    *
+    * @param matrix The matrix whose transpose is copied into this. Not modified.
+    */
+   public void setTransposed(DMatrixRMaj matrix)
+   {
+      if (!impl.setTransposed(matrix.data, matrix.numRows, matrix.numCols))
+      {
+         throw new IllegalArgumentException("Cannot set matrix.");
+      }
+   }
+
+   /**
+    * Packs the transpose of this matrix into a {@code DMatrixRMaj}:<br>
+    * matrixToPack = this<sup>T</sup>
+    * <p>
+    * Like {@link #setTransposed(DMatrixRMaj)}, this is a plain copy of the data.
+    * </p>
+    *
+    * @param matrixToPack the matrix used to store the transpose of this. Modified.
+    */
+   public void getTransposed(DMatrixRMaj matrixToPack)
+   {
+      matrixToPack.reshape(getNumCols(), getNumRows());
+
+      if (!impl.getTransposed(matrixToPack.data, matrixToPack.numRows, matrixToPack.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
    /**
     * Computes the matrix addition</br>
     * this = a + b
@@ -311,10 +403,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void mult(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.mult(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -331,10 +425,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void mult(double scale, NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.mult(scale, a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -347,10 +443,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAdd(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAdd(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -364,10 +462,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAdd(double scale, NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAdd(scale, a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -380,10 +480,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransA(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddTransA(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -397,10 +499,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransA(double scale, NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddTransA(scale, a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -413,10 +517,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransB(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddTransB(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -430,10 +536,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransB(double scale, NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddTransB(scale, a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -448,10 +556,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlock(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddBlock(a.impl, b.impl, rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -467,10 +577,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlock(double scale, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddBlock(scale, a.impl, b.impl, rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -485,10 +597,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlockTransA(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddBlockTransA(a.impl, b.impl, rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -504,10 +618,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlockTransA(double scale, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddBlockTransA(scale, a.impl, b.impl, rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -587,10 +703,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransB(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multTransB(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -607,10 +725,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransB(double scale, NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multTransB(scale, a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -626,10 +746,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransA(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multTransA(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -646,10 +768,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransA(double scale, NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multTransA(scale, a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT, a);
    }
 
    /**
@@ -665,10 +789,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multQuad(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multQuad(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT_QUAD, a);
    }
 
    /**
@@ -684,10 +810,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddQuad(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddQuad(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT_QUAD, a);
    }
 
    /**
@@ -703,10 +831,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multQuadBlock(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multQuadBlock(a.impl, b.impl, rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT_QUAD, a);
    }
 
    /**
@@ -722,13 +852,92 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddQuadBlock(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.multAddQuadBlock(a.impl, b.impl, rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.MULT_QUAD, a);
    }
 
 
+   /**
+    * Computes the matrix multiplication with a sparse matrix</br>
+    * this = a * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left sparse matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(NativeSparseMatrix a, NativeMatrix b)
+   {
+      if (!a.impl.mult(b.impl, impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication with a sparse matrix</br>
+    * this = a<sup>T</sup> * b
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left sparse matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multTransA(NativeSparseMatrix a, NativeMatrix b)
+   {
+      if (!a.impl.multTransA(b.impl, impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form of a sparse matrix</br>
+    * this = a<sup>T</sup> * b * a
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a sparse matrix in multiplication. Not modified.
+    * @param b dense square weight matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuad(NativeSparseMatrix a, NativeMatrix b)
+   {
+      if (!a.impl.multQuad(b.impl, impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form of a sparse matrix with a diagonal weight</br>
+    * this = a<sup>T</sup> * diag(weights) * a
+    * <p>
+    * The product is evaluated sparse and only converted to a dense matrix at the end. This operation
+    * reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a       sparse matrix in multiplication. Not modified.
+    * @param weights column vector holding the diagonal of the weight matrix. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuadDiagonal(NativeSparseMatrix a, NativeMatrix weights)
+   {
+      if (!a.impl.multQuadDiagonal(weights.impl, impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
    /**
     * Inverts a matrix and stores the result in this.</br>
     * This method requires that the matrix is square and invertible and uses a LU decomposition.
@@ -746,10 +955,12 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
          throw new IllegalArgumentException("Can not invert in place. The result matrix needs to be different from the matrix to invert.");
       }
 
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.invert(a.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.INVERT, a);
    }
 
    /**
@@ -785,17 +996,21 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void solve(NativeMatrix a, NativeMatrix b)
    {
+      NativeOperationEvent event = NativeOperationEvent.start();
       if (!impl.solve(a.impl, b.impl))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      event.end(NativeOperation.SOLVE, a);
    }
 
    /**
     * Computes the solution to the linear equation</br>
     * a * this == b</br>
-    * This method requires that the matrix a is square and invertible and uses a LU decomposition. This
-    * method will check the invertability of the matrix a and return false if it is not invertible.
+    * This method requires that the matrix a is square and uses a LU decomposition with partial
+    * pivoting. It will return false, filling this with NaN, if a is singular or too ill-conditioned to
+    * be solved accurately, i.e. if its estimated reciprocal condition number is below
+    * n * &epsilon;. Use {@link #solveCheck(NativeMatrix, NativeMatrix, double)} to choose this tolerance.
     *
     * @param a matrix in equation. Not modified.
     * @param b matrix in equation. Not modified.
@@ -804,7 +1019,298 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public boolean solveCheck(NativeMatrix a, NativeMatrix b)
    {
-      return impl.solveCheck(a.impl, b.impl);
+      NativeOperationEvent event = NativeOperationEvent.start();
+      boolean success = impl.solveCheck(a.impl, b.impl);
+      event.end(NativeOperation.SOLVE, a);
+      return success;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * This method requires that the matrix a is square and uses a LU decomposition with partial
+    * pivoting. It will return false, filling this with NaN, if the estimated reciprocal condition
+    * number of a, see {@link #rcond()}, is not above {@code minimumRcond}.
+    * <p>
+    * The estimate only adds a few triangular solves to the decomposition, which makes this a cheap
+    * guard to fall back to a damped solve, e.g.
+    * {@link NativeCommonOps#solveDamped(org.ejml.data.DMatrix1Row, org.ejml.data.DMatrix1Row, double, org.ejml.data.DMatrix1Row)},
+    * only when a is close to singular.
+    * </p>
+    *
+    * @param a            matrix in equation. Not modified.
+    * @param b            matrix in equation. Not modified.
+    * @param minimumRcond the smallest acceptable reciprocal condition number, in [0, 1].
+    * @return whether a solution was found.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveCheck(NativeMatrix a, NativeMatrix b, double minimumRcond)
+   {
+      if (a.getNumRows() != b.getNumRows() || b.getNumCols() != 1 || a.getNumCols() != a.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      NativeOperationEvent event = NativeOperationEvent.start();
+      boolean success = impl.solveCheck(a.impl, b.impl, minimumRcond);
+      event.end(NativeOperation.SOLVE, a);
+      return success;
+   }
+
+   /**
+    * Estimates the reciprocal condition number of this matrix in the 1-norm from a LU decomposition
+    * with partial pivoting. It is 1 for a perfectly conditioned matrix and goes to 0 as the matrix
+    * becomes singular. The estimate is never below the actual reciprocal condition number and is in
+    * practice within a small factor of it.
+    *
+    * @return the estimated reciprocal condition number, 0 if this is singular.
+    * @throws IllegalArgumentException if this matrix is not square.
+    */
+   public double rcond()
+   {
+      if (getNumRows() != getNumCols())
+      {
+         throw new IllegalArgumentException("The matrix needs to be square. Size " + getNumRows() + "x" + getNumCols() + ".");
+      }
+
+      return impl.rcond();
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is symmetric positive definite, e.g. a QP Hessian or a covariance, using a
+    * Cholesky decomposition. This is about half the cost of {@link #solve(NativeMatrix, NativeMatrix)}.
+    * <p>
+    * Only the lower triangle of {@code a} is used. {@code b} can have multiple columns. This
+    * operation reshapes this to match the result of the operation, {@code a} and {@code b} can be
+    * this. To solve several times with the same {@code a}, keep the decomposition in a
+    * {@link NativeCholesky} instead.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when {@code a} is not positive definite, this is
+    *         then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveSPD(NativeMatrix a, NativeMatrix b)
+   {
+      checkSquareSystem(a, b);
+
+      NativeOperationEvent event = NativeOperationEvent.start();
+      boolean success = impl.solveSPD(a.impl, b.impl);
+      event.end(NativeOperation.SOLVE, a);
+      return success;
+   }
+
+   /**
+    * Inverts a symmetric positive definite matrix and stores the result in this, using a Cholesky
+    * decomposition.
+    * <p>
+    * Only the lower triangle of {@code a} is used. This operation reshapes this to match the result
+    * of the operation, {@code a} can be this.
+    * </p>
+    *
+    * @param a matrix to invert. Not modified.
+    * @return whether the inverse was computed. It is not when {@code a} is not positive definite,
+    *         this is then unchanged.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean invertSPD(NativeMatrix a)
+   {
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      NativeOperationEvent event = NativeOperationEvent.start();
+      boolean success = impl.invertSPD(a.impl);
+      event.end(NativeOperation.INVERT, a);
+      return success;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is symmetric, using a LDLT decomposition with pivoting. Unlike
+    * {@link #solveSPD(NativeMatrix, NativeMatrix)}, {@code a} can be positive semi-definite or indefinite.
+    * <p>
+    * Only the lower triangle of {@code a} is used. {@code b} can have multiple columns. This
+    * operation reshapes this to match the result of the operation, {@code a} and {@code b} can be
+    * this.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when {@code a} is singular, i.e. when a pivot
+    *         of the decomposition is not above n * &epsilon; times the largest pivot, this is then
+    *         unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveSymmetric(NativeMatrix a, NativeMatrix b)
+   {
+      checkSquareSystem(a, b);
+
+      NativeOperationEvent event = NativeOperationEvent.start();
+      boolean success = impl.solveSymmetric(a.impl, b.impl);
+      event.end(NativeOperation.SOLVE, a);
+      return success;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is lower triangular, by forward substitution. The strictly upper part of
+    * {@code a} is not read.
+    * <p>
+    * This operation reshapes this to match the result of the operation. {@code b} can be this.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when the diagonal of {@code a} has a zero, this
+    *         is then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if {@code a} is
+    *                                  this.
+    */
+   public boolean solveLowerTriangular(NativeMatrix a, NativeMatrix b)
+   {
+      checkTriangularSystem(a, b);
+      return impl.solveLowerTriangular(a.impl, b.impl);
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * where {@code a} is upper triangular, by backward substitution. The strictly lower part of
+    * {@code a} is not read.
+    * <p>
+    * This operation reshapes this to match the result of the operation. {@code b} can be this.
+    * </p>
+    *
+    * @param a matrix in equation. Not modified.
+    * @param b matrix in equation. Not modified.
+    * @return whether a solution was found. It is not when the diagonal of {@code a} has a zero, this
+    *         is then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if {@code a} is
+    *                                  this.
+    */
+   public boolean solveUpperTriangular(NativeMatrix a, NativeMatrix b)
+   {
+      checkTriangularSystem(a, b);
+      return impl.solveUpperTriangular(a.impl, b.impl);
+   }
+
+   private static void checkSquareSystem(NativeMatrix a, NativeMatrix b)
+   {
+      if (a.getNumRows() != a.getNumCols() || a.getNumRows() != b.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   private void checkTriangularSystem(NativeMatrix a, NativeMatrix b)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not solve in place. The result matrix needs to be different from the system matrix.");
+      }
+
+      checkSquareSystem(a, b);
+   }
+
+   /**
+    * Computes the Moore-Penrose pseudo-inverse of a matrix and stores the result in this.
+    * <p>
+    * This method uses a singular value decomposition. Singular values smaller than
+    * {@code tolerance} times the largest singular value are treated as zero, which makes the result
+    * robust to rank deficient matrices. To reuse the decomposition and its memory, use
+    * {@link NativeSVD}.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a         matrix to compute the pseudo-inverse of. Not modified.
+    * @param tolerance the relative threshold under which singular values are truncated.
+    */
+   public void pseudoInverse(NativeMatrix a, double tolerance)
+   {
+      NativeOperationEvent event = NativeOperationEvent.start();
+      impl.pseudoInverse(a.impl, tolerance);
+      event.end(NativeOperation.PSEUDO_INVERSE, a);
+   }
+
+   /**
+    * Computes the singular values of a matrix and stores them in this, sorted in decreasing order.
+    * <p>
+    * This operation reshapes this to a column vector of size {@code min(a.getNumRows(), a.getNumCols())}.
+    * </p>
+    *
+    * @param a matrix to compute the singular values of. Not modified.
+    */
+   public void singularValues(NativeMatrix a)
+   {
+      impl.singularValues(a.impl);
+   }
+
+   /**
+    * Computes the matrix exponential of a square matrix and stores the result in this, e.g. to
+    * discretize continuous dynamics with {@code F = exp(A * dt)}.
+    * <p>
+    * This method uses scaling and squaring with a Pad&eacute; approximant.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix to compute the exponential of. Not modified.
+    * @return whether the result is finite.
+    * @throws IllegalArgumentException if the matrix is not square or if {@code a} is this.
+    */
+   public boolean matrixExponential(NativeMatrix a)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the exponential in place. The result matrix needs to be different from the input matrix.");
+      }
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.matrixExponential(a.impl);
+   }
+
+   /**
+    * Computes the principal square root {@code s} of a square matrix, such that {@code s * s == a},
+    * and stores the result in this.
+    * <p>
+    * This method uses a real Schur decomposition. For symmetric matrices, {@link NativeEigenSolver}
+    * is faster.
+    * </p>
+    * <p>
+    * This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a matrix to compute the square root of. Not modified.
+    * @return whether a real square root was found. It does not exist when {@code a} has negative real
+    *         eigenvalues.
+    * @throws IllegalArgumentException if the matrix is not square or if {@code a} is this.
+    */
+   public boolean matrixSquareRoot(NativeMatrix a)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the square root in place. The result matrix needs to be different from the input matrix.");
+      }
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.matrixSquareRoot(a.impl);
    }
 
    /**
@@ -838,6 +1344,134 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
       }
    }
    
+   /**
+    * Copies the given matrix 3D into this.
+    * <p>
+    * This operation reshapes this to a 3-by-3 matrix.
+    * </p>
+    *
+    * @param matrix The matrix which is to be copied. Not modified.
+    */
+   public void set(Matrix3DReadOnly matrix)
+   {
+      reshape(3, 3);
+      insert(matrix, 0, 0);
+   }
+
+   /**
+    * Packs the 3-by-3 block starting at (startRow, startCol) of this matrix into a matrix 3D.
+    *
+    * @param startRow      the first row index of the block to extract.
+    * @param startCol      the first column index of the block to extract.
+    * @param matrixToPack the matrix used to store the block. Modified.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void get(int startRow, int startCol, Matrix3DBasics matrixToPack)
+   {
+      double[] buffer = getFixedSizeBuffer();
+
+      if (!impl.extractMatrix3(startRow, startCol, buffer))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      matrixToPack.set(buffer[0], buffer[1], buffer[2], buffer[3], buffer[4], buffer[5], buffer[6], buffer[7], buffer[8]);
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * this = a * b
+    * <p>
+    * The multiplication is done natively on fixed-size kernels without converting {@code a} to a
+    * dense matrix first. This operation reshapes this to match the result of the operation.
+    * </p>
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b right matrix in multiplication, must have 3 rows. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(Matrix3DReadOnly a, NativeMatrix b)
+   {
+      if (!impl.multMatrix3(a.getM00(), a.getM01(), a.getM02(), a.getM10(), a.getM11(), a.getM12(), a.getM20(), a.getM21(), a.getM22(), b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Insert a 6-by-6 spatial matrix at (startRow, startCol) in this matrix. The spatial matrix is
+    * given by its four 3-by-3 blocks:
+    * 
+    * <pre>
+    * / topLeft    topRight    \
+    * \ bottomLeft bottomRight /
+    * </pre>
+    * <p>
+    * The whole block is transferred in a single native call.
+    * </p>
+    *
+    * @param topLeft     the upper-left block, typically the angular part. Not modified.
+    * @param topRight    the upper-right block. Not modified.
+    * @param bottomLeft  the lower-left block. Not modified.
+    * @param bottomRight the lower-right block, typically the linear part. Not modified.
+    * @param startRow    the first row index of the block in this.
+    * @param startCol    the first column index of the block in this.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void insertSpatial(Matrix3DReadOnly topLeft, Matrix3DReadOnly topRight, Matrix3DReadOnly bottomLeft, Matrix3DReadOnly bottomRight, int startRow,
+                             int startCol)
+   {
+      double[] buffer = getFixedSizeBuffer();
+      packSpatialBlock(topLeft, buffer, 0, 0);
+      packSpatialBlock(topRight, buffer, 0, 3);
+      packSpatialBlock(bottomLeft, buffer, 3, 0);
+      packSpatialBlock(bottomRight, buffer, 3, 3);
+
+      if (!impl.insertSpatial(startRow, startCol, buffer))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Copies the 6-by-6 spatial matrix given by its four 3-by-3 blocks into this.
+    * <p>
+    * This operation reshapes this to a 6-by-6 matrix.
+    * </p>
+    *
+    * @param topLeft     the upper-left block. Not modified.
+    * @param topRight    the upper-right block. Not modified.
+    * @param bottomLeft  the lower-left block. Not modified.
+    * @param bottomRight the lower-right block. Not modified.
+    * @see #insertSpatial(Matrix3DReadOnly, Matrix3DReadOnly, Matrix3DReadOnly, Matrix3DReadOnly, int, int)
+    */
+   public void setSpatial(Matrix3DReadOnly topLeft, Matrix3DReadOnly topRight, Matrix3DReadOnly bottomLeft, Matrix3DReadOnly bottomRight)
+   {
+      reshape(6, 6);
+      insertSpatial(topLeft, topRight, bottomLeft, bottomRight, 0, 0);
+   }
+
+   private static void packSpatialBlock(Matrix3DReadOnly block, double[] rowMajor6x6, int startRow, int startCol)
+   {
+      int index = startRow * 6 + startCol;
+      rowMajor6x6[index++] = block.getM00();
+      rowMajor6x6[index++] = block.getM01();
+      rowMajor6x6[index] = block.getM02();
+      index += 4;
+      rowMajor6x6[index++] = block.getM10();
+      rowMajor6x6[index++] = block.getM11();
+      rowMajor6x6[index] = block.getM12();
+      index += 4;
+      rowMajor6x6[index++] = block.getM20();
+      rowMajor6x6[index++] = block.getM21();
+      rowMajor6x6[index] = block.getM22();
+   }
+
+   private static double[] getFixedSizeBuffer()
+   {
+      return fixedSizeBuffer.get();
+   }
+
    /**
     * Insert a tuple at (startRow, startcol) in this matrix as a row
     * 
@@ -1133,6 +1767,239 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
       }
    }
 
+   /**
+    * Removes several rows from this in a single pass, shifting the remaining rows up.
+    * <p>
+    * This is equivalent to calling {@link #removeRow(int)} from the last index to the first, but
+    * moves each remaining element only once.
+    * </p>
+    *
+    * @param rows the indices of the rows to remove, in strictly increasing order. Not modified.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeRows(int[] rows)
+   {
+      removeRows(rows, rows.length);
+   }
+
+   /**
+    * Removes several rows from this in a single pass, shifting the remaining rows up.
+    *
+    * @param rows         the indices of the rows to remove, in strictly increasing order. Not
+    *                     modified.
+    * @param numberOfRows the number of indices to use from the start of {@code rows}.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeRows(int[] rows, int numberOfRows)
+   {
+      if (numberOfRows < 0 || numberOfRows > rows.length || !impl.removeRows(rows, numberOfRows))
+      {
+         throw new IllegalArgumentException("Rows out of bounds or not in increasing order.");
+      }
+   }
+
+   /**
+    * Removes several columns from this in a single pass, shifting the remaining columns left.
+    *
+    * @param cols the indices of the columns to remove, in strictly increasing order. Not modified.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeColumns(int[] cols)
+   {
+      removeColumns(cols, cols.length);
+   }
+
+   /**
+    * Removes several columns from this in a single pass, shifting the remaining columns left.
+    *
+    * @param cols         the indices of the columns to remove, in strictly increasing order. Not
+    *                     modified.
+    * @param numberOfCols the number of indices to use from the start of {@code cols}.
+    * @throws IllegalArgumentException if the indices are out of bounds or not strictly increasing.
+    */
+   public void removeColumns(int[] cols, int numberOfCols)
+   {
+      if (numberOfCols < 0 || numberOfCols > cols.length || !impl.removeColumns(cols, numberOfCols))
+      {
+         throw new IllegalArgumentException("Cols out of bounds or not in increasing order.");
+      }
+   }
+
+   /**
+    * Appends the rows of {@code src} below the rows of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no rows, it takes the number of columns of {@code src}.
+    * </p>
+    *
+    * @param src the rows to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of columns differ.
+    */
+   public void appendRows(NativeMatrix src)
+   {
+      if (!impl.appendRows(src.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Appends the rows of {@code src} below the rows of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no rows, it takes the number of columns of {@code src}.
+    * </p>
+    *
+    * @param src the rows to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of columns differ.
+    */
+   public void appendRows(DMatrixRMaj src)
+   {
+      if (!impl.appendRows(src.data, src.numRows, src.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Appends the columns of {@code src} to the right of the columns of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no columns, it takes the number of rows of {@code src}.
+    * </p>
+    *
+    * @param src the columns to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of rows differ.
+    */
+   public void appendColumns(NativeMatrix src)
+   {
+      if (!impl.appendColumns(src.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Appends the columns of {@code src} to the right of the columns of this.
+    * <p>
+    * This operation keeps the values of this and grows its capacity geometrically, see
+    * {@link #reserve(int)}. If this has no columns, it takes the number of rows of {@code src}.
+    * </p>
+    *
+    * @param src the columns to append. Not modified.
+    * @throws IllegalArgumentException if the numbers of rows differ.
+    */
+   public void appendColumns(DMatrixRMaj src)
+   {
+      if (!impl.appendColumns(src.data, src.numRows, src.numCols))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets this to the rows of {@code a} at the given indices:<br>
+    * this(i, :) = a(rows[i], :)
+    * <p>
+    * The indices can be in any order and repeated. This operation reshapes this to
+    * {@code rows.length} by {@code a.getNumCols()}.
+    * </p>
+    *
+    * @param a    the matrix to select the rows from. Not modified.
+    * @param rows the indices of the rows to select. Not modified.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectRows(NativeMatrix a, int[] rows)
+   {
+      selectRows(a, rows, rows.length);
+   }
+
+   /**
+    * Sets this to the rows of {@code a} at the first {@code numberOfRows} indices of {@code rows}.
+    *
+    * @param a            the matrix to select the rows from. Not modified.
+    * @param rows         the indices of the rows to select. Not modified.
+    * @param numberOfRows the number of indices to use from the start of {@code rows}.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectRows(NativeMatrix a, int[] rows, int numberOfRows)
+   {
+      if (numberOfRows > rows.length || !impl.selectRows(a.impl, rows, numberOfRows))
+      {
+         throw new IllegalArgumentException("Rows out of bounds.");
+      }
+   }
+
+   /**
+    * Sets this to the columns of {@code a} at the given indices:<br>
+    * this(:, i) = a(:, cols[i])
+    * <p>
+    * The indices can be in any order and repeated. This operation reshapes this to
+    * {@code a.getNumRows()} by {@code cols.length}.
+    * </p>
+    *
+    * @param a    the matrix to select the columns from. Not modified.
+    * @param cols the indices of the columns to select. Not modified.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectColumns(NativeMatrix a, int[] cols)
+   {
+      selectColumns(a, cols, cols.length);
+   }
+
+   /**
+    * Sets this to the columns of {@code a} at the first {@code numberOfCols} indices of
+    * {@code cols}.
+    *
+    * @param a            the matrix to select the columns from. Not modified.
+    * @param cols         the indices of the columns to select. Not modified.
+    * @param numberOfCols the number of indices to use from the start of {@code cols}.
+    * @throws IllegalArgumentException if an index is out of bounds.
+    */
+   public void selectColumns(NativeMatrix a, int[] cols, int numberOfCols)
+   {
+      if (numberOfCols > cols.length || !impl.selectColumns(a.impl, cols, numberOfCols))
+      {
+         throw new IllegalArgumentException("Cols out of bounds.");
+      }
+   }
+
+   /**
+    * Adds the rows of {@code a} to the rows of this at the given indices:<br>
+    * this(rows[i], :) = this(rows[i], :) + a(i, :)
+    * <p>
+    * The indices can be in any order. The rows of {@code a} that go to the same index are all
+    * added.
+    * </p>
+    *
+    * @param a    the rows to add, with {@code rows.length} rows. Not modified.
+    * @param rows the indices of the rows of this to add to. Not modified.
+    * @throws IllegalArgumentException if an index is out of bounds or the matrix dimensions are
+    *                                  incompatible.
+    */
+   public void scatterAddRows(NativeMatrix a, int[] rows)
+   {
+      scatterAddRows(a, rows, rows.length);
+   }
+
+   /**
+    * Adds the rows of {@code a} to the rows of this at the first {@code numberOfRows} indices of
+    * {@code rows}.
+    *
+    * @param a            the rows to add, with {@code numberOfRows} rows. Not modified.
+    * @param rows         the indices of the rows of this to add to. Not modified.
+    * @param numberOfRows the number of indices to use from the start of {@code rows}.
+    * @throws IllegalArgumentException if an index is out of bounds or the matrix dimensions are
+    *                                  incompatible.
+    */
+   public void scatterAddRows(NativeMatrix a, int[] rows, int numberOfRows)
+   {
+      if (numberOfRows > rows.length || !impl.scatterAddRows(a.impl, rows, numberOfRows))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
    /**
     * Sets all elements equal to zero.
     */
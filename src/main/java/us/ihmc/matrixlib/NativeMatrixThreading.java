@@ -0,0 +1,81 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeMatrixThreadingImpl;
+
+/**
+ * {@code NativeMatrixThreading} controls how many threads the native library may use for large
+ * matrix operations.
+ * <p>
+ * When the native library is built with OpenMP, the dynamic-size products ({@code mult},
+ * {@code multTransA}, {@code multQuad}, ...) and the LU based {@code invert} and {@code solve} of
+ * {@link NativeMatrix} and {@link NativeFMatrix} can split their work over several threads. This
+ * pays off for matrices of a few hundred rows and more, e.g. the Hessians of an offline trajectory
+ * optimization, while for small matrices the cost of waking up the worker threads dominates.
+ * </p>
+ * <p>
+ * The limit is kept per calling thread and defaults to 1: a thread that does not call
+ * {@link #setMaxThreads(int)}, such as a real-time control thread, never forks worker threads and
+ * is not affected by a batch job raising its own limit in parallel.
+ * </p>
+ */
+public final class NativeMatrixThreading
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private NativeMatrixThreading()
+   {
+   }
+
+   /**
+    * Sets the maximum number of threads the native operations called from the current thread may
+    * use.
+    *
+    * @param maxThreads the maximum number of threads, 1 to run single-threaded.
+    * @throws IllegalArgumentException if {@code maxThreads} is less than 1.
+    */
+   public static void setMaxThreads(int maxThreads)
+   {
+      if (maxThreads < 1)
+      {
+         throw new IllegalArgumentException("The maximum number of threads has to be at least 1, was: " + maxThreads);
+      }
+
+      NativeMatrixThreadingImpl.setMaxThreads(maxThreads);
+   }
+
+   /**
+    * Returns the maximum number of threads the native operations called from the current thread may
+    * use.
+    *
+    * @return the maximum number of threads, 1 unless raised with {@link #setMaxThreads(int)} from
+    *         the current thread.
+    */
+   public static int getMaxThreads()
+   {
+      return NativeMatrixThreadingImpl.getMaxThreads();
+   }
+
+   /**
+    * Returns the number of processors available to the native library.
+    *
+    * @return the number of processors, or 1 if the native library is built without OpenMP.
+    */
+   public static int getNumberOfProcessors()
+   {
+      return NativeMatrixThreadingImpl.getNumberOfProcessors();
+   }
+
+   /**
+    * Returns whether the native library is built with OpenMP. When it is not, all native operations
+    * run single-threaded regardless of {@link #setMaxThreads(int)}.
+    *
+    * @return {@code true} if the native operations can run in parallel.
+    */
+   public static boolean isParallelizationAvailable()
+   {
+      return NativeMatrixThreadingImpl.isParallelizationAvailable();
+   }
+}
@@ -5,6 +5,11 @@ import us.ihmc.matrixlib.jni.NativeNullspaceProjectorImpl;
 /**
  * {@code NativeNullspaceProjector} can be used to project a first matrix into the nullspace of a
  * second matrix. The entire operation is performed in C++ to maximize performance.
+ * <p>
+ * The projector keeps the workspace of the projection between calls and can therefore not be used
+ * by several threads at the same time. Parallel callers should use one projector per thread, e.g.
+ * through {@link #createThreadLocal(int)}.
+ * </p>
  * 
  * @author Jesper Smith
  */
@@ -12,6 +17,21 @@ public class NativeNullspaceProjector
 {
    private final NativeNullspaceProjectorImpl impl;
 
+   /**
+    * Creates a {@link ThreadLocal} providing each thread with its own projector for the given
+    * problem size, so parallel tasks, e.g. running on a {@link java.util.concurrent.ForkJoinPool},
+    * can use it without locking. The instance is created on the first use in each thread.
+    *
+    * @param matrixSize the problem size the projectors can solve.
+    * @return the thread local projector.
+    */
+   public static ThreadLocal<NativeNullspaceProjector> createThreadLocal(int matrixSize)
+   {
+      if (matrixSize < 0)
+         throw new IllegalArgumentException("Matrix size cannot be negative");
+      return ThreadLocal.withInitial(() -> new NativeNullspaceProjector(matrixSize));
+   }
+
    /**
     * Creates a new instance of a nullspace projector for a given problem size.
     * 
@@ -0,0 +1,33 @@
+package us.ihmc.matrixlib;
+
+/**
+ * The types of native operations measured by {@link NativeInstrumentation}. Each type groups the
+ * variants of an operation, e.g. {@link #MULT} covers {@code mult}, {@code multAdd},
+ * {@code multTransA}, {@code multAddBlock}, ... of {@link NativeMatrix} and {@link NativeFMatrix} as
+ * well as {@link NativeCommonOps#mult}.
+ */
+public enum NativeOperation
+{
+   /** The products {@code a * b} in all their variants. */
+   MULT,
+   /** The quadratic forms {@code a' * b * a} in all their variants. */
+   MULT_QUAD,
+   /** The linear solvers, including the damped, robust and batch solvers of {@link NativeCommonOps}. */
+   SOLVE,
+   /** The matrix inverses. */
+   INVERT,
+   /** The pseudo inverses. */
+   PSEUDO_INVERSE,
+   /** The nullspace projections of {@link NativeCommonOps}, including the batch projection. */
+   PROJECT_ON_NULLSPACE,
+   /** {@link NativeKalmanFilter#predictErrorCovariance}. */
+   KALMAN_PREDICT_ERROR_COVARIANCE,
+   /** {@link NativeKalmanFilter#computeKalmanGain}. */
+   KALMAN_GAIN,
+   /** {@link NativeKalmanFilter#updateState}. */
+   KALMAN_UPDATE_STATE,
+   /** {@link NativeKalmanFilter#updateErrorCovariance}. */
+   KALMAN_UPDATE_ERROR_COVARIANCE;
+
+   static final NativeOperation[] values = values();
+}
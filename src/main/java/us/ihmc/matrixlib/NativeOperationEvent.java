@@ -0,0 +1,174 @@
+package us.ihmc.matrixlib;
+
+import java.util.Set;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingControl;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event emitted by the native operations of {@link NativeMatrix},
+ * {@link NativeCommonOps} and {@link NativeKalmanFilter}, so that jitter in a recording can be
+ * correlated with the matrix operations running at that time.
+ * <p>
+ * The event is disabled by default. When enabled, an operation is recorded if it lasts at least the
+ * {@code threshold} and its main operand, e.g. the left matrix of a product or the matrix of a
+ * solve, has at least {@code minimumSize} rows or columns. With the settings {@code threshold=1 ms}
+ * and {@code minimumSize=0} only the slow operations are recorded, while with
+ * {@code threshold=0 ms} and {@code minimumSize=200} only the large ones are. The settings can be
+ * given in a {@code .jfc} file or on the command line:
+ * </p>
+ *
+ * <pre>
+ * -XX:StartFlightRecording:us.ihmc.matrixlib.NativeOperation#enabled=true,us.ihmc.matrixlib.NativeOperation#threshold=500us
+ * </pre>
+ * <p>
+ * While the event is disabled, or no recording is running, the instrumented operations only pay for
+ * the check of {@link #isEnabled()}.
+ * </p>
+ */
+@Name(NativeOperationEvent.NAME)
+@Label("Native Matrix Operation")
+@Category({"IHMC", "Matrix Library"})
+@Description("A native matrix operation that was slow or large")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(true)
+public final class NativeOperationEvent extends Event
+{
+   /** The name of the event in the recordings and the settings. */
+   public static final String NAME = "us.ihmc.matrixlib.NativeOperation";
+
+   @Label("Operation")
+   private String operation;
+
+   @Label("Rows")
+   @Description("Number of rows of the main operand, e.g. the left matrix of a product")
+   private int rows;
+
+   @Label("Columns")
+   @Description("Number of columns of the main operand, e.g. the left matrix of a product")
+   private int cols;
+
+   NativeOperationEvent()
+   {
+   }
+
+   /**
+    * Starts timing an operation.
+    *
+    * @return the event to pass the operation to once it completed.
+    */
+   static NativeOperationEvent start()
+   {
+      NativeOperationEvent event = new NativeOperationEvent();
+      event.begin();
+      return event;
+   }
+
+   /**
+    * Completes the timing of an operation and records it if it meets the settings of the event.
+    *
+    * @param operation the operation that completed.
+    * @param operand   the main operand of the operation, whose size is recorded. Not modified.
+    */
+   void end(NativeOperation operation, NativeMatrix operand)
+   {
+      if (isEnabled())
+      {
+         end(operation, operand.getNumRows(), operand.getNumCols());
+      }
+   }
+
+   /**
+    * Completes the timing of an operation and records it if it meets the settings of the event.
+    *
+    * @param operation the operation that completed.
+    * @param rows      the number of rows of the main operand.
+    * @param cols      the number of columns of the main operand.
+    */
+   void end(NativeOperation operation, int rows, int cols)
+   {
+      if (isEnabled())
+      {
+         end();
+         this.rows = rows;
+         this.cols = cols;
+         if (shouldCommit())
+         {
+            this.operation = operation.name();
+            commit();
+         }
+      }
+   }
+
+   @Name("minimumSize")
+   @Label("Minimum Size")
+   @Description("Record only the operations whose main operand has at least this number of rows or columns")
+   @SettingDefinition
+   boolean minimumSize(MinimumSizeSetting setting)
+   {
+      return setting.accept(rows, cols);
+   }
+
+   /**
+    * The {@code minimumSize} setting of {@link NativeOperationEvent}. When several recordings set
+    * different values, the smallest one applies so that every recording gets at least the events it
+    * asked for.
+    */
+   public static final class MinimumSizeSetting extends SettingControl
+   {
+      private volatile int minimumSize = 0;
+
+      public MinimumSizeSetting()
+      {
+      }
+
+      @Override
+      public String combine(Set<String> values)
+      {
+         int combined = Integer.MAX_VALUE;
+         for (String value : values)
+         {
+            combined = Math.min(combined, parse(value));
+         }
+         return values.isEmpty() ? "0" : Integer.toString(combined);
+      }
+
+      @Override
+      public void setValue(String value)
+      {
+         minimumSize = parse(value);
+      }
+
+      @Override
+      public String getValue()
+      {
+         return Integer.toString(minimumSize);
+      }
+
+      boolean accept(int rows, int cols)
+      {
+         return Math.max(rows, cols) >= minimumSize;
+      }
+
+      private static int parse(String value)
+      {
+         try
+         {
+            return Math.max(0, Integer.parseInt(value.trim()));
+         }
+         catch (NumberFormatException e)
+         {
+            return 0;
+         }
+      }
+   }
+}
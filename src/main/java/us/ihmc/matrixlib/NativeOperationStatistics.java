@@ -0,0 +1,107 @@
+package us.ihmc.matrixlib;
+
+/**
+ * The statistics of one type of native operation, as collected by {@link NativeInstrumentation}
+ * since it was enabled or last reset.
+ * <p>
+ * Instances are immutable snapshots: they are not updated by later calls.
+ * </p>
+ */
+public final class NativeOperationStatistics
+{
+   private final NativeOperation operation;
+   private final long callCount;
+   private final long totalNanoseconds;
+   private final long maxNanoseconds;
+   private final int maxRows;
+   private final int maxCols;
+
+   NativeOperationStatistics(NativeOperation operation, long callCount, long totalNanoseconds, long maxNanoseconds, int maxRows, int maxCols)
+   {
+      this.operation = operation;
+      this.callCount = callCount;
+      this.totalNanoseconds = totalNanoseconds;
+      this.maxNanoseconds = maxNanoseconds;
+      this.maxRows = maxRows;
+      this.maxCols = maxCols;
+   }
+
+   /**
+    * Returns the type of operation these statistics are about.
+    *
+    * @return the operation.
+    */
+   public NativeOperation getOperation()
+   {
+      return operation;
+   }
+
+   /**
+    * Returns the number of calls.
+    *
+    * @return the number of calls.
+    */
+   public long getCallCount()
+   {
+      return callCount;
+   }
+
+   /**
+    * Returns the time spent in the native code over all calls.
+    *
+    * @return the cumulative time in nanoseconds.
+    */
+   public long getTotalNanoseconds()
+   {
+      return totalNanoseconds;
+   }
+
+   /**
+    * Returns the time spent in the native code by the slowest call.
+    *
+    * @return the maximum time in nanoseconds.
+    */
+   public long getMaxNanoseconds()
+   {
+      return maxNanoseconds;
+   }
+
+   /**
+    * Returns the average time spent in the native code per call.
+    *
+    * @return the average time in nanoseconds, 0 if there was no call.
+    */
+   public double getAverageNanoseconds()
+   {
+      return callCount == 0 ? 0.0 : (double) totalNanoseconds / callCount;
+   }
+
+   /**
+    * Returns the largest number of rows of the main operand of the calls: the left matrix of a
+    * product, the matrix of a quadratic form, solve or inverse, the gain or covariance of a Kalman
+    * filter step.
+    *
+    * @return the largest number of rows.
+    */
+   public int getMaxRows()
+   {
+      return maxRows;
+   }
+
+   /**
+    * Returns the largest number of columns of the main operand of the calls, see
+    * {@link #getMaxRows()}.
+    *
+    * @return the largest number of columns.
+    */
+   public int getMaxCols()
+   {
+      return maxCols;
+   }
+
+   @Override
+   public String toString()
+   {
+      return operation + ": " + callCount + " calls, total " + totalNanoseconds + " ns, max " + maxNanoseconds + " ns, max size " + maxRows + "x" + maxCols;
+   }
+}
@@ -0,0 +1,153 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import us.ihmc.matrixlib.jni.NativeQPCostAccumulatorImpl;
+
+/**
+ * {@code NativeQPCostAccumulator} computes the quadratic cost of a set of weighted least-squares
+ * tasks in a single native call:
+ *
+ * <pre>
+ * H = &sum;<sub>i</sub> J<sub>i</sub><sup>T</sup> W<sub>i</sub> J<sub>i</sub>
+ * f = &sum;<sub>i</sub> J<sub>i</sub><sup>T</sup> W<sub>i</sub> b<sub>i</sub>
+ * </pre>
+ *
+ * where {@code J}<sub>i</sub> is the task Jacobian, {@code b}<sub>i</sub> its objective and
+ * {@code W}<sub>i</sub> a diagonal weight matrix. Each task only acts on the variables starting at
+ * its column offset. Minimizing {@code &sum; (J x - b)' W (J x - b)} corresponds to the cost
+ * {@code 0.5 x' (2 H) x - (2 f)' x}, so the sign and scale of {@code f} may have to be adapted to
+ * the solver convention.
+ * <p>
+ * The tasks are registered once with
+ * {@link #addTask(NativeMatrix, NativeMatrix, NativeMatrix, int)} and refer to their matrices, not
+ * to their values. A control loop updates the task matrices and calls
+ * {@link #compute(NativeMatrix, NativeMatrix)} every tick, which replaces one
+ * {@link NativeMatrix#multAddQuadBlock} and {@link NativeMatrix#multAddBlockTransA} call per task.
+ * The Hessian is accumulated with symmetric rank-k updates of its lower triangle only. The native
+ * workspace is sized for the largest task and shared by all tasks, so {@code compute} only
+ * allocates when a task becomes larger than any task seen before.
+ * </p>
+ * <p>
+ * The task list and the workspace are state shared by all methods, so an instance must not be used
+ * by several threads at the same time.
+ * </p>
+ */
+public class NativeQPCostAccumulator
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeQPCostAccumulatorImpl impl;
+   /** Keeps the task matrices from being garbage collected while the native side refers to them. */
+   private final List<NativeMatrix> taskMatrices = new ArrayList<>();
+
+   /**
+    * Creates a new accumulator with no tasks.
+    *
+    * @param numberOfVariables the size of the Hessian.
+    */
+   public NativeQPCostAccumulator(int numberOfVariables)
+   {
+      checkNumberOfVariables(numberOfVariables);
+      impl = new NativeQPCostAccumulatorImpl(numberOfVariables);
+   }
+
+   /**
+    * Changes the size of the Hessian. The tasks are kept and are checked against the new size on the
+    * next call to {@link #compute(NativeMatrix, NativeMatrix)}.
+    *
+    * @param numberOfVariables the size of the Hessian.
+    */
+   public void setNumberOfVariables(int numberOfVariables)
+   {
+      checkNumberOfVariables(numberOfVariables);
+      impl.setNumberOfVariables(numberOfVariables);
+   }
+
+   /**
+    * Returns the size of the Hessian.
+    *
+    * @return the number of variables.
+    */
+   public int getNumberOfVariables()
+   {
+      return impl.numberOfVariables();
+   }
+
+   /**
+    * Registers a task. The matrices are not copied: their values, and even their sizes, may change
+    * between two calls to {@link #compute(NativeMatrix, NativeMatrix)}.
+    * <p>
+    * The weight is either a 1-by-1 matrix holding the same weight for all rows of the task, a column
+    * vector holding the diagonal of {@code W}, or a square matrix of which only the diagonal is used.
+    * The weights cannot be negative.
+    * </p>
+    *
+    * @param jacobian     the task Jacobian {@code J}. Not modified.
+    * @param objective    the task objective {@code b} as a column vector. Not modified.
+    * @param weight       the diagonal weight {@code W}. Not modified.
+    * @param columnOffset the index of the variable corresponding to the first column of
+    *                     {@code jacobian}.
+    * @return the index of the task.
+    */
+   public int addTask(NativeMatrix jacobian, NativeMatrix objective, NativeMatrix weight, int columnOffset)
+   {
+      taskMatrices.add(jacobian);
+      taskMatrices.add(objective);
+      taskMatrices.add(weight);
+      return impl.addTask(jacobian.impl, objective.impl, weight.impl, columnOffset);
+   }
+
+   /**
+    * Removes all the tasks.
+    */
+   public void clearTasks()
+   {
+      impl.clearTasks();
+      taskMatrices.clear();
+   }
+
+   /**
+    * Returns the number of tasks registered.
+    *
+    * @return the number of tasks.
+    */
+   public int getNumberOfTasks()
+   {
+      return impl.numberOfTasks();
+   }
+
+   /**
+    * Computes the Hessian {@code H} and the linear term {@code f} from the current values of the
+    * task matrices.
+    * <p>
+    * This operation reshapes {@code H} to a square matrix of size {@link #getNumberOfVariables()}
+    * and {@code f} to a column vector of the same size. Variables not touched by any task have zero
+    * rows and columns.
+    * </p>
+    *
+    * @param H where the Hessian is stored. Modified.
+    * @param f where the linear term is stored. Modified.
+    * @throws IllegalArgumentException if a task does not fit in the variables, its objective or
+    *                                  weight does not match its Jacobian, or a weight is negative.
+    */
+   public void compute(NativeMatrix H, NativeMatrix f)
+   {
+      if (!impl.compute(H.impl, f.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   private static void checkNumberOfVariables(int numberOfVariables)
+   {
+      if (numberOfVariables < 0)
+      {
+         throw new IllegalArgumentException("The number of variables cannot be negative, was: " + numberOfVariables);
+      }
+   }
+}
@@ -0,0 +1,261 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeQPSolverImpl;
+
+/**
+ * {@code NativeQPSolver} solves dense, strictly convex quadratic programs in C++:
+ *
+ * <pre>
+ * min 0.5 x<sup>T</sup> H x + f<sup>T</sup> x
+ * s.t. A<sub>eq</sub> x == b<sub>eq</sub>
+ *      A<sub>in</sub> x &lt;= b<sub>in</sub>
+ *      x<sub>min</sub> &lt;= x &lt;= x<sub>max</sub>
+ * </pre>
+ * <p>
+ * The problem is solved with the dual active-set method of Goldfarb and Idnani, which updates the
+ * factorization of the active constraints incrementally when constraints are added or removed. The
+ * active set found by a solve is kept and the next solve starts from it: the factorization is seeded
+ * with these constraints, and adding or dropping constraints from there goes through the same
+ * incremental updates. When the problem changed little, e.g. between two control ticks, the solver
+ * typically converges in a single iteration. If the guess does not converge within a few iterations,
+ * the problem is solved from scratch.
+ * </p>
+ * <p>
+ * The cost function has to be set before the constraints. Changing the number of variables removes
+ * the constraints and resets the active set.
+ * </p>
+ * <p>
+ * A solver is not thread-safe, as the problem, the active set and the solver workspace are kept
+ * between calls. Solve independent problems in parallel with one solver per thread, e.g. through
+ * {@link #createThreadLocal()}, which also keeps a warm start for each thread.
+ * </p>
+ */
+public class NativeQPSolver
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeQPSolverImpl impl = new NativeQPSolverImpl();
+
+   /**
+    * Creates a {@link ThreadLocal} providing each thread with its own solver, so parallel tasks,
+    * e.g. running on a {@link java.util.concurrent.ForkJoinPool}, can use it without locking. The
+    * instance is created on the first use in each thread.
+    *
+    * @return the thread local solver.
+    */
+   public static ThreadLocal<NativeQPSolver> createThreadLocal()
+   {
+      return ThreadLocal.withInitial(NativeQPSolver::new);
+   }
+
+   /**
+    * Sets the cost function {@code 0.5 x' H x + f' x}.
+    *
+    * @param H the square, symmetric, positive definite quadratic cost. Not modified.
+    * @param f the linear cost, a column vector. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setQuadraticCostFunction(NativeMatrix H, NativeMatrix f)
+   {
+      if (!impl.setQuadraticCostFunction(H.impl, f.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets the constraints {@code Aeq x == beq}, replacing the previous equality constraints.
+    *
+    * @param Aeq the constraint matrix, one row per constraint. Not modified.
+    * @param beq the right-hand side, a column vector. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setLinearEqualityConstraints(NativeMatrix Aeq, NativeMatrix beq)
+   {
+      if (!impl.setLinearEqualityConstraints(Aeq.impl, beq.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets the constraints {@code Ain x <= bin}, replacing the previous inequality constraints.
+    *
+    * @param Ain the constraint matrix, one row per constraint. Not modified.
+    * @param bin the right-hand side, a column vector. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setLinearInequalityConstraints(NativeMatrix Ain, NativeMatrix bin)
+   {
+      if (!impl.setLinearInequalityConstraints(Ain.impl, bin.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Sets the bounds {@code lowerBounds <= x <= upperBounds}, replacing the previous bounds.
+    * <p>
+    * Infinite bounds are ignored, use {@link Double#NEGATIVE_INFINITY} or
+    * {@link Double#POSITIVE_INFINITY} to leave a variable unbounded.
+    * </p>
+    *
+    * @param lowerBounds the lower bounds, a column vector. Not modified.
+    * @param upperBounds the upper bounds, a column vector. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setVariableBounds(NativeMatrix lowerBounds, NativeMatrix upperBounds)
+   {
+      if (!impl.setVariableBounds(lowerBounds.impl, upperBounds.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Removes the equality constraints, the inequality constraints and the variable bounds. The active
+    * set is kept.
+    */
+   public void clearConstraints()
+   {
+      impl.clearConstraints();
+   }
+
+   /**
+    * Forgets the active set of the previous solve, the next solve starts from scratch.
+    */
+   public void resetActiveSet()
+   {
+      impl.resetActiveSet();
+   }
+
+   /**
+    * Sets the maximum number of iterations of a solve.
+    *
+    * @param maxIterations the maximum number of iterations.
+    */
+   public void setMaxNumberOfIterations(int maxIterations)
+   {
+      impl.setMaxIterations(maxIterations);
+   }
+
+   /**
+    * Sets the tolerance used on the constraint violations and on the Lagrange multipliers to decide
+    * that the solution is optimal.
+    *
+    * @param convergenceThreshold the tolerance.
+    */
+   public void setConvergenceThreshold(double convergenceThreshold)
+   {
+      impl.setConvergenceThreshold(convergenceThreshold);
+   }
+
+   /**
+    * Solves the quadratic program.
+    * <p>
+    * This operation reshapes {@code solutionToPack} to a column vector. When the solve fails, the
+    * solution is filled with {@link Double#NaN} and the active set is reset.
+    * </p>
+    *
+    * @param solutionToPack where the solution is stored. Modified.
+    * @return whether the solve succeeded. A solve fails when {@code H} is not positive definite, when
+    *         the equality constraints are linearly dependent, when the problem is infeasible or when
+    *         the maximum number of iterations is reached.
+    */
+   public boolean solve(NativeMatrix solutionToPack)
+   {
+      return impl.solve(solutionToPack.impl);
+   }
+
+   /**
+    * Returns the number of iterations done by the last solve.
+    *
+    * @return the number of iterations.
+    */
+   public int getNumberOfIterations()
+   {
+      return impl.iterations();
+   }
+
+   /**
+    * Returns the number of inequality constraints and bounds active at the solution of the last solve.
+    *
+    * @return the size of the active set.
+    */
+   public int getNumberOfActiveConstraints()
+   {
+      return impl.activeSetSize();
+   }
+
+   /**
+    * Returns whether the last solve converged from the active set of the previous solve.
+    *
+    * @return {@code true} if the last solve was warm started.
+    */
+   public boolean wasWarmStarted()
+   {
+      return impl.warmStarted();
+   }
+
+   /**
+    * Packs the Lagrange multipliers of the equality constraints at the solution of the last solve.
+    * <p>
+    * The multipliers satisfy
+    * {@code H x + f + Aeq' lambdaEq + Ain' lambdaIn + lambdaUpper - lambdaLower == 0}.
+    * </p>
+    * <p>
+    * This operation reshapes {@code multipliersToPack} to a column vector.
+    * </p>
+    *
+    * @param multipliersToPack where the multipliers are stored. Modified.
+    */
+   public void getLagrangeEqualityMultipliers(NativeMatrix multipliersToPack)
+   {
+      impl.getLagrangeEqualityMultipliers(multipliersToPack.impl);
+   }
+
+   /**
+    * Packs the Lagrange multipliers of the inequality constraints at the solution of the last solve.
+    * The multipliers are non-negative and zero for the inactive constraints.
+    * <p>
+    * This operation reshapes {@code multipliersToPack} to a column vector.
+    * </p>
+    *
+    * @param multipliersToPack where the multipliers are stored. Modified.
+    */
+   public void getLagrangeInequalityMultipliers(NativeMatrix multipliersToPack)
+   {
+      impl.getLagrangeInequalityMultipliers(multipliersToPack.impl);
+   }
+
+   /**
+    * Packs the Lagrange multipliers of the lower bounds at the solution of the last solve. The
+    * multipliers are non-negative and zero for the inactive bounds.
+    * <p>
+    * This operation reshapes {@code multipliersToPack} to a column vector.
+    * </p>
+    *
+    * @param multipliersToPack where the multipliers are stored. Modified.
+    */
+   public void getLagrangeLowerBoundMultipliers(NativeMatrix multipliersToPack)
+   {
+      impl.getLagrangeLowerBoundMultipliers(multipliersToPack.impl);
+   }
+
+   /**
+    * Packs the Lagrange multipliers of the upper bounds at the solution of the last solve. The
+    * multipliers are non-negative and zero for the inactive bounds.
+    * <p>
+    * This operation reshapes {@code multipliersToPack} to a column vector.
+    * </p>
+    *
+    * @param multipliersToPack where the multipliers are stored. Modified.
+    */
+   public void getLagrangeUpperBoundMultipliers(NativeMatrix multipliersToPack)
+   {
+      impl.getLagrangeUpperBoundMultipliers(multipliersToPack.impl);
+   }
+}
@@ -0,0 +1,174 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeSVDImpl;
+
+/**
+ * {@code NativeSVD} computes and retains the singular value decomposition
+ * {@code A = U * S * V'} of a matrix in C++.
+ * <p>
+ * Matrices with at most 16 rows or 16 columns, e.g. Jacobians, are decomposed with Eigen's Jacobi
+ * SVD. Its buffers and the memory used by the solvers are kept between calls, so repeatedly
+ * decomposing matrices of the same size, e.g. a Jacobian once per control tick, does not allocate.
+ * Larger matrices are decomposed with Eigen's divide and conquer SVD, which is faster on them but
+ * allocates on every decomposition.
+ * </p>
+ * <p>
+ * Once computed, the decomposition can be used for truncated or damped least-squares solves, which
+ * are robust to singular and near-singular matrices, and for the pseudo-inverse.
+ * </p>
+ * <p>
+ * As the decomposition is retained between calls, an instance must not be used by several threads
+ * at the same time. Parallel callers should use one instance per thread, e.g. through
+ * {@link #createThreadLocal()}.
+ * </p>
+ */
+public class NativeSVD
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeSVDImpl impl = new NativeSVDImpl();
+
+   /**
+    * Creates a {@link ThreadLocal} providing each thread with its own decomposition, so parallel
+    * tasks, e.g. running on a {@link java.util.concurrent.ForkJoinPool}, can use it without
+    * locking. The instance is created on the first use in each thread.
+    *
+    * @return the thread local decomposition.
+    */
+   public static ThreadLocal<NativeSVD> createThreadLocal()
+   {
+      return ThreadLocal.withInitial(NativeSVD::new);
+   }
+
+   /**
+    * Computes the decomposition of the given matrix, discarding the previous one.
+    *
+    * @param a the matrix to decompose. Not modified.
+    * @return whether the decomposition succeeded. It fails when the matrix contains non-finite
+    *         values.
+    */
+   public boolean compute(NativeMatrix a)
+   {
+      return impl.compute(a.impl);
+   }
+
+   /**
+    * Packs the singular values of the decomposed matrix, sorted in decreasing order.
+    * <p>
+    * This operation reshapes {@code singularValuesToPack} to a column vector.
+    * </p>
+    *
+    * @param singularValuesToPack where the singular values are stored. Modified.
+    * @throws IllegalStateException if no successful decomposition is available.
+    */
+   public void getSingularValues(NativeMatrix singularValuesToPack)
+   {
+      if (!impl.singularValues(singularValuesToPack.impl))
+      {
+         throw new IllegalStateException("No decomposition available.");
+      }
+   }
+
+   /**
+    * Returns the number of singular values larger than {@code tolerance} times the largest singular
+    * value.
+    *
+    * @param tolerance the relative threshold under which singular values are considered zero.
+    * @return the numerical rank of the decomposed matrix, or 0 if no decomposition is available.
+    */
+   public int getRank(double tolerance)
+   {
+      return impl.rank(tolerance);
+   }
+
+   /**
+    * Packs the pseudo-inverse {@code V * inverse(S) * U'} of the decomposed matrix. Singular values
+    * smaller than {@code tolerance} times the largest singular value are treated as zero.
+    * <p>
+    * This operation reshapes {@code pseudoInverseToPack} to match the transpose of the decomposed
+    * matrix.
+    * </p>
+    *
+    * @param pseudoInverseToPack where the pseudo-inverse is stored. Modified.
+    * @param tolerance           the relative threshold under which singular values are truncated.
+    * @throws IllegalStateException if no successful decomposition is available.
+    */
+   public void getPseudoInverse(NativeMatrix pseudoInverseToPack, double tolerance)
+   {
+      if (!impl.pseudoInverse(pseudoInverseToPack.impl, tolerance))
+      {
+         throw new IllegalStateException("No decomposition available.");
+      }
+   }
+
+   /**
+    * Computes the minimum norm least-squares solution to the linear equation</br>
+    * a * x == b</br>
+    * where {@code a} is the decomposed matrix. Singular values smaller than {@code tolerance} times
+    * the largest singular value are treated as zero.
+    * <p>
+    * This operation reshapes {@code x} to match the result of the operation.
+    * </p>
+    *
+    * @param b         the right-hand side, can have multiple columns. Not modified.
+    * @param x         where the solution is stored. Modified.
+    * @param tolerance the relative threshold under which singular values are truncated.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if no successful
+    *                                  decomposition is available.
+    */
+   public void solve(NativeMatrix b, NativeMatrix x, double tolerance)
+   {
+      if (!impl.solve(b.impl, x.impl, tolerance))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the damped least-squares solution to the linear equation</br>
+    * a * x == b</br>
+    * where {@code a} is the decomposed matrix, i.e. the {@code x} minimizing</br>
+    * |a * x - b|<sup>2</sup> + alpha<sup>2</sup> |x|<sup>2</sup></br>
+    * This is the same solution as {@link NativeCommonOps#solveDamped}, but computed from the
+    * decomposition.
+    * <p>
+    * This operation reshapes {@code x} to match the result of the operation.
+    * </p>
+    *
+    * @param b     the right-hand side, can have multiple columns. Not modified.
+    * @param x     where the solution is stored. Modified.
+    * @param alpha the damping factor.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if no successful
+    *                                  decomposition is available.
+    */
+   public void solveDamped(NativeMatrix b, NativeMatrix x, double alpha)
+   {
+      if (!impl.solveDamped(b.impl, x.impl, alpha))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Returns the number of rows of the decomposed matrix.
+    *
+    * @return Number of rows, 0 if no decomposition is available.
+    */
+   public int getNumRows()
+   {
+      return impl.rows();
+   }
+
+   /**
+    * Returns the number of columns of the decomposed matrix.
+    *
+    * @return Number of columns, 0 if no decomposition is available.
+    */
+   public int getNumCols()
+   {
+      return impl.cols();
+   }
+}
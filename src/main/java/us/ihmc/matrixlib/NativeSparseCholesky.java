@@ -0,0 +1,98 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeSparseCholeskyImpl;
+
+/**
+ * {@code NativeSparseCholesky} solves sparse symmetric positive (semi-)definite systems using a
+ * simplicial LDL<sup>T</sup> Cholesky decomposition performed in C++.
+ * <p>
+ * The decomposition is done in two steps: a symbolic analysis which depends only on the sparsity
+ * pattern of the matrix, and a numerical factorization. The symbolic analysis is the expensive part
+ * and is kept between calls to {@link #compute(NativeSparseMatrix)}. It is only redone when the
+ * sparsity pattern of the matrix changes, so solving a sequence of systems with the same structure,
+ * e.g. once per control tick, only pays for the numerical factorization.
+ * </p>
+ * <p>
+ * Only the lower triangular part of the matrix is used.
+ * </p>
+ * <p>
+ * The symbolic analysis and the factorization are kept between calls, so an instance must not be
+ * used by several threads at the same time. Use one instance per thread instead, e.g. through
+ * {@link #createThreadLocal()}, which also keeps a symbolic analysis per thread.
+ * </p>
+ */
+public class NativeSparseCholesky
+{
+   private final NativeSparseCholeskyImpl impl;
+
+   /**
+    * Creates a {@link ThreadLocal} providing each thread with its own decomposition, so parallel
+    * tasks, e.g. running on a {@link java.util.concurrent.ForkJoinPool}, can use it without
+    * locking. The instance is created on the first use in each thread.
+    *
+    * @return the thread local decomposition.
+    */
+   public static ThreadLocal<NativeSparseCholesky> createThreadLocal()
+   {
+      return ThreadLocal.withInitial(NativeSparseCholesky::new);
+   }
+
+   /**
+    * Creates a new solver.
+    */
+   public NativeSparseCholesky()
+   {
+      impl = new NativeSparseCholeskyImpl();
+   }
+
+   /**
+    * Computes the decomposition of the given matrix. The symbolic analysis of the previous call is
+    * reused when {@code a} has the same sparsity pattern.
+    *
+    * @param a the square, symmetric, positive definite matrix to decompose. Not modified.
+    * @return whether the decomposition succeeded.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean compute(NativeSparseMatrix a)
+   {
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return impl.compute(a.impl);
+   }
+
+   /**
+    * Solves the linear equation</br>
+    * a * x == b</br>
+    * where {@code a} is the matrix given to the last successful call to
+    * {@link #compute(NativeSparseMatrix)}.
+    * <p>
+    * This operation reshapes {@code x} to match the result of the operation.
+    * </p>
+    *
+    * @param b the right-hand side, can have multiple columns. Not modified.
+    * @param x where the solution is stored. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if no successful
+    *                                  decomposition is available.
+    */
+   public void solve(NativeMatrix b, NativeMatrix x)
+   {
+      if (!impl.solve(b.impl, x.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Returns the number of times the symbolic analysis was performed. It only increases when the
+    * sparsity pattern of the decomposed matrix changes.
+    *
+    * @return the number of symbolic analyses performed by this solver.
+    */
+   public int getSymbolicAnalysisCount()
+   {
+      return impl.symbolicAnalysisCount();
+   }
+}
@@ -0,0 +1,131 @@
+package us.ihmc.matrixlib;
+
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+
+import us.ihmc.matrixlib.jni.NativeSparseMatrixImpl;
+
+/**
+ * {@code NativeSparseMatrix} is a sparse matrix stored in compressed sparse column (CSC) format in
+ * C++ using Eigen. It is meant for large matrices that are mostly zeros, such as constraint
+ * Jacobians, and can be combined with {@link NativeMatrix} through
+ * {@link NativeMatrix#mult(NativeSparseMatrix, NativeMatrix)},
+ * {@link NativeMatrix#multTransA(NativeSparseMatrix, NativeMatrix)},
+ * {@link NativeMatrix#multQuad(NativeSparseMatrix, NativeMatrix)} and
+ * {@link NativeMatrix#multQuadDiagonal(NativeSparseMatrix, NativeMatrix)}.
+ * <p>
+ * Symmetric positive (semi-)definite sparse systems can be solved with
+ * {@link NativeSparseCholesky}.
+ * </p>
+ * <p>
+ * A sparse matrix is not thread-safe, but it can be read by several threads at the same time, e.g.
+ * as operand of {@link NativeMatrix#mult(NativeSparseMatrix, NativeMatrix)}, as long as none of
+ * them modifies it.
+ * </p>
+ */
+public class NativeSparseMatrix
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   final NativeSparseMatrixImpl impl;
+
+   /**
+    * Creates a new sparse matrix with the specified shape and no non-zero element.
+    *
+    * @param rows The number of rows in the matrix.
+    * @param cols The number of columns in the matrix.
+    */
+   public NativeSparseMatrix(int rows, int cols)
+   {
+      impl = new NativeSparseMatrixImpl(rows, cols);
+   }
+
+   /**
+    * Creates a new sparse matrix which is equivalent to the provided matrix.
+    *
+    * @param matrix The matrix which is to be copied. Not modified.
+    */
+   public NativeSparseMatrix(DMatrixSparseCSC matrix)
+   {
+      this(matrix.getNumRows(), matrix.getNumCols());
+      set(matrix);
+   }
+
+   /**
+    * Copies the given matrix into this.
+    * <p>
+    * This operation reshapes this to match the given matrix. The row indices of {@code matrix} do not
+    * need to be sorted.
+    * </p>
+    *
+    * @param matrix The matrix which is to be copied. Not modified.
+    * @throws IllegalArgumentException if the matrix has an invalid structure.
+    */
+   public void set(DMatrixSparseCSC matrix)
+   {
+      if (!impl.setFromCSC(matrix.numRows, matrix.numCols, matrix.nz_length, matrix.col_idx, matrix.nz_rows, matrix.nz_values))
+      {
+         throw new IllegalArgumentException("Invalid sparse matrix structure.");
+      }
+   }
+
+   /**
+    * Copies the given matrix into this.
+    * <p>
+    * This operation reshapes this to match the given matrix. Duplicate entries are summed.
+    * </p>
+    *
+    * @param matrix The matrix which is to be copied. Not modified.
+    * @throws IllegalArgumentException if an element of the matrix is out of bounds.
+    */
+   public void set(DMatrixSparseTriplet matrix)
+   {
+      if (!impl.setFromTriplets(matrix.numRows, matrix.numCols, matrix.nz_length, matrix.nz_rowcol.data, matrix.nz_value.data))
+      {
+         throw new IllegalArgumentException("Index out of bounds.");
+      }
+   }
+
+   /**
+    * Packs this matrix into a dense {@code NativeMatrix}.
+    *
+    * @param matrixToPack the matrix used to store this. Modified.
+    */
+   public void get(NativeMatrix matrixToPack)
+   {
+      impl.get(matrixToPack.impl);
+   }
+
+   /**
+    * Returns the number of rows in this matrix.
+    *
+    * @return Number of rows.
+    */
+   public int getNumRows()
+   {
+      return impl.rows();
+   }
+
+   /**
+    * Returns the number of columns in this matrix.
+    *
+    * @return Number of columns.
+    */
+   public int getNumCols()
+   {
+      return impl.cols();
+   }
+
+   /**
+    * Returns the number of explicitly stored elements in this matrix.
+    *
+    * @return Number of non-zero elements.
+    */
+   public int getNonZeroLength()
+   {
+      return impl.nonZeros();
+   }
+}
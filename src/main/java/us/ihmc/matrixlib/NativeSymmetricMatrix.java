@@ -0,0 +1,248 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeSymmetricMatrixImpl;
+
+/**
+ * {@code NativeSymmetricMatrix} is a square symmetric matrix, e.g. a covariance or a Hessian, of
+ * which only the lower triangle is stored, packed column after column in C++. It takes
+ * n * (n + 1) / 2 elements instead of the n<sup>2</sup> of a {@link NativeMatrix}, and its
+ * operations only read and write that triangle, which halves the memory traffic of large matrices.
+ * <p>
+ * Like {@link NativeMatrix}, {@code NativeSymmetricMatrix} is not thread-safe.
+ * </p>
+ */
+public class NativeSymmetricMatrix
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   final NativeSymmetricMatrixImpl impl;
+
+   /**
+    * Creates a new matrix of the given size whose elements initially have the value of zero.
+    *
+    * @param size the number of rows and columns.
+    */
+   public NativeSymmetricMatrix(int size)
+   {
+      impl = new NativeSymmetricMatrixImpl(size);
+   }
+
+   /**
+    * Changes the size of this matrix. The values of this matrix are not kept.
+    *
+    * @param size the new number of rows and columns.
+    */
+   public void reshape(int size)
+   {
+      impl.resize(size);
+   }
+
+   /**
+    * Sets all elements equal to zero.
+    */
+   public void zero()
+   {
+      impl.zero();
+   }
+
+   /**
+    * Copies the lower triangle of the given matrix into this. The strictly upper part of the matrix is
+    * ignored.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param matrix the square matrix to copy. Not modified.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public void set(NativeMatrix matrix)
+   {
+      if (!impl.set(matrix.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Copies the given matrix into this.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param matrix the matrix to copy. Not modified.
+    */
+   public void set(NativeSymmetricMatrix matrix)
+   {
+      impl.set(matrix.impl);
+   }
+
+   /**
+    * Packs this matrix into a full {@code NativeMatrix}, filling both triangles.
+    *
+    * @param matrixToPack the matrix used to store this. Modified.
+    */
+   public void get(NativeMatrix matrixToPack)
+   {
+      impl.get(matrixToPack.impl);
+   }
+
+   /**
+    * Returns the value of the element at the given index.
+    *
+    * @param row the row of the element.
+    * @param col the column of the element.
+    * @return the value of the element.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   public double get(int row, int col)
+   {
+      if (row < 0 || col < 0 || row >= getSize() || col >= getSize())
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Size " + getSize() + ".");
+      }
+
+      return impl.get(row, col);
+   }
+
+   /**
+    * Sets the value of the elements (row, col) and (col, row).
+    *
+    * @param row   the row of the element.
+    * @param col   the column of the element.
+    * @param value the element's new value.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   public void set(int row, int col, double value)
+   {
+      if (!impl.set(row, col, value))
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Size " + getSize() + ".");
+      }
+   }
+
+   /**
+    * Adds the given value to the diagonal elements of this, e.g. to regularize a Hessian.
+    *
+    * @param value the value to add.
+    */
+   public void addDiagonal(double value)
+   {
+      impl.addDiagonal(value);
+   }
+
+   /**
+    * Performs a symmetric rank-k update:</br>
+    * this = this + alpha * a * a'
+    *
+    * @param a     the N-by-k matrix of the update. Not modified.
+    * @param alpha the scale of the update, negative for a downdate.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void rankUpdate(NativeMatrix a, double alpha)
+   {
+      if (!impl.rankUpdate(a.impl, alpha))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * result = this * b
+    * <p>
+    * This operation reshapes {@code result} to match the result of the operation. {@code result} can
+    * be {@code b}.
+    * </p>
+    *
+    * @param b      the right-hand side matrix. Not modified.
+    * @param result where the product is stored. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(NativeMatrix b, NativeMatrix result)
+   {
+      if (!impl.mult(b.impl, result.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a' * b * a
+    * <p>
+    * Only the lower triangle of the result is computed. This operation reshapes this to match the
+    * result of the operation. {@code b} can be this.
+    * </p>
+    *
+    * @param a the N-by-M matrix. Not modified.
+    * @param b the N-by-N symmetric matrix. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuad(NativeMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.multQuad(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a * b * a'</br>
+    * e.g. the propagation of a covariance through a linear model.
+    * <p>
+    * Only the lower triangle of the result is computed. This operation reshapes this to match the
+    * result of the operation. {@code b} can be this.
+    * </p>
+    *
+    * @param a the M-by-N matrix. Not modified.
+    * @param b the N-by-N symmetric matrix. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuadTransA(NativeMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.multQuadTransA(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the Cholesky decomposition</br>
+    * this = L * L'
+    * <p>
+    * This operation reshapes {@code L} to match the size of this.
+    * </p>
+    *
+    * @param L where the lower triangular factor is stored. Modified.
+    * @return whether the decomposition succeeded. It fails when this is not positive definite,
+    *         {@code L} is then empty.
+    */
+   public boolean cholesky(NativeTriangularMatrix L)
+   {
+      return impl.cholesky(L.impl);
+   }
+
+   /**
+    * Returns the number of rows and columns of this matrix.
+    *
+    * @return the size of this matrix.
+    */
+   public int getSize()
+   {
+      return impl.size();
+   }
+
+   /**
+    * Returns the number of elements actually stored, n * (n + 1) / 2.
+    *
+    * @return the number of stored elements.
+    */
+   public int getPackedSize()
+   {
+      return impl.packedSize();
+   }
+}
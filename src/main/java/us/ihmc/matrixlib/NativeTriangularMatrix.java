@@ -0,0 +1,185 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeTriangularMatrixImpl;
+
+/**
+ * {@code NativeTriangularMatrix} is a square lower triangular matrix of which only the lower triangle
+ * is stored, packed column after column in C++. It takes n * (n + 1) / 2 elements instead of the
+ * n<sup>2</sup> of a {@link NativeMatrix}.
+ * <p>
+ * An upper triangular matrix {@code U} is stored as its transpose {@code L = U'}, the systems with
+ * {@code U} are then solved with {@link #solveTranspose(NativeMatrix, NativeMatrix)}.
+ * </p>
+ * <p>
+ * Like {@link NativeMatrix}, {@code NativeTriangularMatrix} is not thread-safe.
+ * </p>
+ *
+ * @see NativeSymmetricMatrix#cholesky(NativeTriangularMatrix)
+ */
+public class NativeTriangularMatrix
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   final NativeTriangularMatrixImpl impl;
+
+   /**
+    * Creates a new matrix of the given size whose elements initially have the value of zero.
+    *
+    * @param size the number of rows and columns.
+    */
+   public NativeTriangularMatrix(int size)
+   {
+      impl = new NativeTriangularMatrixImpl(size);
+   }
+
+   /**
+    * Changes the size of this matrix. The values of this matrix are not kept.
+    *
+    * @param size the new number of rows and columns.
+    */
+   public void reshape(int size)
+   {
+      impl.resize(size);
+   }
+
+   /**
+    * Sets all elements equal to zero.
+    */
+   public void zero()
+   {
+      impl.zero();
+   }
+
+   /**
+    * Copies the lower triangle of the given matrix into this. The strictly upper part of the matrix is
+    * ignored.
+    * <p>
+    * This operation reshapes this to match the given matrix.
+    * </p>
+    *
+    * @param matrix the square matrix to copy. Not modified.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public void set(NativeMatrix matrix)
+   {
+      if (!impl.set(matrix.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs this matrix into a full {@code NativeMatrix}, with zeros above the diagonal.
+    *
+    * @param matrixToPack the matrix used to store this. Modified.
+    */
+   public void get(NativeMatrix matrixToPack)
+   {
+      impl.get(matrixToPack.impl);
+   }
+
+   /**
+    * Returns the value of the element at the given index, zero above the diagonal.
+    *
+    * @param row the row of the element.
+    * @param col the column of the element.
+    * @return the value of the element.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   public double get(int row, int col)
+   {
+      if (row < 0 || col < 0 || row >= getSize() || col >= getSize())
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Size " + getSize() + ".");
+      }
+
+      return impl.get(row, col);
+   }
+
+   /**
+    * Sets the value of the element at the given index, which has to be on or below the diagonal.
+    *
+    * @param row   the row of the element.
+    * @param col   the column of the element.
+    * @param value the element's new value.
+    * @throws IllegalArgumentException if either index is out of bound or above the diagonal.
+    */
+   public void set(int row, int col, double value)
+   {
+      if (!impl.set(row, col, value))
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Size " + getSize() + ".");
+      }
+   }
+
+   /**
+    * Solves the linear equation</br>
+    * this * x == b</br>
+    * by forward substitution.
+    * <p>
+    * This operation reshapes {@code x} to match the result of the operation. {@code x} can be
+    * {@code b}.
+    * </p>
+    *
+    * @param b the right-hand side, can have multiple columns. Not modified.
+    * @param x where the solution is stored. Modified.
+    * @return whether a solution was found. It is not when the diagonal of this matrix has a zero,
+    *         {@code x} is then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solve(NativeMatrix b, NativeMatrix x)
+   {
+      if (b.getNumRows() != getSize())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      return impl.solve(b.impl, x.impl);
+   }
+
+   /**
+    * Solves the linear equation</br>
+    * this' * x == b</br>
+    * by backward substitution.
+    * <p>
+    * This operation reshapes {@code x} to match the result of the operation. {@code x} can be
+    * {@code b}.
+    * </p>
+    *
+    * @param b the right-hand side, can have multiple columns. Not modified.
+    * @param x where the solution is stored. Modified.
+    * @return whether a solution was found. It is not when the diagonal of this matrix has a zero,
+    *         {@code x} is then unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveTranspose(NativeMatrix b, NativeMatrix x)
+   {
+      if (b.getNumRows() != getSize())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      return impl.solveTranspose(b.impl, x.impl);
+   }
+
+   /**
+    * Returns the number of rows and columns of this matrix.
+    *
+    * @return the size of this matrix.
+    */
+   public int getSize()
+   {
+      return impl.size();
+   }
+
+   /**
+    * Returns the number of elements actually stored, n * (n + 1) / 2.
+    *
+    * @return the number of stored elements.
+    */
+   public int getPackedSize()
+   {
+      return impl.packedSize();
+   }
+}
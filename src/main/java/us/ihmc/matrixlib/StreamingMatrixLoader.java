@@ -0,0 +1,911 @@
+package us.ihmc.matrixlib;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * {@code StreamingMatrixLoader} reads matrices from YAML or CSV text straight into
+ * {@link DMatrixRMaj} or {@link NativeMatrix}, without building the boxed
+ * {@code ArrayList<ArrayList<Double>>} that {@link MatrixTools#yamlFieldToMatrix} needs.
+ * <p>
+ * For YAML, the destination of each field of interest is registered once with
+ * {@link #register(String, DMatrixRMaj)} or {@link #register(String, NativeMatrix)}, then
+ * {@link #loadYaml(Reader)} fills all of them in a single pass over the document. The fields use the
+ * same layout as {@link MatrixTools#yamlFieldToMatrix}:
+ *
+ * <pre>
+ * gains: [[1.0, 2.0], [3.0, 4.0]]    # 2-by-2 matrix, may span several lines
+ * offsets: [1.0, 2.0, 3.0]           # 1-by-3 row vector
+ * mass: 42.0                         # 1-by-1 matrix
+ * basis:                             # block sequences give the same matrices
+ * - [1.0, 0.0]
+ * - [0.0, 1.0]
+ * </pre>
+ *
+ * Only top-level fields are supported. Fields that are not registered are skipped whatever their
+ * content is. For CSV, each non-empty line that does not start with {@code '#'} is a row of
+ * comma-separated numbers.
+ * </p>
+ * <p>
+ * The values are parsed directly into the data array of the destination, which is only reallocated
+ * if it is too small, so a destination sized ahead of time is filled without allocating. Numbers
+ * with up to 15 significant digits and a decimal exponent within [-22, 22] are converted exactly
+ * without allocation; other numbers, and the YAML values {@code .nan} and {@code .inf}, go through
+ * {@link Double#parseDouble(String)}.
+ * </p>
+ * <p>
+ * The loader keeps its read buffer and the registered destinations, so an instance must not be used
+ * by several threads at the same time.
+ * </p>
+ */
+public class StreamingMatrixLoader
+{
+   private static final int BUFFER_SIZE = 1 << 16;
+   private static final int MAX_EXACT_DIGITS = 15;
+   private static final int MAX_EXACT_POWER_OF_TEN = 22;
+   private static final double[] POWERS_OF_TEN = {1.0e0, 1.0e1, 1.0e2, 1.0e3, 1.0e4, 1.0e5, 1.0e6, 1.0e7, 1.0e8, 1.0e9, 1.0e10, 1.0e11, 1.0e12, 1.0e13,
+         1.0e14, 1.0e15, 1.0e16, 1.0e17, 1.0e18, 1.0e19, 1.0e20, 1.0e21, 1.0e22};
+
+   private final Map<String, Destination> destinations = new HashMap<>();
+
+   private final char[] buffer = new char[BUFFER_SIZE];
+   private Reader reader;
+   private int position;
+   private int limit;
+   private int line;
+
+   private char[] token = new char[32];
+   private int tokenLength;
+
+   /**
+    * Registers the destination of a YAML field. Registering the same field again replaces its
+    * destination.
+    *
+    * @param fieldName   the name of the top-level field.
+    * @param destination where the field is stored by {@link #loadYaml(Reader)}. Reshaped when loaded.
+    */
+   public void register(String fieldName, DMatrixRMaj destination)
+   {
+      destinations.put(fieldName, new Destination(destination, null));
+   }
+
+   /**
+    * Registers the destination of a YAML field. Registering the same field again replaces its
+    * destination.
+    *
+    * @param fieldName   the name of the top-level field.
+    * @param destination where the field is stored by {@link #loadYaml(Reader)}. Reshaped when loaded.
+    */
+   public void register(String fieldName, NativeMatrix destination)
+   {
+      destinations.put(fieldName, new Destination(new DMatrixRMaj(1, 1), destination));
+   }
+
+   /**
+    * Removes all the registered fields.
+    */
+   public void clearRegistrations()
+   {
+      destinations.clear();
+   }
+
+   /**
+    * Tests whether a registered field was found by the last call to {@link #loadYaml(Reader)}.
+    *
+    * @param fieldName the name of the field.
+    * @return {@code true} if the field is registered and was loaded.
+    */
+   public boolean isLoaded(String fieldName)
+   {
+      Destination destination = destinations.get(fieldName);
+      return destination != null && destination.loaded;
+   }
+
+   /**
+    * Reads a YAML file and stores the registered fields it contains.
+    *
+    * @param file the file to read.
+    * @throws IOException if the file cannot be read or a registered field is not a valid matrix.
+    */
+   public void loadYaml(Path file) throws IOException
+   {
+      try (Reader fileReader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))
+      {
+         loadYaml(fileReader);
+      }
+   }
+
+   /**
+    * Reads a YAML document and stores the registered fields it contains. The registered fields
+    * that are not in the document are not modified, see {@link #isLoaded(String)}.
+    *
+    * @param reader the document, read until its end but not closed.
+    * @throws IOException if the document cannot be read or a registered field is not a valid
+    *                     matrix.
+    */
+   public void loadYaml(Reader reader) throws IOException
+   {
+      for (Destination destination : destinations.values())
+      {
+         destination.loaded = false;
+      }
+
+      begin(reader);
+      try
+      {
+         int indentation;
+         while ((indentation = nextLine()) >= 0)
+         {
+            if (indentation > 0 || peek() == '-')
+            {
+               if (indentation == 0 && isDocumentMarker())
+               {
+                  skipLine();
+                  continue;
+               }
+               throw error("Only top level fields are supported");
+            }
+
+            Destination destination = destinations.get(readKey());
+            if (destination == null)
+            {
+               skipValue();
+            }
+            else
+            {
+               readValue(destination);
+               destination.store();
+            }
+         }
+      }
+      finally
+      {
+         this.reader = null;
+      }
+   }
+
+   /**
+    * Reads a CSV file into {@code destination}.
+    *
+    * @param file        the file to read.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IOException if the file cannot be read or is not a valid matrix.
+    */
+   public void loadCsv(Path file, DMatrixRMaj destination) throws IOException
+   {
+      try (Reader fileReader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))
+      {
+         loadCsv(fileReader, destination);
+      }
+   }
+
+   /**
+    * Reads a CSV file into {@code destination}.
+    *
+    * @param file        the file to read.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IOException if the file cannot be read or is not a valid matrix.
+    */
+   public void loadCsv(Path file, NativeMatrix destination) throws IOException
+   {
+      try (Reader fileReader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))
+      {
+         loadCsv(fileReader, destination);
+      }
+   }
+
+   /**
+    * Reads CSV text into {@code destination}.
+    * <p>
+    * This operation reshapes {@code destination} to the number of rows and columns of the text.
+    * </p>
+    *
+    * @param reader      the text, read until its end but not closed.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IOException if the text cannot be read or is not a valid matrix.
+    */
+   public void loadCsv(Reader reader, DMatrixRMaj destination) throws IOException
+   {
+      Destination csvDestination = new Destination(destination, null);
+      loadCsv(reader, csvDestination);
+      csvDestination.store();
+   }
+
+   /**
+    * Reads CSV text into {@code destination}.
+    * <p>
+    * This operation reshapes {@code destination} to the number of rows and columns of the text.
+    * </p>
+    *
+    * @param reader      the text, read until its end but not closed.
+    * @param destination where the matrix is stored. Modified.
+    * @throws IOException if the text cannot be read or is not a valid matrix.
+    */
+   public void loadCsv(Reader reader, NativeMatrix destination) throws IOException
+   {
+      Destination csvDestination = new Destination(new DMatrixRMaj(1, 1), destination);
+      loadCsv(reader, csvDestination);
+      csvDestination.store();
+   }
+
+   private void loadCsv(Reader reader, Destination destination) throws IOException
+   {
+      begin(reader);
+      try
+      {
+         destination.clear();
+         while (nextLine() >= 0)
+         {
+            int rowLength = 0;
+            while (true)
+            {
+               skipSpaces();
+               destination.append(readNumber());
+               rowLength++;
+               skipSpaces();
+
+               int c = peek();
+               if (c == ',')
+               {
+                  position++;
+               }
+               else if (c == '\n' || c == -1)
+               {
+                  break;
+               }
+               else
+               {
+                  throw error("Unexpected character '" + (char) c + "'");
+               }
+            }
+            skipLine();
+            destination.endRow(rowLength);
+         }
+      }
+      finally
+      {
+         this.reader = null;
+      }
+   }
+
+   private void readValue(Destination destination) throws IOException
+   {
+      destination.clear();
+      skipSpaces();
+
+      int c = peek();
+      if (c == '[')
+      {
+         readFlowSequence(destination);
+         endLine();
+      }
+      else if (c == '#' || c == '\n' || c == -1)
+      {
+         skipLine();
+         readBlockSequence(destination);
+      }
+      else
+      {
+         destination.append(readNumber());
+         destination.endRow(1);
+         endLine();
+      }
+   }
+
+   private void readFlowSequence(Destination destination) throws IOException
+   {
+      position++;
+      skipWhitespaces();
+
+      if (peek() == ']')
+      {
+         position++;
+         return;
+      }
+
+      if (peek() != '[')
+      {
+         destination.endRow(readFlowItems(destination));
+         return;
+      }
+
+      while (true)
+      {
+         destination.endRow(readFlowRow(destination));
+         skipWhitespaces();
+
+         int c = next();
+         if (c == ',')
+         {
+            skipWhitespaces();
+            if (peek() == ']')
+            {
+               position++;
+               return;
+            }
+         }
+         else if (c == ']')
+         {
+            return;
+         }
+         else
+         {
+            throw error("Expected ',' or ']'");
+         }
+      }
+   }
+
+   private int readFlowRow(Destination destination) throws IOException
+   {
+      if (next() != '[')
+      {
+         throw error("Expected '['");
+      }
+      skipWhitespaces();
+      return readFlowItems(destination);
+   }
+
+   private int readFlowItems(Destination destination) throws IOException
+   {
+      int length = 0;
+
+      if (peek() == ']')
+      {
+         position++;
+         return length;
+      }
+
+      while (true)
+      {
+         destination.append(readNumber());
+         length++;
+         skipWhitespaces();
+
+         int c = next();
+         if (c == ',')
+         {
+            skipWhitespaces();
+            if (peek() == ']')
+            {
+               position++;
+               return length;
+            }
+         }
+         else if (c == ']')
+         {
+            return length;
+         }
+         else
+         {
+            throw error("Expected ',' or ']'");
+         }
+      }
+   }
+
+   private void readBlockSequence(Destination destination) throws IOException
+   {
+      boolean hasItems = false;
+      boolean hasRows = false;
+      int vectorLength = 0;
+
+      int indentation;
+      while ((indentation = nextLine()) >= 0)
+      {
+         if (peek() != '-')
+         {
+            if (indentation == 0)
+            {
+               break;
+            }
+            throw error("Expected a sequence item");
+         }
+
+         position++;
+         int c = peek();
+         if (c != ' ' && c != '\t' && c != '\n' && c != '\r')
+         {
+            throw error("Expected a sequence item");
+         }
+         skipSpaces();
+
+         if (peek() == '[')
+         {
+            if (hasItems && !hasRows)
+            {
+               throw error("Cannot mix numbers and rows");
+            }
+            destination.endRow(readFlowRow(destination));
+            hasRows = true;
+         }
+         else
+         {
+            if (hasRows)
+            {
+               throw error("Cannot mix numbers and rows");
+            }
+            destination.append(readNumber());
+            vectorLength++;
+         }
+         hasItems = true;
+         endLine();
+      }
+
+      if (!hasItems)
+      {
+         throw error("Missing value");
+      }
+      if (!hasRows)
+      {
+         destination.endRow(vectorLength);
+      }
+   }
+
+   private void skipValue() throws IOException
+   {
+      skipLineAndOpenBrackets();
+
+      int indentation;
+      while ((indentation = nextLine()) >= 0)
+      {
+         if (indentation == 0 && peek() != '-')
+         {
+            return;
+         }
+         skipLineAndOpenBrackets();
+      }
+   }
+
+   private void skipLineAndOpenBrackets() throws IOException
+   {
+      int depth = 0;
+      int quote = 0;
+      // Quotes and flow collections only open where a node starts, inside a plain scalar such as
+      // "robot's arm" or "a [draft" they are regular characters.
+      boolean nodeStart = true;
+      boolean afterBlank = true;
+
+      while (true)
+      {
+         int c = next();
+         if (c == -1)
+         {
+            return;
+         }
+
+         boolean blank = c == ' ' || c == '\t' || c == '\r';
+         if (c == '\n')
+         {
+            line++;
+            if (depth <= 0 && quote == 0)
+            {
+               return;
+            }
+            blank = true;
+         }
+         else if (quote != 0)
+         {
+            if (c == quote)
+            {
+               quote = 0;
+            }
+         }
+         else if (blank)
+         {
+            // Blanks do not end the start of a node
+         }
+         else if (c == '#' && afterBlank)
+         {
+            skipComment();
+         }
+         else if (nodeStart && (c == '"' || c == '\''))
+         {
+            quote = c;
+            nodeStart = false;
+         }
+         else if (nodeStart && (c == '[' || c == '{'))
+         {
+            depth++;
+         }
+         else if (depth > 0 && (c == ']' || c == '}'))
+         {
+            depth--;
+            nodeStart = false;
+         }
+         else if (depth > 0 && c == ',')
+         {
+            nodeStart = true;
+         }
+         else if (c == ':' || (c == '-' && nodeStart))
+         {
+            // Starts a mapping value or a sequence item when followed by a blank, or a value in a flow mapping
+            int n = peek();
+            nodeStart = n == ' ' || n == '\t' || n == '\r' || n == '\n' || n == -1 || (depth > 0 && c == ':');
+         }
+         else
+         {
+            nodeStart = false;
+         }
+         afterBlank = blank;
+      }
+   }
+
+   private String readKey() throws IOException
+   {
+      tokenLength = 0;
+      int c;
+      while ((c = next()) != ':')
+      {
+         if (c == -1 || c == '\n')
+         {
+            throw error("Expected a field name followed by ':'");
+         }
+         appendToToken((char) c);
+      }
+
+      int start = 0;
+      int end = tokenLength;
+      while (end > start && Character.isWhitespace(token[end - 1]))
+      {
+         end--;
+      }
+      if (end - start >= 2 && (token[start] == '"' || token[start] == '\'') && token[end - 1] == token[start])
+      {
+         start++;
+         end--;
+      }
+      return new String(token, start, end - start);
+   }
+
+   private double readNumber() throws IOException
+   {
+      tokenLength = 0;
+      int c;
+      while ((c = peek()) != -1 && !isDelimiter(c))
+      {
+         appendToToken((char) c);
+         position++;
+      }
+
+      if (tokenLength == 0)
+      {
+         throw error("Expected a number");
+      }
+      return parseToken();
+   }
+
+   private double parseToken() throws IOException
+   {
+      int index = 0;
+      boolean negative = false;
+      if (token[0] == '-' || token[0] == '+')
+      {
+         negative = token[0] == '-';
+         index++;
+      }
+
+      long mantissa = 0;
+      int significantDigits = 0;
+      int exponent = 0;
+      boolean hasDigits = false;
+
+      for (; index < tokenLength && isDigit(token[index]); index++)
+      {
+         int digit = token[index] - '0';
+         hasDigits = true;
+         if (mantissa != 0 || digit != 0)
+         {
+            if (significantDigits == MAX_EXACT_DIGITS)
+               return parseTokenSlowly();
+            mantissa = 10 * mantissa + digit;
+            significantDigits++;
+         }
+      }
+
+      if (index < tokenLength && token[index] == '.')
+      {
+         for (index++; index < tokenLength && isDigit(token[index]); index++)
+         {
+            int digit = token[index] - '0';
+            hasDigits = true;
+            if (mantissa != 0 || digit != 0)
+            {
+               if (significantDigits == MAX_EXACT_DIGITS)
+                  return parseTokenSlowly();
+               mantissa = 10 * mantissa + digit;
+               significantDigits++;
+            }
+            exponent--;
+         }
+      }
+
+      if (hasDigits && index < tokenLength && (token[index] == 'e' || token[index] == 'E'))
+      {
+         index++;
+         boolean negativeExponent = false;
+         if (index < tokenLength && (token[index] == '-' || token[index] == '+'))
+         {
+            negativeExponent = token[index] == '-';
+            index++;
+         }
+
+         if (index == tokenLength)
+            return parseTokenSlowly();
+
+         int explicitExponent = 0;
+         for (; index < tokenLength && isDigit(token[index]); index++)
+         {
+            explicitExponent = Math.min(10 * explicitExponent + token[index] - '0', 10000);
+         }
+         exponent += negativeExponent ? -explicitExponent : explicitExponent;
+      }
+
+      if (!hasDigits || index != tokenLength)
+         return parseTokenSlowly();
+
+      double value;
+      if (mantissa == 0)
+         value = 0.0;
+      else if (exponent == 0)
+         value = mantissa;
+      else if (exponent > 0 && exponent <= MAX_EXACT_POWER_OF_TEN)
+         value = mantissa * POWERS_OF_TEN[exponent];
+      else if (exponent < 0 && exponent >= -MAX_EXACT_POWER_OF_TEN)
+         value = mantissa / POWERS_OF_TEN[-exponent];
+      else
+         return parseTokenSlowly();
+
+      return negative ? -value : value;
+   }
+
+   private double parseTokenSlowly() throws IOException
+   {
+      String text = new String(token, 0, tokenLength);
+
+      switch (text.toLowerCase())
+      {
+         case ".nan":
+            return Double.NaN;
+         case ".inf":
+         case "+.inf":
+            return Double.POSITIVE_INFINITY;
+         case "-.inf":
+            return Double.NEGATIVE_INFINITY;
+         default:
+            try
+            {
+               return Double.parseDouble(text);
+            }
+            catch (NumberFormatException e)
+            {
+               throw error("Invalid number: " + text);
+            }
+      }
+   }
+
+   private boolean isDocumentMarker() throws IOException
+   {
+      tokenLength = 0;
+      int c;
+      while ((c = peek()) == '-' && tokenLength < 4)
+      {
+         appendToToken((char) c);
+         position++;
+      }
+      c = peek();
+      return tokenLength == 3 && (c == -1 || c == ' ' || c == '\t' || c == '\r' || c == '\n');
+   }
+
+   private void appendToToken(char c)
+   {
+      if (tokenLength == token.length)
+         token = Arrays.copyOf(token, 2 * token.length);
+      token[tokenLength++] = c;
+   }
+
+   private static boolean isDigit(char c)
+   {
+      return c >= '0' && c <= '9';
+   }
+
+   private static boolean isDelimiter(int c)
+   {
+      return c == ',' || c == ']' || c == '[' || c == '#' || c == ' ' || c == '\t' || c == '\r' || c == '\n';
+   }
+
+   /**
+    * Skips the empty lines and the comment lines.
+    *
+    * @return the indentation of the next line, with the position on its first character, or -1 at
+    *         the end of the input.
+    */
+   private int nextLine() throws IOException
+   {
+      while (true)
+      {
+         int indentation = 0;
+         int c;
+         while ((c = peek()) == ' ' || c == '\t')
+         {
+            position++;
+            indentation++;
+         }
+
+         if (c == -1)
+            return -1;
+         if (c != '#' && c != '\n' && c != '\r')
+            return indentation;
+         skipLine();
+      }
+   }
+
+   /** Checks that only spaces or a comment are left on the current line and skips it. */
+   private void endLine() throws IOException
+   {
+      skipSpaces();
+      int c = peek();
+      if (c != -1 && c != '#' && c != '\n')
+      {
+         throw error("Unexpected character '" + (char) c + "'");
+      }
+      skipLine();
+   }
+
+   private void skipLine() throws IOException
+   {
+      int c;
+      while ((c = next()) != -1)
+      {
+         if (c == '\n')
+         {
+            line++;
+            return;
+         }
+      }
+   }
+
+   private void skipComment() throws IOException
+   {
+      int c;
+      while ((c = peek()) != -1 && c != '\n')
+      {
+         position++;
+      }
+   }
+
+   private void skipSpaces() throws IOException
+   {
+      int c;
+      while ((c = peek()) == ' ' || c == '\t' || c == '\r')
+      {
+         position++;
+      }
+   }
+
+   /** Skips spaces, line breaks and comments inside a flow sequence. */
+   private void skipWhitespaces() throws IOException
+   {
+      while (true)
+      {
+         int c = peek();
+         if (c == ' ' || c == '\t' || c == '\r')
+         {
+            position++;
+         }
+         else if (c == '\n')
+         {
+            position++;
+            line++;
+         }
+         else if (c == '#')
+         {
+            skipComment();
+         }
+         else
+         {
+            return;
+         }
+      }
+   }
+
+   private void begin(Reader reader)
+   {
+      this.reader = reader;
+      position = 0;
+      limit = 0;
+      line = 1;
+   }
+
+   private int peek() throws IOException
+   {
+      if (position == limit && !fill())
+         return -1;
+      return buffer[position];
+   }
+
+   private int next() throws IOException
+   {
+      if (position == limit && !fill())
+         return -1;
+      return buffer[position++];
+   }
+
+   private boolean fill() throws IOException
+   {
+      int read;
+      do
+      {
+         read = reader.read(buffer, 0, buffer.length);
+      }
+      while (read == 0);
+
+      position = 0;
+      limit = Math.max(read, 0);
+      return read > 0;
+   }
+
+   private IOException error(String message)
+   {
+      return new IOException("Line " + line + ": " + message);
+   }
+
+   private class Destination
+   {
+      private final DMatrixRMaj matrix;
+      private final NativeMatrix nativeMatrix;
+      private boolean loaded;
+      private int size;
+      private int numRows;
+      private int numCols;
+
+      private Destination(DMatrixRMaj matrix, NativeMatrix nativeMatrix)
+      {
+         this.matrix = matrix;
+         this.nativeMatrix = nativeMatrix;
+      }
+
+      private void clear()
+      {
+         size = 0;
+         numRows = 0;
+         numCols = 0;
+      }
+
+      private void append(double value)
+      {
+         if (size == matrix.data.length)
+         {
+            matrix.reshape(1, Math.max(16, 2 * size), true);
+         }
+         matrix.data[size++] = value;
+      }
+
+      private void endRow(int rowLength) throws IOException
+      {
+         if (numRows > 0 && rowLength != numCols)
+         {
+            throw error("Row of " + rowLength + " values, the previous rows have " + numCols);
+         }
+         numCols = rowLength;
+         numRows++;
+      }
+
+      private void store()
+      {
+         matrix.reshape(numRows, numCols, true);
+         if (nativeMatrix != null)
+         {
+            nativeMatrix.set(matrix);
+         }
+         loaded = true;
+      }
+   }
+}
@@ -0,0 +1,62 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeAllocationTrackerImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeAllocationTrackerImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeAllocationTrackerImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeAllocationTrackerImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public static boolean isSupported() {
+    return NativeMatrixLibraryJNI.NativeAllocationTrackerImpl_isSupported();
+  }
+
+  public static long getAllocationCount() {
+    return NativeMatrixLibraryJNI.NativeAllocationTrackerImpl_getAllocationCount();
+  }
+
+  public static long getAllocatedBytes() {
+    return NativeMatrixLibraryJNI.NativeAllocationTrackerImpl_getAllocatedBytes();
+  }
+
+  public static void beginNoAllocationScope() {
+    NativeMatrixLibraryJNI.NativeAllocationTrackerImpl_beginNoAllocationScope();
+  }
+
+  public static void endNoAllocationScope() {
+    NativeMatrixLibraryJNI.NativeAllocationTrackerImpl_endNoAllocationScope();
+  }
+
+  public NativeAllocationTrackerImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeAllocationTrackerImpl(), true);
+  }
+
+}
@@ -0,0 +1,70 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeCholeskyImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeCholeskyImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeCholeskyImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeCholeskyImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeCholeskyImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeCholeskyImpl(), true);
+  }
+
+  public boolean compute(NativeMatrixImpl A) {
+    return NativeMatrixLibraryJNI.NativeCholeskyImpl_compute(swigCPtr, this, NativeMatrixImpl.getCPtr(A), A);
+  }
+
+  public boolean rankUpdate(NativeMatrixImpl v, double sigma) {
+    return NativeMatrixLibraryJNI.NativeCholeskyImpl_rankUpdate(swigCPtr, this, NativeMatrixImpl.getCPtr(v), v, sigma);
+  }
+
+  public boolean addRowAndColumn(int index, NativeMatrixImpl column) {
+    return NativeMatrixLibraryJNI.NativeCholeskyImpl_addRowAndColumn(swigCPtr, this, index, NativeMatrixImpl.getCPtr(column), column);
+  }
+
+  public boolean removeRowAndColumn(int index) {
+    return NativeMatrixLibraryJNI.NativeCholeskyImpl_removeRowAndColumn(swigCPtr, this, index);
+  }
+
+  public boolean solve(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeCholeskyImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public void getL(NativeMatrixImpl result) {
+    NativeMatrixLibraryJNI.NativeCholeskyImpl_getL(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeCholeskyImpl_size(swigCPtr, this);
+  }
+
+}
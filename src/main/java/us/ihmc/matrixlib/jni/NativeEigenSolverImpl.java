@@ -0,0 +1,66 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeEigenSolverImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeEigenSolverImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeEigenSolverImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeEigenSolverImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeEigenSolverImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeEigenSolverImpl(), true);
+  }
+
+  public boolean compute(NativeMatrixImpl A, boolean computeEigenvectors) {
+    return NativeMatrixLibraryJNI.NativeEigenSolverImpl_compute(swigCPtr, this, NativeMatrixImpl.getCPtr(A), A, computeEigenvectors);
+  }
+
+  public boolean eigenvalues(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeEigenSolverImpl_eigenvalues(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean eigenvectors(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeEigenSolverImpl_eigenvectors(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean squareRoot(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeEigenSolverImpl_squareRoot(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean inverseSquareRoot(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeEigenSolverImpl_inverseSquareRoot(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeEigenSolverImpl_size(swigCPtr, this);
+  }
+
+}
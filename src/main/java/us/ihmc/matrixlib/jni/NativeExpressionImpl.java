@@ -0,0 +1,62 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeExpressionImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeExpressionImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeExpressionImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeExpressionImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeExpressionImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeExpressionImpl(), true);
+  }
+
+  public void clear() {
+    NativeMatrixLibraryJNI.NativeExpressionImpl_clear(swigCPtr, this);
+  }
+
+  public void addTerm(double scale) {
+    NativeMatrixLibraryJNI.NativeExpressionImpl_addTerm(swigCPtr, this, scale);
+  }
+
+  public boolean addFactor(NativeMatrixImpl factor, boolean transposed) {
+    return NativeMatrixLibraryJNI.NativeExpressionImpl_addFactor(swigCPtr, this, NativeMatrixImpl.getCPtr(factor), factor, transposed);
+  }
+
+  public boolean evaluate(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeExpressionImpl_evaluate(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public int numberOfTerms() {
+    return NativeMatrixLibraryJNI.NativeExpressionImpl_numberOfTerms(swigCPtr, this);
+  }
+
+}
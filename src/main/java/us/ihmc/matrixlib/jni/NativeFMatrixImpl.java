@@ -0,0 +1,452 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeFMatrixImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeFMatrixImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeFMatrixImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeFMatrixImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public void setNan(float value) {
+    NativeMatrixLibraryJNI.NativeFMatrixImpl_nan_set(swigCPtr, this, value);
+  }
+
+  public float getNan() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_nan_get(swigCPtr, this);
+  }
+
+  public NativeFMatrixImpl(int numRows, int numCols) {
+    this(NativeMatrixLibraryJNI.new_NativeFMatrixImpl(numRows, numCols), true);
+  }
+
+  public void resize(int numRows, int numCols) {
+    NativeMatrixLibraryJNI.NativeFMatrixImpl_resize(swigCPtr, this, numRows, numCols);
+  }
+
+  public boolean reserve(int capacity) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_reserve(swigCPtr, this, capacity);
+  }
+
+  public void trimToSize() {
+    NativeMatrixLibraryJNI.NativeFMatrixImpl_trimToSize(swigCPtr, this);
+  }
+
+  public int capacity() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_capacity(swigCPtr, this);
+  }
+
+  public boolean set(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_set__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean add(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_add__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean add(NativeFMatrixImpl a, float scale, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_add__SWIG_1(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, scale, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean add(float scale1, NativeFMatrixImpl a, float scale2, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_add__SWIG_2(swigCPtr, this, scale1, NativeFMatrixImpl.getCPtr(a), a, scale2, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean addEquals(NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addEquals__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean addEquals(float scale, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addEquals__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean add(int row, int col, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_add__SWIG_3(swigCPtr, this, row, col, value);
+  }
+
+  public boolean subtract(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_subtract(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean mult(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_mult__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean mult(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_mult__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAdd(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAdd__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAdd(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAdd__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multTransA(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multTransA__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multTransA(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multTransA__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddTransA(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddTransA__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddTransA(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddTransA__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multTransB(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multTransB__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multTransB(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multTransB__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddTransB(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddTransB__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddTransB(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddTransB__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean addBlock(NativeFMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, float scale) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addBlock__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale);
+  }
+
+  public boolean addBlock(NativeFMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addBlock__SWIG_1(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+  }
+
+  public boolean subtractBlock(NativeFMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_subtractBlock(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+  }
+
+  public boolean multAddBlock(NativeFMatrixImpl a, NativeFMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddBlock__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean multAddBlock(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddBlock__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean multAddBlockTransA(NativeFMatrixImpl a, NativeFMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddBlockTransA__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean multAddBlockTransA(float scale, NativeFMatrixImpl a, NativeFMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddBlockTransA__SWIG_1(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean multQuad(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multQuad(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddQuad(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddQuad(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multQuadBlock(NativeFMatrixImpl a, NativeFMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multQuadBlock(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean multAddQuadBlock(NativeFMatrixImpl a, NativeFMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multAddQuadBlock(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean invert(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_invert(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean solve(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solve(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveCheck(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solveCheck__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveCheck(NativeFMatrixImpl a, NativeFMatrixImpl b, float minimumRcond) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solveCheck__SWIG_1(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b, minimumRcond);
+  }
+
+  public float rcond() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_rcond(swigCPtr, this);
+  }
+
+  public boolean solveSPD(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solveSPD(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean invertSPD(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_invertSPD(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean solveSymmetric(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solveSymmetric(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveLowerTriangular(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solveLowerTriangular(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveUpperTriangular(NativeFMatrixImpl a, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_solveUpperTriangular(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean pseudoInverse(NativeFMatrixImpl a, float tolerance) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_pseudoInverse(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, tolerance);
+  }
+
+  public boolean singularValues(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_singularValues(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean matrixExponential(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_matrixExponential(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean matrixSquareRoot(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_matrixSquareRoot(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean insert(NativeFMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insert__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(src), src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+  }
+
+  public boolean insert(float[] src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insert__SWIG_1(swigCPtr, this, src, rows, cols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+  }
+
+  public boolean insert(int startRow, int startCol, float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insert__SWIG_2(swigCPtr, this, startRow, startCol, m00, m01, m02, m10, m11, m12, m20, m21, m22);
+  }
+
+  public boolean insertTupleRow(int startRow, int startCol, float x, float y, float z) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insertTupleRow(swigCPtr, this, startRow, startCol, x, y, z);
+  }
+
+  public boolean insertScaled(NativeFMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, float scale) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insertScaled__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(src), src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+  }
+
+  public boolean insertScaled(float[] src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, float scale) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insertScaled__SWIG_1(swigCPtr, this, src, srcRows, srcCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+  }
+
+  public boolean extract(int srcY0, int srcY1, int srcX0, int srcX1, float[] dst, int dstRows, int dstCols, int dstY0, int dstX0) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_extract(swigCPtr, this, srcY0, srcY1, srcX0, srcX1, dst, dstRows, dstCols, dstY0, dstX0);
+  }
+
+  public boolean transpose(NativeFMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_transpose(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean multMatrix3(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, NativeFMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_multMatrix3(swigCPtr, this, m00, m01, m02, m10, m11, m12, m20, m21, m22, NativeFMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean extractMatrix3(int startRow, int startCol, float[] dst) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_extractMatrix3(swigCPtr, this, startRow, startCol, dst);
+  }
+
+  public boolean insertSpatial(int startRow, int startCol, float[] src) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_insertSpatial(swigCPtr, this, startRow, startCol, src);
+  }
+
+  public boolean removeRow(int indexToRemove) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_removeRow(swigCPtr, this, indexToRemove);
+  }
+
+  public boolean removeColumn(int indexToRemove) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_removeColumn(swigCPtr, this, indexToRemove);
+  }
+
+  public boolean removeRows(int[] indicesToRemove, int numberOfIndices) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_removeRows(swigCPtr, this, indicesToRemove, numberOfIndices);
+  }
+
+  public boolean removeColumns(int[] indicesToRemove, int numberOfIndices) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_removeColumns(swigCPtr, this, indicesToRemove, numberOfIndices);
+  }
+
+  public boolean appendRows(NativeFMatrixImpl src) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_appendRows__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(src), src);
+  }
+
+  public boolean appendRows(float[] src, int srcRows, int srcCols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_appendRows__SWIG_1(swigCPtr, this, src, srcRows, srcCols);
+  }
+
+  public boolean appendColumns(NativeFMatrixImpl src) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_appendColumns__SWIG_0(swigCPtr, this, NativeFMatrixImpl.getCPtr(src), src);
+  }
+
+  public boolean appendColumns(float[] src, int srcRows, int srcCols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_appendColumns__SWIG_1(swigCPtr, this, src, srcRows, srcCols);
+  }
+
+  public boolean selectRows(NativeFMatrixImpl a, int[] rows, int numberOfRows) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_selectRows(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, rows, numberOfRows);
+  }
+
+  public boolean selectColumns(NativeFMatrixImpl a, int[] cols, int numberOfCols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_selectColumns(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, cols, numberOfCols);
+  }
+
+  public boolean scatterAddRows(NativeFMatrixImpl a, int[] rows, int numberOfRows) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_scatterAddRows(swigCPtr, this, NativeFMatrixImpl.getCPtr(a), a, rows, numberOfRows);
+  }
+
+  public void zero() {
+    NativeMatrixLibraryJNI.NativeFMatrixImpl_zero(swigCPtr, this);
+  }
+
+  public boolean containsNaN() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_containsNaN(swigCPtr, this);
+  }
+
+  public boolean scale(float scale, NativeFMatrixImpl src) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_scale__SWIG_0(swigCPtr, this, scale, NativeFMatrixImpl.getCPtr(src), src);
+  }
+
+  public boolean isAprrox(NativeFMatrixImpl other, float precision) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_isAprrox(swigCPtr, this, NativeFMatrixImpl.getCPtr(other), other, precision);
+  }
+
+  public boolean set(float[] data, int rows, int cols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_set__SWIG_1(swigCPtr, this, data, rows, cols);
+  }
+
+  public boolean get(float[] data, int rows, int cols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_get__SWIG_0(swigCPtr, this, data, rows, cols);
+  }
+
+  public boolean setTransposed(float[] data, int rows, int cols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_setTransposed(swigCPtr, this, data, rows, cols);
+  }
+
+  public boolean getTransposed(float[] data, int rows, int cols) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_getTransposed(swigCPtr, this, data, rows, cols);
+  }
+
+  public boolean setFromBuffer(java.nio.ByteBuffer NIOBUFFER, int rows, int cols) {
+    assert NIOBUFFER.isDirect() : "Buffer must be allocated direct.";
+    {
+      return NativeMatrixLibraryJNI.NativeFMatrixImpl_setFromBuffer(swigCPtr, this, NIOBUFFER, rows, cols);
+    }
+  }
+
+  public boolean getToBuffer(java.nio.ByteBuffer NIOBUFFER, int byteOffset) {
+    assert NIOBUFFER.isDirect() : "Buffer must be allocated direct.";
+    {
+      return NativeMatrixLibraryJNI.NativeFMatrixImpl_getToBuffer(swigCPtr, this, NIOBUFFER, byteOffset);
+    }
+  }
+
+  public boolean addDiagonal(int startRow, int startCol, int rows, int cols, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addDiagonal__SWIG_0(swigCPtr, this, startRow, startCol, rows, cols, value);
+  }
+
+  public boolean fillDiagonal(int startRow, int startCol, int rows, int cols, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_fillDiagonal__SWIG_0(swigCPtr, this, startRow, startCol, rows, cols, value);
+  }
+
+  public boolean fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_fillBlock(swigCPtr, this, startRow, startCol, numberOfRows, numberOfCols, value);
+  }
+
+  public boolean addDiagonal(int startRow, int startCol, int size, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addDiagonal__SWIG_1(swigCPtr, this, startRow, startCol, size, value);
+  }
+
+  public boolean addDiagonal(float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_addDiagonal__SWIG_2(swigCPtr, this, value);
+  }
+
+  public boolean fillDiagonal(int startRow, int startCol, int size, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_fillDiagonal__SWIG_1(swigCPtr, this, startRow, startCol, size, value);
+  }
+
+  public boolean fillDiagonal(float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_fillDiagonal__SWIG_2(swigCPtr, this, value);
+  }
+
+  public float min() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_min(swigCPtr, this);
+  }
+
+  public float max() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_max(swigCPtr, this);
+  }
+
+  public float sum() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_sum(swigCPtr, this);
+  }
+
+  public float prod() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_prod(swigCPtr, this);
+  }
+
+  public void scale(float scale) {
+    NativeMatrixLibraryJNI.NativeFMatrixImpl_scale__SWIG_1(swigCPtr, this, scale);
+  }
+
+  public boolean set(int row, int col, float value) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_set__SWIG_2(swigCPtr, this, row, col, value);
+  }
+
+  public float get(int row, int col) {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_get__SWIG_1(swigCPtr, this, row, col);
+  }
+
+  public int rows() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_rows(swigCPtr, this);
+  }
+
+  public int cols() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_cols(swigCPtr, this);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeFMatrixImpl_size(swigCPtr, this);
+  }
+
+  public void print() {
+    NativeMatrixLibraryJNI.NativeFMatrixImpl_print(swigCPtr, this);
+  }
+
+}
@@ -0,0 +1,78 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeInstrumentationImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeInstrumentationImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeInstrumentationImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeInstrumentationImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public static void setEnabled(boolean enabled) {
+    NativeMatrixLibraryJNI.NativeInstrumentationImpl_setEnabled(enabled);
+  }
+
+  public static boolean isEnabled() {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_isEnabled();
+  }
+
+  public static void reset() {
+    NativeMatrixLibraryJNI.NativeInstrumentationImpl_reset();
+  }
+
+  public static int numberOfOperations() {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_numberOfOperations();
+  }
+
+  public static long getCallCount(int operation) {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_getCallCount(operation);
+  }
+
+  public static long getTotalNanoseconds(int operation) {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_getTotalNanoseconds(operation);
+  }
+
+  public static long getMaxNanoseconds(int operation) {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_getMaxNanoseconds(operation);
+  }
+
+  public static int getMaxRows(int operation) {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_getMaxRows(operation);
+  }
+
+  public static int getMaxCols(int operation) {
+    return NativeMatrixLibraryJNI.NativeInstrumentationImpl_getMaxCols(operation);
+  }
+
+  public NativeInstrumentationImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeInstrumentationImpl(), true);
+  }
+
+}
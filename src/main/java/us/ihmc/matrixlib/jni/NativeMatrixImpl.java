@@ -51,6 +51,18 @@ public class NativeMatrixImpl {
     NativeMatrixLibraryJNI.NativeMatrixImpl_resize(swigCPtr, this, numRows, numCols);
   }
 
+  public boolean reserve(int capacity) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_reserve(swigCPtr, this, capacity);
+  }
+
+  public void trimToSize() {
+    NativeMatrixLibraryJNI.NativeMatrixImpl_trimToSize(swigCPtr, this);
+  }
+
+  public int capacity() {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_capacity(swigCPtr, this);
+  }
+
   public boolean set(NativeMatrixImpl a) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_set__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
   }
@@ -184,7 +196,51 @@ public class NativeMatrixImpl {
   }
 
   public boolean solveCheck(NativeMatrixImpl a, NativeMatrixImpl b) {
-    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveCheck(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveCheck__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveCheck(NativeMatrixImpl a, NativeMatrixImpl b, double minimumRcond) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveCheck__SWIG_1(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b, minimumRcond);
+  }
+
+  public double rcond() {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_rcond(swigCPtr, this);
+  }
+
+  public boolean solveSPD(NativeMatrixImpl a, NativeMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveSPD(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean invertSPD(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_invertSPD(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean solveSymmetric(NativeMatrixImpl a, NativeMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveSymmetric(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveLowerTriangular(NativeMatrixImpl a, NativeMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveLowerTriangular(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean solveUpperTriangular(NativeMatrixImpl a, NativeMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveUpperTriangular(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean pseudoInverse(NativeMatrixImpl a, double tolerance) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_pseudoInverse(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, tolerance);
+  }
+
+  public boolean singularValues(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_singularValues(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean matrixExponential(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_matrixExponential(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean matrixSquareRoot(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_matrixSquareRoot(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
   }
 
   public boolean insert(NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0) {
@@ -219,6 +275,18 @@ public class NativeMatrixImpl {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_transpose(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
   }
 
+  public boolean multMatrix3(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, NativeMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_multMatrix3(swigCPtr, this, m00, m01, m02, m10, m11, m12, m20, m21, m22, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean extractMatrix3(int startRow, int startCol, double[] dst) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_extractMatrix3(swigCPtr, this, startRow, startCol, dst);
+  }
+
+  public boolean insertSpatial(int startRow, int startCol, double[] src) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_insertSpatial(swigCPtr, this, startRow, startCol, src);
+  }
+
   public boolean removeRow(int indexToRemove) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_removeRow(swigCPtr, this, indexToRemove);
   }
@@ -227,6 +295,42 @@ public class NativeMatrixImpl {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_removeColumn(swigCPtr, this, indexToRemove);
   }
 
+  public boolean removeRows(int[] indicesToRemove, int numberOfIndices) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_removeRows(swigCPtr, this, indicesToRemove, numberOfIndices);
+  }
+
+  public boolean removeColumns(int[] indicesToRemove, int numberOfIndices) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_removeColumns(swigCPtr, this, indicesToRemove, numberOfIndices);
+  }
+
+  public boolean appendRows(NativeMatrixImpl src) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_appendRows__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(src), src);
+  }
+
+  public boolean appendRows(double[] src, int srcRows, int srcCols) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_appendRows__SWIG_1(swigCPtr, this, src, srcRows, srcCols);
+  }
+
+  public boolean appendColumns(NativeMatrixImpl src) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_appendColumns__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(src), src);
+  }
+
+  public boolean appendColumns(double[] src, int srcRows, int srcCols) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_appendColumns__SWIG_1(swigCPtr, this, src, srcRows, srcCols);
+  }
+
+  public boolean selectRows(NativeMatrixImpl a, int[] rows, int numberOfRows) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_selectRows(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, rows, numberOfRows);
+  }
+
+  public boolean selectColumns(NativeMatrixImpl a, int[] cols, int numberOfCols) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_selectColumns(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, cols, numberOfCols);
+  }
+
+  public boolean scatterAddRows(NativeMatrixImpl a, int[] rows, int numberOfRows) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_scatterAddRows(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, rows, numberOfRows);
+  }
+
   public void zero() {
     NativeMatrixLibraryJNI.NativeMatrixImpl_zero(swigCPtr, this);
   }
@@ -251,6 +355,28 @@ public class NativeMatrixImpl {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_get__SWIG_0(swigCPtr, this, data, rows, cols);
   }
 
+  public boolean setTransposed(double[] data, int rows, int cols) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_setTransposed(swigCPtr, this, data, rows, cols);
+  }
+
+  public boolean getTransposed(double[] data, int rows, int cols) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_getTransposed(swigCPtr, this, data, rows, cols);
+  }
+
+  public boolean setFromBuffer(java.nio.ByteBuffer NIOBUFFER, int rows, int cols) {
+    assert NIOBUFFER.isDirect() : "Buffer must be allocated direct.";
+    {
+      return NativeMatrixLibraryJNI.NativeMatrixImpl_setFromBuffer(swigCPtr, this, NIOBUFFER, rows, cols);
+    }
+  }
+
+  public boolean getToBuffer(java.nio.ByteBuffer NIOBUFFER, int byteOffset) {
+    assert NIOBUFFER.isDirect() : "Buffer must be allocated direct.";
+    {
+      return NativeMatrixLibraryJNI.NativeMatrixImpl_getToBuffer(swigCPtr, this, NIOBUFFER, byteOffset);
+    }
+  }
+
   public boolean addDiagonal(int startRow, int startCol, int rows, int cols, double value) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_addDiagonal__SWIG_0(swigCPtr, this, startRow, startCol, rows, cols, value);
   }
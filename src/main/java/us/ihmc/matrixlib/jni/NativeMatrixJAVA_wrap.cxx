@@ -233,6 +233,18 @@ static void SWIGUNUSED SWIG_JavaThrowException(JNIEnv *jenv, SWIG_JavaExceptionC
 #include "NativeMatrix.h"
 #include "NativeNullspaceProjector.h"
 #include "NativeKalmanFilter.h"
+#include "NativeSparseMatrix.h"
+#include "NativeQPSolver.h"
+#include "NativeCholesky.h"
+#include "NativeSVD.h"
+#include "NativeEigenSolver.h"
+#include "NativeMatrixThreading.h"
+#include "NativeExpression.h"
+#include "NativeQPCostAccumulator.h"
+#include "NativeInstrumentation.h"
+#include "NativeAllocationTracker.h"
+#include "NativeTriangularMatrix.h"
+#include "NativeSymmetricMatrix.h"
 
 
 #ifdef __cplusplus
@@ -240,13 +252,13 @@ extern "C" {
 #endif
 
 SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1nan_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
   if (arg1) (arg1)->nan = arg2;
 }
@@ -254,13 +266,13 @@ SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Native
 
 SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1nan_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jdouble jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   result = (double) ((arg1)->nan);
   jresult = (jdouble)result; 
   return jresult;
@@ -271,45 +283,88 @@ SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1
   jlong jresult = 0 ;
   int arg1 ;
   int arg2 ;
-  NativeMatrixImpl *result = 0 ;
+  NativeMatrixBase< double > *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   arg1 = (int)jarg1; 
   arg2 = (int)jarg2; 
-  result = (NativeMatrixImpl *)new NativeMatrixImpl(arg1,arg2);
-  *(NativeMatrixImpl **)&jresult = result; 
+  result = (NativeMatrixBase< double > *)new NativeMatrixBase< double >(arg1,arg2);
+  *(NativeMatrixBase< double > **)&jresult = result; 
   return jresult;
 }
 
 
 SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1resize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   int arg2 ;
   int arg3 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (int)jarg2; 
   arg3 = (int)jarg3; 
   (arg1)->resize(arg2,arg3);
 }
 
 
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1reserve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->reserve(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1trimToSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  (arg1)->trimToSize();
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1capacity(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (int)(arg1)->capacity();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1set_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   result = (bool)(arg1)->set(arg2);
   jresult = (jboolean)result; 
   return jresult;
@@ -318,9 +373,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1add_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -328,9 +383,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->add(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -339,10 +394,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1add_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   double arg3 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -350,10 +405,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   arg3 = (double)jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->add(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -362,11 +417,11 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1add_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jdouble jarg4, jlong jarg5, jobject jarg5_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   double arg4 ;
-  NativeMatrixImpl *arg5 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg5 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -374,11 +429,11 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg5_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   arg4 = (double)jarg4; 
-  arg5 = *(NativeMatrixImpl **)&jarg5; 
+  arg5 = *(NativeMatrixBase< double > **)&jarg5; 
   result = (bool)(arg1)->add(arg2,arg3,arg4,arg5);
   jresult = (jboolean)result; 
   return jresult;
@@ -387,16 +442,16 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addEquals_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   result = (bool)(arg1)->addEquals(arg2);
   jresult = (jboolean)result; 
   return jresult;
@@ -405,18 +460,18 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addEquals_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->addEquals(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -425,7 +480,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1add_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   int arg2 ;
   int arg3 ;
   double arg4 ;
@@ -434,7 +489,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (int)jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (double)jarg4; 
@@ -446,9 +501,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1subtract(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -456,9 +511,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->subtract(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -467,9 +522,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1mult_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -477,9 +532,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->mult(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -488,10 +543,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1mult_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -499,10 +554,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->mult(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -511,9 +566,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAdd_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -521,9 +576,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multAdd(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -532,10 +587,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAdd_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -543,10 +598,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->multAdd(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -555,9 +610,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multTransA_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -565,9 +620,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multTransA(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -576,10 +631,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multTransA_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -587,10 +642,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->multTransA(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -599,9 +654,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddTransA_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -609,9 +664,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multAddTransA(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -620,10 +675,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddTransA_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -631,10 +686,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->multAddTransA(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -643,9 +698,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multTransB_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -653,9 +708,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multTransB(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -664,10 +719,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multTransB_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -675,10 +730,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->multTransB(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -687,9 +742,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddTransB_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -697,9 +752,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multAddTransB(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -708,10 +763,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddTransB_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -719,10 +774,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   result = (bool)(arg1)->multAddTransB(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
@@ -731,8 +786,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addBlock_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jdouble jarg9) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   int arg3 ;
   int arg4 ;
   int arg5 ;
@@ -746,8 +801,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
@@ -763,8 +818,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addBlock_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   int arg3 ;
   int arg4 ;
   int arg5 ;
@@ -777,8 +832,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
@@ -793,8 +848,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1subtractBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   int arg3 ;
   int arg4 ;
   int arg5 ;
@@ -807,8 +862,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
@@ -823,9 +878,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddBlock_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   int arg4 ;
   int arg5 ;
   bool result;
@@ -835,9 +890,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
   result = (bool)(arg1)->multAddBlock(arg2,arg3,arg4,arg5);
@@ -848,10 +903,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddBlock_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jint jarg5, jint jarg6) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   int arg5 ;
   int arg6 ;
   bool result;
@@ -861,10 +916,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   arg5 = (int)jarg5; 
   arg6 = (int)jarg6; 
   result = (bool)(arg1)->multAddBlock(arg2,arg3,arg4,arg5,arg6);
@@ -875,9 +930,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddBlockTransA_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   int arg4 ;
   int arg5 ;
   bool result;
@@ -887,9 +942,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
   result = (bool)(arg1)->multAddBlockTransA(arg2,arg3,arg4,arg5);
@@ -900,10 +955,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddBlockTransA_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jint jarg5, jint jarg6) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg4 = (NativeMatrixBase< double > *) 0 ;
   int arg5 ;
   int arg6 ;
   bool result;
@@ -913,10 +968,10 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg3_;
   (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< double > **)&jarg4; 
   arg5 = (int)jarg5; 
   arg6 = (int)jarg6; 
   result = (bool)(arg1)->multAddBlockTransA(arg2,arg3,arg4,arg5,arg6);
@@ -927,9 +982,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multQuad(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -937,9 +992,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multQuad(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -948,9 +1003,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddQuad(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -958,9 +1013,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->multAddQuad(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
@@ -969,9 +1024,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multQuadBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   int arg4 ;
   int arg5 ;
   bool result;
@@ -981,9 +1036,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
   result = (bool)(arg1)->multQuadBlock(arg2,arg3,arg4,arg5);
@@ -994,9 +1049,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multAddQuadBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   int arg4 ;
   int arg5 ;
   bool result;
@@ -1006,9 +1061,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
   result = (bool)(arg1)->multAddQuadBlock(arg2,arg3,arg4,arg5);
@@ -1019,16 +1074,16 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1invert(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   result = (bool)(arg1)->invert(arg2);
   jresult = (jboolean)result; 
   return jresult;
@@ -1037,9 +1092,9 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -1047,20 +1102,20 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->solve(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveCheck(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveCheck_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
@@ -1068,49 +1123,263 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
   result = (bool)(arg1)->solveCheck(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insert_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveCheck_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jdouble jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  int arg3 ;
-  int arg4 ;
-  int arg5 ;
-  int arg6 ;
-  int arg7 ;
-  int arg8 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  double arg4 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = (int)jarg3; 
-  arg4 = (int)jarg4; 
-  arg5 = (int)jarg5; 
-  arg6 = (int)jarg6; 
-  arg7 = (int)jarg7; 
-  arg8 = (int)jarg8; 
-  result = (bool)(arg1)->insert(arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  arg4 = (double)jarg4; 
+  result = (bool)(arg1)->solveCheck(arg2,arg3,arg4);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insert_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10) {
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1rcond(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jdouble jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (double)(arg1)->rcond();
+  jresult = (jdouble)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveSPD(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double *arg2 = (double *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  result = (bool)(arg1)->solveSPD(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1invertSPD(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  result = (bool)(arg1)->invertSPD(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveSymmetric(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  result = (bool)(arg1)->solveSymmetric(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveLowerTriangular(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  result = (bool)(arg1)->solveLowerTriangular(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1solveUpperTriangular(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  result = (bool)(arg1)->solveUpperTriangular(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1pseudoInverse(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  double arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = (double)jarg3; 
+  result = (bool)(arg1)->pseudoInverse(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1singularValues(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  result = (bool)(arg1)->singularValues(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1matrixExponential(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  result = (bool)(arg1)->matrixExponential(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1matrixSquareRoot(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  result = (bool)(arg1)->matrixSquareRoot(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insert_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  result = (bool)(arg1)->insert(arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insert_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
   int arg3 ;
   int arg4 ;
   int arg5 ;
@@ -1124,7 +1393,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   {
     arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
   }
@@ -1147,7 +1416,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insert_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4, jdouble jarg5, jdouble jarg6, jdouble jarg7, jdouble jarg8, jdouble jarg9, jdouble jarg10, jdouble jarg11, jdouble jarg12) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   int arg2 ;
   int arg3 ;
   double arg4 ;
@@ -1164,7 +1433,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (int)jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (double)jarg4; 
@@ -1184,7 +1453,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insertTupleRow(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4, jdouble jarg5, jdouble jarg6) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   int arg2 ;
   int arg3 ;
   double arg4 ;
@@ -1195,7 +1464,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (int)jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (double)jarg4; 
@@ -1209,8 +1478,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insertScaled_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jdouble jarg9) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   int arg3 ;
   int arg4 ;
   int arg5 ;
@@ -1224,8 +1493,8 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
   arg5 = (int)jarg5; 
@@ -1241,7 +1510,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insertScaled_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10, jdouble jarg11) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double *arg2 = (double *) 0 ;
   int arg3 ;
   int arg4 ;
@@ -1257,7 +1526,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   {
     arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
   }
@@ -1281,7 +1550,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1extract(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdoubleArray jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   int arg2 ;
   int arg3 ;
   int arg4 ;
@@ -1296,7 +1565,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (int)jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
@@ -1319,140 +1588,160 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 
 SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1transpose(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
   result = (bool)(arg1)->transpose(arg2);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1removeRow(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1multMatrix3(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jdouble jarg3, jdouble jarg4, jdouble jarg5, jdouble jarg6, jdouble jarg7, jdouble jarg8, jdouble jarg9, jdouble jarg10, jlong jarg11, jobject jarg11_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double arg2 ;
+  double arg3 ;
+  double arg4 ;
+  double arg5 ;
+  double arg6 ;
+  double arg7 ;
+  double arg8 ;
+  double arg9 ;
+  double arg10 ;
+  NativeMatrixBase< double > *arg11 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
-  result = (bool)(arg1)->removeRow(arg2);
+  (void)jarg11_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (double)jarg2; 
+  arg3 = (double)jarg3; 
+  arg4 = (double)jarg4; 
+  arg5 = (double)jarg5; 
+  arg6 = (double)jarg6; 
+  arg7 = (double)jarg7; 
+  arg8 = (double)jarg8; 
+  arg9 = (double)jarg9; 
+  arg10 = (double)jarg10; 
+  arg11 = *(NativeMatrixBase< double > **)&jarg11; 
+  result = (bool)(arg1)->multMatrix3(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9,arg10,arg11);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1removeColumn(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1extractMatrix3(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdoubleArray jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   int arg2 ;
+  int arg3 ;
+  double *arg4 = (double *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (int)jarg2; 
-  result = (bool)(arg1)->removeColumn(arg2);
+  arg3 = (int)jarg3; 
+  {
+    arg4 = (double*) jenv->GetPrimitiveArrayCritical(jarg4, NULL);
+  }
+  result = (bool)(arg1)->extractMatrix3(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg4, arg4, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1zero(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  (arg1)->zero();
-}
-
-
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1containsNaN(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1insertSpatial(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdoubleArray jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  double *arg4 = (double *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (bool)(arg1)->containsNaN();
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  {
+    arg4 = (double*) jenv->GetPrimitiveArrayCritical(jarg4, NULL);
+  }
+  result = (bool)(arg1)->insertSpatial(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg4, arg4, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1scale_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1removeRow(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double arg2 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg3_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (double)jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  result = (bool)(arg1)->scale(arg2,arg3);
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->removeRow(arg2);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1isAprrox(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1removeColumn(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  double arg3 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = (double)jarg3; 
-  result = (bool)(arg1)->isAprrox(arg2,arg3);
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->removeColumn(arg2);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1set_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1removeRows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jintArray jarg2, jint jarg3) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double *arg2 = (double *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int *arg2 = (int *) 0 ;
   int arg3 ;
-  int arg4 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   {
-    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+    arg2 = (int*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
   }
   arg3 = (int)jarg3; 
-  arg4 = (int)jarg4; 
-  result = (bool)(arg1)->set(arg2,arg3,arg4);
+  result = (bool)(arg1)->removeRows(arg2,arg3);
   jresult = (jboolean)result; 
   {
     jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
@@ -1461,24 +1750,22 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1get_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1removeColumns(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jintArray jarg2, jint jarg3) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double *arg2 = (double *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int *arg2 = (int *) 0 ;
   int arg3 ;
-  int arg4 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   {
-    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+    arg2 = (int*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
   }
   arg3 = (int)jarg3; 
-  arg4 = (int)jarg4; 
-  result = (bool)(arg1)->get(arg2,arg3,arg4);
+  result = (bool)(arg1)->removeColumns(arg2,arg3);
   jresult = (jboolean)result; 
   {
     jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
@@ -1487,237 +1774,4781 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addDiagonal_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdouble jarg6) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1appendRows_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  result = (bool)(arg1)->appendRows(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1appendRows_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
   int arg3 ;
   int arg4 ;
-  int arg5 ;
-  double arg6 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
-  arg5 = (int)jarg5; 
-  arg6 = (double)jarg6; 
-  result = (bool)(arg1)->addDiagonal(arg2,arg3,arg4,arg5,arg6);
+  result = (bool)(arg1)->appendRows(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillDiagonal_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdouble jarg6) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1appendColumns_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  result = (bool)(arg1)->appendColumns(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1appendColumns_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
   int arg3 ;
   int arg4 ;
-  int arg5 ;
-  double arg6 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
-  arg5 = (int)jarg5; 
-  arg6 = (double)jarg6; 
-  result = (bool)(arg1)->fillDiagonal(arg2,arg3,arg4,arg5,arg6);
+  result = (bool)(arg1)->appendColumns(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdouble jarg6) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1selectRows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jintArray jarg3, jint jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
-  int arg3 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  int *arg3 = (int *) 0 ;
   int arg4 ;
-  int arg5 ;
-  double arg6 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
-  arg3 = (int)jarg3; 
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  {
+    arg3 = (int*) jenv->GetPrimitiveArrayCritical(jarg3, NULL);
+  }
   arg4 = (int)jarg4; 
-  arg5 = (int)jarg5; 
-  arg6 = (double)jarg6; 
-  result = (bool)(arg1)->fillBlock(arg2,arg3,arg4,arg5,arg6);
+  result = (bool)(arg1)->selectRows(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg3, arg3, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addDiagonal_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jdouble jarg5) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1selectColumns(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jintArray jarg3, jint jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
-  int arg3 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  int *arg3 = (int *) 0 ;
   int arg4 ;
-  double arg5 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
-  arg3 = (int)jarg3; 
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  {
+    arg3 = (int*) jenv->GetPrimitiveArrayCritical(jarg3, NULL);
+  }
   arg4 = (int)jarg4; 
-  arg5 = (double)jarg5; 
-  result = (bool)(arg1)->addDiagonal(arg2,arg3,arg4,arg5);
+  result = (bool)(arg1)->selectColumns(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg3, arg3, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addDiagonal_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1scatterAddRows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jintArray jarg3, jint jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  int *arg3 = (int *) 0 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  {
+    arg3 = (int*) jenv->GetPrimitiveArrayCritical(jarg3, NULL);
+  }
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->scatterAddRows(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg3, arg3, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1zero(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  (arg1)->zero();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1containsNaN(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (bool)(arg1)->containsNaN();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1scale_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
   double arg2 ;
+  NativeMatrixBase< double > *arg3 = (NativeMatrixBase< double > *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   arg2 = (double)jarg2; 
-  result = (bool)(arg1)->addDiagonal(arg2);
+  arg3 = *(NativeMatrixBase< double > **)&jarg3; 
+  result = (bool)(arg1)->scale(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillDiagonal_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jdouble jarg5) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1isAprrox(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  NativeMatrixBase< double > *arg2 = (NativeMatrixBase< double > *) 0 ;
+  double arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< double > **)&jarg2; 
+  arg3 = (double)jarg3; 
+  result = (bool)(arg1)->isAprrox(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1set_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
   int arg3 ;
   int arg4 ;
-  double arg5 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
   arg3 = (int)jarg3; 
   arg4 = (int)jarg4; 
-  arg5 = (double)jarg5; 
-  result = (bool)(arg1)->fillDiagonal(arg2,arg3,arg4,arg5);
+  result = (bool)(arg1)->set(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillDiagonal_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1get_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double arg2 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
+  int arg3 ;
+  int arg4 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (double)jarg2; 
-  result = (bool)(arg1)->fillDiagonal(arg2);
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->get(arg2,arg3,arg4);
   jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1min(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jdouble jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double result;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1setTransposed(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (double)(arg1)->min();
-  jresult = (jdouble)result; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->setTransposed(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1max(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jdouble jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double result;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1getTransposed(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdoubleArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double *arg2 = (double *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (double)(arg1)->max();
-  jresult = (jdouble)result; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (double*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->getTransposed(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
   return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1sum(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jdouble jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double result;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1setFromBuffer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  unsigned char *arg2 = (unsigned char *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (double)(arg1)->sum();
-  jresult = (jdouble)result; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (unsigned char *) jenv->GetDirectBufferAddress(jarg2); 
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of a java.nio.ByteBuffer direct byte buffer. Buffer must be a direct buffer and not a non-direct buffer.");  
+    }  
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->setFromBuffer(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1prod(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jdouble jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double result;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1getToBuffer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jint jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  unsigned char *arg2 = (unsigned char *) 0 ;
+  int arg3 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  {
+    arg2 = (unsigned char *) jenv->GetDirectBufferAddress(jarg2); 
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of a java.nio.ByteBuffer direct byte buffer. Buffer must be a direct buffer and not a non-direct buffer.");  
+    }  
+  }
+  arg3 = (int)jarg3; 
+  result = (bool)(arg1)->getToBuffer(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addDiagonal_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdouble jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  double arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (double)jarg6; 
+  result = (bool)(arg1)->addDiagonal(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillDiagonal_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdouble jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  double arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (double)jarg6; 
+  result = (bool)(arg1)->fillDiagonal(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jdouble jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  double arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (double)jarg6; 
+  result = (bool)(arg1)->fillBlock(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addDiagonal_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jdouble jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  double arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (double)jarg5; 
+  result = (bool)(arg1)->addDiagonal(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1addDiagonal_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (double)jarg2; 
+  result = (bool)(arg1)->addDiagonal(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillDiagonal_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jdouble jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  double arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (double)jarg5; 
+  result = (bool)(arg1)->fillDiagonal(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1fillDiagonal_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (double)jarg2; 
+  result = (bool)(arg1)->fillDiagonal(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1min(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jdouble jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (double)(arg1)->min();
+  jresult = (jdouble)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1max(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jdouble jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (double)(arg1)->max();
+  jresult = (jdouble)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1sum(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jdouble jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (double)(arg1)->sum();
+  jresult = (jdouble)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1prod(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jdouble jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
   result = (double)(arg1)->prod();
   jresult = (jdouble)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1scale_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  double arg2 ;
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1scale_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  double arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (double)jarg2; 
+  (arg1)->scale(arg2);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1set_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  double arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (double)jarg4; 
+  result = (bool)(arg1)->set(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1get_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  jdouble jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  result = (double)(arg1)->get(arg2,arg3);
+  jresult = (jdouble)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1rows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (int)(arg1)->rows();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1cols(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (int)(arg1)->cols();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  result = (int)(arg1)->size();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1print(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  (arg1)->print();
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeMatrixImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeMatrixBase< double > *arg1 = (NativeMatrixBase< double > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeMatrixBase< double > **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1nan_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  if (arg1) (arg1)->nan = arg2;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1nan_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (float) ((arg1)->nan);
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeFMatrixImpl(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  int arg2 ;
+  NativeMatrixBase< float > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  arg2 = (int)jarg2; 
+  result = (NativeMatrixBase< float > *)new NativeMatrixBase< float >(arg1,arg2);
+  *(NativeMatrixBase< float > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1resize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  (arg1)->resize(arg2,arg3);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1reserve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->reserve(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1trimToSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  (arg1)->trimToSize();
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1capacity(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (int)(arg1)->capacity();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1set_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->set(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1add_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->add(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1add_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jfloat jarg3, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  float arg3 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (float)jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->add(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1add_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jfloat jarg4, jlong jarg5, jobject jarg5_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  float arg4 ;
+  NativeMatrixBase< float > *arg5 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg5_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = (float)jarg4; 
+  arg5 = *(NativeMatrixBase< float > **)&jarg5; 
+  result = (bool)(arg1)->add(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addEquals_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->addEquals(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addEquals_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->addEquals(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1add_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jfloat jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (float)jarg4; 
+  result = (bool)(arg1)->add(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1subtract(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->subtract(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1mult_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->mult(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1mult_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->mult(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAdd_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multAdd(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAdd_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->multAdd(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multTransA_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multTransA(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multTransA_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->multTransA(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddTransA_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multAddTransA(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddTransA_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->multAddTransA(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multTransB_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multTransB(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multTransB_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->multTransB(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddTransB_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multAddTransB(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddTransB_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  result = (bool)(arg1)->multAddTransB(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addBlock_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jfloat jarg9) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  float arg9 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  arg9 = (float)jarg9; 
+  result = (bool)(arg1)->addBlock(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addBlock_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  result = (bool)(arg1)->addBlock(arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1subtractBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  result = (bool)(arg1)->subtractBlock(arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddBlock_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  int arg4 ;
+  int arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  result = (bool)(arg1)->multAddBlock(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddBlock_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jint jarg5, jint jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  int arg5 ;
+  int arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  result = (bool)(arg1)->multAddBlock(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddBlockTransA_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  int arg4 ;
+  int arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  result = (bool)(arg1)->multAddBlockTransA(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddBlockTransA_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jint jarg5, jint jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg4 = (NativeMatrixBase< float > *) 0 ;
+  int arg5 ;
+  int arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = *(NativeMatrixBase< float > **)&jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  result = (bool)(arg1)->multAddBlockTransA(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multQuad(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multQuad(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddQuad(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->multAddQuad(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multQuadBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  int arg4 ;
+  int arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  result = (bool)(arg1)->multQuadBlock(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multAddQuadBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4, jint jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  int arg4 ;
+  int arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  result = (bool)(arg1)->multAddQuadBlock(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1invert(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->invert(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->solve(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solveCheck_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->solveCheck(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solveCheck_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jfloat jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  float arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  arg4 = (float)jarg4; 
+  result = (bool)(arg1)->solveCheck(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1rcond(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (float)(arg1)->rcond();
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solveSPD(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->solveSPD(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1invertSPD(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->invertSPD(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solveSymmetric(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->solveSymmetric(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solveLowerTriangular(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->solveLowerTriangular(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1solveUpperTriangular(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->solveUpperTriangular(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1pseudoInverse(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jfloat jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  float arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (float)jarg3; 
+  result = (bool)(arg1)->pseudoInverse(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1singularValues(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->singularValues(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1matrixExponential(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->matrixExponential(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1matrixSquareRoot(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->matrixSquareRoot(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insert_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  result = (bool)(arg1)->insert(arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insert_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  int arg9 ;
+  int arg10 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  arg9 = (int)jarg9; 
+  arg10 = (int)jarg10; 
+  result = (bool)(arg1)->insert(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9,arg10);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insert_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jfloat jarg4, jfloat jarg5, jfloat jarg6, jfloat jarg7, jfloat jarg8, jfloat jarg9, jfloat jarg10, jfloat jarg11, jfloat jarg12) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float arg4 ;
+  float arg5 ;
+  float arg6 ;
+  float arg7 ;
+  float arg8 ;
+  float arg9 ;
+  float arg10 ;
+  float arg11 ;
+  float arg12 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (float)jarg4; 
+  arg5 = (float)jarg5; 
+  arg6 = (float)jarg6; 
+  arg7 = (float)jarg7; 
+  arg8 = (float)jarg8; 
+  arg9 = (float)jarg9; 
+  arg10 = (float)jarg10; 
+  arg11 = (float)jarg11; 
+  arg12 = (float)jarg12; 
+  result = (bool)(arg1)->insert(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9,arg10,arg11,arg12);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insertTupleRow(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jfloat jarg4, jfloat jarg5, jfloat jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float arg4 ;
+  float arg5 ;
+  float arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (float)jarg4; 
+  arg5 = (float)jarg5; 
+  arg6 = (float)jarg6; 
+  result = (bool)(arg1)->insertTupleRow(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insertScaled_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jfloat jarg9) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  float arg9 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  arg9 = (float)jarg9; 
+  result = (bool)(arg1)->insertScaled(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insertScaled_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10, jfloat jarg11) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int arg6 ;
+  int arg7 ;
+  int arg8 ;
+  int arg9 ;
+  int arg10 ;
+  float arg11 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int)jarg6; 
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  arg9 = (int)jarg9; 
+  arg10 = (int)jarg10; 
+  arg11 = (float)jarg11; 
+  result = (bool)(arg1)->insertScaled(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9,arg10,arg11);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1extract(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jfloatArray jarg6, jint jarg7, jint jarg8, jint jarg9, jint jarg10) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  float *arg6 = (float *) 0 ;
+  int arg7 ;
+  int arg8 ;
+  int arg9 ;
+  int arg10 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  {
+    arg6 = (float*) jenv->GetPrimitiveArrayCritical(jarg6, NULL);
+  }
+  arg7 = (int)jarg7; 
+  arg8 = (int)jarg8; 
+  arg9 = (int)jarg9; 
+  arg10 = (int)jarg10; 
+  result = (bool)(arg1)->extract(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9,arg10);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg6, arg6, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1transpose(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->transpose(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1multMatrix3(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jfloat jarg3, jfloat jarg4, jfloat jarg5, jfloat jarg6, jfloat jarg7, jfloat jarg8, jfloat jarg9, jfloat jarg10, jlong jarg11, jobject jarg11_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  float arg3 ;
+  float arg4 ;
+  float arg5 ;
+  float arg6 ;
+  float arg7 ;
+  float arg8 ;
+  float arg9 ;
+  float arg10 ;
+  NativeMatrixBase< float > *arg11 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg11_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = (float)jarg3; 
+  arg4 = (float)jarg4; 
+  arg5 = (float)jarg5; 
+  arg6 = (float)jarg6; 
+  arg7 = (float)jarg7; 
+  arg8 = (float)jarg8; 
+  arg9 = (float)jarg9; 
+  arg10 = (float)jarg10; 
+  arg11 = *(NativeMatrixBase< float > **)&jarg11; 
+  result = (bool)(arg1)->multMatrix3(arg2,arg3,arg4,arg5,arg6,arg7,arg8,arg9,arg10,arg11);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1extractMatrix3(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jfloatArray jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float *arg4 = (float *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  {
+    arg4 = (float*) jenv->GetPrimitiveArrayCritical(jarg4, NULL);
+  }
+  result = (bool)(arg1)->extractMatrix3(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg4, arg4, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1insertSpatial(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jfloatArray jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float *arg4 = (float *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  {
+    arg4 = (float*) jenv->GetPrimitiveArrayCritical(jarg4, NULL);
+  }
+  result = (bool)(arg1)->insertSpatial(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg4, arg4, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1removeRow(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->removeRow(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1removeColumn(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->removeColumn(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1removeRows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jintArray jarg2, jint jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int *arg2 = (int *) 0 ;
+  int arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (int*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  result = (bool)(arg1)->removeRows(arg2,arg3);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1removeColumns(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jintArray jarg2, jint jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int *arg2 = (int *) 0 ;
+  int arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (int*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  result = (bool)(arg1)->removeColumns(arg2,arg3);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1appendRows_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->appendRows(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1appendRows_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->appendRows(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1appendColumns_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  result = (bool)(arg1)->appendColumns(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1appendColumns_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->appendColumns(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1selectRows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jintArray jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int *arg3 = (int *) 0 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  {
+    arg3 = (int*) jenv->GetPrimitiveArrayCritical(jarg3, NULL);
+  }
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->selectRows(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg3, arg3, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1selectColumns(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jintArray jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int *arg3 = (int *) 0 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  {
+    arg3 = (int*) jenv->GetPrimitiveArrayCritical(jarg3, NULL);
+  }
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->selectColumns(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg3, arg3, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1scatterAddRows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jintArray jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  int *arg3 = (int *) 0 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  {
+    arg3 = (int*) jenv->GetPrimitiveArrayCritical(jarg3, NULL);
+  }
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->scatterAddRows(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg3, arg3, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1zero(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  (arg1)->zero();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1containsNaN(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (bool)(arg1)->containsNaN();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1scale_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  NativeMatrixBase< float > *arg3 = (NativeMatrixBase< float > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  arg3 = *(NativeMatrixBase< float > **)&jarg3; 
+  result = (bool)(arg1)->scale(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1isAprrox(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jfloat jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  NativeMatrixBase< float > *arg2 = (NativeMatrixBase< float > *) 0 ;
+  float arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = *(NativeMatrixBase< float > **)&jarg2; 
+  arg3 = (float)jarg3; 
+  result = (bool)(arg1)->isAprrox(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1set_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->set(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1get_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->get(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1setTransposed(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->setTransposed(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1getTransposed(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloatArray jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (float*) jenv->GetPrimitiveArrayCritical(jarg2, NULL);
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->getTransposed(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg2, arg2, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1setFromBuffer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jint jarg3, jint jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  unsigned char *arg2 = (unsigned char *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (unsigned char *) jenv->GetDirectBufferAddress(jarg2); 
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of a java.nio.ByteBuffer direct byte buffer. Buffer must be a direct buffer and not a non-direct buffer.");  
+    }  
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (bool)(arg1)->setFromBuffer(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1getToBuffer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jint jarg3) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  unsigned char *arg2 = (unsigned char *) 0 ;
+  int arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  {
+    arg2 = (unsigned char *) jenv->GetDirectBufferAddress(jarg2); 
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of a java.nio.ByteBuffer direct byte buffer. Buffer must be a direct buffer and not a non-direct buffer.");  
+    }  
+  }
+  arg3 = (int)jarg3; 
+  result = (bool)(arg1)->getToBuffer(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addDiagonal_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jfloat jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  float arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (float)jarg6; 
+  result = (bool)(arg1)->addDiagonal(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1fillDiagonal_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jfloat jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  float arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (float)jarg6; 
+  result = (bool)(arg1)->fillDiagonal(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1fillBlock(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jfloat jarg6) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int arg5 ;
+  float arg6 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (float)jarg6; 
+  result = (bool)(arg1)->fillBlock(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addDiagonal_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jfloat jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  float arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (float)jarg5; 
+  result = (bool)(arg1)->addDiagonal(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1addDiagonal_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  result = (bool)(arg1)->addDiagonal(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1fillDiagonal_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jfloat jarg5) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  float arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (float)jarg5; 
+  result = (bool)(arg1)->fillDiagonal(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1fillDiagonal_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  result = (bool)(arg1)->fillDiagonal(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1min(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (float)(arg1)->min();
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1max(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (float)(arg1)->max();
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1sum(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (float)(arg1)->sum();
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1prod(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (float)(arg1)->prod();
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1scale_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jfloat jarg2) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  float arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (float)jarg2; 
+  (arg1)->scale(arg2);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1set_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jfloat jarg4) {
+  jboolean jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (float)jarg4; 
+  result = (bool)(arg1)->set(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jfloat JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1get_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  jfloat jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  float result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  result = (float)(arg1)->get(arg2,arg3);
+  jresult = (jfloat)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1rows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (int)(arg1)->rows();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1cols(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (int)(arg1)->cols();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  result = (int)(arg1)->size();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeFMatrixImpl_1print(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  (arg1)->print();
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeFMatrixImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeMatrixBase< float > *arg1 = (NativeMatrixBase< float > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeMatrixBase< float > **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeNullspaceProjectorImpl(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  NativeNullspaceProjectorImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (NativeNullspaceProjectorImpl *)new NativeNullspaceProjectorImpl(arg1);
+  *(NativeNullspaceProjectorImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeNullspaceProjectorImpl_1projectOnNullSpace(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jdouble jarg5) {
+  jboolean jresult = 0 ;
+  NativeNullspaceProjectorImpl *arg1 = (NativeNullspaceProjectorImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  double arg5 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeNullspaceProjectorImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg5 = (double)jarg5; 
+  result = (bool)(arg1)->projectOnNullSpace(arg2,arg3,arg4,arg5);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeNullspaceProjectorImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeNullspaceProjectorImpl *arg1 = (NativeNullspaceProjectorImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeNullspaceProjectorImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeKalmanFilterImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeKalmanFilterImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeKalmanFilterImpl *)new NativeKalmanFilterImpl();
+  *(NativeKalmanFilterImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1predictErrorCovariance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  result = (bool)NativeKalmanFilterImpl::predictErrorCovariance(arg1,arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1computeKalmanGain(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  result = (bool)NativeKalmanFilterImpl::computeKalmanGain(arg1,arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1updateState(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  result = (bool)NativeKalmanFilterImpl::updateState(arg1,arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1updateErrorCovariance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+  jboolean jresult = 0 ;
+  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  result = (bool)NativeKalmanFilterImpl::updateErrorCovariance(arg1,arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeKalmanFilterImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeKalmanFilterImpl *arg1 = (NativeKalmanFilterImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeKalmanFilterImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeSparseMatrixImpl(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  int arg2 ;
+  NativeSparseMatrixImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  arg2 = (int)jarg2; 
+  result = (NativeSparseMatrixImpl *)new NativeSparseMatrixImpl(arg1,arg2);
+  *(NativeSparseMatrixImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1setFromCSC(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jintArray jarg5, jintArray jarg6, jdoubleArray jarg7) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int *arg5 = (int *) 0 ;
+  int *arg6 = (int *) 0 ;
+  double *arg7 = (double *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  {
+    arg5 = (int*) jenv->GetPrimitiveArrayCritical(jarg5, NULL);
+  }
+  {
+    arg6 = (int*) jenv->GetPrimitiveArrayCritical(jarg6, NULL);
+  }
+  {
+    arg7 = (double*) jenv->GetPrimitiveArrayCritical(jarg7, NULL);
+  }
+  result = (bool)(arg1)->setFromCSC(arg2,arg3,arg4,arg5,arg6,arg7);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg5, arg5, 0);
+  }
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg6, arg6, 0);
+  }
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg7, arg7, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1setFromTriplets(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jint jarg4, jintArray jarg5, jdoubleArray jarg6) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  int arg4 ;
+  int *arg5 = (int *) 0 ;
+  double *arg6 = (double *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  {
+    arg5 = (int*) jenv->GetPrimitiveArrayCritical(jarg5, NULL);
+  }
+  {
+    arg6 = (double*) jenv->GetPrimitiveArrayCritical(jarg6, NULL);
+  }
+  result = (bool)(arg1)->setFromTriplets(arg2,arg3,arg4,arg5,arg6);
+  jresult = (jboolean)result; 
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg5, arg5, 0);
+  }
+  {
+    jenv->ReleasePrimitiveArrayCritical(jarg6, arg6, 0);
+  }
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1mult(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->mult(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1multTransA(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->multTransA(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1multQuad(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->multQuad(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1multQuadDiagonal(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->multQuadDiagonal(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->get(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1rows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->rows();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1cols(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->cols();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseMatrixImpl_1nonZeros(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->nonZeros();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeSparseMatrixImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeSparseMatrixImpl *arg1 = (NativeSparseMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeSparseMatrixImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeSparseCholeskyImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeSparseCholeskyImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeSparseCholeskyImpl *)new NativeSparseCholeskyImpl();
+  *(NativeSparseCholeskyImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseCholeskyImpl_1compute(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeSparseCholeskyImpl *arg1 = (NativeSparseCholeskyImpl *) 0 ;
+  NativeSparseMatrixImpl *arg2 = (NativeSparseMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSparseCholeskyImpl **)&jarg1; 
+  arg2 = *(NativeSparseMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->compute(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseCholeskyImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeSparseCholeskyImpl *arg1 = (NativeSparseCholeskyImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSparseCholeskyImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->solve(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSparseCholeskyImpl_1symbolicAnalysisCount(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSparseCholeskyImpl *arg1 = (NativeSparseCholeskyImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSparseCholeskyImpl **)&jarg1; 
+  result = (int)(arg1)->symbolicAnalysisCount();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeSparseCholeskyImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeSparseCholeskyImpl *arg1 = (NativeSparseCholeskyImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeSparseCholeskyImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeQPSolverImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeQPSolverImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeQPSolverImpl *)new NativeQPSolverImpl();
+  *(NativeQPSolverImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1setQuadraticCostFunction(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->setQuadraticCostFunction(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1setLinearEqualityConstraints(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->setLinearEqualityConstraints(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1setLinearInequalityConstraints(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->setLinearInequalityConstraints(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1setVariableBounds(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->setVariableBounds(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1clearConstraints(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  (arg1)->clearConstraints();
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1resetActiveSet(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  (arg1)->resetActiveSet();
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1setMaxIterations(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  int arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  (arg1)->setMaxIterations(arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1setConvergenceThreshold(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  double arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = (double)jarg2; 
+  (arg1)->setConvergenceThreshold(arg2);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->solve(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1getLagrangeEqualityMultipliers(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->getLagrangeEqualityMultipliers(arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1getLagrangeInequalityMultipliers(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->getLagrangeInequalityMultipliers(arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1getLagrangeLowerBoundMultipliers(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->getLagrangeLowerBoundMultipliers(arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1getLagrangeUpperBoundMultipliers(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->getLagrangeUpperBoundMultipliers(arg2);
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1iterations(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  result = (int)(arg1)->iterations();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1activeSetSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  result = (int)(arg1)->activeSetSize();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPSolverImpl_1warmStarted(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  result = (bool)(arg1)->warmStarted();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeQPSolverImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeQPSolverImpl *arg1 = (NativeQPSolverImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeQPSolverImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeCholeskyImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeCholeskyImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeCholeskyImpl *)new NativeCholeskyImpl();
+  *(NativeCholeskyImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1compute(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->compute(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1rankUpdate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3) {
+  jboolean jresult = 0 ;
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  double arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = (double)jarg3; 
+  result = (bool)(arg1)->rankUpdate(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1addRowAndColumn(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  int arg2 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->addRowAndColumn(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1removeRowAndColumn(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  int arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  result = (bool)(arg1)->removeRowAndColumn(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->solve(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1getL(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->getL(arg2);
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeCholeskyImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  result = (int)(arg1)->size();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeCholeskyImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeCholeskyImpl *arg1 = (NativeCholeskyImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeCholeskyImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeSVDImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeSVDImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeSVDImpl *)new NativeSVDImpl();
+  *(NativeSVDImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1compute(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->compute(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1singularValues(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->singularValues(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1rank(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  jint jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  double arg2 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  arg2 = (double)jarg2; 
+  result = (int)(arg1)->rank(arg2);
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1pseudoInverse(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3) {
+  jboolean jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  double arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = (double)jarg3; 
+  result = (bool)(arg1)->pseudoInverse(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jdouble jarg4) {
+  jboolean jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  double arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = (double)jarg4; 
+  result = (bool)(arg1)->solve(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1solveDamped(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jdouble jarg4) {
+  jboolean jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  double arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = (double)jarg4; 
+  result = (bool)(arg1)->solveDamped(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1rows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  result = (int)(arg1)->rows();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSVDImpl_1cols(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  result = (int)(arg1)->cols();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeSVDImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeSVDImpl *arg1 = (NativeSVDImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeSVDImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeEigenSolverImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeEigenSolverImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeEigenSolverImpl *)new NativeEigenSolverImpl();
+  *(NativeEigenSolverImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeEigenSolverImpl_1compute(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jboolean jarg3) {
+  jboolean jresult = 0 ;
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = (bool)jarg3; 
+  result = (bool)(arg1)->compute(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeEigenSolverImpl_1eigenvalues(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->eigenvalues(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeEigenSolverImpl_1eigenvectors(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->eigenvectors(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeEigenSolverImpl_1squareRoot(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->squareRoot(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeEigenSolverImpl_1inverseSquareRoot(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->inverseSquareRoot(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeEigenSolverImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  result = (int)(arg1)->size();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeEigenSolverImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeEigenSolverImpl *arg1 = (NativeEigenSolverImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeEigenSolverImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixThreadingImpl_1setMaxThreads(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  int arg1 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  NativeMatrixThreadingImpl::setMaxThreads(arg1);
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixThreadingImpl_1getMaxThreads(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)NativeMatrixThreadingImpl::getMaxThreads();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixThreadingImpl_1getNumberOfProcessors(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)NativeMatrixThreadingImpl::getNumberOfProcessors();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixThreadingImpl_1isParallelizationAvailable(JNIEnv *jenv, jclass jcls) {
+  jboolean jresult = 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (bool)NativeMatrixThreadingImpl::isParallelizationAvailable();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeMatrixThreadingImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeMatrixThreadingImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeMatrixThreadingImpl *)new NativeMatrixThreadingImpl();
+  *(NativeMatrixThreadingImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeMatrixThreadingImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeMatrixThreadingImpl *arg1 = (NativeMatrixThreadingImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeMatrixThreadingImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeExpressionImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeExpressionImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeExpressionImpl *)new NativeExpressionImpl();
+  *(NativeExpressionImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeExpressionImpl_1clear(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeExpressionImpl *arg1 = (NativeExpressionImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeExpressionImpl **)&jarg1; 
+  (arg1)->clear();
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeExpressionImpl_1addTerm(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  NativeExpressionImpl *arg1 = (NativeExpressionImpl *) 0 ;
+  double arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeExpressionImpl **)&jarg1; 
+  arg2 = (double)jarg2; 
+  (arg1)->addTerm(arg2);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeExpressionImpl_1addFactor(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jboolean jarg3) {
+  jboolean jresult = 0 ;
+  NativeExpressionImpl *arg1 = (NativeExpressionImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool arg3 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeExpressionImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = (bool)jarg3; 
+  result = (bool)(arg1)->addFactor(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeExpressionImpl_1evaluate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeExpressionImpl *arg1 = (NativeExpressionImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeExpressionImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->evaluate(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeExpressionImpl_1numberOfTerms(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeExpressionImpl *arg1 = (NativeExpressionImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeExpressionImpl **)&jarg1; 
+  result = (int)(arg1)->numberOfTerms();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeExpressionImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeExpressionImpl *arg1 = (NativeExpressionImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeExpressionImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeQPCostAccumulatorImpl(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  NativeQPCostAccumulatorImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (NativeQPCostAccumulatorImpl *)new NativeQPCostAccumulatorImpl(arg1);
+  *(NativeQPCostAccumulatorImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPCostAccumulatorImpl_1setNumberOfVariables(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  int arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  (arg1)->setNumberOfVariables(arg2);
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPCostAccumulatorImpl_1addTask(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jint jarg5) {
+  jint jresult = 0 ;
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  int arg5 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  (void)jarg4_;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  arg4 = *(NativeMatrixImpl **)&jarg4; 
+  arg5 = (int)jarg5; 
+  result = (int)(arg1)->addTask(arg2,arg3,arg4,arg5);
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPCostAccumulatorImpl_1clearTasks(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  (arg1)->clearTasks();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPCostAccumulatorImpl_1compute(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->compute(arg2,arg3);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPCostAccumulatorImpl_1numberOfVariables(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  result = (int)(arg1)->numberOfVariables();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeQPCostAccumulatorImpl_1numberOfTasks(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  result = (int)(arg1)->numberOfTasks();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeQPCostAccumulatorImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeQPCostAccumulatorImpl *arg1 = (NativeQPCostAccumulatorImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeQPCostAccumulatorImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1setEnabled(JNIEnv *jenv, jclass jcls, jboolean jarg1) {
+  bool arg1 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (bool)jarg1; 
+  NativeInstrumentationImpl::setEnabled(arg1);
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1isEnabled(JNIEnv *jenv, jclass jcls) {
+  jboolean jresult = 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (bool)NativeInstrumentationImpl::isEnabled();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1reset(JNIEnv *jenv, jclass jcls) {
+  
+  (void)jenv;
+  (void)jcls;
+  NativeInstrumentationImpl::reset();
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1numberOfOperations(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)NativeInstrumentationImpl::numberOfOperations();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1getCallCount(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  long long result;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (long long)NativeInstrumentationImpl::getCallCount(arg1);
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1getTotalNanoseconds(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  long long result;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (long long)NativeInstrumentationImpl::getTotalNanoseconds(arg1);
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1getMaxNanoseconds(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  long long result;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (long long)NativeInstrumentationImpl::getMaxNanoseconds(arg1);
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1getMaxRows(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jint jresult = 0 ;
+  int arg1 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (int)NativeInstrumentationImpl::getMaxRows(arg1);
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeInstrumentationImpl_1getMaxCols(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jint jresult = 0 ;
+  int arg1 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (int)NativeInstrumentationImpl::getMaxCols(arg1);
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeInstrumentationImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeInstrumentationImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeInstrumentationImpl *)new NativeInstrumentationImpl();
+  *(NativeInstrumentationImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeInstrumentationImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeInstrumentationImpl *arg1 = (NativeInstrumentationImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeInstrumentationImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeAllocationTrackerImpl_1isSupported(JNIEnv *jenv, jclass jcls) {
+  jboolean jresult = 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (bool)NativeAllocationTrackerImpl::isSupported();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeAllocationTrackerImpl_1getAllocationCount(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  long long result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (long long)NativeAllocationTrackerImpl::getAllocationCount();
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeAllocationTrackerImpl_1getAllocatedBytes(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  long long result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (long long)NativeAllocationTrackerImpl::getAllocatedBytes();
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeAllocationTrackerImpl_1beginNoAllocationScope(JNIEnv *jenv, jclass jcls) {
+  
+  (void)jenv;
+  (void)jcls;
+  NativeAllocationTrackerImpl::beginNoAllocationScope();
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeAllocationTrackerImpl_1endNoAllocationScope(JNIEnv *jenv, jclass jcls) {
+  
+  (void)jenv;
+  (void)jcls;
+  NativeAllocationTrackerImpl::endNoAllocationScope();
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeAllocationTrackerImpl(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  NativeAllocationTrackerImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (NativeAllocationTrackerImpl *)new NativeAllocationTrackerImpl();
+  *(NativeAllocationTrackerImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeAllocationTrackerImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeAllocationTrackerImpl *arg1 = (NativeAllocationTrackerImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeAllocationTrackerImpl **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeTriangularMatrixImpl(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  NativeTriangularMatrixImpl *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int)jarg1; 
+  result = (NativeTriangularMatrixImpl *)new NativeTriangularMatrixImpl(arg1);
+  *(NativeTriangularMatrixImpl **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1resize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  int arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  (arg1)->resize(arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1zero(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  (arg1)->zero();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1set_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->set(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1get_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->get(arg2);
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1get_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  jdouble jresult = 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  double result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (double)jarg2; 
-  (arg1)->scale(arg2);
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  result = (double)(arg1)->get(arg2,arg3);
+  jresult = (jdouble)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1set_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1set_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
   int arg2 ;
   int arg3 ;
   double arg4 ;
@@ -1726,7 +6557,7 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
   arg2 = (int)jarg2; 
   arg3 = (int)jarg3; 
   arg4 = (double)jarg4; 
@@ -1736,183 +6567,258 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1get_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
-  jdouble jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int arg2 ;
-  int arg3 ;
-  double result;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1solve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  arg2 = (int)jarg2; 
-  arg3 = (int)jarg3; 
-  result = (double)(arg1)->get(arg2,arg3);
-  jresult = (jdouble)result; 
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->solve(arg2,arg3);
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1rows(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
-  int result;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1solveTranspose(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jboolean jresult = 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (int)(arg1)->rows();
-  jresult = (jint)result; 
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  arg3 = *(NativeMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->solveTranspose(arg2,arg3);
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1cols(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
   int result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (int)(arg1)->cols();
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->size();
   jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeTriangularMatrixImpl_1packedSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
   int result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  result = (int)(arg1)->size();
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->packedSize();
   jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeMatrixImpl_1print(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeTriangularMatrixImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeTriangularMatrixImpl *arg1 = (NativeTriangularMatrixImpl *) 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  (arg1)->print();
+  arg1 = *(NativeTriangularMatrixImpl **)&jarg1; 
+  delete arg1;
 }
 
 
-SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeMatrixImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeSymmetricMatrixImpl(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int arg1 ;
+  NativeSymmetricMatrixImpl *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
-  delete arg1;
+  arg1 = (int)jarg1; 
+  result = (NativeSymmetricMatrixImpl *)new NativeSymmetricMatrixImpl(arg1);
+  *(NativeSymmetricMatrixImpl **)&jresult = result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeNullspaceProjectorImpl(JNIEnv *jenv, jclass jcls, jint jarg1) {
-  jlong jresult = 0 ;
-  int arg1 ;
-  NativeNullspaceProjectorImpl *result = 0 ;
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1resize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  int arg2 ;
   
   (void)jenv;
   (void)jcls;
-  arg1 = (int)jarg1; 
-  result = (NativeNullspaceProjectorImpl *)new NativeNullspaceProjectorImpl(arg1);
-  *(NativeNullspaceProjectorImpl **)&jresult = result; 
-  return jresult;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  (arg1)->resize(arg2);
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeNullspaceProjectorImpl_1projectOnNullSpace(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_, jdouble jarg5) {
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1zero(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  (arg1)->zero();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1set_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jboolean jresult = 0 ;
-  NativeNullspaceProjectorImpl *arg1 = (NativeNullspaceProjectorImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
   NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
-  double arg5 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  (void)jarg3_;
-  (void)jarg4_;
-  arg1 = *(NativeNullspaceProjectorImpl **)&jarg1; 
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
   arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
-  arg5 = (double)jarg5; 
-  result = (bool)(arg1)->projectOnNullSpace(arg2,arg3,arg4,arg5);
+  result = (bool)(arg1)->set(arg2);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeNullspaceProjectorImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
-  NativeNullspaceProjectorImpl *arg1 = (NativeNullspaceProjectorImpl *) 0 ;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1set_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg2 = (NativeSymmetricMatrixImpl *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
-  arg1 = *(NativeNullspaceProjectorImpl **)&jarg1; 
-  delete arg1;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = *(NativeSymmetricMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->set(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_new_1NativeKalmanFilterImpl(JNIEnv *jenv, jclass jcls) {
-  jlong jresult = 0 ;
-  NativeKalmanFilterImpl *result = 0 ;
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1get_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
   
   (void)jenv;
   (void)jcls;
-  result = (NativeKalmanFilterImpl *)new NativeKalmanFilterImpl();
-  *(NativeKalmanFilterImpl **)&jresult = result; 
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = *(NativeMatrixImpl **)&jarg2; 
+  (arg1)->get(arg2);
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1get_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  jdouble jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  result = (double)(arg1)->get(arg2,arg3);
+  jresult = (jdouble)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1predictErrorCovariance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1set_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3, jdouble jarg4) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  int arg2 ;
+  int arg3 ;
+  double arg4 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  arg4 = (double)jarg4; 
+  result = (bool)(arg1)->set(arg2,arg3,arg4);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1addDiagonal(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jdouble jarg2) {
+  jboolean jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  double arg2 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = (double)jarg2; 
+  result = (bool)(arg1)->addDiagonal(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1rankUpdate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jdouble jarg3) {
+  jboolean jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
   NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  double arg3 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  (void)jarg3_;
-  (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
   arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
-  result = (bool)NativeKalmanFilterImpl::predictErrorCovariance(arg1,arg2,arg3,arg4);
+  arg3 = (double)jarg3; 
+  result = (bool)(arg1)->rankUpdate(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1computeKalmanGain(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1mult(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
   NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
   NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
   bool result;
   
   (void)jenv;
@@ -1920,23 +6826,20 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
   arg2 = *(NativeMatrixImpl **)&jarg2; 
   arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
-  result = (bool)NativeKalmanFilterImpl::computeKalmanGain(arg1,arg2,arg3,arg4);
+  result = (bool)(arg1)->mult(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1updateState(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1multQuad(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
   NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg3 = (NativeSymmetricMatrixImpl *) 0 ;
   bool result;
   
   (void)jenv;
@@ -1944,23 +6847,20 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
   arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
-  result = (bool)NativeKalmanFilterImpl::updateState(arg1,arg2,arg3,arg4);
+  arg3 = *(NativeSymmetricMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->multQuad(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeKalmanFilterImpl_1updateErrorCovariance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4, jobject jarg4_) {
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1multQuadTransA(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jboolean jresult = 0 ;
-  NativeMatrixImpl *arg1 = (NativeMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
   NativeMatrixImpl *arg2 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg3 = (NativeMatrixImpl *) 0 ;
-  NativeMatrixImpl *arg4 = (NativeMatrixImpl *) 0 ;
+  NativeSymmetricMatrixImpl *arg3 = (NativeSymmetricMatrixImpl *) 0 ;
   bool result;
   
   (void)jenv;
@@ -1968,23 +6868,69 @@ SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_Na
   (void)jarg1_;
   (void)jarg2_;
   (void)jarg3_;
-  (void)jarg4_;
-  arg1 = *(NativeMatrixImpl **)&jarg1; 
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
   arg2 = *(NativeMatrixImpl **)&jarg2; 
-  arg3 = *(NativeMatrixImpl **)&jarg3; 
-  arg4 = *(NativeMatrixImpl **)&jarg4; 
-  result = (bool)NativeKalmanFilterImpl::updateErrorCovariance(arg1,arg2,arg3,arg4);
+  arg3 = *(NativeSymmetricMatrixImpl **)&jarg3; 
+  result = (bool)(arg1)->multQuadTransA(arg2,arg3);
   jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeKalmanFilterImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
-  NativeKalmanFilterImpl *arg1 = (NativeKalmanFilterImpl *) 0 ;
+SWIGEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1cholesky(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  NativeTriangularMatrixImpl *arg2 = (NativeTriangularMatrixImpl *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
-  arg1 = *(NativeKalmanFilterImpl **)&jarg1; 
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  arg2 = *(NativeTriangularMatrixImpl **)&jarg2; 
+  result = (bool)(arg1)->cholesky(arg2);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1size(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->size();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_NativeSymmetricMatrixImpl_1packedSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
+  result = (int)(arg1)->packedSize();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_us_ihmc_matrixlib_jni_NativeMatrixLibraryJNI_delete_1NativeSymmetricMatrixImpl(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  NativeSymmetricMatrixImpl *arg1 = (NativeSymmetricMatrixImpl *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(NativeSymmetricMatrixImpl **)&jarg1; 
   delete arg1;
 }
 
@@ -13,6 +13,9 @@ public class NativeMatrixLibraryJNI {
   public final static native double NativeMatrixImpl_nan_get(long jarg1, NativeMatrixImpl jarg1_);
   public final static native long new_NativeMatrixImpl(int jarg1, int jarg2);
   public final static native void NativeMatrixImpl_resize(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native boolean NativeMatrixImpl_reserve(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
+  public final static native void NativeMatrixImpl_trimToSize(long jarg1, NativeMatrixImpl jarg1_);
+  public final static native int NativeMatrixImpl_capacity(long jarg1, NativeMatrixImpl jarg1_);
   public final static native boolean NativeMatrixImpl_set__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
   public final static native boolean NativeMatrixImpl_add__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
   public final static native boolean NativeMatrixImpl_add__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3, long jarg4, NativeMatrixImpl jarg4_);
@@ -46,7 +49,18 @@ public class NativeMatrixLibraryJNI {
   public final static native boolean NativeMatrixImpl_multAddQuadBlock(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, int jarg4, int jarg5);
   public final static native boolean NativeMatrixImpl_invert(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
   public final static native boolean NativeMatrixImpl_solve(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
-  public final static native boolean NativeMatrixImpl_solveCheck(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeMatrixImpl_solveCheck__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeMatrixImpl_solveCheck__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, double jarg4);
+  public final static native double NativeMatrixImpl_rcond(long jarg1, NativeMatrixImpl jarg1_);
+  public final static native boolean NativeMatrixImpl_solveSPD(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeMatrixImpl_invertSPD(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeMatrixImpl_solveSymmetric(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeMatrixImpl_solveLowerTriangular(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeMatrixImpl_solveUpperTriangular(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeMatrixImpl_pseudoInverse(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native boolean NativeMatrixImpl_singularValues(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeMatrixImpl_matrixExponential(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeMatrixImpl_matrixSquareRoot(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
   public final static native boolean NativeMatrixImpl_insert__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8);
   public final static native boolean NativeMatrixImpl_insert__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, int jarg9, int jarg10);
   public final static native boolean NativeMatrixImpl_insert__SWIG_2(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, double jarg4, double jarg5, double jarg6, double jarg7, double jarg8, double jarg9, double jarg10, double jarg11, double jarg12);
@@ -55,14 +69,30 @@ public class NativeMatrixLibraryJNI {
   public final static native boolean NativeMatrixImpl_insertScaled__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, int jarg9, int jarg10, double jarg11);
   public final static native boolean NativeMatrixImpl_extract(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, double[] jarg6, int jarg7, int jarg8, int jarg9, int jarg10);
   public final static native boolean NativeMatrixImpl_transpose(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeMatrixImpl_multMatrix3(long jarg1, NativeMatrixImpl jarg1_, double jarg2, double jarg3, double jarg4, double jarg5, double jarg6, double jarg7, double jarg8, double jarg9, double jarg10, long jarg11, NativeMatrixImpl jarg11_);
+  public final static native boolean NativeMatrixImpl_extractMatrix3(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, double[] jarg4);
+  public final static native boolean NativeMatrixImpl_insertSpatial(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, double[] jarg4);
   public final static native boolean NativeMatrixImpl_removeRow(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
   public final static native boolean NativeMatrixImpl_removeColumn(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
+  public final static native boolean NativeMatrixImpl_removeRows(long jarg1, NativeMatrixImpl jarg1_, int[] jarg2, int jarg3);
+  public final static native boolean NativeMatrixImpl_removeColumns(long jarg1, NativeMatrixImpl jarg1_, int[] jarg2, int jarg3);
+  public final static native boolean NativeMatrixImpl_appendRows__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeMatrixImpl_appendRows__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_appendColumns__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeMatrixImpl_appendColumns__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_selectRows(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, int[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_selectColumns(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, int[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_scatterAddRows(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, int[] jarg3, int jarg4);
   public final static native void NativeMatrixImpl_zero(long jarg1, NativeMatrixImpl jarg1_);
   public final static native boolean NativeMatrixImpl_containsNaN(long jarg1, NativeMatrixImpl jarg1_);
   public final static native boolean NativeMatrixImpl_scale__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, double jarg2, long jarg3, NativeMatrixImpl jarg3_);
   public final static native boolean NativeMatrixImpl_isAprrox(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
   public final static native boolean NativeMatrixImpl_set__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4);
   public final static native boolean NativeMatrixImpl_get__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_setTransposed(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_getTransposed(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_setFromBuffer(long jarg1, NativeMatrixImpl jarg1_, java.nio.ByteBuffer jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_getToBuffer(long jarg1, NativeMatrixImpl jarg1_, java.nio.ByteBuffer jarg2, int jarg3);
   public final static native boolean NativeMatrixImpl_addDiagonal__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, double jarg6);
   public final static native boolean NativeMatrixImpl_fillDiagonal__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, double jarg6);
   public final static native boolean NativeMatrixImpl_fillBlock(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, double jarg6);
@@ -82,6 +112,109 @@ public class NativeMatrixLibraryJNI {
   public final static native int NativeMatrixImpl_size(long jarg1, NativeMatrixImpl jarg1_);
   public final static native void NativeMatrixImpl_print(long jarg1, NativeMatrixImpl jarg1_);
   public final static native void delete_NativeMatrixImpl(long jarg1);
+  public final static native void NativeFMatrixImpl_nan_set(long jarg1, NativeFMatrixImpl jarg1_, float jarg2);
+  public final static native float NativeFMatrixImpl_nan_get(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native long new_NativeFMatrixImpl(int jarg1, int jarg2);
+  public final static native void NativeFMatrixImpl_resize(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native boolean NativeFMatrixImpl_reserve(long jarg1, NativeFMatrixImpl jarg1_, int jarg2);
+  public final static native void NativeFMatrixImpl_trimToSize(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native int NativeFMatrixImpl_capacity(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native boolean NativeFMatrixImpl_set__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_add__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_add__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, float jarg3, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_add__SWIG_2(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, float jarg4, long jarg5, NativeFMatrixImpl jarg5_);
+  public final static native boolean NativeFMatrixImpl_addEquals__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_addEquals__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_add__SWIG_3(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, float jarg4);
+  public final static native boolean NativeFMatrixImpl_subtract(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_mult__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_mult__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_multAdd__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multAdd__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_multTransA__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multTransA__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_multAddTransA__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multAddTransA__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_multTransB__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multTransB__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_multAddTransB__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multAddTransB__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_);
+  public final static native boolean NativeFMatrixImpl_addBlock__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, float jarg9);
+  public final static native boolean NativeFMatrixImpl_addBlock__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8);
+  public final static native boolean NativeFMatrixImpl_subtractBlock(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8);
+  public final static native boolean NativeFMatrixImpl_multAddBlock__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_, int jarg4, int jarg5);
+  public final static native boolean NativeFMatrixImpl_multAddBlock__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_, int jarg5, int jarg6);
+  public final static native boolean NativeFMatrixImpl_multAddBlockTransA__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_, int jarg4, int jarg5);
+  public final static native boolean NativeFMatrixImpl_multAddBlockTransA__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_, long jarg4, NativeFMatrixImpl jarg4_, int jarg5, int jarg6);
+  public final static native boolean NativeFMatrixImpl_multQuad(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multAddQuad(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_multQuadBlock(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_, int jarg4, int jarg5);
+  public final static native boolean NativeFMatrixImpl_multAddQuadBlock(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_, int jarg4, int jarg5);
+  public final static native boolean NativeFMatrixImpl_invert(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_solve(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_solveCheck__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_solveCheck__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_, float jarg4);
+  public final static native float NativeFMatrixImpl_rcond(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native boolean NativeFMatrixImpl_solveSPD(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_invertSPD(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_solveSymmetric(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_solveLowerTriangular(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_solveUpperTriangular(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_pseudoInverse(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, float jarg3);
+  public final static native boolean NativeFMatrixImpl_singularValues(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_matrixExponential(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_matrixSquareRoot(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_insert__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8);
+  public final static native boolean NativeFMatrixImpl_insert__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, int jarg9, int jarg10);
+  public final static native boolean NativeFMatrixImpl_insert__SWIG_2(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, float jarg4, float jarg5, float jarg6, float jarg7, float jarg8, float jarg9, float jarg10, float jarg11, float jarg12);
+  public final static native boolean NativeFMatrixImpl_insertTupleRow(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, float jarg4, float jarg5, float jarg6);
+  public final static native boolean NativeFMatrixImpl_insertScaled__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, float jarg9);
+  public final static native boolean NativeFMatrixImpl_insertScaled__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, int jarg9, int jarg10, float jarg11);
+  public final static native boolean NativeFMatrixImpl_extract(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, float[] jarg6, int jarg7, int jarg8, int jarg9, int jarg10);
+  public final static native boolean NativeFMatrixImpl_transpose(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_multMatrix3(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, float jarg3, float jarg4, float jarg5, float jarg6, float jarg7, float jarg8, float jarg9, float jarg10, long jarg11, NativeFMatrixImpl jarg11_);
+  public final static native boolean NativeFMatrixImpl_extractMatrix3(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, float[] jarg4);
+  public final static native boolean NativeFMatrixImpl_insertSpatial(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, float[] jarg4);
+  public final static native boolean NativeFMatrixImpl_removeRow(long jarg1, NativeFMatrixImpl jarg1_, int jarg2);
+  public final static native boolean NativeFMatrixImpl_removeColumn(long jarg1, NativeFMatrixImpl jarg1_, int jarg2);
+  public final static native boolean NativeFMatrixImpl_removeRows(long jarg1, NativeFMatrixImpl jarg1_, int[] jarg2, int jarg3);
+  public final static native boolean NativeFMatrixImpl_removeColumns(long jarg1, NativeFMatrixImpl jarg1_, int[] jarg2, int jarg3);
+  public final static native boolean NativeFMatrixImpl_appendRows__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_appendRows__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_appendColumns__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_);
+  public final static native boolean NativeFMatrixImpl_appendColumns__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_selectRows(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int[] jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_selectColumns(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int[] jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_scatterAddRows(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, int[] jarg3, int jarg4);
+  public final static native void NativeFMatrixImpl_zero(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native boolean NativeFMatrixImpl_containsNaN(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native boolean NativeFMatrixImpl_scale__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, float jarg2, long jarg3, NativeFMatrixImpl jarg3_);
+  public final static native boolean NativeFMatrixImpl_isAprrox(long jarg1, NativeFMatrixImpl jarg1_, long jarg2, NativeFMatrixImpl jarg2_, float jarg3);
+  public final static native boolean NativeFMatrixImpl_set__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_get__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_setTransposed(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_getTransposed(long jarg1, NativeFMatrixImpl jarg1_, float[] jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_setFromBuffer(long jarg1, NativeFMatrixImpl jarg1_, java.nio.ByteBuffer jarg2, int jarg3, int jarg4);
+  public final static native boolean NativeFMatrixImpl_getToBuffer(long jarg1, NativeFMatrixImpl jarg1_, java.nio.ByteBuffer jarg2, int jarg3);
+  public final static native boolean NativeFMatrixImpl_addDiagonal__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, float jarg6);
+  public final static native boolean NativeFMatrixImpl_fillDiagonal__SWIG_0(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, float jarg6);
+  public final static native boolean NativeFMatrixImpl_fillBlock(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int jarg5, float jarg6);
+  public final static native boolean NativeFMatrixImpl_addDiagonal__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, float jarg5);
+  public final static native boolean NativeFMatrixImpl_addDiagonal__SWIG_2(long jarg1, NativeFMatrixImpl jarg1_, float jarg2);
+  public final static native boolean NativeFMatrixImpl_fillDiagonal__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, float jarg5);
+  public final static native boolean NativeFMatrixImpl_fillDiagonal__SWIG_2(long jarg1, NativeFMatrixImpl jarg1_, float jarg2);
+  public final static native float NativeFMatrixImpl_min(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native float NativeFMatrixImpl_max(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native float NativeFMatrixImpl_sum(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native float NativeFMatrixImpl_prod(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native void NativeFMatrixImpl_scale__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, float jarg2);
+  public final static native boolean NativeFMatrixImpl_set__SWIG_2(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3, float jarg4);
+  public final static native float NativeFMatrixImpl_get__SWIG_1(long jarg1, NativeFMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native int NativeFMatrixImpl_rows(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native int NativeFMatrixImpl_cols(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native int NativeFMatrixImpl_size(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native void NativeFMatrixImpl_print(long jarg1, NativeFMatrixImpl jarg1_);
+  public final static native void delete_NativeFMatrixImpl(long jarg1);
   public final static native long new_NativeNullspaceProjectorImpl(int jarg1);
   public final static native boolean NativeNullspaceProjectorImpl_projectOnNullSpace(long jarg1, NativeNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, double jarg5);
   public final static native void delete_NativeNullspaceProjectorImpl(long jarg1);
@@ -91,4 +224,134 @@ public class NativeMatrixLibraryJNI {
   public final static native boolean NativeKalmanFilterImpl_updateState(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
   public final static native boolean NativeKalmanFilterImpl_updateErrorCovariance(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
   public final static native void delete_NativeKalmanFilterImpl(long jarg1);
+  public final static native long new_NativeSparseMatrixImpl(int jarg1, int jarg2);
+  public final static native boolean NativeSparseMatrixImpl_setFromCSC(long jarg1, NativeSparseMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int[] jarg5, int[] jarg6, double[] jarg7);
+  public final static native boolean NativeSparseMatrixImpl_setFromTriplets(long jarg1, NativeSparseMatrixImpl jarg1_, int jarg2, int jarg3, int jarg4, int[] jarg5, double[] jarg6);
+  public final static native boolean NativeSparseMatrixImpl_mult(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_multTransA(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_multQuad(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_multQuadDiagonal(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_get(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeSparseMatrixImpl_rows(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native int NativeSparseMatrixImpl_cols(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native int NativeSparseMatrixImpl_nonZeros(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native void delete_NativeSparseMatrixImpl(long jarg1);
+  public final static native long new_NativeSparseCholeskyImpl();
+  public final static native boolean NativeSparseCholeskyImpl_compute(long jarg1, NativeSparseCholeskyImpl jarg1_, long jarg2, NativeSparseMatrixImpl jarg2_);
+  public final static native boolean NativeSparseCholeskyImpl_solve(long jarg1, NativeSparseCholeskyImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeSparseCholeskyImpl_symbolicAnalysisCount(long jarg1, NativeSparseCholeskyImpl jarg1_);
+  public final static native void delete_NativeSparseCholeskyImpl(long jarg1);
+  public final static native long new_NativeQPSolverImpl();
+  public final static native boolean NativeQPSolverImpl_setQuadraticCostFunction(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeQPSolverImpl_setLinearEqualityConstraints(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeQPSolverImpl_setLinearInequalityConstraints(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeQPSolverImpl_setVariableBounds(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native void NativeQPSolverImpl_clearConstraints(long jarg1, NativeQPSolverImpl jarg1_);
+  public final static native void NativeQPSolverImpl_resetActiveSet(long jarg1, NativeQPSolverImpl jarg1_);
+  public final static native void NativeQPSolverImpl_setMaxIterations(long jarg1, NativeQPSolverImpl jarg1_, int jarg2);
+  public final static native void NativeQPSolverImpl_setConvergenceThreshold(long jarg1, NativeQPSolverImpl jarg1_, double jarg2);
+  public final static native boolean NativeQPSolverImpl_solve(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeQPSolverImpl_getLagrangeEqualityMultipliers(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeQPSolverImpl_getLagrangeInequalityMultipliers(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeQPSolverImpl_getLagrangeLowerBoundMultipliers(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeQPSolverImpl_getLagrangeUpperBoundMultipliers(long jarg1, NativeQPSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeQPSolverImpl_iterations(long jarg1, NativeQPSolverImpl jarg1_);
+  public final static native int NativeQPSolverImpl_activeSetSize(long jarg1, NativeQPSolverImpl jarg1_);
+  public final static native boolean NativeQPSolverImpl_warmStarted(long jarg1, NativeQPSolverImpl jarg1_);
+  public final static native void delete_NativeQPSolverImpl(long jarg1);
+  public final static native long new_NativeCholeskyImpl();
+  public final static native boolean NativeCholeskyImpl_compute(long jarg1, NativeCholeskyImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeCholeskyImpl_rankUpdate(long jarg1, NativeCholeskyImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native boolean NativeCholeskyImpl_addRowAndColumn(long jarg1, NativeCholeskyImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeCholeskyImpl_removeRowAndColumn(long jarg1, NativeCholeskyImpl jarg1_, int jarg2);
+  public final static native boolean NativeCholeskyImpl_solve(long jarg1, NativeCholeskyImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native void NativeCholeskyImpl_getL(long jarg1, NativeCholeskyImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeCholeskyImpl_size(long jarg1, NativeCholeskyImpl jarg1_);
+  public final static native void delete_NativeCholeskyImpl(long jarg1);
+  public final static native long new_NativeSVDImpl();
+  public final static native boolean NativeSVDImpl_compute(long jarg1, NativeSVDImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeSVDImpl_singularValues(long jarg1, NativeSVDImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeSVDImpl_rank(long jarg1, NativeSVDImpl jarg1_, double jarg2);
+  public final static native boolean NativeSVDImpl_pseudoInverse(long jarg1, NativeSVDImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native boolean NativeSVDImpl_solve(long jarg1, NativeSVDImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, double jarg4);
+  public final static native boolean NativeSVDImpl_solveDamped(long jarg1, NativeSVDImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, double jarg4);
+  public final static native int NativeSVDImpl_rows(long jarg1, NativeSVDImpl jarg1_);
+  public final static native int NativeSVDImpl_cols(long jarg1, NativeSVDImpl jarg1_);
+  public final static native void delete_NativeSVDImpl(long jarg1);
+  public final static native long new_NativeEigenSolverImpl();
+  public final static native boolean NativeEigenSolverImpl_compute(long jarg1, NativeEigenSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, boolean jarg3);
+  public final static native boolean NativeEigenSolverImpl_eigenvalues(long jarg1, NativeEigenSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeEigenSolverImpl_eigenvectors(long jarg1, NativeEigenSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeEigenSolverImpl_squareRoot(long jarg1, NativeEigenSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeEigenSolverImpl_inverseSquareRoot(long jarg1, NativeEigenSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeEigenSolverImpl_size(long jarg1, NativeEigenSolverImpl jarg1_);
+  public final static native void delete_NativeEigenSolverImpl(long jarg1);
+  public final static native void NativeMatrixThreadingImpl_setMaxThreads(int jarg1);
+  public final static native int NativeMatrixThreadingImpl_getMaxThreads();
+  public final static native int NativeMatrixThreadingImpl_getNumberOfProcessors();
+  public final static native boolean NativeMatrixThreadingImpl_isParallelizationAvailable();
+  public final static native long new_NativeMatrixThreadingImpl();
+  public final static native void delete_NativeMatrixThreadingImpl(long jarg1);
+  public final static native long new_NativeExpressionImpl();
+  public final static native void NativeExpressionImpl_clear(long jarg1, NativeExpressionImpl jarg1_);
+  public final static native void NativeExpressionImpl_addTerm(long jarg1, NativeExpressionImpl jarg1_, double jarg2);
+  public final static native boolean NativeExpressionImpl_addFactor(long jarg1, NativeExpressionImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, boolean jarg3);
+  public final static native boolean NativeExpressionImpl_evaluate(long jarg1, NativeExpressionImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeExpressionImpl_numberOfTerms(long jarg1, NativeExpressionImpl jarg1_);
+  public final static native void delete_NativeExpressionImpl(long jarg1);
+  public final static native long new_NativeQPCostAccumulatorImpl(int jarg1);
+  public final static native void NativeQPCostAccumulatorImpl_setNumberOfVariables(long jarg1, NativeQPCostAccumulatorImpl jarg1_, int jarg2);
+  public final static native int NativeQPCostAccumulatorImpl_addTask(long jarg1, NativeQPCostAccumulatorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, int jarg5);
+  public final static native void NativeQPCostAccumulatorImpl_clearTasks(long jarg1, NativeQPCostAccumulatorImpl jarg1_);
+  public final static native boolean NativeQPCostAccumulatorImpl_compute(long jarg1, NativeQPCostAccumulatorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeQPCostAccumulatorImpl_numberOfVariables(long jarg1, NativeQPCostAccumulatorImpl jarg1_);
+  public final static native int NativeQPCostAccumulatorImpl_numberOfTasks(long jarg1, NativeQPCostAccumulatorImpl jarg1_);
+  public final static native void delete_NativeQPCostAccumulatorImpl(long jarg1);
+  public final static native void NativeInstrumentationImpl_setEnabled(boolean jarg1);
+  public final static native boolean NativeInstrumentationImpl_isEnabled();
+  public final static native void NativeInstrumentationImpl_reset();
+  public final static native int NativeInstrumentationImpl_numberOfOperations();
+  public final static native long NativeInstrumentationImpl_getCallCount(int jarg1);
+  public final static native long NativeInstrumentationImpl_getTotalNanoseconds(int jarg1);
+  public final static native long NativeInstrumentationImpl_getMaxNanoseconds(int jarg1);
+  public final static native int NativeInstrumentationImpl_getMaxRows(int jarg1);
+  public final static native int NativeInstrumentationImpl_getMaxCols(int jarg1);
+  public final static native long new_NativeInstrumentationImpl();
+  public final static native void delete_NativeInstrumentationImpl(long jarg1);
+  public final static native boolean NativeAllocationTrackerImpl_isSupported();
+  public final static native long NativeAllocationTrackerImpl_getAllocationCount();
+  public final static native long NativeAllocationTrackerImpl_getAllocatedBytes();
+  public final static native void NativeAllocationTrackerImpl_beginNoAllocationScope();
+  public final static native void NativeAllocationTrackerImpl_endNoAllocationScope();
+  public final static native long new_NativeAllocationTrackerImpl();
+  public final static native void delete_NativeAllocationTrackerImpl(long jarg1);
+  public final static native long new_NativeTriangularMatrixImpl(int jarg1);
+  public final static native void NativeTriangularMatrixImpl_resize(long jarg1, NativeTriangularMatrixImpl jarg1_, int jarg2);
+  public final static native void NativeTriangularMatrixImpl_zero(long jarg1, NativeTriangularMatrixImpl jarg1_);
+  public final static native boolean NativeTriangularMatrixImpl_set__SWIG_0(long jarg1, NativeTriangularMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeTriangularMatrixImpl_get__SWIG_0(long jarg1, NativeTriangularMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native double NativeTriangularMatrixImpl_get__SWIG_1(long jarg1, NativeTriangularMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native boolean NativeTriangularMatrixImpl_set__SWIG_1(long jarg1, NativeTriangularMatrixImpl jarg1_, int jarg2, int jarg3, double jarg4);
+  public final static native boolean NativeTriangularMatrixImpl_solve(long jarg1, NativeTriangularMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeTriangularMatrixImpl_solveTranspose(long jarg1, NativeTriangularMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeTriangularMatrixImpl_size(long jarg1, NativeTriangularMatrixImpl jarg1_);
+  public final static native int NativeTriangularMatrixImpl_packedSize(long jarg1, NativeTriangularMatrixImpl jarg1_);
+  public final static native void delete_NativeTriangularMatrixImpl(long jarg1);
+  public final static native long new_NativeSymmetricMatrixImpl(int jarg1);
+  public final static native void NativeSymmetricMatrixImpl_resize(long jarg1, NativeSymmetricMatrixImpl jarg1_, int jarg2);
+  public final static native void NativeSymmetricMatrixImpl_zero(long jarg1, NativeSymmetricMatrixImpl jarg1_);
+  public final static native boolean NativeSymmetricMatrixImpl_set__SWIG_0(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeSymmetricMatrixImpl_set__SWIG_1(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeSymmetricMatrixImpl jarg2_);
+  public final static native void NativeSymmetricMatrixImpl_get__SWIG_0(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native double NativeSymmetricMatrixImpl_get__SWIG_1(long jarg1, NativeSymmetricMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native boolean NativeSymmetricMatrixImpl_set__SWIG_2(long jarg1, NativeSymmetricMatrixImpl jarg1_, int jarg2, int jarg3, double jarg4);
+  public final static native boolean NativeSymmetricMatrixImpl_addDiagonal(long jarg1, NativeSymmetricMatrixImpl jarg1_, double jarg2);
+  public final static native boolean NativeSymmetricMatrixImpl_rankUpdate(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native boolean NativeSymmetricMatrixImpl_mult(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_multQuad(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_multQuadTransA(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_cholesky(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeTriangularMatrixImpl jarg2_);
+  public final static native int NativeSymmetricMatrixImpl_size(long jarg1, NativeSymmetricMatrixImpl jarg1_);
+  public final static native int NativeSymmetricMatrixImpl_packedSize(long jarg1, NativeSymmetricMatrixImpl jarg1_);
+  public final static native void delete_NativeSymmetricMatrixImpl(long jarg1);
 }
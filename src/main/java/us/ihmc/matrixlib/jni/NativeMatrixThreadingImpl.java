@@ -0,0 +1,58 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeMatrixThreadingImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeMatrixThreadingImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeMatrixThreadingImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeMatrixThreadingImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public static void setMaxThreads(int maxThreads) {
+    NativeMatrixLibraryJNI.NativeMatrixThreadingImpl_setMaxThreads(maxThreads);
+  }
+
+  public static int getMaxThreads() {
+    return NativeMatrixLibraryJNI.NativeMatrixThreadingImpl_getMaxThreads();
+  }
+
+  public static int getNumberOfProcessors() {
+    return NativeMatrixLibraryJNI.NativeMatrixThreadingImpl_getNumberOfProcessors();
+  }
+
+  public static boolean isParallelizationAvailable() {
+    return NativeMatrixLibraryJNI.NativeMatrixThreadingImpl_isParallelizationAvailable();
+  }
+
+  public NativeMatrixThreadingImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeMatrixThreadingImpl(), true);
+  }
+
+}
@@ -0,0 +1,66 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeQPCostAccumulatorImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeQPCostAccumulatorImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeQPCostAccumulatorImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeQPCostAccumulatorImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeQPCostAccumulatorImpl(int numberOfVariables) {
+    this(NativeMatrixLibraryJNI.new_NativeQPCostAccumulatorImpl(numberOfVariables), true);
+  }
+
+  public void setNumberOfVariables(int numberOfVariables) {
+    NativeMatrixLibraryJNI.NativeQPCostAccumulatorImpl_setNumberOfVariables(swigCPtr, this, numberOfVariables);
+  }
+
+  public int addTask(NativeMatrixImpl jacobian, NativeMatrixImpl objective, NativeMatrixImpl weight, int columnOffset) {
+    return NativeMatrixLibraryJNI.NativeQPCostAccumulatorImpl_addTask(swigCPtr, this, NativeMatrixImpl.getCPtr(jacobian), jacobian, NativeMatrixImpl.getCPtr(objective), objective, NativeMatrixImpl.getCPtr(weight), weight, columnOffset);
+  }
+
+  public void clearTasks() {
+    NativeMatrixLibraryJNI.NativeQPCostAccumulatorImpl_clearTasks(swigCPtr, this);
+  }
+
+  public boolean compute(NativeMatrixImpl H, NativeMatrixImpl f) {
+    return NativeMatrixLibraryJNI.NativeQPCostAccumulatorImpl_compute(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(f), f);
+  }
+
+  public int numberOfVariables() {
+    return NativeMatrixLibraryJNI.NativeQPCostAccumulatorImpl_numberOfVariables(swigCPtr, this);
+  }
+
+  public int numberOfTasks() {
+    return NativeMatrixLibraryJNI.NativeQPCostAccumulatorImpl_numberOfTasks(swigCPtr, this);
+  }
+
+}
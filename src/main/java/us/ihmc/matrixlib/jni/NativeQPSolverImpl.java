@@ -0,0 +1,106 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeQPSolverImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeQPSolverImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeQPSolverImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeQPSolverImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeQPSolverImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeQPSolverImpl(), true);
+  }
+
+  public boolean setQuadraticCostFunction(NativeMatrixImpl H, NativeMatrixImpl f) {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_setQuadraticCostFunction(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(f), f);
+  }
+
+  public boolean setLinearEqualityConstraints(NativeMatrixImpl Aeq, NativeMatrixImpl beq) {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_setLinearEqualityConstraints(swigCPtr, this, NativeMatrixImpl.getCPtr(Aeq), Aeq, NativeMatrixImpl.getCPtr(beq), beq);
+  }
+
+  public boolean setLinearInequalityConstraints(NativeMatrixImpl Ain, NativeMatrixImpl bin) {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_setLinearInequalityConstraints(swigCPtr, this, NativeMatrixImpl.getCPtr(Ain), Ain, NativeMatrixImpl.getCPtr(bin), bin);
+  }
+
+  public boolean setVariableBounds(NativeMatrixImpl lowerBounds, NativeMatrixImpl upperBounds) {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_setVariableBounds(swigCPtr, this, NativeMatrixImpl.getCPtr(lowerBounds), lowerBounds, NativeMatrixImpl.getCPtr(upperBounds), upperBounds);
+  }
+
+  public void clearConstraints() {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_clearConstraints(swigCPtr, this);
+  }
+
+  public void resetActiveSet() {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_resetActiveSet(swigCPtr, this);
+  }
+
+  public void setMaxIterations(int maxIterations) {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_setMaxIterations(swigCPtr, this, maxIterations);
+  }
+
+  public void setConvergenceThreshold(double convergenceThreshold) {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_setConvergenceThreshold(swigCPtr, this, convergenceThreshold);
+  }
+
+  public boolean solve(NativeMatrixImpl solution) {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(solution), solution);
+  }
+
+  public void getLagrangeEqualityMultipliers(NativeMatrixImpl multipliers) {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_getLagrangeEqualityMultipliers(swigCPtr, this, NativeMatrixImpl.getCPtr(multipliers), multipliers);
+  }
+
+  public void getLagrangeInequalityMultipliers(NativeMatrixImpl multipliers) {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_getLagrangeInequalityMultipliers(swigCPtr, this, NativeMatrixImpl.getCPtr(multipliers), multipliers);
+  }
+
+  public void getLagrangeLowerBoundMultipliers(NativeMatrixImpl multipliers) {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_getLagrangeLowerBoundMultipliers(swigCPtr, this, NativeMatrixImpl.getCPtr(multipliers), multipliers);
+  }
+
+  public void getLagrangeUpperBoundMultipliers(NativeMatrixImpl multipliers) {
+    NativeMatrixLibraryJNI.NativeQPSolverImpl_getLagrangeUpperBoundMultipliers(swigCPtr, this, NativeMatrixImpl.getCPtr(multipliers), multipliers);
+  }
+
+  public int iterations() {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_iterations(swigCPtr, this);
+  }
+
+  public int activeSetSize() {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_activeSetSize(swigCPtr, this);
+  }
+
+  public boolean warmStarted() {
+    return NativeMatrixLibraryJNI.NativeQPSolverImpl_warmStarted(swigCPtr, this);
+  }
+
+}
@@ -0,0 +1,74 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSVDImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSVDImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSVDImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSVDImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeSVDImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeSVDImpl(), true);
+  }
+
+  public boolean compute(NativeMatrixImpl A) {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_compute(swigCPtr, this, NativeMatrixImpl.getCPtr(A), A);
+  }
+
+  public boolean singularValues(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_singularValues(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public int rank(double tolerance) {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_rank(swigCPtr, this, tolerance);
+  }
+
+  public boolean pseudoInverse(NativeMatrixImpl result, double tolerance) {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_pseudoInverse(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result, tolerance);
+  }
+
+  public boolean solve(NativeMatrixImpl b, NativeMatrixImpl x, double tolerance) {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x, tolerance);
+  }
+
+  public boolean solveDamped(NativeMatrixImpl b, NativeMatrixImpl x, double alpha) {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_solveDamped(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x, alpha);
+  }
+
+  public int rows() {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_rows(swigCPtr, this);
+  }
+
+  public int cols() {
+    return NativeMatrixLibraryJNI.NativeSVDImpl_cols(swigCPtr, this);
+  }
+
+}
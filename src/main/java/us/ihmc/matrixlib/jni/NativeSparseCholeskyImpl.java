@@ -0,0 +1,54 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSparseCholeskyImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSparseCholeskyImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSparseCholeskyImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSparseCholeskyImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeSparseCholeskyImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeSparseCholeskyImpl(), true);
+  }
+
+  public boolean compute(NativeSparseMatrixImpl A) {
+    return NativeMatrixLibraryJNI.NativeSparseCholeskyImpl_compute(swigCPtr, this, NativeSparseMatrixImpl.getCPtr(A), A);
+  }
+
+  public boolean solve(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeSparseCholeskyImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public int symbolicAnalysisCount() {
+    return NativeMatrixLibraryJNI.NativeSparseCholeskyImpl_symbolicAnalysisCount(swigCPtr, this);
+  }
+
+}
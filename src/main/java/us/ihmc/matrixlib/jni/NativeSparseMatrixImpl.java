@@ -0,0 +1,82 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSparseMatrixImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSparseMatrixImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSparseMatrixImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSparseMatrixImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeSparseMatrixImpl(int numRows, int numCols) {
+    this(NativeMatrixLibraryJNI.new_NativeSparseMatrixImpl(numRows, numCols), true);
+  }
+
+  public boolean setFromCSC(int numRows, int numCols, int nonZeros, int[] colOffsets, int[] rowIndices, double[] values) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_setFromCSC(swigCPtr, this, numRows, numCols, nonZeros, colOffsets, rowIndices, values);
+  }
+
+  public boolean setFromTriplets(int numRows, int numCols, int numberOfTriplets, int[] rowCol, double[] values) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_setFromTriplets(swigCPtr, this, numRows, numCols, numberOfTriplets, rowCol, values);
+  }
+
+  public boolean mult(NativeMatrixImpl b, NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_mult(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean multTransA(NativeMatrixImpl b, NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_multTransA(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean multQuad(NativeMatrixImpl weight, NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_multQuad(swigCPtr, this, NativeMatrixImpl.getCPtr(weight), weight, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean multQuadDiagonal(NativeMatrixImpl weights, NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_multQuadDiagonal(swigCPtr, this, NativeMatrixImpl.getCPtr(weights), weights, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean get(NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_get(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public int rows() {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_rows(swigCPtr, this);
+  }
+
+  public int cols() {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_cols(swigCPtr, this);
+  }
+
+  public int nonZeros() {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_nonZeros(swigCPtr, this);
+  }
+
+}
@@ -0,0 +1,102 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSymmetricMatrixImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSymmetricMatrixImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSymmetricMatrixImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSymmetricMatrixImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeSymmetricMatrixImpl(int size) {
+    this(NativeMatrixLibraryJNI.new_NativeSymmetricMatrixImpl(size), true);
+  }
+
+  public void resize(int size) {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_resize(swigCPtr, this, size);
+  }
+
+  public void zero() {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_zero(swigCPtr, this);
+  }
+
+  public boolean set(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_set__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean set(NativeSymmetricMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_set__SWIG_1(swigCPtr, this, NativeSymmetricMatrixImpl.getCPtr(a), a);
+  }
+
+  public void get(NativeMatrixImpl result) {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_get__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public double get(int row, int col) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_get__SWIG_1(swigCPtr, this, row, col);
+  }
+
+  public boolean set(int row, int col, double value) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_set__SWIG_2(swigCPtr, this, row, col, value);
+  }
+
+  public boolean addDiagonal(double value) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_addDiagonal(swigCPtr, this, value);
+  }
+
+  public boolean rankUpdate(NativeMatrixImpl a, double alpha) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_rankUpdate(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, alpha);
+  }
+
+  public boolean mult(NativeMatrixImpl b, NativeMatrixImpl result) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_mult(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public boolean multQuad(NativeMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_multQuad(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multQuadTransA(NativeMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_multQuadTransA(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean cholesky(NativeTriangularMatrixImpl L) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_cholesky(swigCPtr, this, NativeTriangularMatrixImpl.getCPtr(L), L);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_size(swigCPtr, this);
+  }
+
+  public int packedSize() {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_packedSize(swigCPtr, this);
+  }
+
+}
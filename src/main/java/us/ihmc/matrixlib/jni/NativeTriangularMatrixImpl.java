@@ -0,0 +1,82 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeTriangularMatrixImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeTriangularMatrixImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeTriangularMatrixImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeTriangularMatrixImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeTriangularMatrixImpl(int size) {
+    this(NativeMatrixLibraryJNI.new_NativeTriangularMatrixImpl(size), true);
+  }
+
+  public void resize(int size) {
+    NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_resize(swigCPtr, this, size);
+  }
+
+  public void zero() {
+    NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_zero(swigCPtr, this);
+  }
+
+  public boolean set(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_set__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public void get(NativeMatrixImpl result) {
+    NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_get__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(result), result);
+  }
+
+  public double get(int row, int col) {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_get__SWIG_1(swigCPtr, this, row, col);
+  }
+
+  public boolean set(int row, int col, double value) {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_set__SWIG_1(swigCPtr, this, row, col, value);
+  }
+
+  public boolean solve(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean solveTranspose(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_solveTranspose(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_size(swigCPtr, this);
+  }
+
+  public int packedSize() {
+    return NativeMatrixLibraryJNI.NativeTriangularMatrixImpl_packedSize(swigCPtr, this);
+  }
+
+}
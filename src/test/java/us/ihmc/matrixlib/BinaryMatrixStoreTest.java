@@ -0,0 +1,158 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class BinaryMatrixStoreTest
+{
+   private static final int maxSize = 100;
+   private static final int numberOfMatrices = 20;
+
+   @TempDir
+   public Path temporaryFolder;
+
+   @Test
+   public void testWriteAndRead() throws IOException
+   {
+      Random random = new Random(43L);
+      Map<String, DMatrixRMaj> matrices = new LinkedHashMap<>();
+
+      for (int i = 0; i < numberOfMatrices; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 0, maxSize);
+         int cols = RandomNumbers.nextInt(random, 0, maxSize);
+         matrices.put("matrix" + i, RandomMatrices_DDRM.rectangle(rows, cols, random));
+      }
+      // Names with an odd number of bytes misalign the directory, the data has to stay aligned.
+      matrices.put("gain\u00e9", RandomMatrices_DDRM.rectangle(3, 5, random));
+
+      Path file = temporaryFolder.resolve("matrices.bin");
+      BinaryMatrixStore.write(file, matrices);
+      BinaryMatrixStore store = BinaryMatrixStore.open(file);
+
+      assertArrayEquals(matrices.keySet().toArray(), store.getNames().toArray());
+
+      DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+      for (Map.Entry<String, DMatrixRMaj> entry : matrices.entrySet())
+      {
+         DMatrixRMaj expected = entry.getValue();
+         assertTrue(store.contains(entry.getKey()));
+         assertEquals(expected.getNumRows(), store.getNumRows(entry.getKey()));
+         assertEquals(expected.getNumCols(), store.getNumCols(entry.getKey()));
+
+         store.get(entry.getKey(), actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, 0.0);
+         MatrixTestTools.assertMatrixEquals(expected, store.get(entry.getKey(), (DMatrixRMaj) null), 0.0);
+
+         DoubleBuffer buffer = store.getBuffer(entry.getKey());
+         assertEquals(expected.getNumElements(), buffer.remaining());
+         for (int i = 0; i < expected.getNumElements(); i++)
+         {
+            assertEquals(expected.get(i), buffer.get(i));
+         }
+      }
+
+      assertFalse(store.contains("missing"));
+      assertThrows(IllegalArgumentException.class, () -> store.get("missing", new DMatrixRMaj(1, 1)));
+   }
+
+   @Test
+   public void testReadIntoNativeMatrix() throws IOException
+   {
+      Random random = new Random(44L);
+      Map<String, DMatrixRMaj> matrices = new LinkedHashMap<>();
+      matrices.put("a", RandomMatrices_DDRM.rectangle(17, 9, random));
+      matrices.put("b", RandomMatrices_DDRM.rectangle(1, 1, random));
+      matrices.put("c", new DMatrixRMaj(0, 4));
+
+      Path file = temporaryFolder.resolve("native.bin");
+      BinaryMatrixStore.write(file, matrices);
+      BinaryMatrixStore store = BinaryMatrixStore.open(file);
+
+      NativeMatrix actual = new NativeMatrix(1, 1);
+      for (Map.Entry<String, DMatrixRMaj> entry : matrices.entrySet())
+      {
+         store.get(entry.getKey(), actual);
+         MatrixTestTools.assertMatrixEquals(entry.getValue(), actual, 0.0);
+      }
+   }
+
+   @Test
+   public void testConvertYaml() throws IOException
+   {
+      Random random = new Random(45L);
+      Map<String, Object> object = new LinkedHashMap<>();
+
+      ArrayList<ArrayList<Double>> gains = new ArrayList<>();
+      for (int i = 0; i < 6; i++)
+      {
+         ArrayList<Double> row = new ArrayList<>();
+         for (int j = 0; j < 12; j++)
+         {
+            row.add(random.nextDouble());
+         }
+         gains.add(row);
+      }
+      ArrayList<Double> vector = new ArrayList<>();
+      for (int i = 0; i < 7; i++)
+      {
+         vector.add(random.nextDouble());
+      }
+
+      object.put("gains", gains);
+      object.put("vector", vector);
+      object.put("scalar", 3.5);
+      object.put("empty", new ArrayList<Double>());
+      object.put("description", "LQR gains");
+
+      Path file = temporaryFolder.resolve("converted.bin");
+      BinaryMatrixStore.convertYaml(object, file);
+      BinaryMatrixStore store = BinaryMatrixStore.open(file);
+
+      assertEquals(3, store.getNames().size());
+      for (String name : new String[] {"gains", "vector", "scalar"})
+      {
+         DMatrixRMaj expected = MatrixTools.yamlFieldToMatrix(null, name, object);
+         MatrixTestTools.assertMatrixEquals(expected, store.get(name, (DMatrixRMaj) null), 0.0);
+      }
+   }
+
+   @Test
+   public void testInvalidFile() throws IOException
+   {
+      Path file = temporaryFolder.resolve("invalid.bin");
+      Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+      assertThrows(IOException.class, () -> BinaryMatrixStore.open(file));
+
+      Files.write(file, new byte[] {1, 2});
+      assertThrows(IOException.class, () -> BinaryMatrixStore.open(file));
+
+      // Truncated data
+      Map<String, DMatrixRMaj> matrices = new LinkedHashMap<>();
+      matrices.put("a", new DMatrixRMaj(10, 10));
+      BinaryMatrixStore.write(file, matrices);
+      byte[] bytes = Files.readAllBytes(file);
+      Files.write(file, Arrays.copyOf(bytes, bytes.length - 8));
+      assertThrows(IOException.class, () -> BinaryMatrixStore.open(file));
+   }
+}
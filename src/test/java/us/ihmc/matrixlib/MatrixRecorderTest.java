@@ -0,0 +1,285 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class MatrixRecorderTest
+{
+   private static final int ticks = 2000;
+
+   @TempDir
+   public Path temporaryFolder;
+
+   @Test
+   public void testRecordAndReplay() throws IOException
+   {
+      Random random = new Random(52L);
+      Path file = temporaryFolder.resolve("recording.bin");
+
+      DMatrixRMaj H = new DMatrixRMaj(20, 20);
+      DMatrixRMaj f = new DMatrixRMaj(20, 1);
+      DMatrixRMaj empty = new DMatrixRMaj(0, 3);
+
+      List<DMatrixRMaj> expectedH = new ArrayList<>();
+      List<DMatrixRMaj> expectedf = new ArrayList<>();
+      long recorded = 0;
+
+      try (MatrixRecorder recorder = new MatrixRecorder(file, 16))
+      {
+         recorder.register("H", H);
+         recorder.register("f", f, 30, 1);
+         recorder.register("empty", empty);
+         recorder.start();
+         assertThrows(IllegalStateException.class, () -> recorder.register("late", new DMatrixRMaj(1, 1)));
+
+         for (int tick = 0; tick < ticks; tick++)
+         {
+            // The size of f changes from tick to tick, up to the maximum it was registered with.
+            int size = RandomNumbers.nextInt(random, 1, 30);
+            f.set(RandomMatrices_DDRM.rectangle(size, 1, random));
+            H.set(RandomMatrices_DDRM.rectangle(20, 20, random));
+
+            if (recorder.record(tick))
+            {
+               expectedH.add(H.copy());
+               expectedf.add(f.copy());
+               recorded++;
+            }
+            else
+            {
+               // Dropped snapshots are marked with a null so the timestamps can be checked.
+               expectedH.add(null);
+               expectedf.add(null);
+            }
+
+            if (tick % 100 == 0)
+            {
+               Thread.yield();
+            }
+         }
+
+         assertEquals(ticks, recorder.getNumberOfSnapshots() + recorder.getNumberOfDroppedSnapshots());
+
+         f.reshape(31, 1);
+         assertThrows(IllegalArgumentException.class, () -> recorder.record(-1));
+      }
+
+      try (MatrixRecording recording = MatrixRecording.open(file))
+      {
+         assertEquals(Arrays.asList("H", "f", "empty"), recording.getNames());
+         assertEquals(recorded, recording.getNumberOfSnapshots());
+         assertEquals(ticks - recorded, recording.getNumberOfDroppedSnapshots());
+
+         DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+         int tick = 0;
+         for (long snapshot = 0; snapshot < recording.getNumberOfSnapshots(); snapshot++)
+         {
+            while (expectedH.get(tick) == null)
+            {
+               tick++;
+            }
+
+            recording.readSnapshot(snapshot);
+            assertEquals(tick, recording.getTimestamp());
+            recording.get("H", actual);
+            MatrixTestTools.assertMatrixEquals(expectedH.get(tick), actual, 0.0);
+            recording.get("f", actual);
+            MatrixTestTools.assertMatrixEquals(expectedf.get(tick), actual, 0.0);
+            recording.get("empty", actual);
+            assertEquals(0, actual.getNumRows());
+            assertEquals(3, actual.getNumCols());
+            tick++;
+         }
+
+         assertThrows(IndexOutOfBoundsException.class, () -> recording.readSnapshot(recording.getNumberOfSnapshots()));
+         assertThrows(IllegalArgumentException.class, () -> recording.get("missing", new DMatrixRMaj(1, 1)));
+      }
+   }
+
+   @Test
+   public void testReplayOtherByteOrder() throws IOException
+   {
+      Random random = new Random(55L);
+      Path file = temporaryFolder.resolve("recording.bin");
+      Path swappedFile = temporaryFolder.resolve("swapped.bin");
+
+      DMatrixRMaj P = new DMatrixRMaj(8, 8);
+      DMatrixRMaj x = new DMatrixRMaj(8, 1);
+      List<DMatrixRMaj> expectedP = new ArrayList<>();
+      List<DMatrixRMaj> expectedx = new ArrayList<>();
+
+      try (MatrixRecorder recorder = new MatrixRecorder(file, 100))
+      {
+         recorder.register("P", P);
+         recorder.register("x", x, 12, 1);
+         recorder.start();
+
+         for (int tick = 0; tick < 50; tick++)
+         {
+            P.set(RandomMatrices_DDRM.rectangle(8, 8, random));
+            x.set(RandomMatrices_DDRM.rectangle(RandomNumbers.nextInt(random, 1, 12), 1, random));
+            expectedP.add(P.copy());
+            expectedx.add(x.copy());
+            assertEquals(true, recorder.record(10L * tick));
+         }
+      }
+
+      // A recording taken on a machine with the other byte order, e.g. on the robot, replayed offline
+      swapByteOrder(file, swappedFile);
+
+      try (MatrixRecording recording = MatrixRecording.open(swappedFile))
+      {
+         assertEquals(expectedP.size(), recording.getNumberOfSnapshots());
+         assertEquals(Arrays.asList("P", "x"), recording.getNames());
+
+         DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+         for (int snapshot = 0; snapshot < expectedP.size(); snapshot++)
+         {
+            recording.readSnapshot(snapshot);
+            assertEquals(10L * snapshot, recording.getTimestamp());
+            recording.get("P", actual);
+            MatrixTestTools.assertMatrixEquals(expectedP.get(snapshot), actual, 0.0);
+            recording.get("x", actual);
+            MatrixTestTools.assertMatrixEquals(expectedx.get(snapshot), actual, 0.0);
+         }
+      }
+   }
+
+   /** Rewrites every field of a recording in the other byte order, following the layout of MatrixRecorder. */
+   private static void swapByteOrder(Path file, Path swappedFile) throws IOException
+   {
+      ByteBuffer source = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder());
+      ByteOrder otherOrder = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+      ByteBuffer swapped = ByteBuffer.allocate(source.capacity()).order(otherOrder);
+
+      for (int i = 0; i < 4; i++)
+         swapped.putInt(source.getInt());
+      swapped.putLong(source.getLong());
+      swapped.putLong(source.getLong());
+
+      int numberOfMatrices = source.getInt(8);
+      int slotSize = source.getInt(12);
+      long numberOfSnapshots = source.getLong(MatrixRecorder.SNAPSHOT_COUNT_OFFSET);
+      int[] offsets = new int[numberOfMatrices];
+      int[] sizes = new int[numberOfMatrices];
+      for (int i = 0; i < numberOfMatrices; i++)
+      {
+         int nameLength = source.getInt();
+         swapped.putInt(nameLength);
+         for (int j = 0; j < nameLength; j++)
+            swapped.put(source.get());
+         int maxRows = source.getInt();
+         int maxCols = source.getInt();
+         swapped.putInt(maxRows).putInt(maxCols).putInt(source.getInt());
+         offsets[i] = source.getInt();
+         swapped.putInt(offsets[i]);
+         sizes[i] = maxRows * maxCols;
+      }
+
+      int dataStart = (source.position() + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+      for (long snapshot = 0; snapshot < numberOfSnapshots; snapshot++)
+      {
+         int slot = (int) (dataStart + snapshot * slotSize);
+         swapped.putLong(slot, source.getLong(slot));
+         for (int i = 0; i < numberOfMatrices; i++)
+         {
+            int dataOffset = slot + offsets[i];
+            swapped.putInt(dataOffset - 2 * Integer.BYTES, source.getInt(dataOffset - 2 * Integer.BYTES));
+            swapped.putInt(dataOffset - Integer.BYTES, source.getInt(dataOffset - Integer.BYTES));
+            for (int j = 0; j < sizes[i]; j++)
+               swapped.putDouble(dataOffset + j * Double.BYTES, source.getDouble(dataOffset + j * Double.BYTES));
+         }
+      }
+
+      Files.write(swappedFile, swapped.array());
+   }
+
+   @Test
+   public void testRecordNativeMatrix() throws IOException
+   {
+      Random random = new Random(53L);
+      Path file = temporaryFolder.resolve("native.bin");
+
+      NativeMatrix K = new NativeMatrix(6, 12);
+      List<DMatrixRMaj> expected = new ArrayList<>();
+
+      // Large enough to never drop a snapshot.
+      try (MatrixRecorder recorder = new MatrixRecorder(file, 100))
+      {
+         recorder.register("K", K, 12, 12);
+         recorder.start();
+
+         for (int tick = 0; tick < 100; tick++)
+         {
+            DMatrixRMaj value = RandomMatrices_DDRM.rectangle(RandomNumbers.nextInt(random, 1, 12), 12, random);
+            K.set(value);
+            expected.add(value);
+            assertEquals(true, recorder.record(tick));
+         }
+      }
+
+      try (MatrixRecording recording = MatrixRecording.open(file))
+      {
+         assertEquals(expected.size(), recording.getNumberOfSnapshots());
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         for (int snapshot = 0; snapshot < expected.size(); snapshot++)
+         {
+            recording.readSnapshot(snapshot);
+            recording.get("K", actual);
+            MatrixTestTools.assertMatrixEquals(expected.get(snapshot), actual, 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testRecordTime() throws IOException
+   {
+      Random random = new Random(54L);
+      Path file = temporaryFolder.resolve("timing.bin");
+      DMatrixRMaj H = RandomMatrices_DDRM.rectangle(100, 100, random);
+      DMatrixRMaj f = RandomMatrices_DDRM.rectangle(100, 1, random);
+      int numberOfTicks = 20000;
+
+      try (MatrixRecorder recorder = new MatrixRecorder(file, 1024))
+      {
+         recorder.register("H", H);
+         recorder.register("f", f);
+         recorder.start();
+
+         long maximumTime = 0;
+         long totalTime = 0;
+         for (int tick = 0; tick < numberOfTicks; tick++)
+         {
+            long start = System.nanoTime();
+            recorder.record(tick);
+            long time = System.nanoTime() - start;
+            totalTime += time;
+            maximumTime = Math.max(maximumTime, time);
+         }
+
+         System.out.println(String.format("Recording 100x100 + 100x1 per tick: average %.2f us, maximum %.2f us, %d of %d snapshots dropped",
+                                          totalTime / 1.0e3 / numberOfTicks,
+                                          maximumTime / 1.0e3,
+                                          recorder.getNumberOfDroppedSnapshots(),
+                                          numberOfTicks));
+      }
+   }
+}
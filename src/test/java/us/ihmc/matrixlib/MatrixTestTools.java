@@ -3,6 +3,7 @@ package us.ihmc.matrixlib;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.ejml.data.DMatrix;
+import org.ejml.data.FMatrix;
 
 public class MatrixTestTools
 {
@@ -44,6 +45,25 @@ public class MatrixTestTools
          }
       }
    }
+
+   public static void assertMatrixEquals(FMatrix expected, FMatrix actual, double delta)
+   {
+      MatrixTestTools.assertMatrixEquals("", expected, actual, delta);
+   }
+
+   public static void assertMatrixEquals(String message, FMatrix expected, FMatrix actual, double delta)
+   {
+      assertEquals(expected.getNumRows(), actual.getNumRows(), message);
+      assertEquals(expected.getNumCols(), actual.getNumCols(), message);
+
+      for (int i = 0; i < expected.getNumRows(); i++)
+      {
+         for (int j = 0; j < expected.getNumCols(); j++)
+         {
+            assertEquals(expected.get(i, j), actual.get(i, j), delta, message + " index (" + i + ", " + j + ")");
+         }
+      }
+   }
    
    public static void setDiagonal(DMatrix matrix, int startRow, int startCol, int size, double value)
    {
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
@@ -142,6 +143,110 @@ public class MatrixToolsTest
       }
    }
 
+   @Test
+   public void testRemoveRows()
+   {
+      Random random = new Random(3216517L);
+      for (int i = 0; i < 20; i++)
+      {
+         int numRows = RandomNumbers.nextInt(random, 1, 100);
+         int numCols = RandomNumbers.nextInt(random, 1, 100);
+         DMatrixRMaj randomMatrix = RandomMatrices_DDRM.rectangle(numRows, numCols, 1.0, 100.0, random);
+         int[] indicesOfRowsToRemove = nextIncreasingIndices(random, numRows);
+
+         DMatrixRMaj expectedMatrix = new DMatrixRMaj(randomMatrix);
+         for (int j = indicesOfRowsToRemove.length - 1; j >= 0; j--)
+            MatrixTools.removeRow(expectedMatrix, indicesOfRowsToRemove[j]);
+
+         DMatrixRMaj matrixToTest = new DMatrixRMaj(randomMatrix);
+         MatrixTools.removeRows(matrixToTest, indicesOfRowsToRemove);
+
+         assertTrue(MatrixFeatures_DDRM.isEquals(expectedMatrix, matrixToTest, 0.0));
+      }
+
+      DMatrixRMaj matrix = new DMatrixRMaj(5, 5);
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.removeRows(matrix, new int[] {2, 1}));
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.removeRows(matrix, new int[] {1, 1}));
+      assertThrows(RuntimeException.class, () -> MatrixTools.removeRows(matrix, new int[] {5}));
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.removeRows(matrix, new int[] {1}, 2));
+   }
+
+   @Test
+   public void testRemoveColumns()
+   {
+      Random random = new Random(3216518L);
+      for (int i = 0; i < 20; i++)
+      {
+         int numRows = RandomNumbers.nextInt(random, 1, 100);
+         int numCols = RandomNumbers.nextInt(random, 1, 100);
+         DMatrixRMaj randomMatrix = RandomMatrices_DDRM.rectangle(numRows, numCols, 1.0, 100.0, random);
+         int[] indicesOfColumnsToRemove = nextIncreasingIndices(random, numCols);
+
+         DMatrixRMaj expectedMatrix = new DMatrixRMaj(randomMatrix);
+         for (int j = indicesOfColumnsToRemove.length - 1; j >= 0; j--)
+            MatrixTools.removeColumn(expectedMatrix, indicesOfColumnsToRemove[j]);
+
+         DMatrixRMaj matrixToTest = new DMatrixRMaj(randomMatrix);
+         MatrixTools.removeColumns(matrixToTest, indicesOfColumnsToRemove);
+
+         assertTrue(MatrixFeatures_DDRM.isEquals(expectedMatrix, matrixToTest, 0.0));
+      }
+
+      DMatrixRMaj matrix = new DMatrixRMaj(5, 5);
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.removeColumns(matrix, new int[] {3, 0}));
+      assertThrows(RuntimeException.class, () -> MatrixTools.removeColumns(matrix, new int[] {-1}));
+   }
+
+   private static int[] nextIncreasingIndices(Random random, int size)
+   {
+      return IntStream.range(0, size).filter(index -> random.nextBoolean()).toArray();
+   }
+
+   @Test
+   public void testGatherRowsAndColumns()
+   {
+      Random random = new Random(3216519L);
+      for (int i = 0; i < 20; i++)
+      {
+         int numRows = RandomNumbers.nextInt(random, 1, 50);
+         int numCols = RandomNumbers.nextInt(random, 1, 50);
+         DMatrixRMaj source = RandomMatrices_DDRM.rectangle(numRows, numCols, 1.0, 100.0, random);
+         int[] rows = random.ints(RandomNumbers.nextInt(random, 1, 60), 0, numRows).toArray();
+         int[] columns = random.ints(RandomNumbers.nextInt(random, 1, 60), 0, numCols).toArray();
+
+         DMatrixRMaj expected = new DMatrixRMaj(rows.length, columns.length);
+         for (int row = 0; row < rows.length; row++)
+         {
+            for (int column = 0; column < columns.length; column++)
+               expected.set(row, column, source.get(rows[row], columns[column]));
+         }
+
+         DMatrixRMaj actual = new DMatrixRMaj(rows.length, columns.length);
+         MatrixTools.getMatrixBlock(actual, source, rows, columns);
+         assertTrue(MatrixFeatures_DDRM.isEquals(expected, actual, 0.0));
+
+         int[] allColumns = IntStream.range(0, numCols).toArray();
+         DMatrixRMaj actualRows = new DMatrixRMaj(rows.length + 2, numCols);
+         MatrixTools.extractRows(source, rows, actualRows, 2);
+         DMatrixRMaj expectedRows = new DMatrixRMaj(rows.length, numCols);
+         MatrixTools.getMatrixBlock(expectedRows, source, rows, allColumns);
+         assertTrue(MatrixFeatures_DDRM.isEquals(expectedRows, CommonOps_DDRM.extract(actualRows, 2, rows.length + 2, 0, numCols), 0.0));
+
+         int[] allRows = IntStream.range(0, numRows).toArray();
+         DMatrixRMaj actualColumns = new DMatrixRMaj(numRows, columns.length + 3);
+         MatrixTools.extractColumns(source, columns, actualColumns, 3);
+         DMatrixRMaj expectedColumns = new DMatrixRMaj(numRows, columns.length);
+         MatrixTools.getMatrixBlock(expectedColumns, source, allRows, columns);
+         assertTrue(MatrixFeatures_DDRM.isEquals(expectedColumns, CommonOps_DDRM.extract(actualColumns, 0, numRows, 3, columns.length + 3), 0.0));
+      }
+
+      DMatrixRMaj source = new DMatrixRMaj(5, 5);
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.extractRows(source, new int[] {5}, new DMatrixRMaj(1, 5), 0));
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.extractRows(source, new int[] {1, 2}, new DMatrixRMaj(1, 5), 0));
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.extractColumns(source, new int[] {-1}, new DMatrixRMaj(5, 1), 0));
+      assertThrows(IllegalArgumentException.class, () -> MatrixTools.getMatrixBlock(new DMatrixRMaj(1, 1), source, new int[] {0}, new int[] {7}));
+   }
+
    @Test
    public void testSetRow()
    {
@@ -0,0 +1,194 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+public class NativeAllocationTrackerTest
+{
+   private static final double EPSILON = 1.0e-10;
+
+   @Test
+   public void testNativeMatrixOperationsDoNotAllocate()
+   {
+      assumeTrue(NativeAllocationTracker.isSupported());
+
+      Random random = new Random(81L);
+      NativeMatrix A = new NativeMatrix(RandomMatrices_DDRM.rectangle(40, 30, random));
+      NativeMatrix B = new NativeMatrix(RandomMatrices_DDRM.rectangle(30, 20, random));
+      NativeMatrix S = new NativeMatrix(RandomMatrices_DDRM.symmetricPosDef(40, random));
+      NativeMatrix S6 = new NativeMatrix(RandomMatrices_DDRM.symmetricPosDef(6, random));
+      NativeMatrix A6 = new NativeMatrix(RandomMatrices_DDRM.rectangle(6, 30, random));
+      NativeMatrix v = new NativeMatrix(RandomMatrices_DDRM.rectangle(40, 1, random));
+
+      NativeMatrix product = new NativeMatrix(1, 1);
+      NativeMatrix transposedProduct = new NativeMatrix(1, 1);
+      NativeMatrix quad = new NativeMatrix(1, 1);
+      NativeMatrix quad6 = new NativeMatrix(1, 1);
+      NativeMatrix inverse = new NativeMatrix(1, 1);
+      NativeMatrix solution = new NativeMatrix(1, 1);
+      NativeMatrix checkedSolution = new NativeMatrix(1, 1);
+
+      Runnable operations = () ->
+      {
+         product.mult(A, B);
+         product.multAdd(0.5, A, B);
+         transposedProduct.multTransA(A, A);
+         transposedProduct.multAddTransB(B, B);
+         quad.multQuad(A, S);
+         quad.multAddQuad(A, S);
+         quad6.multQuad(A6, S6);
+         inverse.invert(S);
+         solution.solve(S, v);
+         checkedSolution.solveCheck(S, v);
+         checkedSolution.solveCheck(S, v, 1.0e-6);
+         S.rcond();
+      };
+
+      // Lets the results and workspaces grow to their sizes.
+      operations.run();
+      NativeAllocationTracker.assertNoAllocation(operations);
+   }
+
+   @Test
+   public void testKalmanFilterAndProjectorDoNotAllocate()
+   {
+      assumeTrue(NativeAllocationTracker.isSupported());
+
+      Random random = new Random(82L);
+      int n = 12;
+      int m = 5;
+      NativeMatrix F = new NativeMatrix(RandomMatrices_DDRM.rectangle(n, n, random));
+      NativeMatrix P = new NativeMatrix(RandomMatrices_DDRM.symmetricPosDef(n, random));
+      NativeMatrix Q = new NativeMatrix(RandomMatrices_DDRM.diagonal(n, 0.1, 1.0, random));
+      NativeMatrix H = new NativeMatrix(RandomMatrices_DDRM.rectangle(m, n, random));
+      NativeMatrix R = new NativeMatrix(RandomMatrices_DDRM.rectangle(m, 1, 1.0, 2.0, random));
+      NativeMatrix x = new NativeMatrix(RandomMatrices_DDRM.rectangle(n, 1, random));
+      NativeMatrix r = new NativeMatrix(RandomMatrices_DDRM.rectangle(m, 1, random));
+
+      NativeMatrix predicted = new NativeMatrix(n, n);
+      NativeMatrix gain = new NativeMatrix(n, m);
+      NativeMatrix state = new NativeMatrix(n, 1);
+      NativeMatrix updated = new NativeMatrix(n, n);
+
+      NativeNullspaceProjector projector = new NativeNullspaceProjector(n);
+      NativeMatrix projected = new NativeMatrix(1, 1);
+
+      Runnable operations = () ->
+      {
+         NativeKalmanFilter.predictErrorCovariance(predicted, F, P, Q);
+         NativeKalmanFilter.computeKalmanGain(gain, predicted, H, R);
+         NativeKalmanFilter.updateState(state, x, gain, r);
+         NativeKalmanFilter.updateErrorCovariance(updated, gain, H, predicted);
+         projector.project(F, H, projected, 0.1);
+      };
+
+      operations.run();
+      NativeAllocationTracker.assertNoAllocation(operations);
+   }
+
+   @Test
+   public void testSVDDoesNotAllocate()
+   {
+      assumeTrue(NativeAllocationTracker.isSupported());
+
+      Random random = new Random(84L);
+      // Jacobians of a humanoid arm and of a whole-body task, both go through the Jacobi SVD
+      NativeMatrix armJacobian = new NativeMatrix(RandomMatrices_DDRM.rectangle(6, 7, random));
+      NativeMatrix taskJacobian = new NativeMatrix(RandomMatrices_DDRM.rectangle(12, 36, random));
+      NativeMatrix armTwist = new NativeMatrix(RandomMatrices_DDRM.rectangle(6, 1, random));
+      NativeMatrix taskTwist = new NativeMatrix(RandomMatrices_DDRM.rectangle(12, 1, random));
+
+      NativeSVD armSVD = new NativeSVD();
+      NativeSVD taskSVD = new NativeSVD();
+      NativeMatrix armSolution = new NativeMatrix(1, 1);
+      NativeMatrix taskSolution = new NativeMatrix(1, 1);
+      NativeMatrix pseudoInverse = new NativeMatrix(1, 1);
+
+      Runnable operations = () ->
+      {
+         armSVD.compute(armJacobian);
+         armSVD.solveDamped(armTwist, armSolution, 0.05);
+         taskSVD.compute(taskJacobian);
+         taskSVD.solve(taskTwist, taskSolution, 1.0e-10);
+         taskSVD.getPseudoInverse(pseudoInverse, 1.0e-10);
+      };
+
+      operations.run();
+      NativeAllocationTracker.assertNoAllocation(operations);
+   }
+
+   @Test
+   public void testQPCostAccumulatorDoesNotAllocate()
+   {
+      assumeTrue(NativeAllocationTracker.isSupported());
+
+      Random random = new Random(85L);
+      int numberOfVariables = 40;
+      NativeQPCostAccumulator accumulator = new NativeQPCostAccumulator(numberOfVariables);
+
+      // Tasks of mixed sizes, the workspace must not follow each task size in turn
+      int[][] taskSizes = {{6, 12, 0}, {3, 40, 0}, {12, 6, 30}, {1, 20, 10}, {6, 7, 33}};
+      for (int[] taskSize : taskSizes)
+      {
+         int rows = taskSize[0];
+         int cols = taskSize[1];
+         NativeMatrix jacobian = new NativeMatrix(RandomMatrices_DDRM.rectangle(rows, cols, random));
+         NativeMatrix objective = new NativeMatrix(RandomMatrices_DDRM.rectangle(rows, 1, random));
+         NativeMatrix weight = new NativeMatrix(RandomMatrices_DDRM.rectangle(rows, 1, 0.1, 1.0, random));
+         accumulator.addTask(jacobian, objective, weight, taskSize[2]);
+      }
+
+      NativeMatrix H = new NativeMatrix(1, 1);
+      NativeMatrix f = new NativeMatrix(1, 1);
+
+      Runnable operations = () -> accumulator.compute(H, f);
+
+      operations.run();
+      NativeAllocationTracker.assertNoAllocation(operations);
+   }
+
+   @Test
+   public void testAllocationIsDetected()
+   {
+      assumeTrue(NativeAllocationTracker.isSupported());
+
+      NativeMatrix matrix = new NativeMatrix(2, 2);
+      assertThrows(IllegalStateException.class, () -> NativeAllocationTracker.assertNoAllocation(() -> matrix.reshape(100, 100)));
+   }
+
+   @Test
+   public void testAliasedOperands()
+   {
+      // The result is an operand: these have to go through a temporary to stay correct.
+      Random random = new Random(83L);
+      DMatrixRMaj a = RandomMatrices_DDRM.rectangle(20, 20, random);
+      DMatrixRMaj b = RandomMatrices_DDRM.rectangle(20, 20, random);
+
+      DMatrixRMaj expected = new DMatrixRMaj(20, 20);
+      CommonOps_DDRM.mult(a, b, expected);
+      NativeMatrix nativeA = new NativeMatrix(a);
+      nativeA.mult(nativeA, new NativeMatrix(b));
+      MatrixTestTools.assertMatrixEquals(expected, nativeA, EPSILON);
+
+      NativeMatrix nativeB = new NativeMatrix(b);
+      CommonOps_DDRM.mult(a, b, expected);
+      CommonOps_DDRM.addEquals(expected, b);
+      nativeB.multAdd(new NativeMatrix(a), nativeB);
+      MatrixTestTools.assertMatrixEquals(expected, nativeB, EPSILON);
+
+      DMatrixRMaj quadExpected = new DMatrixRMaj(20, 20);
+      DMatrixRMaj temp = new DMatrixRMaj(20, 20);
+      CommonOps_DDRM.multTransA(a, b, temp);
+      CommonOps_DDRM.mult(temp, a, quadExpected);
+      NativeMatrix nativeQuad = new NativeMatrix(b);
+      nativeQuad.multQuad(new NativeMatrix(a), nativeQuad);
+      MatrixTestTools.assertMatrixEquals(quadExpected, nativeQuad, EPSILON);
+   }
+}
@@ -0,0 +1,160 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeCholeskyTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testComputeAndSolve()
+   {
+      Random random = new Random(6534L);
+      NativeCholesky cholesky = new NativeCholesky();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj A = nextSPDMatrix(random, size);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, RandomNumbers.nextInt(random, 1, maxSize), random);
+
+         assertTrue(cholesky.compute(new NativeMatrix(A)));
+         assertEquals(size, cholesky.getSize());
+         assertFactorEquals(A, cholesky);
+
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.solve(A, b, expected);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         cholesky.solve(new NativeMatrix(b), actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      DMatrixRMaj indefinite = CommonOps_DDRM.identity(3);
+      indefinite.set(1, 1, -1.0);
+      assertFalse(cholesky.compute(new NativeMatrix(indefinite)));
+      assertEquals(0, cholesky.getSize());
+      assertThrows(IllegalArgumentException.class, () -> cholesky.compute(new NativeMatrix(3, 2)));
+   }
+
+   @Test
+   public void testRankUpdate()
+   {
+      Random random = new Random(6535L);
+      NativeCholesky cholesky = new NativeCholesky();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj A = nextSPDMatrix(random, size);
+         DMatrixRMaj v = RandomMatrices_DDRM.rectangle(size, 1, random);
+         double sigma = RandomNumbers.nextDouble(random, 0.1, 2.0);
+         assertTrue(cholesky.compute(new NativeMatrix(A)));
+
+         DMatrixRMaj vvT = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.multTransB(v, v, vvT);
+         CommonOps_DDRM.addEquals(A, sigma, vvT);
+         assertTrue(cholesky.rankUpdate(new NativeMatrix(v), sigma));
+         assertFactorEquals(A, cholesky);
+
+         CommonOps_DDRM.addEquals(A, -sigma, vvT);
+         assertTrue(cholesky.rankUpdate(new NativeMatrix(v), -sigma));
+         assertFactorEquals(A, cholesky);
+      }
+
+      // A failed downdate leaves the decomposition unchanged
+      DMatrixRMaj A = CommonOps_DDRM.identity(3);
+      assertTrue(cholesky.compute(new NativeMatrix(A)));
+      assertFalse(cholesky.rankUpdate(new NativeMatrix(new DMatrixRMaj(new double[] {0.0, 2.0, 0.0})), -1.0));
+      assertFactorEquals(A, cholesky);
+      assertThrows(IllegalArgumentException.class, () -> cholesky.rankUpdate(new NativeMatrix(2, 1), 1.0));
+   }
+
+   @Test
+   public void testAddAndRemoveRowAndColumn()
+   {
+      Random random = new Random(6536L);
+      NativeCholesky cholesky = new NativeCholesky();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 2, maxSize);
+         DMatrixRMaj A = nextSPDMatrix(random, size);
+         int index = RandomNumbers.nextInt(random, 0, size - 1);
+
+         DMatrixRMaj reduced = removeRowAndColumn(A, index);
+         assertTrue(cholesky.compute(new NativeMatrix(reduced)));
+
+         DMatrixRMaj column = CommonOps_DDRM.extract(A, 0, size, index, index + 1);
+         assertTrue(cholesky.addRowAndColumn(index, new NativeMatrix(column)));
+         assertFactorEquals(A, cholesky);
+
+         int indexToRemove = RandomNumbers.nextInt(random, 0, size - 1);
+         cholesky.removeRowAndColumn(indexToRemove);
+         assertFactorEquals(removeRowAndColumn(A, indexToRemove), cholesky);
+      }
+
+      // Adding a row and column making the matrix indefinite leaves the decomposition unchanged
+      DMatrixRMaj A = CommonOps_DDRM.identity(2);
+      assertTrue(cholesky.compute(new NativeMatrix(A)));
+      assertFalse(cholesky.addRowAndColumn(1, new NativeMatrix(new DMatrixRMaj(new double[] {2.0, 1.0, 0.0}))));
+      assertFactorEquals(A, cholesky);
+
+      assertThrows(IllegalArgumentException.class, () -> cholesky.addRowAndColumn(3, new NativeMatrix(3, 1)));
+      assertThrows(IllegalArgumentException.class, () -> cholesky.addRowAndColumn(0, new NativeMatrix(2, 1)));
+      assertThrows(IllegalArgumentException.class, () -> cholesky.removeRowAndColumn(2));
+   }
+
+   private static DMatrixRMaj nextSPDMatrix(Random random, int size)
+   {
+      DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(size, random);
+      CommonOps_DDRM.addEquals(A, 0.1, CommonOps_DDRM.identity(size));
+      return A;
+   }
+
+   private static DMatrixRMaj removeRowAndColumn(DMatrixRMaj A, int index)
+   {
+      DMatrixRMaj result = new DMatrixRMaj(A.getNumRows() - 1, A.getNumCols() - 1);
+      for (int row = 0; row < result.getNumRows(); row++)
+      {
+         for (int col = 0; col < result.getNumCols(); col++)
+         {
+            result.set(row, col, A.get(row < index ? row : row + 1, col < index ? col : col + 1));
+         }
+      }
+      return result;
+   }
+
+   private static void assertFactorEquals(DMatrixRMaj expected, NativeCholesky cholesky)
+   {
+      NativeMatrix L = new NativeMatrix(1, 1);
+      cholesky.getL(L);
+      DMatrixRMaj lDense = new DMatrixRMaj(1, 1);
+      L.get(lDense);
+
+      for (int row = 0; row < lDense.getNumRows(); row++)
+      {
+         for (int col = row + 1; col < lDense.getNumCols(); col++)
+         {
+            assertEquals(0.0, lDense.get(row, col));
+         }
+      }
+
+      DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+      CommonOps_DDRM.multTransB(lDense, lDense, actual);
+      MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+   }
+}
@@ -0,0 +1,16 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class NativeCommonOpsLibraryTest
+{
+   @Test
+   public void testLibraryMatchesJavaSources()
+   {
+      // Fails on a library left in the resources from an older build, it has to be rebuilt for every platform.
+      NativeCommonOpsLibrary.load();
+      assertEquals(NativeCommonOpsLibrary.VERSION, NativeCommonOpsLibrary.getNativeVersion());
+   }
+}
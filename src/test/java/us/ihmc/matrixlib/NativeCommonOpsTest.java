@@ -1,9 +1,17 @@
 package us.ihmc.matrixlib;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
 import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
 import org.ejml.interfaces.linsol.LinearSolverDense;
@@ -237,4 +245,130 @@ public class NativeCommonOpsTest
          NativeCommonOps.multQuad(A, B, AtBA);
       }
    }
+
+   @Test
+   public void testConcurrentCallsWithSharedInputs()
+   {
+      Random random = new Random(41L);
+      int problems = 1000;
+      DMatrixRMaj A = RandomMatrices_DDRM.rectangle(6, 12, random);
+      DMatrixRMaj B = RandomMatrices_DDRM.rectangle(12, 12, random);
+      DMatrixRMaj originalA = new DMatrixRMaj(A);
+      DMatrixRMaj originalB = new DMatrixRMaj(B);
+      DMatrixRMaj[] b = new DMatrixRMaj[problems];
+      DMatrixRMaj[] expectedSolutions = new DMatrixRMaj[problems];
+      DMatrixRMaj[] expectedProjections = new DMatrixRMaj[problems];
+
+      for (int i = 0; i < problems; i++)
+      {
+         b[i] = RandomMatrices_DDRM.rectangle(6, 1, random);
+         expectedSolutions[i] = new DMatrixRMaj(12, 1);
+         NativeCommonOps.solveDamped(A, b[i], 0.1 * i / problems, expectedSolutions[i]);
+         expectedProjections[i] = new DMatrixRMaj(12, 12);
+         NativeCommonOps.projectOnNullspace(B, A, expectedProjections[i], 0.1 * i / problems);
+      }
+
+      // All tasks share A and B, each one has its own result matrices.
+      assertTrue(IntStream.range(0, problems).parallel().allMatch(i ->
+      {
+         DMatrixRMaj solution = new DMatrixRMaj(1, 1);
+         NativeCommonOps.solveDamped(A, b[i], 0.1 * i / problems, solution);
+         DMatrixRMaj projection = new DMatrixRMaj(1, 1);
+         NativeCommonOps.projectOnNullspace(B, A, projection, 0.1 * i / problems);
+         return MatrixFeatures_DDRM.isIdentical(expectedSolutions[i], solution, 0.0)
+               && MatrixFeatures_DDRM.isIdentical(expectedProjections[i], projection, 0.0);
+      }));
+
+      MatrixTestTools.assertMatrixEquals(originalA, A, 0.0);
+      MatrixTestTools.assertMatrixEquals(originalB, B, 0.0);
+   }
+
+   @Test
+   public void testSolveDampedBatch()
+   {
+      Random random = new Random(42L);
+      int problems = 2000;
+      int aRows = 6;
+      int aCols = 12;
+      double[] aData = RandomMatrices_DDRM.rectangle(problems * aRows, aCols, random).data;
+      double[] bData = RandomMatrices_DDRM.rectangle(problems * aRows, 1, random).data;
+      double[] alpha = RandomMatrices_DDRM.rectangle(problems, 1, 0.0, 0.5, random).data;
+      // An undamped problem with a singular matrix can not be solved.
+      Arrays.fill(aData, 0, aRows * aCols, 0.0);
+      alpha[0] = 0.0;
+
+      double[] x = new double[problems * aCols];
+      boolean[] success = new boolean[problems];
+      // The batch is pinned in several chunks and gets its own threads.
+      assertEquals(problems - 1, NativeCommonOps.solveDampedBatch(problems, aData, bData, aRows, aCols, alpha, x, success, 4));
+
+      assertFalse(success[0]);
+      assertTrue(Double.isNaN(x[0]));
+
+      for (int i = 1; i < problems; i++)
+      {
+         DMatrixRMaj A = new DMatrixRMaj(aRows, aCols);
+         System.arraycopy(aData, i * aRows * aCols, A.data, 0, aRows * aCols);
+         DMatrixRMaj b = new DMatrixRMaj(aRows, 1);
+         System.arraycopy(bData, i * aRows, b.data, 0, aRows);
+         DMatrixRMaj expected = new DMatrixRMaj(aCols, 1);
+         NativeCommonOps.solveDamped(A, b, alpha[i], expected);
+
+         assertTrue(success[i]);
+         MatrixTestTools.assertMatrixEquals(expected, new DMatrixRMaj(aCols, 1, true, Arrays.copyOfRange(x, i * aCols, (i + 1) * aCols)), epsilon);
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> NativeCommonOps.solveDampedBatch(problems, aData, bData, aRows, aCols, alpha, new double[aCols], success));
+      assertThrows(IllegalArgumentException.class, () -> NativeCommonOps.solveDampedBatch(problems, aData, bData, aRows, aCols, new double[2], x, success));
+      assertThrows(IllegalArgumentException.class, () -> NativeCommonOps.solveDampedBatch(problems, aData, bData, aRows, aCols, alpha, bData, success));
+      assertThrows(IllegalArgumentException.class, () -> NativeCommonOps.solveDampedBatch(problems, aData, bData, aRows, aCols, alpha, x, success, 0));
+      // The expected length overflows an int
+      assertThrows(IllegalArgumentException.class,
+                   () -> NativeCommonOps.solveDampedBatch(1, aData, new double[1 << 16], 1 << 16, 1 << 16, alpha, new double[1 << 16], success));
+   }
+
+   @Test
+   public void testProjectOnNullspaceBatch()
+   {
+      Random random = new Random(43L);
+      int problems = 2000;
+      int aRows = 12;
+      int aCols = 12;
+      int bRows = 6;
+      double[] aData = RandomMatrices_DDRM.rectangle(problems * aRows, aCols, random).data;
+      double[] bData = RandomMatrices_DDRM.rectangle(problems * bRows, aCols, random).data;
+      double[] alpha = {0.1};
+
+      double[] c = new double[problems * aRows * aCols];
+      boolean[] success = new boolean[problems];
+      NativeMatrixThreading.setMaxThreads(4);
+      try
+      {
+         assertEquals(problems, NativeCommonOps.projectOnNullspaceBatch(problems, aData, bData, aRows, aCols, bRows, alpha, c, success));
+      }
+      finally
+      {
+         NativeMatrixThreading.setMaxThreads(1);
+      }
+
+      for (int i = 0; i < problems; i++)
+      {
+         DMatrixRMaj A = new DMatrixRMaj(aRows, aCols);
+         System.arraycopy(aData, i * aRows * aCols, A.data, 0, aRows * aCols);
+         DMatrixRMaj B = new DMatrixRMaj(bRows, aCols);
+         System.arraycopy(bData, i * bRows * aCols, B.data, 0, bRows * aCols);
+         DMatrixRMaj expected = new DMatrixRMaj(aRows, aCols);
+         NativeCommonOps.projectOnNullspace(A, B, expected, alpha[0]);
+
+         assertTrue(success[i]);
+         MatrixTestTools.assertMatrixEquals(expected,
+                                            new DMatrixRMaj(aRows, aCols, true, Arrays.copyOfRange(c, i * aRows * aCols, (i + 1) * aRows * aCols)),
+                                            epsilon);
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> NativeCommonOps.projectOnNullspaceBatch(problems, aData, bData, aRows, aCols, bRows, alpha, aData, success));
+      assertThrows(IllegalArgumentException.class, () -> NativeCommonOps.projectOnNullspaceBatch(problems, aData, bData, aRows, aCols, bRows, alpha, bData, success));
+      assertThrows(IllegalArgumentException.class,
+                   () -> NativeCommonOps.projectOnNullspaceBatch(problems, aData, bData, aRows, aCols, bRows + 1, alpha, c, success));
+   }
 }
@@ -0,0 +1,156 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.factory.DecompositionFactory_DDRM;
+import org.ejml.interfaces.decomposition.EigenDecomposition_F64;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeEigenSolverTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testEigenvalues()
+   {
+      Random random = new Random(7645L);
+      NativeEigenSolver solver = new NativeEigenSolver();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetric(size, -10.0, 10.0, random);
+
+         EigenDecomposition_F64<DMatrixRMaj> ejml = DecompositionFactory_DDRM.eig(size, false, true);
+         assertTrue(ejml.decompose(A.copy()));
+         double[] expectedValues = new double[size];
+         for (int j = 0; j < size; j++)
+         {
+            expectedValues[j] = ejml.getEigenvalue(j).getReal();
+         }
+         Arrays.sort(expectedValues);
+
+         assertTrue(solver.compute(new NativeMatrix(A), false));
+         assertEquals(size, solver.getSize());
+         NativeMatrix eigenvalues = new NativeMatrix(1, 1);
+         solver.getEigenvalues(eigenvalues);
+         MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(expectedValues), eigenvalues, epsilon);
+         assertThrows(IllegalStateException.class, () -> solver.getEigenvectors(new NativeMatrix(1, 1)));
+      }
+   }
+
+   @Test
+   public void testEigenvectors()
+   {
+      Random random = new Random(7646L);
+      NativeEigenSolver solver = new NativeEigenSolver();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetric(size, -10.0, 10.0, random);
+
+         assertTrue(solver.compute(new NativeMatrix(A)));
+         NativeMatrix nativeValues = new NativeMatrix(1, 1);
+         NativeMatrix nativeVectors = new NativeMatrix(1, 1);
+         solver.getEigenvalues(nativeValues);
+         solver.getEigenvectors(nativeVectors);
+         DMatrixRMaj D = new DMatrixRMaj(1, 1);
+         DMatrixRMaj V = new DMatrixRMaj(1, 1);
+         nativeValues.get(D);
+         nativeVectors.get(V);
+
+         // A * V == V * D and V' * V == I
+         DMatrixRMaj AV = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.mult(A, V, AV);
+         DMatrixRMaj VD = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.mult(V, CommonOps_DDRM.diag(D.data), VD);
+         MatrixTestTools.assertMatrixEquals(AV, VD, 1.0e-7);
+
+         DMatrixRMaj VtV = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.multTransA(V, V, VtV);
+         MatrixTestTools.assertMatrixEquals(CommonOps_DDRM.identity(size), VtV, epsilon);
+      }
+   }
+
+   @Test
+   public void testSquareRoot()
+   {
+      Random random = new Random(7647L);
+      NativeEigenSolver solver = new NativeEigenSolver();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(size, random);
+         CommonOps_DDRM.addEquals(A, 0.1, CommonOps_DDRM.identity(size));
+
+         assertTrue(solver.compute(new NativeMatrix(A)));
+         NativeMatrix nativeSqrt = new NativeMatrix(1, 1);
+         NativeMatrix nativeInverseSqrt = new NativeMatrix(1, 1);
+         solver.getSquareRoot(nativeSqrt);
+         solver.getInverseSquareRoot(nativeInverseSqrt);
+         DMatrixRMaj sqrt = new DMatrixRMaj(1, 1);
+         DMatrixRMaj inverseSqrt = new DMatrixRMaj(1, 1);
+         nativeSqrt.get(sqrt);
+         nativeInverseSqrt.get(inverseSqrt);
+
+         DMatrixRMaj product = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.mult(sqrt, sqrt, product);
+         MatrixTestTools.assertMatrixEquals(A, product, epsilon);
+         CommonOps_DDRM.mult(sqrt, inverseSqrt, product);
+         MatrixTestTools.assertMatrixEquals(CommonOps_DDRM.identity(size), product, 1.0e-7);
+      }
+   }
+
+   @Test
+   public void testSquareRootOfSemiDefinite()
+   {
+      Random random = new Random(7648L);
+      NativeEigenSolver solver = new NativeEigenSolver();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 2, maxSize);
+         int rank = RandomNumbers.nextInt(random, 1, size - 1);
+         // J' * J is singular, its zero eigenvalues come out slightly negative from round-off
+         DMatrixRMaj J = RandomMatrices_DDRM.rectangle(rank, size, random);
+         DMatrixRMaj A = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.multTransA(J, J, A);
+
+         assertTrue(solver.compute(new NativeMatrix(A)));
+         NativeMatrix nativeSqrt = new NativeMatrix(1, 1);
+         solver.getSquareRoot(nativeSqrt);
+         assertFalse(nativeSqrt.containsNaN());
+
+         DMatrixRMaj sqrt = new DMatrixRMaj(1, 1);
+         nativeSqrt.get(sqrt);
+         DMatrixRMaj product = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.mult(sqrt, sqrt, product);
+         MatrixTestTools.assertMatrixEquals(A, product, 1.0e-7);
+      }
+   }
+
+   @Test
+   public void testNoDecomposition()
+   {
+      NativeEigenSolver solver = new NativeEigenSolver();
+      assertThrows(IllegalStateException.class, () -> solver.getEigenvalues(new NativeMatrix(1, 1)));
+      assertThrows(IllegalStateException.class, () -> solver.getSquareRoot(new NativeMatrix(1, 1)));
+      assertThrows(IllegalArgumentException.class, () -> solver.compute(new NativeMatrix(2, 3)));
+      assertEquals(0, solver.getSize());
+   }
+}
@@ -0,0 +1,158 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeExprTest
+{
+   private static final int maxSize = 50;
+   private static final int iterations = 500;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSumOfProducts()
+   {
+      Random random = new Random(36L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 1, maxSize);
+         int cols = RandomNumbers.nextInt(random, 1, maxSize);
+         int inner1 = RandomNumbers.nextInt(random, 1, maxSize);
+         int inner2 = RandomNumbers.nextInt(random, 1, maxSize);
+
+         DMatrixRMaj a = RandomMatrices_DDRM.rectangle(rows, inner1, random);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(inner1, cols, random);
+         DMatrixRMaj d = RandomMatrices_DDRM.rectangle(rows, inner2, random);
+         DMatrixRMaj e = RandomMatrices_DDRM.rectangle(cols, inner2, random);
+         DMatrixRMaj f = RandomMatrices_DDRM.rectangle(rows, cols, random);
+
+         // c = a * b + d * e' - 2 f
+         DMatrixRMaj expected = new DMatrixRMaj(rows, cols);
+         CommonOps_DDRM.mult(a, b, expected);
+         CommonOps_DDRM.multAddTransB(d, e, expected);
+         CommonOps_DDRM.addEquals(expected, -2.0, f);
+
+         NativeMatrix nativeA = new NativeMatrix(a);
+         NativeMatrix nativeB = new NativeMatrix(b);
+         NativeMatrix nativeD = new NativeMatrix(d);
+         NativeMatrix nativeE = new NativeMatrix(e);
+         NativeMatrix nativeF = new NativeMatrix(f);
+         NativeExpr expression = NativeExpr.mult(nativeA, nativeB).plus(NativeExpr.multTransB(nativeD, nativeE)).minus(NativeExpr.of(nativeF).scale(2.0));
+         assertEquals(3, expression.getNumberOfTerms());
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         expression.assignTo(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         // The plan refers to the operands, a new evaluation uses their new values.
+         CommonOps_DDRM.scale(3.0, a);
+         nativeA.set(a);
+         CommonOps_DDRM.mult(a, b, expected);
+         CommonOps_DDRM.multAddTransB(d, e, expected);
+         CommonOps_DDRM.addEquals(expected, -2.0, f);
+         expression.assignTo(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testExpansion()
+   {
+      Random random = new Random(37L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 1, maxSize);
+         int cols = RandomNumbers.nextInt(random, 1, maxSize);
+         int inner1 = RandomNumbers.nextInt(random, 1, maxSize);
+         int inner2 = RandomNumbers.nextInt(random, 1, maxSize);
+
+         DMatrixRMaj a = RandomMatrices_DDRM.rectangle(rows, inner1, random);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(rows, inner1, random);
+         DMatrixRMaj c = RandomMatrices_DDRM.rectangle(inner2, inner1, random);
+         DMatrixRMaj d = RandomMatrices_DDRM.rectangle(inner2, cols, random);
+         DMatrixRMaj e = RandomMatrices_DDRM.rectangle(inner2, rows, random);
+
+         // ((a - b) * c')' = c * a' - c * b'
+         DMatrixRMaj aMinusB = new DMatrixRMaj(rows, inner1);
+         CommonOps_DDRM.subtract(a, b, aMinusB);
+         DMatrixRMaj expected = new DMatrixRMaj(inner2, rows);
+         CommonOps_DDRM.multTransB(c, aMinusB, expected);
+
+         NativeMatrix nativeA = new NativeMatrix(a);
+         NativeMatrix nativeB = new NativeMatrix(b);
+         NativeMatrix nativeC = new NativeMatrix(c);
+         NativeMatrix nativeD = new NativeMatrix(d);
+         NativeMatrix nativeE = new NativeMatrix(e);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+
+         NativeExpr difference = NativeExpr.of(nativeA).minus(nativeB);
+         NativeExpr expression = difference.mult(NativeExpr.of(nativeC).transpose()).transpose();
+         assertEquals(2, expression.getNumberOfTerms());
+         expression.assignTo(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         // Products of three matrices: (a - b)' * e' * d
+         DMatrixRMaj temp = new DMatrixRMaj(inner1, inner2);
+         CommonOps_DDRM.multTransAB(aMinusB, e, temp);
+         expected.reshape(inner1, cols);
+         CommonOps_DDRM.mult(temp, d, expected);
+
+         expression = difference.transpose().mult(NativeExpr.of(nativeE).transpose()).mult(nativeD);
+         expression.assignTo(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testResultAsOperand()
+   {
+      Random random = new Random(38L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj a = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj c = RandomMatrices_DDRM.rectangle(size, size, random);
+
+         // c = c * a + c
+         DMatrixRMaj expected = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.mult(c, a, expected);
+         CommonOps_DDRM.addEquals(expected, c);
+
+         NativeMatrix nativeC = new NativeMatrix(c);
+         NativeExpr.mult(nativeC, new NativeMatrix(a)).plus(nativeC).assignTo(nativeC);
+         MatrixTestTools.assertMatrixEquals(expected, nativeC, epsilon);
+      }
+   }
+
+   @Test
+   public void testIncompatibleDimensions()
+   {
+      NativeMatrix result = new NativeMatrix(1, 1);
+      NativeMatrix a = new NativeMatrix(3, 4);
+      NativeMatrix b = new NativeMatrix(4, 2);
+
+      assertThrows(IllegalArgumentException.class, () -> NativeExpr.mult(a, a).assignTo(result));
+      assertThrows(IllegalArgumentException.class, () -> NativeExpr.mult(a, b).plus(a).assignTo(result));
+
+      NativeExpr expression = NativeExpr.mult(a, b);
+      expression.assignTo(result);
+      assertEquals(3, result.getNumRows());
+      assertEquals(2, result.getNumCols());
+
+      // Operands reshaped after the expression was built are checked on every evaluation.
+      b.reshape(5, 2);
+      assertThrows(IllegalArgumentException.class, () -> expression.assignTo(result));
+   }
+}
@@ -0,0 +1,189 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.ejml.data.FMatrixRMaj;
+import org.ejml.dense.row.CommonOps_FDRM;
+import org.ejml.dense.row.RandomMatrices_FDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+import us.ihmc.euclid.matrix.Matrix3D;
+
+public class NativeFMatrixTest
+{
+   private static final int maxSize = 80;
+   private static final int iterations = 500;
+   private static final float epsilon = 1.0e-3f;
+
+   @Test
+   public void testSetAndGet()
+   {
+      Random random = new Random(98264L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 1, maxSize);
+         int cols = RandomNumbers.nextInt(random, 1, maxSize);
+         FMatrixRMaj expected = RandomMatrices_FDRM.rectangle(rows, cols, random);
+         FMatrixRMaj actual = new FMatrixRMaj(1, 1);
+
+         NativeFMatrix nativeMatrix = new NativeFMatrix(expected);
+         nativeMatrix.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, 0.0);
+         MatrixTestTools.assertMatrixEquals(expected, nativeMatrix, 0.0);
+
+         int row = RandomNumbers.nextInt(random, 0, rows - 1);
+         int col = RandomNumbers.nextInt(random, 0, cols - 1);
+         float value = random.nextFloat();
+         expected.set(row, col, value);
+         nativeMatrix.set(row, col, value);
+         assertEquals(value, nativeMatrix.get(row, col));
+
+         assertThrows(IllegalArgumentException.class, () -> nativeMatrix.get(rows, 0));
+         assertThrows(IllegalArgumentException.class, () -> nativeMatrix.set(0, cols, 1.0f));
+      }
+   }
+
+   @Test
+   public void testAddAndScale()
+   {
+      Random random = new Random(1321L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 1, maxSize);
+         int cols = RandomNumbers.nextInt(random, 1, maxSize);
+         float scale = random.nextFloat();
+         FMatrixRMaj A = RandomMatrices_FDRM.rectangle(rows, cols, random);
+         FMatrixRMaj B = RandomMatrices_FDRM.rectangle(rows, cols, random);
+         FMatrixRMaj expected = new FMatrixRMaj(rows, cols);
+
+         NativeFMatrix nativeA = new NativeFMatrix(A);
+         NativeFMatrix nativeB = new NativeFMatrix(B);
+         NativeFMatrix actual = new NativeFMatrix(1, 1);
+
+         CommonOps_FDRM.add(A, scale, B, expected);
+         actual.add(nativeA, scale, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_FDRM.subtract(A, B, expected);
+         actual.subtract(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_FDRM.scale(scale, A, expected);
+         actual.scale(scale, nativeA);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> actual.add(nativeA, new NativeFMatrix(rows + 1, cols)));
+      }
+   }
+
+   @Test
+   public void testMult()
+   {
+      Random random = new Random(40L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = RandomNumbers.nextInt(random, 1, maxSize);
+         int aCols = RandomNumbers.nextInt(random, 1, maxSize);
+         int bCols = RandomNumbers.nextInt(random, 1, maxSize);
+         FMatrixRMaj A = RandomMatrices_FDRM.rectangle(aRows, aCols, random);
+         FMatrixRMaj B = RandomMatrices_FDRM.rectangle(aCols, bCols, random);
+         FMatrixRMaj expected = new FMatrixRMaj(aRows, bCols);
+
+         NativeFMatrix nativeA = new NativeFMatrix(A);
+         NativeFMatrix nativeB = new NativeFMatrix(B);
+         NativeFMatrix actual = new NativeFMatrix(1, 1);
+
+         CommonOps_FDRM.mult(A, B, expected);
+         actual.mult(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         FMatrixRMaj C = RandomMatrices_FDRM.rectangle(aRows, bCols, random);
+         FMatrixRMaj expectedTransA = new FMatrixRMaj(aCols, bCols);
+         CommonOps_FDRM.multTransA(A, C, expectedTransA);
+         actual.multTransA(nativeA, new NativeFMatrix(C));
+         MatrixTestTools.assertMatrixEquals(expectedTransA, actual, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> actual.mult(nativeA, new NativeFMatrix(aCols + 1, bCols)));
+      }
+   }
+
+   @Test
+   public void testMultQuad()
+   {
+      Random random = new Random(41L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = RandomNumbers.nextInt(random, 1, maxSize);
+         int aCols = RandomNumbers.nextInt(random, 1, maxSize);
+         FMatrixRMaj A = RandomMatrices_FDRM.rectangle(aRows, aCols, random);
+         FMatrixRMaj B = RandomMatrices_FDRM.rectangle(aRows, aRows, random);
+         FMatrixRMaj tempBA = new FMatrixRMaj(aRows, aCols);
+         FMatrixRMaj expected = new FMatrixRMaj(aCols, aCols);
+         CommonOps_FDRM.mult(B, A, tempBA);
+         CommonOps_FDRM.multTransA(A, tempBA, expected);
+
+         NativeFMatrix actual = new NativeFMatrix(1, 1);
+         actual.multQuad(new NativeFMatrix(A), new NativeFMatrix(B));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon * aRows);
+      }
+   }
+
+   @Test
+   public void testSolveAndInvert()
+   {
+      Random random = new Random(42L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, 20);
+         FMatrixRMaj A = RandomMatrices_FDRM.symmetricPosDef(size, random);
+         FMatrixRMaj x = RandomMatrices_FDRM.rectangle(size, 1, random);
+         FMatrixRMaj b = new FMatrixRMaj(size, 1);
+         CommonOps_FDRM.mult(A, x, b);
+
+         NativeFMatrix nativeA = new NativeFMatrix(A);
+         NativeFMatrix actual = new NativeFMatrix(1, 1);
+         actual.solve(nativeA, new NativeFMatrix(b));
+         MatrixTestTools.assertMatrixEquals(x, actual, 1.0e-2);
+
+         FMatrixRMaj expectedInverse = new FMatrixRMaj(size, size);
+         CommonOps_FDRM.invert(A, expectedInverse);
+         actual.invert(nativeA);
+         MatrixTestTools.assertMatrixEquals(expectedInverse, actual, 1.0e-2);
+      }
+   }
+
+   @Test
+   public void testInsertMatrix3D()
+   {
+      Random random = new Random(124L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         Matrix3D matrix = new Matrix3D(random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                                        random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                                        random.nextDouble(), random.nextDouble(), random.nextDouble());
+
+         NativeFMatrix actual = new NativeFMatrix(10, 10);
+         int startRow = RandomNumbers.nextInt(random, 0, 7);
+         int startCol = RandomNumbers.nextInt(random, 0, 7);
+         actual.insert(matrix, startRow, startCol);
+
+         for (int row = 0; row < 3; row++)
+         {
+            for (int col = 0; col < 3; col++)
+            {
+               assertEquals((float) matrix.getElement(row, col), actual.get(startRow + row, startCol + col));
+            }
+         }
+      }
+   }
+}
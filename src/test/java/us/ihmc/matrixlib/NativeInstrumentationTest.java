@@ -0,0 +1,104 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Random;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class NativeInstrumentationTest
+{
+   @AfterEach
+   public void disable()
+   {
+      NativeInstrumentation.setEnabled(false);
+      NativeInstrumentation.reset();
+   }
+
+   @Test
+   public void testCounts()
+   {
+      Random random = new Random(61L);
+      NativeMatrix A = new NativeMatrix(RandomMatrices_DDRM.rectangle(20, 30, random));
+      NativeMatrix B = new NativeMatrix(RandomMatrices_DDRM.rectangle(30, 10, random));
+      NativeMatrix C = new NativeMatrix(1, 1);
+      NativeMatrix S = new NativeMatrix(RandomMatrices_DDRM.symmetricPosDef(15, random));
+
+      NativeInstrumentation.reset();
+      assertFalse(NativeInstrumentation.isEnabled());
+
+      // Nothing is measured while disabled.
+      C.mult(A, B);
+      assertEquals(0, NativeInstrumentation.getStatistics(NativeOperation.MULT).getCallCount());
+
+      NativeInstrumentation.setEnabled(true);
+      assertTrue(NativeInstrumentation.isEnabled());
+      for (int i = 0; i < 5; i++)
+      {
+         C.mult(A, B);
+      }
+      C.invert(S);
+      C.invert(S);
+
+      Map<NativeOperation, NativeOperationStatistics> snapshot = NativeInstrumentation.getSnapshot();
+      assertEquals(NativeOperation.values().length, snapshot.size());
+
+      NativeOperationStatistics mult = snapshot.get(NativeOperation.MULT);
+      assertEquals(5, mult.getCallCount());
+      assertTrue(mult.getTotalNanoseconds() >= mult.getMaxNanoseconds());
+      assertTrue(mult.getMaxNanoseconds() > 0);
+      assertEquals(20, mult.getMaxRows());
+      assertEquals(30, mult.getMaxCols());
+
+      NativeOperationStatistics invert = snapshot.get(NativeOperation.INVERT);
+      assertEquals(2, invert.getCallCount());
+      assertEquals(15, invert.getMaxRows());
+      assertEquals(15, invert.getMaxCols());
+
+      assertEquals(0, snapshot.get(NativeOperation.KALMAN_GAIN).getCallCount());
+      assertEquals(0.0, snapshot.get(NativeOperation.KALMAN_GAIN).getAverageNanoseconds());
+
+      NativeInstrumentation.reset();
+      assertEquals(0, NativeInstrumentation.getStatistics(NativeOperation.MULT).getCallCount());
+      assertEquals(0, NativeInstrumentation.getStatistics(NativeOperation.MULT).getMaxRows());
+   }
+
+   @Test
+   public void testMBean() throws Exception
+   {
+      ObjectName name = NativeInstrumentation.registerMBean();
+      try
+      {
+         // Registering twice is harmless.
+         assertEquals(name, NativeInstrumentation.registerMBean());
+
+         MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+         assertEquals(false, server.getAttribute(name, "Enabled"));
+         server.invoke(name, "setEnabled", new Object[] {true}, new String[] {boolean.class.getName()});
+         assertTrue(NativeInstrumentation.isEnabled());
+
+         NativeMatrix A = new NativeMatrix(RandomMatrices_DDRM.rectangle(4, 4, new Random(62L)));
+         NativeMatrix C = new NativeMatrix(4, 4);
+         C.mult(A, A);
+
+         CompositeData[] statistics = (CompositeData[]) server.getAttribute(name, "Statistics");
+         assertEquals(NativeOperation.values().length, statistics.length);
+         assertEquals(NativeOperation.MULT.name(), statistics[0].get("operation"));
+         assertEquals(1L, statistics[0].get("callCount"));
+      }
+      finally
+      {
+         NativeInstrumentation.unregisterMBean();
+      }
+   }
+}
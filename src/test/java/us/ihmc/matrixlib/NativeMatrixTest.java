@@ -6,15 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.Random;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import org.ejml.data.DMatrix;
 import org.ejml.data.DMatrix3x3;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.Matrix;
 import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.dense.row.NormOps_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.SingularOps_DDRM;
 import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
 import org.ejml.interfaces.linsol.LinearSolverDense;
 import org.ejml.ops.ConvertDMatrixStruct;
@@ -619,6 +624,153 @@ public class NativeMatrixTest
       }
    }
 
+   @Test
+   public void testPseudoInverse()
+   {
+      Random random = new Random(41L);
+
+      System.out.println("Testing pseudo-inverse with random matrices...");
+
+      nativeTime = 0;
+      ejmlTime = 0;
+      double matrixSizes = 0;
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize / 2) + 1;
+         int aCols = random.nextInt(maxSize / 2) + 1;
+         matrixSizes += (aRows + aCols) / 2.0;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, -100.0, 100.0, random);
+         DMatrixRMaj nativeResult = new DMatrixRMaj(aCols, aRows);
+         DMatrixRMaj ejmlResult = new DMatrixRMaj(aCols, aRows);
+
+         NativeMatrix nativeA = new NativeMatrix(aRows, aCols);
+         NativeMatrix nativeB = new NativeMatrix(aCols, aRows);
+
+         nativeTime -= System.nanoTime();
+         nativeA.set(A);
+         nativeB.pseudoInverse(nativeA, 1.0e-10);
+         nativeB.get(nativeResult);
+         nativeTime += System.nanoTime();
+
+         ejmlTime -= System.nanoTime();
+         CommonOps_DDRM.pinv(A, ejmlResult);
+         ejmlTime += System.nanoTime();
+
+         MatrixTestTools.assertMatrixEquals(ejmlResult, nativeResult, epsilon);
+      }
+
+      printTimings(nativeTime, ejmlTime, matrixSizes, iterations);
+      System.out.println("--------------------------------------------------------------");
+   }
+
+   @Test
+   public void testSingularValues()
+   {
+      Random random = new Random(42L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize / 2) + 1;
+         int aCols = random.nextInt(maxSize / 2) + 1;
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, -100.0, 100.0, random);
+
+         double[] singularValues = SingularOps_DDRM.singularValues(A);
+         Arrays.sort(singularValues);
+         DMatrixRMaj expected = new DMatrixRMaj(Math.min(aRows, aCols), 1);
+         for (int j = 0; j < expected.getNumRows(); j++)
+         {
+            expected.set(j, 0, singularValues[singularValues.length - 1 - j]);
+         }
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         actual.singularValues(new NativeMatrix(A));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testMatrixExponential()
+   {
+      Random random = new Random(43L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize / 4) + 1;
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, -2.0, 2.0, random);
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         assertTrue(actual.matrixExponential(new NativeMatrix(A)));
+         MatrixTestTools.assertMatrixEquals(taylorExponential(A), actual, 1.0e-7);
+      }
+
+      { // Rotation generator
+         double angle = RandomNumbers.nextDouble(random, Math.PI);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         actual.matrixExponential(new NativeMatrix(new DMatrixRMaj(new double[][] {{0.0, -angle}, {angle, 0.0}})));
+         DMatrixRMaj expected = new DMatrixRMaj(new double[][] {{Math.cos(angle), -Math.sin(angle)}, {Math.sin(angle), Math.cos(angle)}});
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      { // Test exception
+         NativeMatrix nativeMatrix = new NativeMatrix(3, 3);
+         assertThrows(IllegalArgumentException.class, () -> nativeMatrix.matrixExponential(nativeMatrix));
+         assertThrows(IllegalArgumentException.class, () -> nativeMatrix.matrixExponential(new NativeMatrix(3, 2)));
+      }
+   }
+
+   /**
+    * Reference matrix exponential using scaling and squaring with a truncated Taylor series.
+    */
+   private static DMatrixRMaj taylorExponential(DMatrixRMaj A)
+   {
+      int squarings = Math.max(0, (int) Math.ceil(Math.log(CommonOps_DDRM.elementMaxAbs(A) * A.getNumRows() + 1.0) / Math.log(2.0)) + 1);
+      DMatrixRMaj scaled = A.copy();
+      CommonOps_DDRM.scale(1.0 / Math.pow(2.0, squarings), scaled);
+
+      DMatrixRMaj result = CommonOps_DDRM.identity(A.getNumRows());
+      DMatrixRMaj term = CommonOps_DDRM.identity(A.getNumRows());
+      DMatrixRMaj temp = new DMatrixRMaj(A.getNumRows(), A.getNumCols());
+      for (int k = 1; k < 30; k++)
+      {
+         CommonOps_DDRM.mult(1.0 / k, term, scaled, temp);
+         term.set(temp);
+         CommonOps_DDRM.addEquals(result, term);
+      }
+
+      for (int i = 0; i < squarings; i++)
+      {
+         CommonOps_DDRM.mult(result, result, temp);
+         result.set(temp);
+      }
+      return result;
+   }
+
+   @Test
+   public void testMatrixSquareRoot()
+   {
+      Random random = new Random(44L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize / 4) + 1;
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(size, random);
+         CommonOps_DDRM.addEquals(A, 0.1, CommonOps_DDRM.identity(size));
+
+         NativeMatrix nativeA = new NativeMatrix(A);
+         NativeMatrix nativeSqrt = new NativeMatrix(1, 1);
+         assertTrue(nativeSqrt.matrixSquareRoot(nativeA));
+
+         NativeMatrix product = new NativeMatrix(1, 1);
+         product.mult(nativeSqrt, nativeSqrt);
+         MatrixTestTools.assertMatrixEquals(A, product, epsilon);
+      }
+
+      // -1 has no real square root
+      assertFalse(new NativeMatrix(1, 1).matrixSquareRoot(new NativeMatrix(new DMatrixRMaj(new double[][] {{-1.0}}))));
+   }
+
    @Test
    public void testRemoveRow()
    {
@@ -678,6 +830,133 @@ public class NativeMatrixTest
       }
    }
 
+   @Test
+   public void testRemoveRowsAndColumns()
+   {
+      Random random = new Random(41L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, -100.0, 100.0, random);
+         DMatrixRMaj nativeResult = new DMatrixRMaj(1, 1);
+         NativeMatrix nativeA = new NativeMatrix(A);
+
+         int[] rows = nextIncreasingIndices(random, aRows);
+         int[] cols = nextIncreasingIndices(random, aCols);
+
+         nativeA.removeRows(rows);
+         nativeA.removeColumns(cols);
+         nativeA.get(nativeResult);
+
+         MatrixTools.removeRows(A, rows);
+         MatrixTools.removeColumns(A, cols);
+
+         MatrixTestTools.assertMatrixEquals(A, nativeResult, 0.0);
+      }
+
+      NativeMatrix nativeMatrix = new NativeMatrix(20, 20);
+      assertDoesNotThrow(() -> nativeMatrix.removeRows(new int[] {0, 19}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.removeRows(new int[] {3, 2}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.removeRows(new int[] {18}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.removeColumns(new int[] {1, 1}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.removeColumns(new int[] {1}, 2));
+   }
+
+   @Test
+   public void testAppendRowsAndColumns()
+   {
+      Random random = new Random(42L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize);
+         int aCols = random.nextInt(maxSize) + 1;
+         int bRows = random.nextInt(maxSize);
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, -100.0, 100.0, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(bRows, aCols, -100.0, 100.0, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(aRows + 2 * bRows, 3, -100.0, 100.0, random);
+         DMatrixRMaj nativeResult = new DMatrixRMaj(1, 1);
+
+         NativeMatrix nativeA = new NativeMatrix(A);
+         nativeA.appendRows(new NativeMatrix(B));
+         nativeA.appendRows(B);
+         nativeA.appendColumns(C);
+         nativeA.appendColumns(new NativeMatrix(C));
+         nativeA.get(nativeResult);
+
+         DMatrixRMaj expected = CommonOps_DDRM.concatRowsMulti(A, B, B);
+         expected = CommonOps_DDRM.concatColumnsMulti(expected, C, C);
+
+         MatrixTestTools.assertMatrixEquals(expected, nativeResult, 0.0);
+
+         nativeA.appendRows(nativeA);
+         expected = CommonOps_DDRM.concatRowsMulti(expected, expected);
+         nativeA.get(nativeResult);
+         MatrixTestTools.assertMatrixEquals(expected, nativeResult, 0.0);
+      }
+
+      NativeMatrix empty = new NativeMatrix(0, 0);
+      empty.appendColumns(new DMatrixRMaj(4, 2));
+      assertEquals(4, empty.getNumRows());
+      assertEquals(2, empty.getNumCols());
+
+      NativeMatrix nativeMatrix = new NativeMatrix(5, 5);
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.appendRows(new NativeMatrix(1, 4)));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.appendColumns(new DMatrixRMaj(4, 1)));
+   }
+
+   private static int[] nextIncreasingIndices(Random random, int size)
+   {
+      return IntStream.range(0, size).filter(index -> random.nextBoolean()).toArray();
+   }
+
+   @Test
+   public void testSelectAndScatterAddRows()
+   {
+      Random random = new Random(43L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, -100.0, 100.0, random);
+         int[] rows = random.ints(random.nextInt(maxSize), 0, aRows).toArray();
+         int[] cols = random.ints(random.nextInt(maxSize), 0, aCols).toArray();
+
+         DMatrixRMaj expected = new DMatrixRMaj(rows.length, cols.length);
+         MatrixTools.getMatrixBlock(expected, A, rows, cols);
+
+         NativeMatrix nativeA = new NativeMatrix(A);
+         NativeMatrix nativeB = new NativeMatrix(1, 1);
+         nativeB.selectRows(nativeA, rows);
+         nativeB.selectColumns(nativeB, cols);
+         MatrixTestTools.assertMatrixEquals(expected, nativeB, 0.0);
+
+         nativeB.selectColumns(nativeA, cols);
+         nativeB.selectRows(nativeB, rows);
+         MatrixTestTools.assertMatrixEquals(expected, nativeB, 0.0);
+
+         DMatrixRMaj rowsToAdd = RandomMatrices_DDRM.rectangle(rows.length, aCols, -100.0, 100.0, random);
+         DMatrixRMaj expectedSum = new DMatrixRMaj(A);
+         MatrixTools.addRows(IntStream.range(0, rows.length).toArray(), rowsToAdd, rows, expectedSum);
+
+         nativeA.scatterAddRows(new NativeMatrix(rowsToAdd), rows);
+         MatrixTestTools.assertMatrixEquals(expectedSum, nativeA, 1.0e-10);
+      }
+
+      NativeMatrix nativeMatrix = new NativeMatrix(5, 4);
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.selectRows(nativeMatrix, new int[] {5}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.selectColumns(nativeMatrix, new int[] {-1}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.selectRows(nativeMatrix, new int[] {0}, 2));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.scatterAddRows(new NativeMatrix(2, 4), new int[] {0}));
+      assertThrows(IllegalArgumentException.class, () -> nativeMatrix.scatterAddRows(new NativeMatrix(1, 4), new int[] {5}));
+   }
+
    @Test
    public void testRemoveColumn()
    {
@@ -815,6 +1094,126 @@ public class NativeMatrixTest
       }
    }
 
+   @Test
+   public void testSolveSPDAndTriangular()
+   {
+      Random random = new Random(41L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, 50);
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(size, random);
+         CommonOps_DDRM.addEquals(A, 0.1, CommonOps_DDRM.identity(size));
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, RandomNumbers.nextInt(random, 1, 10), random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.solve(A, b, expected);
+
+         NativeMatrix nativeA = new NativeMatrix(A);
+         NativeMatrix nativeb = new NativeMatrix(b);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         assertTrue(actual.solveSPD(nativeA, nativeb));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         assertTrue(actual.solveSymmetric(nativeA, nativeb));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         // In place with the right-hand side
+         actual.set(b);
+         assertTrue(actual.solveSPD(nativeA, actual));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj expectedInverse = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.invert(A, expectedInverse);
+         assertTrue(actual.invertSPD(nativeA));
+         MatrixTestTools.assertMatrixEquals(expectedInverse, actual, epsilon);
+
+         DMatrixRMaj L = RandomMatrices_DDRM.triangularLower(size, 0, -1.0, 1.0, random);
+         for (int j = 0; j < size; j++)
+            L.set(j, j, RandomNumbers.nextDouble(random, 1.0, 2.0));
+         DMatrixRMaj U = CommonOps_DDRM.transpose(L, null);
+
+         CommonOps_DDRM.solve(L, b, expected);
+         assertTrue(actual.solveLowerTriangular(new NativeMatrix(L), nativeb));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.solve(U, b, expected);
+         assertTrue(actual.solveUpperTriangular(new NativeMatrix(U), nativeb));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      NativeMatrix indefinite = new NativeMatrix(CommonOps_DDRM.diag(1.0, -1.0, 1.0));
+      NativeMatrix b = new NativeMatrix(3, 1);
+      b.fillBlock(0, 0, 3, 1, 1.0);
+      NativeMatrix x = new NativeMatrix(2, 2);
+      assertFalse(x.solveSPD(indefinite, b));
+      assertEquals(2, x.getNumRows());
+      assertFalse(x.invertSPD(indefinite));
+      assertTrue(x.solveSymmetric(indefinite, b));
+
+      // J' * J with a rank-deficient J, its smallest pivots are round-off rather than zeros
+      DMatrixRMaj J = RandomMatrices_DDRM.rectangle(2, 3, random);
+      DMatrixRMaj JtJ = new DMatrixRMaj(3, 3);
+      CommonOps_DDRM.multTransA(J, J, JtJ);
+      x.reshape(2, 2);
+      assertFalse(x.solveSymmetric(new NativeMatrix(JtJ), b));
+      assertEquals(2, x.getNumRows());
+
+      NativeMatrix singularTriangular = new NativeMatrix(CommonOps_DDRM.diag(1.0, 0.0, 1.0));
+      assertFalse(x.solveLowerTriangular(singularTriangular, b));
+      assertFalse(x.solveUpperTriangular(singularTriangular, b));
+
+      Class<IllegalArgumentException> expectedType = IllegalArgumentException.class;
+      assertThrows(expectedType, () -> new NativeMatrix(1, 1).solveSPD(new NativeMatrix(3, 2), new NativeMatrix(3, 1)));
+      assertThrows(expectedType, () -> new NativeMatrix(1, 1).solveSymmetric(new NativeMatrix(3, 3), new NativeMatrix(2, 1)));
+      assertThrows(expectedType, () -> new NativeMatrix(1, 1).invertSPD(new NativeMatrix(3, 2)));
+      assertThrows(expectedType, () -> x.solveLowerTriangular(x, b));
+      assertThrows(expectedType, () -> new NativeMatrix(1, 1).solveUpperTriangular(new NativeMatrix(3, 3), new NativeMatrix(2, 1)));
+   }
+
+   @Test
+   public void testSolveCheckAndRcond()
+   {
+      Random random = new Random(42L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, 30);
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, 1, random);
+
+         // The estimate is a lower bound of the norm of the inverse
+         double expectedRcond = 1.0 / NormOps_DDRM.conditionP(A, 1);
+         double rcond = new NativeMatrix(A).rcond();
+         assertTrue(rcond >= expectedRcond * (1.0 - 1.0e-8), rcond + " < " + expectedRcond);
+         assertTrue(rcond <= 1.0);
+
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.solve(A, b, expected);
+         NativeMatrix x = new NativeMatrix(1, 1);
+         assertTrue(x.solveCheck(new NativeMatrix(A), new NativeMatrix(b)));
+         MatrixTestTools.assertMatrixEquals(expected, x, 1.0e-6);
+
+         assertTrue(x.solveCheck(new NativeMatrix(A), new NativeMatrix(b), 0.5 * rcond));
+         assertFalse(x.solveCheck(new NativeMatrix(A), new NativeMatrix(b), rcond));
+         assertTrue(x.containsNaN());
+
+         // A repeated column makes the matrix singular
+         if (size > 1)
+         {
+            for (int row = 0; row < size; row++)
+               A.set(row, size - 1, A.get(row, 0));
+            NativeMatrix singular = new NativeMatrix(A);
+            assertFalse(x.solveCheck(singular, new NativeMatrix(b)));
+            assertTrue(x.containsNaN());
+            assertTrue(singular.rcond() < 1.0e-12);
+         }
+      }
+
+      assertEquals(1.0, new NativeMatrix(CommonOps_DDRM.identity(4)).rcond(), 1.0e-12);
+      assertThrows(IllegalArgumentException.class, () -> new NativeMatrix(3, 2).rcond());
+      assertThrows(IllegalArgumentException.class, () -> new NativeMatrix(1, 1).solveCheck(new NativeMatrix(3, 3), new NativeMatrix(2, 1), 1.0e-6));
+   }
+
    private static void printTimings(long nativeTotalTime, long ejmlTotalTime, double summedMatrixSizes, int iterations)
    {
       System.out.println("Native took " + Conversions.nanosecondsToMilliseconds((double) (nativeTotalTime / iterations)) + " ms on average");
@@ -1703,6 +2102,155 @@ public class NativeMatrixTest
       }
    }
 
+   @Test
+   public void testFixedSizeOperations()
+   {
+      Random random = new Random(3663L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextBoolean() ? 3 : 6;
+         int cols = RandomNumbers.nextInt(random, 1, 30);
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj J = RandomMatrices_DDRM.rectangle(size, cols, random);
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         DMatrixRMaj tempBJ = new DMatrixRMaj(1, 1);
+
+         NativeMatrix nativeA = new NativeMatrix(A);
+         NativeMatrix nativeB = new NativeMatrix(B);
+         NativeMatrix nativeJ = new NativeMatrix(J);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+
+         CommonOps_DDRM.mult(A, B, expected);
+         actual.mult(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.multAdd(A, B, expected);
+         actual.multAdd(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.mult(A, J, expected);
+         actual.mult(nativeA, nativeJ);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.multTransA(A, B, expected);
+         actual.multTransA(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.multTransA(J, A, expected);
+         actual.multTransA(nativeJ, nativeA);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.multTransB(A, B, expected);
+         actual.multTransB(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.mult(B, J, tempBJ);
+         CommonOps_DDRM.multTransA(J, tempBJ, expected);
+         actual.multQuad(nativeJ, nativeB);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.invert(A, expected);
+         actual.invert(nativeA);
+         MatrixTestTools.assertMatrixEquals(expected, actual, 1.0e-6);
+      }
+   }
+
+   @Test
+   public void testMatrix3DOperations()
+   {
+      Random random = new Random(3664L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         Matrix3D matrix = new Matrix3D();
+         matrix.set(RandomMatrices_DDRM.rectangle(3, 3, random));
+         DMatrixRMaj matrixDense = new DMatrixRMaj(3, 3);
+         matrix.get(matrixDense);
+
+         int cols = RandomNumbers.nextInt(random, 1, 30);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(3, cols, random);
+         DMatrixRMaj expected = new DMatrixRMaj(3, cols);
+         CommonOps_DDRM.mult(matrixDense, B, expected);
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         actual.mult(matrix, new NativeMatrix(B));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         actual.set(matrix);
+         MatrixTestTools.assertMatrixEquals(matrixDense, actual, epsilon);
+
+         NativeMatrix container = new NativeMatrix(RandomMatrices_DDRM.rectangle(20, 20, random));
+         int startRow = RandomNumbers.nextInt(random, 0, 17);
+         int startCol = RandomNumbers.nextInt(random, 0, 17);
+         container.insert(matrix, startRow, startCol);
+         Matrix3D extracted = new Matrix3D();
+         container.get(startRow, startCol, extracted);
+         extracted.get(matrixDense);
+         DMatrixRMaj expectedBlock = new DMatrixRMaj(3, 3);
+         matrix.get(expectedBlock);
+         MatrixTestTools.assertMatrixEquals(expectedBlock, matrixDense, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> container.get(18, 0, extracted));
+         assertThrows(IllegalArgumentException.class, () -> actual.mult(matrix, new NativeMatrix(4, 2)));
+      }
+   }
+
+   @Test
+   public void testInsertSpatial()
+   {
+      Random random = new Random(3665L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         Matrix3D[] blocks = new Matrix3D[4];
+         DMatrixRMaj expected = new DMatrixRMaj(20, 20);
+         NativeMatrix actual = new NativeMatrix(20, 20);
+
+         int startRow = RandomNumbers.nextInt(random, 0, 14);
+         int startCol = RandomNumbers.nextInt(random, 0, 14);
+
+         for (int blockIndex = 0; blockIndex < 4; blockIndex++)
+         {
+            blocks[blockIndex] = new Matrix3D();
+            blocks[blockIndex].set(RandomMatrices_DDRM.rectangle(3, 3, random));
+            blocks[blockIndex].get(startRow + 3 * (blockIndex / 2), startCol + 3 * (blockIndex % 2), expected);
+         }
+
+         actual.insertSpatial(blocks[0], blocks[1], blocks[2], blocks[3], startRow, startCol);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         actual.setSpatial(blocks[0], blocks[1], blocks[2], blocks[3]);
+         assertEquals(6, actual.getNumRows());
+         assertEquals(6, actual.getNumCols());
+         MatrixTestTools.assertMatrixEquals(CommonOps_DDRM.extract(expected, startRow, startRow + 6, startCol, startCol + 6), actual, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> actual.insertSpatial(blocks[0], blocks[1], blocks[2], blocks[3], 1, 0));
+      }
+   }
+
+   @Test
+   public void testConcurrentMatrix3DReads()
+   {
+      Random random = new Random(3666L);
+      DMatrixRMaj dense = RandomMatrices_DDRM.rectangle(20, 20, random);
+      NativeMatrix shared = new NativeMatrix(dense);
+
+      // Every task reads the same matrix, going through the buffer used to exchange 3x3 blocks.
+      assertTrue(IntStream.range(0, 10000).parallel().allMatch(i ->
+      {
+         int startRow = i % 18;
+         int startCol = (i / 18) % 18;
+         Matrix3D extracted = new Matrix3D();
+         shared.get(startRow, startCol, extracted);
+         DMatrixRMaj actual = new DMatrixRMaj(3, 3);
+         extracted.get(actual);
+         return MatrixFeatures_DDRM.isIdentical(CommonOps_DDRM.extract(dense, startRow, startRow + 3, startCol, startCol + 3), actual, 0.0);
+      }));
+   }
+
    @Test
    public void testMultScale()
    {
@@ -2063,6 +2611,32 @@ public class NativeMatrixTest
       }
    }
 
+   @Test
+   public void testSetAndGetTransposed()
+   {
+      Random random = new Random(125L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int Arows = RandomNumbers.nextInt(random, 0, 100);
+         int Acols = RandomNumbers.nextInt(random, 0, 100);
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(Arows, Acols, random);
+         DMatrixRMaj expected = new DMatrixRMaj(Acols, Arows);
+         CommonOps_DDRM.transpose(A, expected);
+
+         NativeMatrix nativeA = new NativeMatrix(1, 1);
+         nativeA.setTransposed(A);
+
+         DMatrixRMaj B = new DMatrixRMaj(1, 1);
+         nativeA.get(B);
+         MatrixTestTools.assertMatrixEquals(expected, B, 0.0);
+
+         nativeA.getTransposed(B);
+         MatrixTestTools.assertMatrixEquals(A, B, 0.0);
+      }
+   }
+
    @Test
    public void testSize()
    {
@@ -2082,6 +2656,41 @@ public class NativeMatrixTest
          }
       }
    }
+
+   @Test
+   public void testReserveAndTrimToSize()
+   {
+      Random random = new Random(124L);
+      DMatrixRMaj A = RandomMatrices_DDRM.rectangle(4, 5, random);
+      NativeMatrix nativeA = new NativeMatrix(A);
+      assertEquals(20, nativeA.getCapacity());
+
+      nativeA.reserve(100);
+      assertEquals(100, nativeA.getCapacity());
+      MatrixTestTools.assertMatrixEquals(A, nativeA, 0.0);
+
+      // Reshaping within the reserved capacity keeps the storage.
+      nativeA.reshape(10, 10);
+      assertEquals(100, nativeA.getCapacity());
+      nativeA.reshape(2, 3);
+      assertEquals(100, nativeA.getCapacity());
+
+      // Growing past the capacity grows geometrically.
+      nativeA.reshape(11, 10);
+      assertTrue(nativeA.getCapacity() >= 150);
+
+      nativeA.set(A);
+      nativeA.trimToSize();
+      assertEquals(20, nativeA.getCapacity());
+      MatrixTestTools.assertMatrixEquals(A, nativeA, 0.0);
+
+      // Reserving less than the current capacity does nothing.
+      nativeA.reserve(5);
+      assertEquals(20, nativeA.getCapacity());
+      MatrixTestTools.assertMatrixEquals(A, nativeA, 0.0);
+
+      assertThrows(IllegalArgumentException.class, () -> nativeA.reserve(-1));
+   }
    
    
    @Test
@@ -0,0 +1,141 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.Conversions;
+
+public class NativeMatrixThreadingTest
+{
+   private static final int[] benchmarkSizes = {50, 100, 250, 500, 1000};
+   private static final long benchmarkDurationPerCaseInNanoseconds = 200000000L;
+
+   @AfterEach
+   public void resetMaxThreads()
+   {
+      NativeMatrixThreading.setMaxThreads(1);
+   }
+
+   @Test
+   public void testMaxThreadsIsPerThread() throws InterruptedException
+   {
+      assertEquals(1, NativeMatrixThreading.getMaxThreads());
+      assertThrows(IllegalArgumentException.class, () -> NativeMatrixThreading.setMaxThreads(0));
+
+      NativeMatrixThreading.setMaxThreads(4);
+      assertEquals(4, NativeMatrixThreading.getMaxThreads());
+
+      AtomicInteger otherThreadMaxThreads = new AtomicInteger();
+      Thread otherThread = new Thread(() -> otherThreadMaxThreads.set(NativeMatrixThreading.getMaxThreads()));
+      otherThread.start();
+      otherThread.join();
+      assertEquals(1, otherThreadMaxThreads.get());
+      assertEquals(4, NativeMatrixThreading.getMaxThreads());
+   }
+
+   @Test
+   public void testResultsDoNotDependOnThreads()
+   {
+      Random random = new Random(40L);
+      int size = 400;
+      DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, -1.0, 1.0, random);
+      DMatrixRMaj B = RandomMatrices_DDRM.rectangle(size, size, -1.0, 1.0, random);
+      DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, 1, -1.0, 1.0, random);
+      CommonOps_DDRM.addEquals(A, size, CommonOps_DDRM.identity(size));
+
+      DMatrixRMaj expectedProduct = new DMatrixRMaj(size, size);
+      DMatrixRMaj expectedSolution = new DMatrixRMaj(size, 1);
+      CommonOps_DDRM.mult(A, B, expectedProduct);
+      CommonOps_DDRM.solve(A, b, expectedSolution);
+
+      NativeMatrix nativeA = new NativeMatrix(A);
+      NativeMatrix nativeB = new NativeMatrix(B);
+      NativeMatrix nativeb = new NativeMatrix(b);
+      NativeMatrix actual = new NativeMatrix(1, 1);
+
+      for (int threads = 1; threads <= Math.max(2, NativeMatrixThreading.getNumberOfProcessors()); threads *= 2)
+      {
+         NativeMatrixThreading.setMaxThreads(threads);
+
+         actual.mult(nativeA, nativeB);
+         MatrixTestTools.assertMatrixEquals(expectedProduct, actual, 1.0e-10);
+
+         actual.solve(nativeA, nativeb);
+         MatrixTestTools.assertMatrixEquals(expectedSolution, actual, 1.0e-10);
+      }
+   }
+
+   @Test
+   public void testScaling()
+   {
+      Random random = new Random(41L);
+      int processors = NativeMatrixThreading.getNumberOfProcessors();
+      System.out.println("Parallelization available: " + NativeMatrixThreading.isParallelizationAvailable() + ", processors: " + processors);
+
+      for (int size : benchmarkSizes)
+      {
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, -1.0, 1.0, random);
+         CommonOps_DDRM.addEquals(A, size, CommonOps_DDRM.identity(size));
+         NativeMatrix nativeA = new NativeMatrix(A);
+         NativeMatrix nativeB = new NativeMatrix(RandomMatrices_DDRM.rectangle(size, size, -1.0, 1.0, random));
+         NativeMatrix nativeb = new NativeMatrix(RandomMatrices_DDRM.rectangle(size, 1, -1.0, 1.0, random));
+         NativeMatrix result = new NativeMatrix(size, size);
+
+         double singleThreadedMultTime = Double.NaN;
+         double singleThreadedSolveTime = Double.NaN;
+
+         for (int threads = 1; threads <= processors; threads = nextThreadCount(threads, processors))
+         {
+            NativeMatrixThreading.setMaxThreads(threads);
+            double multTime = averageTime(() -> result.mult(nativeA, nativeB));
+            double solveTime = averageTime(() -> result.solve(nativeA, nativeb));
+
+            if (threads == 1)
+            {
+               singleThreadedMultTime = multTime;
+               singleThreadedSolveTime = solveTime;
+            }
+
+            System.out.println(String.format("%4dx%-4d %2d threads: mult %9.3f ms (x%.2f), solve %9.3f ms (x%.2f)",
+                                             size,
+                                             size,
+                                             threads,
+                                             Conversions.nanosecondsToMilliseconds(multTime),
+                                             singleThreadedMultTime / multTime,
+                                             Conversions.nanosecondsToMilliseconds(solveTime),
+                                             singleThreadedSolveTime / solveTime));
+         }
+      }
+   }
+
+   private static int nextThreadCount(int threads, int processors)
+   {
+      return threads < processors && 2 * threads > processors ? processors : 2 * threads;
+   }
+
+   private static double averageTime(Runnable operation)
+   {
+      // Warm-up, also brings up the worker threads.
+      operation.run();
+
+      long start = System.nanoTime();
+      int count = 0;
+
+      while (System.nanoTime() - start < benchmarkDurationPerCaseInNanoseconds)
+      {
+         operation.run();
+         count++;
+      }
+
+      return (double) (System.nanoTime() - start) / count;
+   }
+}
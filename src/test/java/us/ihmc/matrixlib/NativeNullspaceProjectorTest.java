@@ -2,10 +2,13 @@ package us.ihmc.matrixlib;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
 import org.junit.jupiter.api.Test;
 
@@ -85,4 +88,38 @@ public class NativeNullspaceProjectorTest
          assertThrows(expectedType, () -> projector.project(new NativeMatrix(7, m + 1), new NativeMatrix(12, m + 1), new NativeMatrix(3, 3), 1.0));
       }
    }
+
+   @Test
+   public void testThreadLocalProjector()
+   {
+      Random random = new Random(41L);
+      int problems = 1000;
+      int dofs = 12;
+      NativeMatrix[] a = new NativeMatrix[problems];
+      NativeMatrix[] b = new NativeMatrix[problems];
+      DMatrixRMaj[] expected = new DMatrixRMaj[problems];
+
+      for (int i = 0; i < problems; i++)
+      {
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(dofs, dofs, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(random.nextInt(dofs) + 1, dofs, random);
+         a[i] = new NativeMatrix(A);
+         b[i] = new NativeMatrix(B);
+         expected[i] = new DMatrixRMaj(dofs, dofs);
+         NativeCommonOps.projectOnNullspace(A, B, expected[i], 0.5);
+      }
+
+      ThreadLocal<NativeNullspaceProjector> projector = NativeNullspaceProjector.createThreadLocal(dofs);
+
+      assertTrue(IntStream.range(0, problems).parallel().allMatch(i ->
+      {
+         NativeMatrix result = new NativeMatrix(1, 1);
+         projector.get().project(a[i], b[i], result, 0.5);
+         DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+         result.get(actual);
+         return MatrixFeatures_DDRM.isIdentical(expected[i], actual, epsilon);
+      }));
+
+      assertThrows(IllegalArgumentException.class, () -> NativeNullspaceProjector.createThreadLocal(-1));
+   }
 }
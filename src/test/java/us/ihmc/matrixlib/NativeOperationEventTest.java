@@ -0,0 +1,84 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class NativeOperationEventTest
+{
+   @TempDir
+   public Path temporaryFolder;
+
+   @Test
+   public void testLargeOperationsAreRecorded() throws IOException
+   {
+      Random random = new Random(71L);
+      DMatrixRMaj small = RandomMatrices_DDRM.rectangle(5, 5, random);
+      DMatrixRMaj large = RandomMatrices_DDRM.rectangle(40, 40, random);
+      DMatrixRMaj result = new DMatrixRMaj(1, 1);
+
+      NativeCommonOps.ensureNativeOpsIsLoaded();
+
+      Path file = temporaryFolder.resolve("operations.jfr");
+      try (Recording recording = new Recording())
+      {
+         recording.enable(NativeOperationEvent.NAME).withThreshold(Duration.ZERO).with("minimumSize", "20");
+         recording.start();
+
+         NativeCommonOps.mult(small, small, result);
+         NativeCommonOps.mult(large, large, result);
+         NativeCommonOps.invert(small, result);
+         NativeCommonOps.invert(large, result);
+
+         recording.stop();
+         recording.dump(file);
+      }
+
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      events.removeIf(event -> !event.getEventType().getName().equals(NativeOperationEvent.NAME));
+      assertEquals(2, events.size());
+
+      assertEquals(NativeOperation.MULT.name(), events.get(0).getString("operation"));
+      assertEquals(40, events.get(0).getInt("rows"));
+      assertEquals(40, events.get(0).getInt("cols"));
+      assertEquals(Thread.currentThread().getName(), events.get(0).getThread().getJavaName());
+
+      assertEquals(NativeOperation.INVERT.name(), events.get(1).getString("operation"));
+      assertEquals(40, events.get(1).getInt("rows"));
+   }
+
+   @Test
+   public void testMinimumSizeSetting()
+   {
+      NativeOperationEvent.MinimumSizeSetting setting = new NativeOperationEvent.MinimumSizeSetting();
+      assertEquals("0", setting.getValue());
+
+      // The most inclusive value wins when several recordings are running.
+      assertEquals("10", setting.combine(new HashSet<>(Arrays.asList("100", "10", "50"))));
+      assertEquals("0", setting.combine(new HashSet<>()));
+
+      setting.setValue("10");
+      assertEquals("10", setting.getValue());
+      assertEquals(true, setting.accept(10, 1));
+      assertEquals(true, setting.accept(1, 12));
+      assertEquals(false, setting.accept(9, 9));
+
+      setting.setValue("not a number");
+      assertEquals("0", setting.getValue());
+   }
+}
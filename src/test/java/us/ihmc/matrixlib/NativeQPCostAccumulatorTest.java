@@ -0,0 +1,151 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeQPCostAccumulatorTest
+{
+   private static final int maxSize = 40;
+   private static final int maxTasks = 10;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testCompute()
+   {
+      Random random = new Random(42L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int numberOfVariables = RandomNumbers.nextInt(random, 1, maxSize);
+         int numberOfTasks = RandomNumbers.nextInt(random, 1, maxTasks);
+         NativeQPCostAccumulator accumulator = new NativeQPCostAccumulator(numberOfVariables);
+
+         DMatrixRMaj[] jacobians = new DMatrixRMaj[numberOfTasks];
+         DMatrixRMaj[] objectives = new DMatrixRMaj[numberOfTasks];
+         DMatrixRMaj[] weights = new DMatrixRMaj[numberOfTasks];
+         int[] offsets = new int[numberOfTasks];
+         NativeMatrix[] nativeJacobians = new NativeMatrix[numberOfTasks];
+
+         for (int task = 0; task < numberOfTasks; task++)
+         {
+            int taskSize = RandomNumbers.nextInt(random, 1, maxSize);
+            int taskVariables = RandomNumbers.nextInt(random, 1, numberOfVariables);
+            offsets[task] = RandomNumbers.nextInt(random, 0, numberOfVariables - taskVariables);
+            jacobians[task] = RandomMatrices_DDRM.rectangle(taskSize, taskVariables, random);
+            objectives[task] = RandomMatrices_DDRM.rectangle(taskSize, 1, random);
+
+            // Alternate between the three ways of giving the weights.
+            switch (task % 3)
+            {
+               case 0:
+                  weights[task] = new DMatrixRMaj(1, 1, true, RandomNumbers.nextDouble(random, 0.0, 10.0));
+                  break;
+               case 1:
+                  weights[task] = RandomMatrices_DDRM.rectangle(taskSize, 1, 0.0, 10.0, random);
+                  break;
+               default:
+                  weights[task] = CommonOps_DDRM.diag(RandomMatrices_DDRM.rectangle(taskSize, 1, 0.0, 10.0, random).getData());
+                  break;
+            }
+
+            nativeJacobians[task] = new NativeMatrix(jacobians[task]);
+            assertEquals(task,
+                         accumulator.addTask(nativeJacobians[task], new NativeMatrix(objectives[task]), new NativeMatrix(weights[task]), offsets[task]));
+         }
+         assertEquals(numberOfTasks, accumulator.getNumberOfTasks());
+
+         NativeMatrix H = new NativeMatrix(1, 1);
+         NativeMatrix f = new NativeMatrix(1, 1);
+         accumulator.compute(H, f);
+         assertCost(numberOfVariables, jacobians, objectives, weights, offsets, H, f);
+
+         // The tasks refer to their matrices, a new computation uses their new values.
+         for (int task = 0; task < numberOfTasks; task++)
+         {
+            CommonOps_DDRM.scale(RandomNumbers.nextDouble(random, -2.0, 2.0), jacobians[task]);
+            nativeJacobians[task].set(jacobians[task]);
+         }
+         accumulator.compute(H, f);
+         assertCost(numberOfVariables, jacobians, objectives, weights, offsets, H, f);
+      }
+   }
+
+   @Test
+   public void testInvalidTasks()
+   {
+      NativeMatrix H = new NativeMatrix(1, 1);
+      NativeMatrix f = new NativeMatrix(1, 1);
+      NativeMatrix jacobian = new NativeMatrix(3, 4);
+      NativeMatrix objective = new NativeMatrix(3, 1);
+      NativeMatrix weight = new NativeMatrix(3, 1);
+
+      NativeQPCostAccumulator accumulator = new NativeQPCostAccumulator(6);
+      accumulator.addTask(jacobian, objective, weight, 2);
+      accumulator.compute(H, f);
+      assertEquals(6, H.getNumRows());
+      assertEquals(6, H.getNumCols());
+      assertEquals(6, f.getNumRows());
+      assertEquals(1, f.getNumCols());
+
+      // The task does not fit anymore.
+      accumulator.setNumberOfVariables(5);
+      assertThrows(IllegalArgumentException.class, () -> accumulator.compute(H, f));
+      accumulator.setNumberOfVariables(6);
+
+      objective.reshape(2, 1);
+      assertThrows(IllegalArgumentException.class, () -> accumulator.compute(H, f));
+      objective.reshape(3, 1);
+
+      weight.reshape(2, 2);
+      assertThrows(IllegalArgumentException.class, () -> accumulator.compute(H, f));
+      weight.reshape(1, 1);
+      weight.set(0, 0, -1.0);
+      assertThrows(IllegalArgumentException.class, () -> accumulator.compute(H, f));
+
+      accumulator.clearTasks();
+      assertEquals(0, accumulator.getNumberOfTasks());
+      accumulator.compute(H, f);
+      MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(6, 6), H, epsilon);
+
+      assertThrows(IllegalArgumentException.class, () -> new NativeQPCostAccumulator(-1));
+   }
+
+   private static void assertCost(int numberOfVariables, DMatrixRMaj[] jacobians, DMatrixRMaj[] objectives, DMatrixRMaj[] weights, int[] offsets,
+                                  NativeMatrix H, NativeMatrix f)
+   {
+      DMatrixRMaj expectedH = new DMatrixRMaj(numberOfVariables, numberOfVariables);
+      DMatrixRMaj expectedf = new DMatrixRMaj(numberOfVariables, 1);
+
+      for (int task = 0; task < jacobians.length; task++)
+      {
+         DMatrixRMaj W = weights[task];
+         if (W.getNumElements() == 1)
+         {
+            W = CommonOps_DDRM.identity(jacobians[task].getNumRows());
+            CommonOps_DDRM.scale(weights[task].get(0, 0), W);
+         }
+         else if (W.getNumCols() == 1)
+         {
+            W = CommonOps_DDRM.diag(W.getData());
+         }
+
+         DMatrixRMaj WJ = new DMatrixRMaj(W.getNumRows(), jacobians[task].getNumCols());
+         CommonOps_DDRM.mult(W, jacobians[task], WJ);
+         MatrixTools.multAddBlockTransA(jacobians[task], WJ, expectedH, offsets[task], offsets[task]);
+         MatrixTools.multAddBlockTransA(WJ, objectives[task], expectedf, offsets[task], 0);
+      }
+
+      MatrixTestTools.assertMatrixEquals(expectedH, H, epsilon);
+      MatrixTestTools.assertMatrixEquals(expectedf, f, epsilon);
+   }
+}
@@ -0,0 +1,233 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeQPSolverTest
+{
+   private static final int maxSize = 30;
+   private static final int iterations = 500;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSimpleProblem()
+   {
+      // min (x - 2)^2 + (y - 2)^2 s.t. x + y == 3, x - y <= 1, -1 <= y <= 1.4
+      NativeQPSolver solver = new NativeQPSolver();
+      solver.setQuadraticCostFunction(new NativeMatrix(new DMatrixRMaj(new double[][] {{2.0, 0.0}, {0.0, 2.0}})),
+                                      new NativeMatrix(new DMatrixRMaj(new double[] {-4.0, -4.0})));
+      solver.setLinearEqualityConstraints(new NativeMatrix(new DMatrixRMaj(new double[][] {{1.0, 1.0}})),
+                                          new NativeMatrix(new DMatrixRMaj(new double[] {3.0})));
+      solver.setLinearInequalityConstraints(new NativeMatrix(new DMatrixRMaj(new double[][] {{1.0, -1.0}})),
+                                            new NativeMatrix(new DMatrixRMaj(new double[] {1.0})));
+      solver.setVariableBounds(new NativeMatrix(new DMatrixRMaj(new double[] {Double.NEGATIVE_INFINITY, -1.0})),
+                               new NativeMatrix(new DMatrixRMaj(new double[] {Double.POSITIVE_INFINITY, 1.4})));
+
+      NativeMatrix solution = new NativeMatrix(1, 1);
+      assertTrue(solver.solve(solution));
+      MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(new double[] {1.6, 1.4}), solution, epsilon);
+      assertEquals(1, solver.getNumberOfActiveConstraints());
+
+      NativeMatrix multipliers = new NativeMatrix(1, 1);
+      solver.getLagrangeUpperBoundMultipliers(multipliers);
+      MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(new double[] {0.0, 0.4}), multipliers, epsilon);
+      solver.getLagrangeLowerBoundMultipliers(multipliers);
+      MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(new double[] {0.0, 0.0}), multipliers, epsilon);
+      solver.getLagrangeInequalityMultipliers(multipliers);
+      MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(new double[] {0.0}), multipliers, epsilon);
+      solver.getLagrangeEqualityMultipliers(multipliers);
+      MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(new double[] {0.8}), multipliers, epsilon);
+   }
+
+   @Test
+   public void testRandomProblems()
+   {
+      Random random = new Random(9834L);
+      NativeQPSolver solver = new NativeQPSolver();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         RandomProblem problem = new RandomProblem(random);
+         problem.set(solver);
+         solver.resetActiveSet();
+
+         NativeMatrix solution = new NativeMatrix(1, 1);
+         assertTrue(solver.solve(solution));
+         assertFalse(solver.wasWarmStarted());
+         problem.assertOptimal(solver, solution);
+      }
+   }
+
+   @Test
+   public void testWarmStart()
+   {
+      Random random = new Random(9835L);
+      NativeQPSolver solver = new NativeQPSolver();
+      NativeQPSolver coldSolver = new NativeQPSolver();
+      int warmStarts = 0;
+
+      for (int i = 0; i < iterations; i++)
+      {
+         RandomProblem problem = new RandomProblem(random);
+         problem.set(solver);
+         NativeMatrix solution = new NativeMatrix(1, 1);
+         assertTrue(solver.solve(solution));
+
+         // Small change in the cost function, as between two control ticks
+         for (int j = 0; j < problem.f.getNumRows(); j++)
+         {
+            problem.f.add(j, 0, RandomNumbers.nextDouble(random, 1.0e-3));
+         }
+         problem.set(solver);
+         assertTrue(solver.solve(solution));
+         problem.assertOptimal(solver, solution);
+         warmStarts += solver.wasWarmStarted() ? 1 : 0;
+
+         problem.set(coldSolver);
+         coldSolver.resetActiveSet();
+         NativeMatrix coldSolution = new NativeMatrix(1, 1);
+         assertTrue(coldSolver.solve(coldSolution));
+         MatrixTestTools.assertMatrixEquals(coldSolution, solution, 1.0e-6);
+      }
+
+      assertTrue(warmStarts > iterations / 2, "Only " + warmStarts + " warm starts");
+   }
+
+   @Test
+   public void testInfeasibleProblem()
+   {
+      NativeQPSolver solver = new NativeQPSolver();
+      solver.setQuadraticCostFunction(new NativeMatrix(new DMatrixRMaj(new double[][] {{1.0}})), new NativeMatrix(new DMatrixRMaj(new double[] {0.0})));
+      solver.setLinearInequalityConstraints(new NativeMatrix(new DMatrixRMaj(new double[][] {{1.0}, {-1.0}})),
+                                            new NativeMatrix(new DMatrixRMaj(new double[] {0.0, -1.0})));
+
+      NativeMatrix solution = new NativeMatrix(1, 1);
+      assertFalse(solver.solve(solution));
+      assertTrue(Double.isNaN(solution.get(0, 0)));
+   }
+
+   @Test
+   public void testIncompatibleDimensions()
+   {
+      NativeQPSolver solver = new NativeQPSolver();
+      assertThrows(IllegalArgumentException.class, () -> solver.setQuadraticCostFunction(new NativeMatrix(3, 2), new NativeMatrix(3, 1)));
+
+      solver.setQuadraticCostFunction(new NativeMatrix(3, 3), new NativeMatrix(3, 1));
+      assertThrows(IllegalArgumentException.class, () -> solver.setLinearEqualityConstraints(new NativeMatrix(2, 4), new NativeMatrix(2, 1)));
+      assertThrows(IllegalArgumentException.class, () -> solver.setLinearInequalityConstraints(new NativeMatrix(2, 3), new NativeMatrix(3, 1)));
+      assertThrows(IllegalArgumentException.class, () -> solver.setVariableBounds(new NativeMatrix(3, 1), new NativeMatrix(2, 1)));
+   }
+
+   private static class RandomProblem
+   {
+      final DMatrixRMaj H, f, Aeq, beq, Ain, bin, lowerBounds, upperBounds;
+
+      RandomProblem(Random random)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         int equalities = RandomNumbers.nextInt(random, 0, size / 2);
+         int inequalities = RandomNumbers.nextInt(random, 0, 2 * size);
+
+         H = RandomMatrices_DDRM.symmetricPosDef(size, random);
+         CommonOps_DDRM.addEquals(H, 0.1, CommonOps_DDRM.identity(size));
+         f = RandomMatrices_DDRM.rectangle(size, 1, -5.0, 5.0, random);
+
+         // Constraints built around a feasible point
+         DMatrixRMaj feasible = RandomMatrices_DDRM.rectangle(size, 1, -0.5, 0.5, random);
+         Aeq = RandomMatrices_DDRM.rectangle(equalities, size, random);
+         beq = new DMatrixRMaj(equalities, 1);
+         CommonOps_DDRM.mult(Aeq, feasible, beq);
+         Ain = RandomMatrices_DDRM.rectangle(inequalities, size, random);
+         bin = new DMatrixRMaj(inequalities, 1);
+         CommonOps_DDRM.mult(Ain, feasible, bin);
+         for (int i = 0; i < inequalities; i++)
+         {
+            bin.add(i, 0, random.nextDouble());
+         }
+
+         lowerBounds = new DMatrixRMaj(size, 1);
+         upperBounds = new DMatrixRMaj(size, 1);
+         for (int i = 0; i < size; i++)
+         {
+            lowerBounds.set(i, random.nextBoolean() ? -1.0 : Double.NEGATIVE_INFINITY);
+            upperBounds.set(i, random.nextBoolean() ? 1.0 : Double.POSITIVE_INFINITY);
+         }
+      }
+
+      void set(NativeQPSolver solver)
+      {
+         solver.setQuadraticCostFunction(new NativeMatrix(H), new NativeMatrix(f));
+         solver.setLinearEqualityConstraints(new NativeMatrix(Aeq), new NativeMatrix(beq));
+         solver.setLinearInequalityConstraints(new NativeMatrix(Ain), new NativeMatrix(bin));
+         solver.setVariableBounds(new NativeMatrix(lowerBounds), new NativeMatrix(upperBounds));
+      }
+
+      /**
+       * Checks the KKT conditions: feasibility, stationarity, non-negative multipliers for the
+       * inequality constraints and complementary slackness.
+       */
+      void assertOptimal(NativeQPSolver solver, NativeMatrix nativeSolution)
+      {
+         DMatrixRMaj x = new DMatrixRMaj(1, 1);
+         nativeSolution.get(x);
+         NativeMatrix multipliers = new NativeMatrix(1, 1);
+         DMatrixRMaj lambdaEq = new DMatrixRMaj(1, 1);
+         DMatrixRMaj lambdaIn = new DMatrixRMaj(1, 1);
+         DMatrixRMaj lambdaLower = new DMatrixRMaj(1, 1);
+         DMatrixRMaj lambdaUpper = new DMatrixRMaj(1, 1);
+         solver.getLagrangeEqualityMultipliers(multipliers);
+         multipliers.get(lambdaEq);
+         solver.getLagrangeInequalityMultipliers(multipliers);
+         multipliers.get(lambdaIn);
+         solver.getLagrangeLowerBoundMultipliers(multipliers);
+         multipliers.get(lambdaLower);
+         solver.getLagrangeUpperBoundMultipliers(multipliers);
+         multipliers.get(lambdaUpper);
+
+         DMatrixRMaj equalities = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.mult(Aeq, x, equalities);
+         MatrixTestTools.assertMatrixEquals(beq, equalities, 1.0e-7);
+
+         DMatrixRMaj inequalities = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.mult(Ain, x, inequalities);
+         for (int i = 0; i < Ain.getNumRows(); i++)
+         {
+            assertTrue(inequalities.get(i) <= bin.get(i) + 1.0e-7);
+            assertTrue(lambdaIn.get(i) >= 0.0);
+            assertEquals(0.0, lambdaIn.get(i) * (bin.get(i) - inequalities.get(i)), 1.0e-7);
+         }
+
+         for (int i = 0; i < x.getNumRows(); i++)
+         {
+            assertTrue(x.get(i) >= lowerBounds.get(i) - 1.0e-7);
+            assertTrue(x.get(i) <= upperBounds.get(i) + 1.0e-7);
+            assertTrue(lambdaLower.get(i) >= 0.0);
+            assertTrue(lambdaUpper.get(i) >= 0.0);
+            if (lambdaLower.get(i) > 0.0)
+               assertEquals(lowerBounds.get(i), x.get(i), 1.0e-7);
+            if (lambdaUpper.get(i) > 0.0)
+               assertEquals(upperBounds.get(i), x.get(i), 1.0e-7);
+         }
+
+         // H x + f + Aeq' lambdaEq + Ain' lambdaIn + lambdaUpper - lambdaLower == 0
+         DMatrixRMaj stationarity = new DMatrixRMaj(f);
+         CommonOps_DDRM.multAdd(H, x, stationarity);
+         CommonOps_DDRM.multAddTransA(Aeq, lambdaEq, stationarity);
+         CommonOps_DDRM.multAddTransA(Ain, lambdaIn, stationarity);
+         CommonOps_DDRM.addEquals(stationarity, lambdaUpper);
+         CommonOps_DDRM.subtractEquals(stationarity, lambdaLower);
+         MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(x.getNumRows(), 1), stationarity, 1.0e-6);
+      }
+   }
+}
@@ -0,0 +1,137 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeSVDTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSolve()
+   {
+      Random random = new Random(3452L);
+      NativeSVD svd = new NativeSVD();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 1, maxSize);
+         int cols = RandomNumbers.nextInt(random, 1, maxSize);
+         int rank = RandomNumbers.nextInt(random, 1, Math.min(rows, cols));
+         DMatrixRMaj A = new DMatrixRMaj(rows, cols);
+         CommonOps_DDRM.mult(RandomMatrices_DDRM.rectangle(rows, rank, random), RandomMatrices_DDRM.rectangle(rank, cols, random), A);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(rows, RandomNumbers.nextInt(random, 1, 5), random);
+
+         assertTrue(svd.compute(new NativeMatrix(A)));
+         assertEquals(rows, svd.getNumRows());
+         assertEquals(cols, svd.getNumCols());
+         assertEquals(rank, svd.getRank(1.0e-10));
+
+         NativeMatrix nativePinv = new NativeMatrix(1, 1);
+         svd.getPseudoInverse(nativePinv, 1.0e-10);
+         DMatrixRMaj pinv = new DMatrixRMaj(1, 1);
+         nativePinv.get(pinv);
+         assertPenroseConditions(A, pinv);
+
+         // The truncated solution is the minimum norm least-squares solution pinv(A) * b
+         DMatrixRMaj expected = new DMatrixRMaj(cols, b.getNumCols());
+         CommonOps_DDRM.mult(pinv, b, expected);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         svd.solve(new NativeMatrix(b), actual, 1.0e-10);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> svd.solve(new NativeMatrix(rows + 1, 1), new NativeMatrix(1, 1), 1.0e-10));
+      }
+   }
+
+   @Test
+   public void testSolveDamped()
+   {
+      Random random = new Random(3453L);
+      NativeSVD svd = new NativeSVD();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = RandomNumbers.nextInt(random, 1, maxSize);
+         int cols = RandomNumbers.nextInt(random, 1, maxSize);
+         double alpha = RandomNumbers.nextDouble(random, 0.01, 1.0);
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(rows, cols, random);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(rows, 1, random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(cols, 1);
+         NativeCommonOps.solveDamped(A, b, alpha, expected);
+
+         assertTrue(svd.compute(new NativeMatrix(A)));
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         svd.solveDamped(new NativeMatrix(b), actual, alpha);
+         MatrixTestTools.assertMatrixEquals(expected, actual, 1.0e-6);
+      }
+   }
+
+   @Test
+   public void testFullRankPseudoInverse()
+   {
+      Random random = new Random(3454L);
+      NativeSVD svd = new NativeSVD();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(RandomNumbers.nextInt(random, 1, maxSize), RandomNumbers.nextInt(random, 1, maxSize), random);
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.pinv(A, expected);
+
+         assertTrue(svd.compute(new NativeMatrix(A)));
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         svd.getPseudoInverse(actual, 1.0e-10);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testNoDecomposition()
+   {
+      NativeSVD svd = new NativeSVD();
+      assertThrows(IllegalStateException.class, () -> svd.getSingularValues(new NativeMatrix(1, 1)));
+      assertThrows(IllegalStateException.class, () -> svd.getPseudoInverse(new NativeMatrix(1, 1), 1.0e-10));
+      assertThrows(IllegalArgumentException.class, () -> svd.solve(new NativeMatrix(1, 1), new NativeMatrix(1, 1), 1.0e-10));
+      assertEquals(0, svd.getRank(1.0e-10));
+
+      DMatrixRMaj invalid = new DMatrixRMaj(2, 2);
+      invalid.set(0, 0, Double.NaN);
+      assertFalse(svd.compute(new NativeMatrix(invalid)));
+      assertThrows(IllegalStateException.class, () -> svd.getSingularValues(new NativeMatrix(1, 1)));
+   }
+
+   /**
+    * The pseudo-inverse X of A is the unique matrix such that A X A = A, X A X = X, and A X and X A
+    * are symmetric.
+    */
+   private static void assertPenroseConditions(DMatrixRMaj A, DMatrixRMaj X)
+   {
+      DMatrixRMaj AX = new DMatrixRMaj(1, 1);
+      DMatrixRMaj XA = new DMatrixRMaj(1, 1);
+      DMatrixRMaj product = new DMatrixRMaj(1, 1);
+      CommonOps_DDRM.mult(A, X, AX);
+      CommonOps_DDRM.mult(X, A, XA);
+
+      CommonOps_DDRM.mult(AX, A, product);
+      MatrixTestTools.assertMatrixEquals(A, product, epsilon);
+      CommonOps_DDRM.mult(XA, X, product);
+      MatrixTestTools.assertMatrixEquals(X, product, epsilon);
+      MatrixTestTools.assertMatrixEquals(AX, CommonOps_DDRM.transpose(AX, null), epsilon);
+      MatrixTestTools.assertMatrixEquals(XA, CommonOps_DDRM.transpose(XA, null), epsilon);
+   }
+}
@@ -0,0 +1,182 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.ops.ConvertDMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeSparseMatrixTest
+{
+   private static final int maxSize = 60;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSet()
+   {
+      Random random = new Random(2343L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixSparseTriplet triplet = nextSparseMatrix(random);
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         ConvertDMatrixStruct.convert(triplet, expected);
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         NativeSparseMatrix sparse = new NativeSparseMatrix(1, 1);
+         sparse.set(triplet);
+         sparse.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixSparseCSC csc = ConvertDMatrixStruct.convert(triplet, (DMatrixSparseCSC) null);
+         sparse = new NativeSparseMatrix(csc);
+         sparse.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         assertEquals(csc.nz_length, sparse.getNonZeroLength());
+         assertEquals(csc.numRows, sparse.getNumRows());
+         assertEquals(csc.numCols, sparse.getNumCols());
+      }
+
+      DMatrixSparseTriplet outOfBounds = new DMatrixSparseTriplet(3, 3, 1);
+      outOfBounds.addItem(1, 1, 1.0);
+      outOfBounds.numRows = 1;
+      assertThrows(IllegalArgumentException.class, () -> new NativeSparseMatrix(1, 1).set(outOfBounds));
+   }
+
+   @Test
+   public void testMult()
+   {
+      Random random = new Random(2344L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixSparseTriplet triplet = nextSparseMatrix(random);
+         DMatrixRMaj A = new DMatrixRMaj(1, 1);
+         ConvertDMatrixStruct.convert(triplet, A);
+         NativeSparseMatrix sparseA = new NativeSparseMatrix(1, 1);
+         sparseA.set(triplet);
+
+         int bCols = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(A.getNumCols(), bCols, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(A.getNumRows(), bCols, random);
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+
+         CommonOps_DDRM.mult(A, B, expected);
+         actual.mult(sparseA, new NativeMatrix(B));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.multTransA(A, C, expected);
+         actual.multTransA(sparseA, new NativeMatrix(C));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> actual.mult(sparseA, new NativeMatrix(A.getNumCols() + 1, bCols)));
+         assertThrows(IllegalArgumentException.class, () -> actual.multTransA(sparseA, new NativeMatrix(A.getNumRows() + 1, bCols)));
+      }
+   }
+
+   @Test
+   public void testMultQuad()
+   {
+      Random random = new Random(2345L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixSparseTriplet triplet = nextSparseMatrix(random);
+         DMatrixRMaj A = new DMatrixRMaj(1, 1);
+         ConvertDMatrixStruct.convert(triplet, A);
+         NativeSparseMatrix sparseA = new NativeSparseMatrix(1, 1);
+         sparseA.set(triplet);
+
+         int size = A.getNumRows();
+         DMatrixRMaj W = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj WA = new DMatrixRMaj(1, 1);
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+
+         CommonOps_DDRM.mult(W, A, WA);
+         CommonOps_DDRM.multTransA(A, WA, expected);
+         actual.multQuad(sparseA, new NativeMatrix(W));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj weights = RandomMatrices_DDRM.rectangle(size, 1, 0.0, 10.0, random);
+         CommonOps_DDRM.diag(W, size, weights.data);
+         CommonOps_DDRM.mult(W, A, WA);
+         CommonOps_DDRM.multTransA(A, WA, expected);
+         actual.multQuadDiagonal(sparseA, new NativeMatrix(weights));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         assertThrows(IllegalArgumentException.class, () -> actual.multQuad(sparseA, new NativeMatrix(size + 1, size + 1)));
+         assertThrows(IllegalArgumentException.class, () -> actual.multQuadDiagonal(sparseA, new NativeMatrix(size, 2)));
+      }
+   }
+
+   @Test
+   public void testCholesky()
+   {
+      Random random = new Random(2346L);
+      NativeSparseCholesky cholesky = new NativeSparseCholesky();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixSparseTriplet triplet = nextSparseMatrix(random);
+         DMatrixRMaj J = new DMatrixRMaj(1, 1);
+         ConvertDMatrixStruct.convert(triplet, J);
+         int size = J.getNumCols();
+
+         DMatrixRMaj A = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.multTransA(J, J, A);
+         for (int diagonal = 0; diagonal < size; diagonal++)
+            A.add(diagonal, diagonal, 1.0);
+
+         DMatrixRMaj x = RandomMatrices_DDRM.rectangle(size, 2, random);
+         DMatrixRMaj b = new DMatrixRMaj(size, 2);
+         CommonOps_DDRM.mult(A, x, b);
+
+         NativeSparseMatrix sparseA = new NativeSparseMatrix(ConvertDMatrixStruct.convert(A, (DMatrixSparseCSC) null, 0.0));
+         assertTrue(cholesky.compute(sparseA));
+         int analysisCount = cholesky.getSymbolicAnalysisCount();
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         cholesky.solve(new NativeMatrix(b), actual);
+         MatrixTestTools.assertMatrixEquals(x, actual, 1.0e-6);
+
+         // Same pattern, different values: the symbolic analysis is reused.
+         CommonOps_DDRM.scale(2.0, A);
+         CommonOps_DDRM.scale(2.0, b);
+         sparseA.set(ConvertDMatrixStruct.convert(A, (DMatrixSparseCSC) null, 0.0));
+         assertTrue(cholesky.compute(sparseA));
+         assertEquals(analysisCount, cholesky.getSymbolicAnalysisCount());
+         cholesky.solve(new NativeMatrix(b), actual);
+         MatrixTestTools.assertMatrixEquals(x, actual, 1.0e-6);
+
+         assertThrows(IllegalArgumentException.class, () -> cholesky.solve(new NativeMatrix(size + 1, 1), actual));
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> cholesky.compute(new NativeSparseMatrix(3, 4)));
+   }
+
+   private static DMatrixSparseTriplet nextSparseMatrix(Random random)
+   {
+      int rows = RandomNumbers.nextInt(random, 1, maxSize);
+      int cols = RandomNumbers.nextInt(random, 1, maxSize);
+      int nonZeros = RandomNumbers.nextInt(random, 0, rows * cols / 10);
+      DMatrixSparseTriplet triplet = new DMatrixSparseTriplet(rows, cols, nonZeros);
+
+      for (int i = 0; i < nonZeros; i++)
+         triplet.addItem(random.nextInt(rows), random.nextInt(cols), RandomNumbers.nextDouble(random, 10.0));
+
+      return triplet;
+   }
+}
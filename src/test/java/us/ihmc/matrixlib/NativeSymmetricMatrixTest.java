@@ -0,0 +1,178 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeSymmetricMatrixTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSetAndGet()
+   {
+      Random random = new Random(7534L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 0, maxSize);
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetric(size, -1.0, 1.0, random);
+         // The strictly upper part is ignored.
+         DMatrixRMaj lower = new DMatrixRMaj(A);
+         for (int row = 0; row < size; row++)
+         {
+            for (int col = row + 1; col < size; col++)
+               lower.set(row, col, random.nextDouble());
+         }
+
+         NativeSymmetricMatrix symmetric = new NativeSymmetricMatrix(1);
+         symmetric.set(new NativeMatrix(lower));
+         assertEquals(size, symmetric.getSize());
+         assertEquals(size * (size + 1) / 2, symmetric.getPackedSize());
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         symmetric.get(actual);
+         MatrixTestTools.assertMatrixEquals(A, actual, 0.0);
+
+         for (int row = 0; row < size; row++)
+         {
+            for (int col = 0; col < size; col++)
+               assertEquals(A.get(row, col), symmetric.get(row, col));
+         }
+      }
+
+      NativeSymmetricMatrix symmetric = new NativeSymmetricMatrix(3);
+      symmetric.set(0, 2, 5.0);
+      assertEquals(5.0, symmetric.get(2, 0));
+      assertThrows(IllegalArgumentException.class, () -> symmetric.get(3, 0));
+      assertThrows(IllegalArgumentException.class, () -> symmetric.set(-1, 0, 1.0));
+      assertThrows(IllegalArgumentException.class, () -> symmetric.set(new NativeMatrix(3, 2)));
+   }
+
+   @Test
+   public void testRankUpdateAndMult()
+   {
+      Random random = new Random(7535L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         int rank = RandomNumbers.nextInt(random, 1, maxSize);
+         double alpha = RandomNumbers.nextDouble(random, 2.0);
+         DMatrixRMaj S = RandomMatrices_DDRM.symmetric(size, -1.0, 1.0, random);
+         DMatrixRMaj a = RandomMatrices_DDRM.rectangle(size, rank, random);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, rank, random);
+
+         NativeSymmetricMatrix symmetric = new NativeSymmetricMatrix(size);
+         symmetric.set(new NativeMatrix(S));
+
+         DMatrixRMaj expectedProduct = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.mult(S, b, expectedProduct);
+         NativeMatrix actualProduct = new NativeMatrix(b);
+         symmetric.mult(actualProduct, actualProduct);
+         MatrixTestTools.assertMatrixEquals(expectedProduct, actualProduct, epsilon);
+
+         DMatrixRMaj expected = new DMatrixRMaj(S);
+         CommonOps_DDRM.multAddTransB(alpha, a, a, expected);
+         symmetric.rankUpdate(new NativeMatrix(a), alpha);
+
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         symmetric.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> new NativeSymmetricMatrix(3).rankUpdate(new NativeMatrix(2, 1), 1.0));
+   }
+
+   @Test
+   public void testMultQuad()
+   {
+      Random random = new Random(7536L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int n = RandomNumbers.nextInt(random, 1, maxSize);
+         int m = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj S = RandomMatrices_DDRM.symmetric(n, -1.0, 1.0, random);
+         DMatrixRMaj a = RandomMatrices_DDRM.rectangle(n, m, random);
+
+         NativeSymmetricMatrix symmetric = new NativeSymmetricMatrix(n);
+         symmetric.set(new NativeMatrix(S));
+
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+
+         // a' * S * a
+         DMatrixRMaj tempA = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.multTransA(a, S, tempA);
+         CommonOps_DDRM.mult(tempA, a, expected);
+         NativeSymmetricMatrix result = new NativeSymmetricMatrix(1);
+         result.multQuad(new NativeMatrix(a), symmetric);
+         result.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         // The same product with the transpose of a, in place
+         DMatrixRMaj aTranspose = CommonOps_DDRM.transpose(a, null);
+         symmetric.multQuadTransA(new NativeMatrix(aTranspose), symmetric);
+         symmetric.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> new NativeSymmetricMatrix(3).multQuad(new NativeMatrix(2, 2), new NativeSymmetricMatrix(3)));
+      assertThrows(IllegalArgumentException.class, () -> new NativeSymmetricMatrix(3).multQuadTransA(new NativeMatrix(3, 2), new NativeSymmetricMatrix(3)));
+   }
+
+   @Test
+   public void testCholeskyAndTriangularSolve()
+   {
+      Random random = new Random(7537L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(size, random);
+         CommonOps_DDRM.addEquals(A, 0.1, CommonOps_DDRM.identity(size));
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, RandomNumbers.nextInt(random, 1, maxSize), random);
+
+         NativeSymmetricMatrix symmetric = new NativeSymmetricMatrix(size);
+         symmetric.set(new NativeMatrix(A));
+
+         NativeTriangularMatrix L = new NativeTriangularMatrix(1);
+         assertTrue(symmetric.cholesky(L));
+         assertEquals(size, L.getSize());
+
+         NativeMatrix fullL = new NativeMatrix(1, 1);
+         L.get(fullL);
+         NativeMatrix product = new NativeMatrix(1, 1);
+         product.multTransB(fullL, fullL);
+         MatrixTestTools.assertMatrixEquals(A, product, epsilon);
+
+         // A * x = b through L * y = b and L' * x = y
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.solve(A, b, expected);
+         NativeMatrix x = new NativeMatrix(b);
+         L.solve(x, x);
+         L.solveTranspose(x, x);
+         MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+      }
+
+      NativeSymmetricMatrix indefinite = new NativeSymmetricMatrix(3);
+      indefinite.addDiagonal(1.0);
+      indefinite.set(1, 1, -1.0);
+      NativeTriangularMatrix L = new NativeTriangularMatrix(3);
+      assertFalse(indefinite.cholesky(L));
+      assertEquals(0, L.getSize());
+   }
+}
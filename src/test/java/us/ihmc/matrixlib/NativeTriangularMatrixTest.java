@@ -0,0 +1,92 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.RandomNumbers;
+
+public class NativeTriangularMatrixTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSolve()
+   {
+      Random random = new Random(8534L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, maxSize);
+         DMatrixRMaj L = nextLowerTriangular(random, size);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, RandomNumbers.nextInt(random, 1, maxSize), random);
+
+         NativeTriangularMatrix triangular = new NativeTriangularMatrix(1);
+         triangular.set(new NativeMatrix(L));
+         assertEquals(size * (size + 1) / 2, triangular.getPackedSize());
+
+         NativeMatrix full = new NativeMatrix(1, 1);
+         triangular.get(full);
+         MatrixTestTools.assertMatrixEquals(L, full, 0.0);
+
+         DMatrixRMaj expected = new DMatrixRMaj(1, 1);
+         CommonOps_DDRM.solve(L, b, expected);
+         NativeMatrix actual = new NativeMatrix(1, 1);
+         assertTrue(triangular.solve(new NativeMatrix(b), actual));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj LTranspose = CommonOps_DDRM.transpose(L, null);
+         CommonOps_DDRM.solve(LTranspose, b, expected);
+         assertTrue(triangular.solveTranspose(new NativeMatrix(b), actual));
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      NativeTriangularMatrix triangular = new NativeTriangularMatrix(3);
+      triangular.set(2, 0, 4.0);
+      assertEquals(4.0, triangular.get(2, 0));
+      assertEquals(0.0, triangular.get(0, 2));
+      assertThrows(IllegalArgumentException.class, () -> triangular.set(0, 2, 1.0));
+      assertThrows(IllegalArgumentException.class, () -> triangular.get(0, 3));
+      assertThrows(IllegalArgumentException.class, () -> triangular.solve(new NativeMatrix(2, 1), new NativeMatrix(1, 1)));
+   }
+
+   @Test
+   public void testSolveSingular()
+   {
+      Random random = new Random(8535L);
+      int size = 6;
+      DMatrixRMaj L = nextLowerTriangular(random, size);
+      L.set(3, 3, 0.0);
+      NativeTriangularMatrix triangular = new NativeTriangularMatrix(1);
+      triangular.set(new NativeMatrix(L));
+
+      // A zero on the diagonal is reported before x is written
+      DMatrixRMaj previous = RandomMatrices_DDRM.rectangle(2, 2, random);
+      NativeMatrix x = new NativeMatrix(previous);
+      NativeMatrix b = new NativeMatrix(RandomMatrices_DDRM.rectangle(size, 3, random));
+      assertFalse(triangular.solve(b, x));
+      MatrixTestTools.assertMatrixEquals(previous, x, 0.0);
+      assertFalse(triangular.solveTranspose(b, x));
+      MatrixTestTools.assertMatrixEquals(previous, x, 0.0);
+      assertFalse(x.containsNaN());
+   }
+
+   private static DMatrixRMaj nextLowerTriangular(Random random, int size)
+   {
+      DMatrixRMaj L = RandomMatrices_DDRM.triangularLower(size, 0, -1.0, 1.0, random);
+      // Keeps the matrix well conditioned.
+      for (int i = 0; i < size; i++)
+         L.set(i, i, RandomNumbers.nextDouble(random, 1.0, 2.0));
+      return L;
+   }
+}
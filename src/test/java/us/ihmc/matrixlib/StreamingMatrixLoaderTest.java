@@ -0,0 +1,342 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.Conversions;
+import us.ihmc.commons.RandomNumbers;
+
+public class StreamingMatrixLoaderTest
+{
+   private static final int maxSize = 30;
+   private static final int iterations = 200;
+
+   @Test
+   public void testYamlFields() throws IOException
+   {
+      Random random = new Random(46L);
+      StreamingMatrixLoader loader = new StreamingMatrixLoader();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixRMaj matrix = RandomMatrices_DDRM.rectangle(RandomNumbers.nextInt(random, 1, maxSize), RandomNumbers.nextInt(random, 1, maxSize), random);
+         DMatrixRMaj vector = RandomMatrices_DDRM.rectangle(1, RandomNumbers.nextInt(random, 1, maxSize), random);
+         DMatrixRMaj block = RandomMatrices_DDRM.rectangle(RandomNumbers.nextInt(random, 1, maxSize), RandomNumbers.nextInt(random, 1, maxSize), random);
+         DMatrixRMaj blockVector = RandomMatrices_DDRM.rectangle(1, RandomNumbers.nextInt(random, 1, maxSize), random);
+         double scalar = random.nextDouble();
+
+         StringBuilder yaml = new StringBuilder();
+         yaml.append("---\n# Generated gains\n");
+         yaml.append("description: \"LQR gains [test]\"\n");
+         yaml.append("matrix: ").append(toFlow(matrix, true)).append("  # comment\n");
+         yaml.append("skipped: [[1.0, 2.0],\n  [3.0, 4.0]]\n");
+         yaml.append("vector: ").append(toFlow(vector, false)).append('\n');
+         yaml.append("nested:\n  a: 1\n  b: [2, 3]\n\n");
+         yaml.append("scalar: ").append(scalar).append('\n');
+         yaml.append("block:\n");
+         for (int row = 0; row < block.getNumRows(); row++)
+         {
+            yaml.append("  - [");
+            for (int col = 0; col < block.getNumCols(); col++)
+            {
+               yaml.append(col == 0 ? "" : ", ").append(block.get(row, col));
+            }
+            yaml.append("]\n");
+         }
+         yaml.append("blockVector:\n");
+         for (int col = 0; col < blockVector.getNumCols(); col++)
+         {
+            yaml.append("- ").append(blockVector.get(col)).append('\n');
+         }
+         yaml.append("skippedBlock:\n- [1, 2]\n- [3, 4]");
+
+         DMatrixRMaj actualMatrix = new DMatrixRMaj(1, 1);
+         DMatrixRMaj actualVector = new DMatrixRMaj(1, 1);
+         DMatrixRMaj actualScalar = new DMatrixRMaj(1, 1);
+         DMatrixRMaj actualBlock = new DMatrixRMaj(1, 1);
+         DMatrixRMaj actualBlockVector = new DMatrixRMaj(1, 1);
+         loader.register("matrix", actualMatrix);
+         loader.register("vector", actualVector);
+         loader.register("scalar", actualScalar);
+         loader.register("block", actualBlock);
+         loader.register("blockVector", actualBlockVector);
+         loader.register("missing", new DMatrixRMaj(1, 1));
+
+         loader.loadYaml(new StringReader(yaml.toString()));
+
+         MatrixTestTools.assertMatrixEquals(matrix, actualMatrix, 0.0);
+         MatrixTestTools.assertMatrixEquals(vector, actualVector, 0.0);
+         MatrixTestTools.assertMatrixEquals(new DMatrixRMaj(1, 1, true, scalar), actualScalar, 0.0);
+         MatrixTestTools.assertMatrixEquals(block, actualBlock, 0.0);
+         MatrixTestTools.assertMatrixEquals(blockVector, actualBlockVector, 0.0);
+         assertTrue(loader.isLoaded("matrix"));
+         assertFalse(loader.isLoaded("missing"));
+         assertFalse(loader.isLoaded("skipped"));
+      }
+   }
+
+   @Test
+   public void testSkippedPlainScalars() throws IOException
+   {
+      // A quote or bracket inside a plain scalar must not make the loader skip the following fields
+      String[] notes = {"note: robot's arm\n", "note: a [draft\n", "note: \"quoted [\" and 'single {'\n"};
+      DMatrixRMaj expected = new DMatrixRMaj(new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+
+      for (String note : notes)
+      {
+         StreamingMatrixLoader loader = new StreamingMatrixLoader();
+         DMatrixRMaj gains = new DMatrixRMaj(1, 1);
+         loader.register("gains", gains);
+         loader.loadYaml(new StringReader(note + "gains: [[1.0, 2.0], [3.0, 4.0]]\n"));
+         assertTrue(loader.isLoaded("gains"), note);
+         MatrixTestTools.assertMatrixEquals(expected, gains, 0.0);
+      }
+   }
+
+   @Test
+   public void testSameAsYamlFieldToMatrix() throws IOException
+   {
+      Random random = new Random(47L);
+      DMatrixRMaj matrix = RandomMatrices_DDRM.rectangle(12, 7, random);
+
+      Map<String, Object> object = new HashMap<>();
+      object.put("matrix", toLists(matrix));
+      DMatrixRMaj expected = MatrixTools.yamlFieldToMatrix(null, "matrix", object);
+
+      StreamingMatrixLoader loader = new StreamingMatrixLoader();
+      DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+      loader.register("matrix", actual);
+      loader.loadYaml(new StringReader("matrix: " + toFlow(matrix, true)));
+      MatrixTestTools.assertMatrixEquals(expected, actual, 0.0);
+   }
+
+   @Test
+   public void testNativeMatrix() throws IOException
+   {
+      Random random = new Random(48L);
+      DMatrixRMaj matrix = RandomMatrices_DDRM.rectangle(9, 13, random);
+
+      StreamingMatrixLoader loader = new StreamingMatrixLoader();
+      NativeMatrix actual = new NativeMatrix(1, 1);
+      loader.register("matrix", actual);
+      loader.loadYaml(new StringReader("matrix: " + toFlow(matrix, true)));
+      MatrixTestTools.assertMatrixEquals(matrix, actual, 0.0);
+
+      NativeMatrix actualCsv = new NativeMatrix(1, 1);
+      loader.loadCsv(new StringReader(toCsv(matrix)), actualCsv);
+      MatrixTestTools.assertMatrixEquals(matrix, actualCsv, 0.0);
+   }
+
+   @Test
+   public void testCsv() throws IOException
+   {
+      Random random = new Random(49L);
+      StreamingMatrixLoader loader = new StreamingMatrixLoader();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         DMatrixRMaj matrix = RandomMatrices_DDRM.rectangle(RandomNumbers.nextInt(random, 1, maxSize), RandomNumbers.nextInt(random, 1, maxSize), random);
+         String csv = "# header comment\r\n" + toCsv(matrix).replace("\n", "\r\n") + "\n\n";
+
+         DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+         loader.loadCsv(new StringReader(csv), actual);
+         MatrixTestTools.assertMatrixEquals(matrix, actual, 0.0);
+      }
+   }
+
+   @Test
+   public void testNumberParsing() throws IOException
+   {
+      Random random = new Random(50L);
+      StreamingMatrixLoader loader = new StreamingMatrixLoader();
+      int count = 10000;
+      StringBuilder csv = new StringBuilder();
+      double[] expected = new double[count];
+
+      for (int i = 0; i < count; i++)
+      {
+         double value = (random.nextDouble() - 0.5) * Math.pow(10.0, RandomNumbers.nextInt(random, -30, 30));
+         String text;
+         switch (i % 5)
+         {
+            case 0:
+               text = Double.toString(value);
+               break;
+            case 1:
+               text = String.format(Locale.US, "%.6e", value);
+               break;
+            case 2:
+               text = String.format(Locale.US, "%.9f", value);
+               break;
+            case 3:
+               text = Long.toString(random.nextInt());
+               break;
+            default:
+               text = String.format(Locale.US, "%.3E", value);
+               break;
+         }
+         expected[i] = Double.parseDouble(text);
+         csv.append(i == 0 ? "" : ", ").append(text);
+      }
+
+      DMatrixRMaj actual = new DMatrixRMaj(1, 1);
+      loader.loadCsv(new StringReader(csv.toString()), actual);
+      assertEquals(1, actual.getNumRows());
+      assertEquals(count, actual.getNumCols());
+      for (int i = 0; i < count; i++)
+      {
+         assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual.get(i)), "Parsing " + expected[i]);
+      }
+
+      loader.register("special", actual);
+      loader.loadYaml(new StringReader("special: [.nan, .inf, -.Inf, -0.0, 1e400, 0.000, NaN]"));
+      assertTrue(Double.isNaN(actual.get(0)));
+      assertEquals(Double.POSITIVE_INFINITY, actual.get(1));
+      assertEquals(Double.NEGATIVE_INFINITY, actual.get(2));
+      assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(actual.get(3)));
+      assertEquals(Double.POSITIVE_INFINITY, actual.get(4));
+      assertEquals(0.0, actual.get(5));
+      assertTrue(Double.isNaN(actual.get(6)));
+   }
+
+   @Test
+   public void testInvalidInput()
+   {
+      StreamingMatrixLoader loader = new StreamingMatrixLoader();
+      loader.register("a", new DMatrixRMaj(1, 1));
+
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("a: [[1, 2], [3]]")));
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("a: [1, 2")));
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("a: [1, x]")));
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("a: [1, 2] 3")));
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("a:\n- 1\n- [2, 3]")));
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("a:")));
+      assertThrows(IOException.class, () -> loader.loadYaml(new StringReader("  a: 1")));
+      assertThrows(IOException.class, () -> loader.loadCsv(new StringReader("1, 2\n3"), new DMatrixRMaj(1, 1)));
+      assertThrows(IOException.class, () -> loader.loadCsv(new StringReader("1, , 2"), new DMatrixRMaj(1, 1)));
+   }
+
+   @Test
+   public void testThroughput() throws IOException
+   {
+      Random random = new Random(51L);
+      int rows = 500;
+      int cols = 1000;
+      DMatrixRMaj matrix = RandomMatrices_DDRM.rectangle(rows, cols, random);
+
+      // Gain files are usually written with a limited precision, full precision goes through Double.parseDouble.
+      DMatrixRMaj rounded = matrix.copy();
+      for (int i = 0; i < rounded.getNumElements(); i++)
+      {
+         rounded.set(i, Double.parseDouble(String.format(Locale.US, "%.8e", rounded.get(i))));
+      }
+
+      for (DMatrixRMaj values : new DMatrixRMaj[] {rounded, matrix})
+      {
+         String yaml = "gains: " + toFlow(values, true);
+         StreamingMatrixLoader loader = new StreamingMatrixLoader();
+         DMatrixRMaj destination = new DMatrixRMaj(rows, cols);
+         loader.register("gains", destination);
+
+         long streamingTime = Long.MAX_VALUE;
+         long boxedTime = Long.MAX_VALUE;
+
+         for (int trial = 0; trial < 5; trial++)
+         {
+            long start = System.nanoTime();
+            loader.loadYaml(new StringReader(yaml));
+            streamingTime = Math.min(streamingTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            Map<String, Object> object = new HashMap<>();
+            object.put("gains", parseBoxed(yaml));
+            DMatrixRMaj boxed = MatrixTools.yamlFieldToMatrix(null, "gains", object);
+            boxedTime = Math.min(boxedTime, System.nanoTime() - start);
+
+            MatrixTestTools.assertMatrixEquals(boxed, destination, 0.0);
+         }
+
+         double megabytes = yaml.length() / 1.0e6;
+         System.out.println(String.format("%s values: streaming %.1f MB/s (%.1f Mvalues/s), boxed %.1f MB/s",
+                                          values == rounded ? "9 digit" : "17 digit",
+                                          megabytes / Conversions.nanosecondsToSeconds(streamingTime),
+                                          rows * cols / 1.0e6 / Conversions.nanosecondsToSeconds(streamingTime),
+                                          megabytes / Conversions.nanosecondsToSeconds(boxedTime)));
+      }
+   }
+
+   /** Parses a 2D flow sequence the way a generic YAML parser would, with boxed values. */
+   private static ArrayList<ArrayList<Double>> parseBoxed(String yaml)
+   {
+      String content = yaml.substring(yaml.indexOf("[[") + 2, yaml.lastIndexOf("]]"));
+      ArrayList<ArrayList<Double>> rows = new ArrayList<>();
+      for (String rowText : content.split("\\],\\s*\\["))
+      {
+         ArrayList<Double> row = new ArrayList<>();
+         for (String value : rowText.split(","))
+         {
+            row.add(Double.valueOf(value.trim()));
+         }
+         rows.add(row);
+      }
+      return rows;
+   }
+
+   private static String toFlow(DMatrixRMaj matrix, boolean twoDimensional)
+   {
+      StringBuilder builder = new StringBuilder(twoDimensional ? "[" : "");
+      for (int row = 0; row < matrix.getNumRows(); row++)
+      {
+         builder.append(row == 0 ? "[" : ", [");
+         for (int col = 0; col < matrix.getNumCols(); col++)
+         {
+            builder.append(col == 0 ? "" : ", ").append(matrix.get(row, col));
+         }
+         builder.append(']');
+      }
+      return builder.append(twoDimensional ? "]" : "").toString();
+   }
+
+   private static String toCsv(DMatrixRMaj matrix)
+   {
+      StringBuilder builder = new StringBuilder();
+      for (int row = 0; row < matrix.getNumRows(); row++)
+      {
+         for (int col = 0; col < matrix.getNumCols(); col++)
+         {
+            builder.append(col == 0 ? "" : ",").append(matrix.get(row, col));
+         }
+         builder.append('\n');
+      }
+      return builder.toString();
+   }
+
+   private static ArrayList<ArrayList<Double>> toLists(DMatrixRMaj matrix)
+   {
+      ArrayList<ArrayList<Double>> rows = new ArrayList<>();
+      for (int row = 0; row < matrix.getNumRows(); row++)
+      {
+         ArrayList<Double> values = new ArrayList<>();
+         for (int col = 0; col < matrix.getNumCols(); col++)
+         {
+            values.add(matrix.get(row, col));
+         }
+         rows.add(values);
+      }
+      return rows;
+   }
+}